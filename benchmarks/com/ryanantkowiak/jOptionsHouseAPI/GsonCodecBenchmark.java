@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * <pre>
+ * Measures the CPU time and the memory allocated to encode a quote request
+ * and decode a quote response, comparing a new Gson instance per message (as
+ * the messages used to do) with a shared Gson instance, and the reflective
+ * adapters of Gson with the generated adapters of OhGson. The cost of the
+ * first message on a new Gson instance (where the adapters are built) is
+ * measured too. No network access is needed. Run with:
+ * 
+ *    java -cp bin:gson.jar com.ryanantkowiak.jOptionsHouseAPI.GsonCodecBenchmark [iterations]
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class GsonCodecBenchmark
+{
+	/** number of symbols in the benchmark request and response */
+	private static final int SYMBOLS = 50;
+
+	/**
+	 * Runs the benchmark
+	 * 
+	 * @param args
+	 *            optional number of iterations of each measurement
+	 */
+	public static void main(String[] args)
+	{
+		int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 20000;
+
+		final List<String> stocks = new ArrayList<String>();
+		for (int i = 0; i < SYMBOLS; ++i)
+		{
+			stocks.add("SYM" + (char) ('A' + i % 26) + (char) ('A' + i / 26));
+		}
+		final List<String> options = new ArrayList<String>();
+		final String response = buildResponse(stocks);
+
+		final OhMsgViewQuoteListReq.EZViewQuoteListReq ezReq = new OhMsgViewQuoteListReq(
+				"token", stocks, options).new EZViewQuoteListReq();
+		ezReq.EZMessage.data.key.addAll(stocks);
+
+		Runnable perMessage = new Runnable()
+		{
+			public void run()
+			{
+				new GsonBuilder().create().toJson(ezReq, ezReq.getClass());
+
+				GsonBuilder gsonBuilder = new GsonBuilder();
+				gsonBuilder.registerTypeAdapter(ErrorMap.class,
+						new ErrorMapDeserializer());
+				Gson gson = gsonBuilder.create();
+				gson.fromJson(response, OhMsgViewQuoteListRsp.class);
+			}
+		};
+
+		final Gson reflectiveGson = OhGson.createReflective().create();
+
+		Runnable sharedReflective = new Runnable()
+		{
+			public void run()
+			{
+				reflectiveGson.toJson(ezReq, ezReq.getClass());
+				reflectiveGson.fromJson(response, OhMsgViewQuoteListRsp.class);
+			}
+		};
+
+		Runnable shared = new Runnable()
+		{
+			public void run()
+			{
+				OhGson.get().toJson(ezReq, ezReq.getClass());
+				OhGson.get().fromJson(response, OhMsgViewQuoteListRsp.class);
+			}
+		};
+
+		Runnable firstReflective = new Runnable()
+		{
+			public void run()
+			{
+				Gson gson = OhGson.createReflective().create();
+				gson.toJson(ezReq, ezReq.getClass());
+				gson.fromJson(response, OhMsgViewQuoteListRsp.class);
+			}
+		};
+
+		Runnable firstGenerated = new Runnable()
+		{
+			public void run()
+			{
+				Gson gson = OhGson.createReflective()
+						.registerTypeAdapterFactory(new OhGeneratedTypeAdapters())
+						.create();
+				gson.toJson(ezReq, ezReq.getClass());
+				gson.fromJson(response, OhMsgViewQuoteListRsp.class);
+			}
+		};
+
+		// warm up all paths before measuring
+		measure("warm-up (new Gson per message)", perMessage, iterations, false);
+		measure("warm-up (shared Gson, reflective)", sharedReflective,
+				iterations, false);
+		measure("warm-up (shared Gson, generated)", shared, iterations, false);
+		measure("warm-up (first message, reflective)", firstReflective,
+				iterations / 10, false);
+		measure("warm-up (first message, generated)", firstGenerated,
+				iterations / 10, false);
+
+		measure("new Gson per message", perMessage, iterations, true);
+		measure("shared Gson, reflective adapters", sharedReflective,
+				iterations, true);
+		measure("shared Gson, generated adapters", shared, iterations, true);
+		measure("first message on a new Gson, reflective adapters",
+				firstReflective, iterations / 10, true);
+		measure("first message on a new Gson, generated adapters",
+				firstGenerated, iterations / 10, true);
+	}
+
+	/**
+	 * Runs a task repeatedly and prints the CPU time and the number of bytes
+	 * allocated per iteration
+	 * 
+	 * @param name
+	 *            the name of the measurement
+	 * @param task
+	 *            the task to be measured
+	 * @param iterations
+	 *            the number of times the task is run
+	 * @param print
+	 *            true to print the results
+	 */
+	private static void measure(String name, Runnable task, int iterations,
+			boolean print)
+	{
+		java.lang.management.ThreadMXBean mx = ManagementFactory
+				.getThreadMXBean();
+		long cpu0 = mx.getCurrentThreadCpuTime();
+		long alloc0 = allocatedBytes();
+
+		for (int i = 0; i < iterations; ++i)
+		{
+			task.run();
+		}
+
+		long cpu = mx.getCurrentThreadCpuTime() - cpu0;
+		long alloc = allocatedBytes() - alloc0;
+
+		if (print)
+		{
+			System.out.println(name + ": " + (cpu / 1000 / iterations)
+					+ " us/msg CPU, "
+					+ ((alloc0 < 0) ? "n/a" : (alloc / iterations) + " bytes/msg")
+					+ " allocated");
+		}
+	}
+
+	/**
+	 * Returns the number of bytes allocated by the current thread, if the JVM
+	 * can report it
+	 * 
+	 * @return the number of allocated bytes, or -1 if unknown
+	 */
+	private static long allocatedBytes()
+	{
+		java.lang.management.ThreadMXBean mx = ManagementFactory
+				.getThreadMXBean();
+
+		if (mx instanceof com.sun.management.ThreadMXBean)
+		{
+			return ((com.sun.management.ThreadMXBean) mx)
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Builds a view.quote.list response for the given symbols
+	 * 
+	 * @param stocks
+	 *            the symbols of the quotes
+	 * @return the JSON response
+	 */
+	private static String buildResponse(List<String> stocks)
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\"EZMessage\":{\"action\":\"view.quote.list\",\"data\":{\"session\":\"s\",\"quote\":[");
+
+		for (int i = 0; i < stocks.size(); ++i)
+		{
+			if (i > 0)
+			{
+				sb.append(',');
+			}
+			sb.append("{\"key\":\"" + stocks.get(i) + ":::S\",\"symbol\":\""
+					+ stocks.get(i) + "\",\"bid\":10.25,\"ask\":10.3,"
+					+ "\"bidSize\":100,\"askSize\":200,\"last\":10.27,"
+					+ "\"change\":0.12,\"changePercent\":1.2,\"high\":10.5,"
+					+ "\"low\":10.01,\"open\":10.1,\"prevClose\":10.15,"
+					+ "\"volume\":1234567,\"exchange\":\"NYSE\","
+					+ "\"isExchangeDelayed\":false,\"hasDividends\":true}");
+		}
+
+		sb.append("]}}}");
+		return sb.toString();
+	}
+}
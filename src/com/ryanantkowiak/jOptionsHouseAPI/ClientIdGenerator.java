@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+/**
+ * Generates the client ids sent with new orders, which OptionsHouse echoes
+ * back so that an order can be matched to the request that created it. The
+ * generator used by all orders is set through
+ * OptionsHouseUtilities.setClientIdGenerator(). Implementations must be safe
+ * to call from many threads, and must never return the same id twice. The
+ * id is sent as a JSON number, so it should not exceed 2^53 - 1, the largest
+ * integer that a double holds exactly.
+ * 
+ * @author Ryan Antkowiak 
+ */
+public interface ClientIdGenerator
+{
+	/**
+	 * Returns a new client id
+	 * 
+	 * @return the new client id
+	 */
+	public long nextId();
+}
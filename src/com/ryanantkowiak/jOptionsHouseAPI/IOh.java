@@ -8,14 +8,16 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 // TODO OVERALL - Add accessors for all data fields
-// TODO Add new message for order preview
-// TODO Add new message for complex order
-// TODO Add new message combining OrderDetails and OrderHistory
+// TODO Confirm the message for order preview (OhOrderPreview assumes the
+// order.preview.json action and the fields of its response)
 
 /**
  * Base class for other classes that wrap functionality for communication with
@@ -28,12 +30,60 @@ public abstract class IOh
 	/** object to make the HTTP request to OptionsHouse API server */
 	protected OptionsHouseHttpRequest m_httpRequest;
 
+	/**
+	 * policy for keeping the raw JSON strings of this object, or null to use
+	 * the policy set for all objects
+	 */
+	private OhRawRetention m_rawRetention;
+
 	/** Returns the request object */
 	protected abstract IOhMsgReq getRequest();
 
 	/** Returns the response object */
 	protected abstract IOhMsgRsp getResponse();
 
+	/**
+	 * Builds the request object from the input values
+	 * 
+	 * @return the request object to be sent to the OptionsHouse API server
+	 */
+	protected abstract IOhMsgReq prepareRequest();
+
+	/**
+	 * Builds the response object from the JSON returned by the OptionsHouse API
+	 * server. The JSON is usually read while it is still arriving from the
+	 * server. An empty reader (which must result in a null response object) is
+	 * passed when the request failed.
+	 * 
+	 * @param response
+	 *            reads the JSON response
+	 */
+	protected abstract void processResponse(Reader response);
+
+	/**
+	 * Returns true if the request may safely be sent twice. A request that is
+	 * not idempotent (ex: creating or canceling an order) is never sent again
+	 * by the OhConnectionPool once it may have reached the server.
+	 * 
+	 * @return true if the request is idempotent
+	 */
+	protected boolean isIdempotent()
+	{
+		return true;
+	}
+
+	/**
+	 * Returns true if the request or the response carries credentials (ex: the
+	 * password of a login). Their raw JSON strings are then never recorded in
+	 * the OhRawLog.
+	 * 
+	 * @return true if the exchange is sensitive
+	 */
+	protected boolean isSensitive()
+	{
+		return false;
+	}
+
 	/**
 	 * Returns true if the JSON response contained an alert string. Alert
 	 * strings are not errors. They are informative messages that describe
@@ -109,10 +159,230 @@ public abstract class IOh
 
 	/**
 	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response. This base class method will simply print debug tracing, if
-	 * required.
+	 * response. The calling thread is blocked until the response has been
+	 * received.
 	 */
 	public void execute()
+	{
+		IOhMsgReq request = prepareRequest();
+		m_httpRequest = new OptionsHouseHttpRequest(request.getJsonString(),
+				request.getPage());
+		m_httpRequest.setIdempotent(isIdempotent());
+
+		if (isRawResponseNeeded())
+		{
+			m_httpRequest.sendRequest();
+			processRawResponse(m_httpRequest.getResponse());
+		}
+		else
+		{
+			StreamingReader reader = new StreamingReader();
+			m_httpRequest.sendRequest(reader);
+			reader.finish();
+			retainRaw(null);
+		}
+
+		debugTrace();
+	}
+
+	/**
+	 * <pre>
+	 * Send the request to the OptionsHouse API server without blocking the
+	 * calling thread. The returned future is completed with this object once
+	 * the response has been received and processed, so many requests can be
+	 * in flight at the same time:
+	 * 
+	 *    CompletableFuture&lt;OhQuote&gt; future = quote.executeAsync();
+	 *    future.thenAccept(q -&gt; System.out.println(q.getBid("SPY")));
+	 * 
+	 * The accessors of this object must not be used until the future has
+	 * completed. Please remember that OptionsHouse still asks for no more
+	 * than 1 message per second.
+	 * </pre>
+	 * 
+	 * @param <T>
+	 *            the type of this object
+	 * @return a future that is completed with this object
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends IOh> CompletableFuture<T> executeAsync()
+	{
+		IOhMsgReq request = prepareRequest();
+		final OptionsHouseHttpRequest httpRequest = new OptionsHouseHttpRequest(
+				request.getJsonString(), request.getPage());
+		httpRequest.setIdempotent(isIdempotent());
+		m_httpRequest = httpRequest;
+
+		if (isRawResponseNeeded())
+		{
+			return httpRequest.sendRequestAsync().thenApply(success -> {
+				processRawResponse(httpRequest.getResponse());
+				debugTrace();
+				return (T) this;
+			});
+		}
+
+		final StreamingReader reader = new StreamingReader();
+
+		return httpRequest.sendRequestAsync(reader).thenApply(success -> {
+			reader.finish();
+			retainRaw(null);
+			debugTrace();
+			return (T) this;
+		});
+	}
+
+	/**
+	 * Returns the policy for keeping the raw JSON strings of the request and
+	 * the response of this object. This is the policy set for this object,
+	 * or else the policy set for all objects through
+	 * OptionsHouseUtilities.setRawRetention(). Raw strings are always kept
+	 * while debug message tracing is enabled.
+	 * 
+	 * @return the policy for keeping the raw JSON strings
+	 */
+	public OhRawRetention getRawRetention()
+	{
+		if (OptionsHouseUtilities.DEBUG_MSG_TRACING)
+		{
+			return OhRawRetention.ALWAYS;
+		}
+
+		return (null != m_rawRetention) ? m_rawRetention
+				: OptionsHouseUtilities.RAW_RETENTION;
+	}
+
+	/**
+	 * Sets the policy for keeping the raw JSON strings of the request and the
+	 * response of this object, overriding the policy set for all objects. The
+	 * policy applies the next time this object is executed.
+	 * 
+	 * @param retention
+	 *            the policy for this object, or null to use the policy set
+	 *            for all objects
+	 */
+	public void setRawRetention(OhRawRetention retention)
+	{
+		m_rawRetention = retention;
+	}
+
+	/**
+	 * Returns true if the response must be read into a string before it is
+	 * decoded, either to be kept by the response object or to be recorded in
+	 * the OhRawLog. Otherwise the response is decoded while it is arriving
+	 * from the server, and never held in memory as a string.
+	 * 
+	 * @return true if the raw JSON string of the response is needed
+	 */
+	private boolean isRawResponseNeeded()
+	{
+		return getRawRetention() != OhRawRetention.NEVER
+				|| OhRawLog.isEnabled();
+	}
+
+	/**
+	 * Builds the response object from a JSON string, then keeps or discards
+	 * the string according to the retention policy
+	 * 
+	 * @param response
+	 *            the JSON string response
+	 */
+	private void processRawResponse(String response)
+	{
+		processResponse(new StringReader(response));
+		retainRaw(response);
+	}
+
+	/**
+	 * Keeps the raw JSON strings of the request and the response in the
+	 * request and response objects, if the retention policy says so.
+	 * Otherwise they are discarded, or recorded in the OhRawLog if it is
+	 * enabled (redacted if the exchange is sensitive).
+	 * 
+	 * @param response
+	 *            the JSON string response, or null if it was not read into a
+	 *            string
+	 */
+	private void retainRaw(String response)
+	{
+		OhRawRetention retention = getRawRetention();
+		IOhMsgReq request = getRequest();
+
+		boolean error = !m_httpRequest.getSuccess() || null == getResponse()
+				|| hasErrors();
+		boolean keep = (retention == OhRawRetention.ALWAYS)
+				|| (retention == OhRawRetention.ON_ERROR && error);
+
+		if (keep)
+		{
+			if (null != getResponse())
+			{
+				getResponse().m_raw = response;
+			}
+		}
+		else
+		{
+			if (null != response && isSensitive())
+			{
+				OhRawLog.add(getClass().getSimpleName(), OhRawLog.REDACTED,
+						OhRawLog.REDACTED, error);
+			}
+			else if (null != response)
+			{
+				OhRawLog.add(getClass().getSimpleName(),
+						(null == request) ? "" : request.m_json, response, error);
+			}
+
+			if (null != request)
+			{
+				request.m_json = "";
+			}
+		}
+
+		m_httpRequest.discardPayloads();
+	}
+
+	/**
+	 * Passes the body of a response to processResponse() while it is arriving
+	 * from the server
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private class StreamingReader implements OptionsHouseHttpRequest.ResponseReader
+	{
+		/** flag that indicates the response has been processed */
+		private boolean m_processed;
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see
+		 * com.ryanantkowiak.jOptionsHouseAPI.OptionsHouseHttpRequest.ResponseReader
+		 * #read(java.io.Reader)
+		 */
+		public void read(Reader body)
+		{
+			processResponse(body);
+			m_processed = true;
+		}
+
+		/**
+		 * Processes an empty response if the request failed before the body of
+		 * the response could be processed
+		 */
+		void finish()
+		{
+			if (!m_processed)
+			{
+				processResponse(new StringReader(""));
+			}
+		}
+	}
+
+	/**
+	 * Prints debug tracing of the request and response, if required.
+	 */
+	private void debugTrace()
 	{
 		if (OptionsHouseUtilities.DEBUG_MSG_TRACING)
 		{
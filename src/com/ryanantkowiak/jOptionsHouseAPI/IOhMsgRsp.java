@@ -12,7 +12,6 @@ import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
@@ -26,7 +25,10 @@ import com.google.gson.JsonParseException;
  */
 abstract class IOhMsgRsp
 {
-	/** the raw JSON string of the response */
+	/**
+	 * the raw JSON string of the response, only kept when the OhRawRetention
+	 * policy of the "Oh" object says so (see IOh.setRawRetention())
+	 */
 	protected String m_raw;
 
 	/*
@@ -37,7 +39,7 @@ abstract class IOhMsgRsp
 	@Override
 	public String toString()
 	{
-		return m_raw;
+		return (null == m_raw) ? "" : m_raw;
 	}
 
 	/**
@@ -83,8 +85,7 @@ class ErrorMap
 		m_errors = new HashMap<String, String>();
 		if (null != json && !json.isEmpty())
 		{
-			Gson gson = new Gson();
-			m_errors = gson.fromJson(json, m_errors.getClass());
+			m_errors = OhGson.get().fromJson(json, m_errors.getClass());
 		}
 	}
 }
@@ -8,11 +8,11 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will retrieve the Account Activity from OptionsHouse
@@ -118,20 +118,28 @@ public class OhAccountActivity extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgAccountActivityReq prepareRequest()
 	{
 		m_request = new OhMsgAccountActivityReq(m_authToken, m_accountId);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgAccountActivityRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgAccountActivityRsp.build(response);
 	}
 
 	/**
@@ -275,7 +283,7 @@ class OhMsgAccountActivityReq extends IOhMsgReq
 		ezReq.EZMessage.data.authToken = authToken;
 		ezReq.EZMessage.data.account = account;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZAccountActivityReq
@@ -311,16 +319,12 @@ class OhMsgAccountActivityRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgAccountActivityRsp build(String str)
+	public static OhMsgAccountActivityRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgAccountActivityRsp rsp = (gson.fromJson(str,
+		OhMsgAccountActivityRsp rsp = (gson.fromJson(reader,
 				OhMsgAccountActivityRsp.class));
-		rsp.m_raw = str;
 		return rsp;
 	}
 
@@ -8,8 +8,9 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
+
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will retrieve the Account Details from OptionsHouse. Account
@@ -84,20 +85,28 @@ public class OhAccountDetails extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgAccountCashReq prepareRequest()
 	{
 		m_request = new OhMsgAccountCashReq(m_authToken, m_accountId);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgAccountCashRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgAccountCashRsp.build(response);
 	}
 
 	/**
@@ -333,7 +342,7 @@ class OhMsgAccountCashReq extends IOhMsgReq
 		ezReq.EZMessage.data.historical = true;
 		ezReq.EZMessage.data.fastValues = false;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZAccountCashReq
@@ -372,15 +381,11 @@ class OhMsgAccountCashRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgAccountCashRsp build(String str)
+	public static OhMsgAccountCashRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgAccountCashRsp rsp = gson.fromJson(str, OhMsgAccountCashRsp.class);
-		rsp.m_raw = str;
+		OhMsgAccountCashRsp rsp = gson.fromJson(reader, OhMsgAccountCashRsp.class);
 		return rsp;
 	}
 
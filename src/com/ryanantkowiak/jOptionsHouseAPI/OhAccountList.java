@@ -8,11 +8,11 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will retrieve the list of accounts from OptionsHouse
@@ -76,20 +76,28 @@ public class OhAccountList extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgAccountInfoReq prepareRequest()
 	{
 		m_request = new OhMsgAccountInfoReq(m_authToken);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgAccountInfoRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgAccountInfoRsp.build(response);
 	}
 
 	/**
@@ -829,7 +837,7 @@ class OhMsgAccountInfoReq extends IOhMsgReq
 		ezReq.EZMessage.action = "account.info";
 		ezReq.EZMessage.data.authToken = authToken;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZAccountInfoReq
@@ -864,16 +872,12 @@ class OhMsgAccountInfoRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgAccountInfoRsp build(String str)
+	public static OhMsgAccountInfoRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
 		OhMsgAccountInfoRsp rsp = (gson
-				.fromJson(str, OhMsgAccountInfoRsp.class));
-		rsp.m_raw = str;
+				.fromJson(reader, OhMsgAccountInfoRsp.class));
 		return rsp;
 	}
 
@@ -8,11 +8,14 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will retrieve the Positions associated with an account from
@@ -26,8 +29,8 @@ import com.google.gson.GsonBuilder;
  * OH will return a list of elements of type "unified".  Obviously, it would be more
  * convenient (and would follow their API spec document more accurately) if they returned
  * a list of size 1 when the account only has one position.  Unfortunately, they did not 
- * do this.  As a result, there are a bunch of classes, members, and functions which bear
- * the name "WorkAround" in this file, which "works around" the OH bug.
+ * do this.  The "unified" list is therefore read leniently (see OhGeneratedTypeAdapters):
+ * a single "unified" element is read as a list of one position, in the same pass.
  * 
  * @author Ryan Antkowiak 
  */
@@ -77,10 +80,17 @@ public class OhAccountPositions extends IOh
 
 	/** contains the response JSON message for account positions */
 	private OhMsgAccountPositionsRsp m_response;
-	
-	/** contains the response JSON message for account positions (working around the 1-position-bug) **/
-	private OhMsgAccountPositionsRspWorkAround m_responseWorkAround;
-	
+
+	/** the positions, built once from each response */
+	private List<OhPosition> m_positions = Collections.emptyList();
+
+	/** the positions, indexed by security key */
+	private Map<SecurityKey, OhPosition> m_positionsByKey = Collections
+			.emptyMap();
+
+	/** the positions, indexed by the (normalized) underlying stock symbol */
+	private Map<String, List<OhPosition>> m_positionsByUnderlying = Collections
+			.emptyMap();
 
 	/**
 	 * Constructor sets up the input values for retrieving the account positions
@@ -96,20 +106,6 @@ public class OhAccountPositions extends IOh
 		m_accountId = accountId;
 	}
 	
-	/**
-	 * Determine if this class needs to work around a bug in the OptionsHouse API
-	 * 
-	 * @note This method works around a bug in the OptionsHouse API whereby the "AccountPositions"
-	 * request will not send a list of the "unified" type, and will instead only send one "unified"
-	 * typed object if there is exactly one position. 
-	 *
-	 * @return boolean - true if this class must work around the OH API bug
-	 */
-	private boolean isWorkAround()
-	{
-		return (m_response == null);
-	}
-
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -127,16 +123,9 @@ public class OhAccountPositions extends IOh
 	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#getResponse()
 	 */
 	@Override
-	protected IOhMsgRsp getResponse()
+	protected OhMsgAccountPositionsRsp getResponse()
 	{
-		if (isWorkAround())
-		{
-			return m_responseWorkAround;
-		}
-		else
-		{
-			return m_response;
-		}
+		return m_response;
 	}
 
 	/**
@@ -156,33 +145,126 @@ public class OhAccountPositions extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgAccountPositionsReq prepareRequest()
 	{
 		m_request = new OhMsgAccountPositionsReq(m_authToken, m_accountId);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		
-		m_response = null;
-		m_responseWorkAround = null;
-		try
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgAccountPositionsRsp.build(response);
+		buildPositions();
+	}
+
+	/**
+	 * Builds the positions (and their indexes) from the response message, so
+	 * that they are built only once per response rather than on every call
+	 * to the accessors
+	 */
+	private void buildPositions()
+	{
+		List<OhMsgAccountPositionsRsp.EZMessage_.data_.unified_> unifiedList = getUnifiedList();
+
+		if (null == unifiedList || unifiedList.isEmpty())
+		{
+			m_positions = Collections.emptyList();
+			m_positionsByKey = Collections.emptyMap();
+			m_positionsByUnderlying = Collections.emptyMap();
+			return;
+		}
+
+		List<OhPosition> positions = new ArrayList<OhPosition>(
+				unifiedList.size());
+		Map<SecurityKey, OhPosition> byKey = new HashMap<SecurityKey, OhPosition>();
+		Map<String, List<OhPosition>> byUnderlying = new HashMap<String, List<OhPosition>>();
+
+		for (OhMsgAccountPositionsRsp.EZMessage_.data_.unified_ u : unifiedList)
 		{
-			m_response = OhMsgAccountPositionsRsp
-				.build(m_httpRequest.getResponse());
+			if (null == u)
+			{
+				continue;
+			}
+
+			OhPosition pos = new OhPosition();
+
+			pos.m_accountId = 			u.accountId;
+			pos.m_shareCostBasis = 		u.shareCostBasis;
+			pos.m_isCustomCostBasis = 	u.isCustomCostBasis;
+			pos.m_expString = 			u.expString;
+			pos.m_stock = 				u.stock;
+			pos.m_description = 		u.description;
+			pos.m_defaultCostBasis = 	u.defaultCostBasis;
+			pos.m_isExchangeDelayed = 	u.isExchangeDelayed;
+			pos.m_underlying = 			u.underlying;
+			pos.m_spc = 				u.spc;
+			pos.m_bid = 				u.bid;
+			pos.m_securityKey = 		u.securityKey;
+			pos.m_qty = 				u.qty;
+			pos.m_dailyChange = 		u.dailyChange;
+			pos.m_multiplier = 			u.multiplier;
+			pos.m_gain = 				u.gain;
+			pos.m_mktVal = 				u.mktVal;
+			pos.m_posValChange = 		u.posValChange;
+			pos.m_price = 				u.price;
+			pos.m_strikeString = 		u.strikeString;
+			pos.m_canExercise = 		u.canExercise;
+			pos.m_costBasis = 			u.costBasis;
+			pos.m_positionNewToday = 	u.positionNewToday;
+			pos.m_ask = 				u.ask;
+
+			positions.add(pos);
+
+			if (null != pos.m_securityKey)
+			{
+				SecurityKey key = SecurityKey.of(pos.m_securityKey);
+
+				if (!byKey.containsKey(key))
+				{
+					byKey.put(key, pos);
+				}
+
+				List<OhPosition> list = byUnderlying.get(key.getUnderlying());
+				if (null == list)
+				{
+					list = new ArrayList<OhPosition>();
+					byUnderlying.put(key.getUnderlying(), list);
+				}
+				list.add(pos);
+			}
 		}
-		catch (Exception e)
+
+		for (Map.Entry<String, List<OhPosition>> e : byUnderlying.entrySet())
 		{
-			m_response = null;
-			m_responseWorkAround = OhMsgAccountPositionsRspWorkAround
-					.build(m_httpRequest.getResponse());
+			e.setValue(Collections.unmodifiableList(e.getValue()));
 		}
 
-		super.execute();
+		m_positions = Collections.unmodifiableList(positions);
+		m_positionsByKey = byKey;
+		m_positionsByUnderlying = byUnderlying;
+	}
+
+	/**
+	 * Returns the account id for which the positions are requested
+	 * 
+	 * @return the account id
+	 */
+	public String getAccountId()
+	{
+		return m_accountId;
 	}
 
 	/**
@@ -192,19 +274,9 @@ public class OhAccountPositions extends IOh
 	 */
 	public String getTimestamp()
 	{
-		if (isWorkAround())
-		{
-			if (null != getDataWorkAround() && null != getDataWorkAround().timeStamp)
-			{
-				return m_responseWorkAround.EZMessage.data.timeStamp;
-			}
-		}
-		else
+		if (null != getData() && null != getData().timeStamp)
 		{
-			if (null != getData() && null != getData().timeStamp)
-			{
-				return m_response.EZMessage.data.timeStamp;
-			}
+			return m_response.EZMessage.data.timeStamp;
 		}
 
 		return "";
@@ -217,107 +289,19 @@ public class OhAccountPositions extends IOh
 	 */
 	public int getNumPositions()
 	{
-		if (isWorkAround())
-		{
-			if (null != getUnifiedListWorkAround())
-			{
-				return getUnifiedListWorkAround().size();
-			}
-		}
-		else
-		{
-			if (null != getUnifiedList())
-			{
-				return getUnifiedList().size();
-			}
-		}
-		
-		return 0;
+		return m_positions.size();
 	}
 
 	/**
-	 * Returns a list of all positions associated with the account
+	 * Returns a list of all positions associated with the account. The list is
+	 * built once per response and cannot be modified; the same OhPosition
+	 * objects are returned by every call.
 	 * 
 	 * @return list of positions
 	 */
 	public List<OhPosition> getPositions()
 	{
-		if (isWorkAround())
-		{
-			List<OhPosition> positions = new ArrayList<OhPosition>();
-
-			for (int i = 0; i < getNumPositions(); ++i)
-			{
-				OhPosition pos = new OhPosition();
-
-				pos.m_accountId = 			getUnifiedListWorkAround().get(i).accountId;
-				pos.m_shareCostBasis = 		getUnifiedListWorkAround().get(i).shareCostBasis;
-				pos.m_isCustomCostBasis = 	getUnifiedListWorkAround().get(i).isCustomCostBasis;
-				pos.m_expString = 			getUnifiedListWorkAround().get(i).expString;
-				pos.m_stock = 				getUnifiedListWorkAround().get(i).stock;
-				pos.m_description = 		getUnifiedListWorkAround().get(i).description;
-				pos.m_defaultCostBasis = 	getUnifiedListWorkAround().get(i).defaultCostBasis;
-				pos.m_isExchangeDelayed = 	getUnifiedListWorkAround().get(i).isExchangeDelayed;
-				pos.m_underlying = 			getUnifiedListWorkAround().get(i).underlying;
-				pos.m_spc = 				getUnifiedListWorkAround().get(i).spc;
-				pos.m_bid = 				getUnifiedListWorkAround().get(i).bid;
-				pos.m_securityKey = 		getUnifiedListWorkAround().get(i).securityKey;
-				pos.m_qty = 				getUnifiedListWorkAround().get(i).qty;
-				pos.m_dailyChange = 		getUnifiedListWorkAround().get(i).dailyChange;
-				pos.m_multiplier = 			getUnifiedListWorkAround().get(i).multiplier;
-				pos.m_gain = 				getUnifiedListWorkAround().get(i).gain;
-				pos.m_mktVal = 				getUnifiedListWorkAround().get(i).mktVal;
-				pos.m_posValChange = 		getUnifiedListWorkAround().get(i).posValChange;
-				pos.m_price = 				getUnifiedListWorkAround().get(i).price;
-				pos.m_strikeString = 		getUnifiedListWorkAround().get(i).strikeString;
-				pos.m_canExercise = 		getUnifiedListWorkAround().get(i).canExercise;
-				pos.m_costBasis = 			getUnifiedListWorkAround().get(i).costBasis;
-				pos.m_positionNewToday = 	getUnifiedListWorkAround().get(i).positionNewToday;
-				pos.m_ask = 				getUnifiedListWorkAround().get(i).ask;
-
-				positions.add(pos);
-			}
-
-			return positions;
-		}
-		else
-		{
-			List<OhPosition> positions = new ArrayList<OhPosition>();
-
-			for (int i = 0; i < getNumPositions(); ++i)
-			{
-				OhPosition pos = new OhPosition();
-
-				pos.m_accountId = 			getUnifiedList().get(i).accountId;
-				pos.m_shareCostBasis = 		getUnifiedList().get(i).shareCostBasis;
-				pos.m_isCustomCostBasis = 	getUnifiedList().get(i).isCustomCostBasis;
-				pos.m_expString = 			getUnifiedList().get(i).expString;
-				pos.m_stock = 				getUnifiedList().get(i).stock;
-				pos.m_description = 		getUnifiedList().get(i).description;
-				pos.m_defaultCostBasis = 	getUnifiedList().get(i).defaultCostBasis;
-				pos.m_isExchangeDelayed = 	getUnifiedList().get(i).isExchangeDelayed;
-				pos.m_underlying = 			getUnifiedList().get(i).underlying;
-				pos.m_spc = 				getUnifiedList().get(i).spc;
-				pos.m_bid = 				getUnifiedList().get(i).bid;
-				pos.m_securityKey = 		getUnifiedList().get(i).securityKey;
-				pos.m_qty = 				getUnifiedList().get(i).qty;
-				pos.m_dailyChange = 		getUnifiedList().get(i).dailyChange;
-				pos.m_multiplier = 			getUnifiedList().get(i).multiplier;
-				pos.m_gain = 				getUnifiedList().get(i).gain;
-				pos.m_mktVal = 				getUnifiedList().get(i).mktVal;
-				pos.m_posValChange = 		getUnifiedList().get(i).posValChange;
-				pos.m_price = 				getUnifiedList().get(i).price;
-				pos.m_strikeString = 		getUnifiedList().get(i).strikeString;
-				pos.m_canExercise = 		getUnifiedList().get(i).canExercise;
-				pos.m_costBasis = 			getUnifiedList().get(i).costBasis;
-				pos.m_positionNewToday = 	getUnifiedList().get(i).positionNewToday;
-				pos.m_ask = 				getUnifiedList().get(i).ask;
-
-				positions.add(pos);
-			}
-
-			return positions;
-		}
+		return m_positions;
 	}
 	
 	/**
@@ -328,60 +312,72 @@ public class OhAccountPositions extends IOh
 	 */
 	public OhPosition getPosition(int index)
 	{
-		List<OhPosition> p = getPositions();
-		
-		if (null != p &&
-				index >= 0 &&
-				index < p.size())
+		if (index >= 0 && index < m_positions.size())
 		{
-			return p.get(index);
+			return m_positions.get(index);
 		}
 		
 		return null;
 	}
 
 	/**
-	 * Internal helper method to get data from the response message
+	 * Returns the position in the provided security
 	 * 
-	 * @return the data object
+	 * @param symbol
+	 *            the security key (ex: "IBM:20110716:1600000:C") or stock
+	 *            symbol (ex: "IBM") of the position
+	 * @return the position, or null if the account has no position in the
+	 *         security
 	 */
-	private OhMsgAccountPositionsRsp.EZMessage_.data_ getData()
+	public OhPosition getPosition(String symbol)
 	{
-		if (null != m_response && null != m_response.EZMessage
-				&& null != m_response.EZMessage.data)
+		if (null == symbol)
 		{
-			return m_response.EZMessage.data;
+			return null;
 		}
 
-		return null;
+		return m_positionsByKey.get(SecurityKey.of(symbol));
 	}
-	
+
 	/**
-	 * Internal helper method to get data from the response message
+	 * Returns the positions (stock and options) whose underlying is the
+	 * provided stock
 	 * 
-	 * @return the data object
+	 * @param symbol
+	 *            the underlying stock symbol (ex: "IBM"), or a security key of
+	 *            which the underlying is used
+	 * @return the positions on the underlying (an empty list if there are
+	 *         none)
 	 */
-	private OhMsgAccountPositionsRspWorkAround.EZMessage_.data_ getDataWorkAround()
+	public List<OhPosition> getPositionsByUnderlying(String symbol)
 	{
-		if (null != m_responseWorkAround && null != m_responseWorkAround.EZMessage
-				&& null != m_responseWorkAround.EZMessage.data)
+		if (null == symbol)
 		{
-			return m_responseWorkAround.EZMessage.data;
+			return Collections.emptyList();
 		}
 
-		return null;
+		List<OhPosition> list = m_positionsByUnderlying.get(SecurityKey.of(
+				symbol).getUnderlying());
+
+		if (null == list)
+		{
+			return Collections.emptyList();
+		}
+
+		return list;
 	}
 
 	/**
 	 * Internal helper method to get data from the response message
 	 * 
-	 * @return the unified list
+	 * @return the data object
 	 */
-	private List<OhMsgAccountPositionsRsp.EZMessage_.data_.unified_> getUnifiedList()
+	private OhMsgAccountPositionsRsp.EZMessage_.data_ getData()
 	{
-		if (null != getData() && null != getData().unified)
+		if (null != m_response && null != m_response.EZMessage
+				&& null != m_response.EZMessage.data)
 		{
-			return getData().unified;
+			return m_response.EZMessage.data;
 		}
 
 		return null;
@@ -390,30 +386,18 @@ public class OhAccountPositions extends IOh
 	/**
 	 * Internal helper method to get data from the response message
 	 * 
-	 * @note This method works around a bug in the OptionsHouse API whereby the "AccountPositions"
-	 * request will not send a list of the "unified" type, and will instead only send one "unified"
-	 * typed object if there is exactly one position. 
-	 * 
 	 * @return the unified list
 	 */
-	private List<OhMsgAccountPositionsRspWorkAround.EZMessage_.data_.unified_> getUnifiedListWorkAround()
+	private List<OhMsgAccountPositionsRsp.EZMessage_.data_.unified_> getUnifiedList()
 	{
-		if (null != getDataWorkAround() && null != getDataWorkAround().unified)
+		if (null != getData() && null != getData().unified)
 		{
-			// Create a temporary list of "unified" type
-			
-			List<OhMsgAccountPositionsRspWorkAround.EZMessage_.data_.unified_> tmpList =
-					new ArrayList<OhMsgAccountPositionsRspWorkAround.EZMessage_.data_.unified_>();
-			
-			// Add the single "unified" position to the list
-			tmpList.add(getDataWorkAround().unified);
-			
-			return tmpList;
+			return getData().unified;
 		}
 
 		return null;
 	}
-
+	
 }
 
 /**
@@ -433,7 +417,7 @@ class OhMsgAccountPositionsReq extends IOhMsgReq
 		ezReq.EZMessage.data.authToken = authToken;
 		ezReq.EZMessage.data.account = account;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZAccountPositionsReq
@@ -469,17 +453,12 @@ class OhMsgAccountPositionsRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgAccountPositionsRsp build(String str)
+	public static OhMsgAccountPositionsRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgAccountPositionsRsp rsp = (gson.fromJson(str,
+		OhMsgAccountPositionsRsp rsp = (gson.fromJson(reader,
 				OhMsgAccountPositionsRsp.class));
-			
-		rsp.m_raw = str;
 		return rsp;
 	}
 
@@ -527,81 +506,3 @@ class OhMsgAccountPositionsRsp extends IOhMsgRsp
 	}
 
 }
-
-/**
- * Internal data structure to represent JSON communication with the OptionsHouse
- * API. Specifies the response for account positions data.
- * 
- * @note This class works around a bug in the OptionsHouse API whereby the "AccountPositions"
- * request will not send a list of the "unified" type, and will instead only send one "unified"
- * typed object if there is exactly one position. 
- * 
- * @author Ryan Antkowiak 
- */
-class OhMsgAccountPositionsRspWorkAround extends IOhMsgRsp
-{
-	@Override
-	public EZMessageBaseRsp getEZ()
-	{
-		return EZMessage;
-	}
-
-	public static OhMsgAccountPositionsRspWorkAround build(String str)
-	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
-
-		OhMsgAccountPositionsRspWorkAround rsp = (gson.fromJson(str,
-				OhMsgAccountPositionsRspWorkAround.class));
-			
-		rsp.m_raw = str;
-		return rsp;
-	}
-
-	public EZMessage_ EZMessage;
-
-	public class EZMessage_ extends EZMessageBaseRsp
-	{
-		public data_ data;
-
-		public class data_
-		{
-			public String timeStamp;
-
-			public class unified_
-			{
-				public String accountId;
-				public double shareCostBasis;
-				public boolean isCustomCostBasis;
-				public String expString;
-				public double stock;
-				public String description;
-				public double defaultCostBasis;
-				public boolean isExchangeDelayed;
-				public String underlying;
-				public double spc;
-				public double bid;
-				public String securityKey;
-				public long qty;
-				public double dailyChange;
-				public double multiplier;
-				public double gain;
-				public List<String> sortHint;
-				public double mktVal;
-				public double posValChange;
-				public double price;
-				public String strikeString;
-				public boolean canExercise;
-				public double costBasis;
-				public boolean positionNewToday;
-				public double ask;
-			}
-			
-			public unified_ unified;
-		}
-	}
-
-}
-
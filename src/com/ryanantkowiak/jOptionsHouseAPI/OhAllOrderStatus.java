@@ -8,20 +8,33 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will retrieve the status of all orders from an OptionsHouse
- * account
+ * account. The orders are returned one page at a time: by default the first
+ * page of 50 orders of the "current" view. Use setPage(), setPageSize() and
+ * setView() to request other pages, or iterator() / stream() to go through
+ * all the pages, fetched one at a time as they are needed.
  * 
  * @author Ryan Antkowiak 
  */
 public class OhAllOrderStatus extends IOh
 {
+	/** the default number of orders per page */
+	public static final int DEFAULT_PAGE_SIZE = 50;
+
+	/** the default view of the orders */
+	public static final String DEFAULT_VIEW = "current";
+
 	/**
 	 * Defines the status of one order from an OptionsHouse account
 	 * 
@@ -71,6 +84,15 @@ public class OhAllOrderStatus extends IOh
 	/** contains the response JSON message for the status of all orders */
 	private OhMsgAllOrderStatusRsp m_response;
 
+	/** the page of orders to request (the first page is 0) */
+	private long m_page = 0;
+
+	/** the number of orders per page */
+	private long m_pageSize = DEFAULT_PAGE_SIZE;
+
+	/** the view of the orders to request (ex: "current") */
+	private String m_view = DEFAULT_VIEW;
+
 	/**
 	 * Constructor sets up the input values for retrieving the status of all
 	 * orders
@@ -126,20 +148,195 @@ public class OhAllOrderStatus extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgAllOrderStatusReq prepareRequest()
+	{
+		m_request = new OhMsgAllOrderStatusReq(m_authToken, m_accountId,
+				m_page, m_pageSize, m_view);
+		return m_request;
+	}
+
+	/**
+	 * Returns the page of orders that will be requested
+	 * 
+	 * @return the page (the first page is 0)
+	 */
+	public long getPage()
+	{
+		return m_page;
+	}
+
+	/**
+	 * Sets the page of orders to request
+	 * 
+	 * @param page
+	 *            the page (the first page is 0)
+	 */
+	public void setPage(long page)
+	{
+		m_page = Math.max(0, page);
+	}
+
+	/**
+	 * Returns the number of orders per page
+	 * 
+	 * @return the number of orders per page
+	 */
+	public long getPageSize()
+	{
+		return m_pageSize;
+	}
+
+	/**
+	 * Sets the number of orders per page
+	 * 
+	 * @param pageSize
+	 *            the number of orders per page
+	 */
+	public void setPageSize(long pageSize)
+	{
+		m_pageSize = Math.max(1, pageSize);
+	}
+
+	/**
+	 * Returns the view of the orders that will be requested
+	 * 
+	 * @return the view (ex: "current")
+	 */
+	public String getView()
+	{
+		return m_view;
+	}
+
+	/**
+	 * Sets the view of the orders to request, as defined by the OptionsHouse
+	 * API (ex: "current")
+	 * 
+	 * @param view
+	 *            the view, or null for the default view
+	 */
+	public void setView(String view)
+	{
+		m_view = (null != view) ? view : DEFAULT_VIEW;
+	}
+
+	/**
+	 * Returns the total number of orders of the view, on all pages, as
+	 * reported by the response
+	 * 
+	 * @return the total number of orders (0 if unknown)
+	 */
+	public long getTotalRecords()
 	{
-		m_request = new OhMsgAllOrderStatusReq(m_authToken, m_accountId);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgAllOrderStatusRsp.build(m_httpRequest.getResponse());
+		if (null != getMasterAccountOrders())
+		{
+			return getMasterAccountOrders().total_records;
+		}
 
-		super.execute();
+		return 0;
+	}
+
+	/**
+	 * Returns true if there are orders after the page that was retrieved. If
+	 * the response does not report the total number of orders, this is
+	 * assumed when the page was full.
+	 * 
+	 * @return true if there is another page of orders
+	 */
+	public boolean hasMorePages()
+	{
+		int received = getNumOrderStatusRecords();
+		if (0 == received)
+		{
+			return false;
+		}
+
+		long total = getTotalRecords();
+		if (total > 0)
+		{
+			return (m_page + 1) * m_pageSize < total;
+		}
+
+		return received >= m_pageSize;
+	}
+
+	/**
+	 * <pre>
+	 * Returns an iterator over the status of all orders of an account, on all
+	 * pages. The pages are requested through the given scheduler one at a
+	 * time, only when the records of the previous page have all been
+	 * returned, so only one page is held in memory and an iteration that
+	 * stops early does not request the remaining pages:
+	 * 
+	 *    Iterator&lt;OhOrderStatusRecord&gt; it = OhAllOrderStatus.iterator(
+	 *            OhRequestScheduler.getInstance(), authToken, accountId, "current", 100);
+	 * 
+	 * The iteration ends early if a page fails or its response contains
+	 * errors; OhAllOrderStatusIterator.getLastPage() returns that page.
+	 * </pre>
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the pages are requested
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param accountId
+	 *            the account id for which the orders will be requested
+	 * @param view
+	 *            the view of the orders (ex: "current"), or null for the
+	 *            default view
+	 * @param pageSize
+	 *            the number of orders per page
+	 * @return an iterator over the orders
+	 */
+	public static OhAllOrderStatusIterator iterator(
+			OhRequestScheduler scheduler, String authToken, String accountId,
+			String view, long pageSize)
+	{
+		return new OhAllOrderStatusIterator(scheduler, authToken, accountId,
+				view, pageSize);
+	}
+
+	/**
+	 * Returns a sequential stream of the status of all orders of an account,
+	 * on all pages, requested lazily as described for iterator()
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the pages are requested
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param accountId
+	 *            the account id for which the orders will be requested
+	 * @param view
+	 *            the view of the orders (ex: "current"), or null for the
+	 *            default view
+	 * @param pageSize
+	 *            the number of orders per page
+	 * @return a stream of the orders
+	 */
+	public static Stream<OhOrderStatusRecord> stream(
+			OhRequestScheduler scheduler, String authToken, String accountId,
+			String view, long pageSize)
+	{
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+				iterator(scheduler, authToken, accountId, view, pageSize),
+				Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgAllOrderStatusRsp.build(response);
 	}
 
 	/**
@@ -294,6 +491,13 @@ public class OhAllOrderStatus extends IOh
 class OhMsgAllOrderStatusReq extends IOhMsgReq
 {
 	public OhMsgAllOrderStatusReq(String authToken, String account_id)
+	{
+		this(authToken, account_id, 0, OhAllOrderStatus.DEFAULT_PAGE_SIZE,
+				OhAllOrderStatus.DEFAULT_VIEW);
+	}
+
+	public OhMsgAllOrderStatusReq(String authToken, String account_id,
+			long page, long pageSize, String view)
 	{
 		m_page = "j";
 
@@ -301,12 +505,12 @@ class OhMsgAllOrderStatusReq extends IOhMsgReq
 		ezReq.EZMessage.action = "master.account.orders";
 		ezReq.EZMessage.data.authToken = authToken;
 		ezReq.EZMessage.data.account_id = account_id;
-		ezReq.EZMessage.data.master_order.page = 0;
+		ezReq.EZMessage.data.master_order.page = page;
 		ezReq.EZMessage.data.master_order.page_count = 1;
-		ezReq.EZMessage.data.master_order.page_size = 50;
-		ezReq.EZMessage.data.master_order.master_order_view = "current";
+		ezReq.EZMessage.data.master_order.page_size = pageSize;
+		ezReq.EZMessage.data.master_order.master_order_view = view;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZAllOrderStatusReq
@@ -352,16 +556,12 @@ class OhMsgAllOrderStatusRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgAllOrderStatusRsp build(String str)
+	public static OhMsgAllOrderStatusRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgAllOrderStatusRsp rsp = gson.fromJson(str,
+		OhMsgAllOrderStatusRsp rsp = gson.fromJson(reader,
 				OhMsgAllOrderStatusRsp.class);
-		rsp.m_raw = str;
 		return rsp;
 	}
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the status of all orders of an account, requesting the pages
+ * of OhAllOrderStatus lazily through an OhRequestScheduler (see
+ * OhAllOrderStatus.iterator()). Only the page being iterated is held in
+ * memory.
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhAllOrderStatusIterator implements
+		Iterator<OhAllOrderStatus.OhOrderStatusRecord>
+{
+	/** the scheduler through which the pages are requested */
+	private final OhRequestScheduler m_scheduler;
+
+	/** authorization token for the session with OptionsHouse API */
+	private final String m_authToken;
+
+	/** the account id for which the orders are requested */
+	private final String m_accountId;
+
+	/** the view of the orders */
+	private final String m_view;
+
+	/** the number of orders per page */
+	private final long m_pageSize;
+
+	/** the last page that was requested, or null before the first page */
+	private OhAllOrderStatus m_lastPage;
+
+	/** the records of the last page */
+	private List<OhAllOrderStatus.OhOrderStatusRecord> m_records;
+
+	/** index of the next record of the last page */
+	private int m_next;
+
+	/** true once the last page has been requested */
+	private boolean m_done;
+
+	/**
+	 * Constructor. No page is requested until hasNext() or next() is called.
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the pages are requested
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param accountId
+	 *            the account id for which the orders will be requested
+	 * @param view
+	 *            the view of the orders (ex: "current"), or null for the
+	 *            default view
+	 * @param pageSize
+	 *            the number of orders per page
+	 */
+	OhAllOrderStatusIterator(OhRequestScheduler scheduler, String authToken,
+			String accountId, String view, long pageSize)
+	{
+		m_scheduler = scheduler;
+		m_authToken = authToken;
+		m_accountId = accountId;
+		m_view = view;
+		m_pageSize = pageSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext()
+	{
+		while (null == m_records || m_next >= m_records.size())
+		{
+			if (m_done)
+			{
+				return false;
+			}
+
+			fetchNextPage();
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public OhAllOrderStatus.OhOrderStatusRecord next()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+
+		return m_records.get(m_next++);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove()
+	{
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Returns the last page that was requested. After the iteration has ended,
+	 * it can be used to find out whether it ended because of an error (see
+	 * IOh.hasErrors()).
+	 * 
+	 * @return the last page, or null if no page has been requested yet
+	 */
+	public OhAllOrderStatus getLastPage()
+	{
+		return m_lastPage;
+	}
+
+	/**
+	 * Returns true if the iteration ended because a page failed or its
+	 * response contained errors
+	 * 
+	 * @return true if the iteration ended on an error
+	 */
+	public boolean hasErrors()
+	{
+		return null != m_lastPage
+				&& (null == m_lastPage.getResponse() || m_lastPage.hasErrors());
+	}
+
+	/**
+	 * Requests the page after the last page through the scheduler, and waits
+	 * for it
+	 */
+	private void fetchNextPage()
+	{
+		OhAllOrderStatus page = new OhAllOrderStatus(m_authToken, m_accountId);
+		page.setView(m_view);
+		page.setPageSize(m_pageSize);
+		page.setPage((null == m_lastPage) ? 0 : m_lastPage.getPage() + 1);
+
+		m_lastPage = m_scheduler.execute(page, m_authToken);
+		m_records = null;
+		m_next = 0;
+
+		if (hasErrors())
+		{
+			m_done = true;
+			return;
+		}
+
+		m_records = m_lastPage.getOrderStatusRecords();
+		m_done = !m_lastPage.hasMorePages();
+	}
+}
@@ -8,8 +8,9 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
+
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class manages the cancellation of an OptionsHouse order
@@ -91,20 +92,40 @@ public class OhCancelOrder extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgCancelOrderReq prepareRequest()
 	{
 		m_request = new OhMsgCancelOrderReq(m_authToken, m_accountId, m_orderId);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgCancelOrderRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#isIdempotent()
+	 */
+	@Override
+	protected boolean isIdempotent()
+	{
+		// a second cancel would fail on the order canceled by the first
+		return false;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgCancelOrderRsp.build(response);
 	}
 
 	/**
@@ -183,7 +204,7 @@ class OhMsgCancelOrderReq extends IOhMsgReq
 		ezReq.EZMessage.data.account = account;
 		ezReq.EZMessage.data.order_id = order_id;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZCancelOrderReq
@@ -220,16 +241,12 @@ class OhMsgCancelOrderRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgCancelOrderRsp build(String str)
+	public static OhMsgCancelOrderRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
 		OhMsgCancelOrderRsp rsp = (gson
-				.fromJson(str, OhMsgCancelOrderRsp.class));
-		rsp.m_raw = str;
+				.fromJson(reader, OhMsgCancelOrderRsp.class));
 		return rsp;
 	}
 
@@ -0,0 +1,738 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.Gson;
+
+/**
+ * <pre>
+ * This class will create an order with any number of legs (a spread, a
+ * condor, stock plus options, ...) on OptionsHouse, as one order, in one
+ * message:
+ * 
+ *    OhComplexOrder order = new OhComplexOrder(authToken, accountId, 1, 1.25,
+ *            TimeInForce.Day);
+ *    order.addLeg("IBM:20131116:1900000:C", Side.Buy, PositionType.Open);
+ *    order.addLeg("IBM:20131116:1950000:C", Side.Sell, PositionType.Open);
+ *    order.execute();
+ * 
+ * The quantity of each leg is the quantity of the order times the ratio of
+ * the leg (ex: a covered call of 1 contract has a stock leg with a ratio of
+ * 100 and an option leg with a ratio of 1).
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhComplexOrder extends IOh
+{
+	/** default price type of the order */
+	public static final String DEFAULT_PRICE_TYPE = "limit";
+
+	/**
+	 * One leg of the order
+	 */
+	static class Leg
+	{
+		/** the security key of the leg */
+		final String m_key;
+
+		/** the side of the leg (buy or sell) */
+		final Side m_side;
+
+		/** the position type of the leg (open or close) */
+		final PositionType m_positionType;
+
+		/** the quantity of the leg for one unit of the order */
+		final long m_ratio;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param key
+		 *            the security key of the leg
+		 * @param side
+		 *            the side of the leg (buy or sell)
+		 * @param positionType
+		 *            the position type of the leg (open or close)
+		 * @param ratio
+		 *            the quantity of the leg for one unit of the order
+		 */
+		Leg(String key, Side side, PositionType positionType, long ratio)
+		{
+			m_key = key;
+			m_side = side;
+			m_positionType = positionType;
+			m_ratio = ratio;
+		}
+	}
+
+	/** authorization token for the session with OptionsHouse API */
+	private String m_authToken;
+
+	/** the account id under which the order creation will be requested */
+	private String m_accountId;
+
+	/** the quantity of this order (the number of spreads) */
+	private long m_quantity;
+
+	/** the limit price of the order (for the whole spread) */
+	private double m_limitPrice;
+
+	/** the price type of the order */
+	private String m_priceType;
+
+	/** the time-in-force of this order (Day or GTC or EXT) */
+	private TimeInForce m_tif;
+
+	/** the legs of the order */
+	private final List<Leg> m_legs;
+
+	/**
+	 * the client id of this order, sent with every attempt to create it so
+	 * that a retried request can be recognized
+	 */
+	private long m_clientId;
+
+	/** contains the request JSON message for placing the order */
+	private OhMsgCreateComplexOrderReq m_request;
+
+	/** contains the response JSON message for placing the order */
+	private OhMsgCreateComplexOrderRsp m_response;
+
+	/**
+	 * Constructor sets up the input values for placing an order. The legs are
+	 * added through addLeg().
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param accountId
+	 *            the account id under which the order will be placed
+	 * @param quantity
+	 *            the quantity of this order (the number of spreads)
+	 * @param limitPrice
+	 *            the limit price of this order (for the whole spread)
+	 * @param tif
+	 *            the time-in-force of this order (Day or GTC or EXT)
+	 */
+	public OhComplexOrder(String authToken, String accountId, long quantity,
+			double limitPrice, TimeInForce tif)
+	{
+		m_authToken = authToken;
+		m_accountId = accountId;
+		m_quantity = quantity;
+		m_limitPrice = limitPrice;
+		m_priceType = DEFAULT_PRICE_TYPE;
+		m_tif = tif;
+		m_legs = new ArrayList<Leg>();
+		m_clientId = OptionsHouseUtilities.nextClientId();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#getRequest()
+	 */
+	@Override
+	protected OhMsgCreateComplexOrderReq getRequest()
+	{
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#getResponse()
+	 */
+	@Override
+	protected OhMsgCreateComplexOrderRsp getResponse()
+	{
+		return m_response;
+	}
+
+	/**
+	 * Adds a leg with a ratio of 1 to the order
+	 * 
+	 * @param symbol
+	 *            the security symbol (stock or option) of the leg
+	 * @param side
+	 *            the side of the leg (buy or sell)
+	 * @param positionType
+	 *            the position type of the leg (open or close)
+	 */
+	public void addLeg(String symbol, Side side, PositionType positionType)
+	{
+		addLeg(symbol, side, positionType, 1);
+	}
+
+	/**
+	 * Adds a leg to the order
+	 * 
+	 * @param symbol
+	 *            the security symbol (stock or option) of the leg
+	 * @param side
+	 *            the side of the leg (buy or sell)
+	 * @param positionType
+	 *            the position type of the leg (open or close)
+	 * @param ratio
+	 *            the quantity of the leg for one unit of the order
+	 */
+	public void addLeg(String symbol, Side side, PositionType positionType,
+			long ratio)
+	{
+		m_legs.add(new Leg(OptionsHouseUtilities.createKey(symbol), side,
+				positionType, ratio));
+	}
+
+	/**
+	 * Removes all the legs of the order
+	 */
+	public void clearLegs()
+	{
+		m_legs.clear();
+	}
+
+	/**
+	 * Returns the number of legs of the order
+	 * 
+	 * @return the number of legs
+	 */
+	public int getNumLegs()
+	{
+		return m_legs.size();
+	}
+
+	/**
+	 * Returns the security key of the leg at the provided index. Returns an
+	 * empty string if an invalid index is provided.
+	 * 
+	 * @param index
+	 *            the index of the leg
+	 * @return the security key of the leg
+	 */
+	public String getLegKey(int index)
+	{
+		if (index >= 0 && index < m_legs.size())
+		{
+			return m_legs.get(index).m_key;
+		}
+
+		return "";
+	}
+
+	/**
+	 * Returns the price type of the order
+	 * 
+	 * @return the price type of the order
+	 */
+	public String getPriceType()
+	{
+		return m_priceType;
+	}
+
+	/**
+	 * Sets the price type of the order (DEFAULT_PRICE_TYPE unless set)
+	 * 
+	 * @param priceType
+	 *            the price type of the order, or null for the default
+	 */
+	public void setPriceType(String priceType)
+	{
+		m_priceType = (null == priceType) ? DEFAULT_PRICE_TYPE : priceType;
+	}
+
+	/**
+	 * Returns the client id of this order. It is generated (see
+	 * OptionsHouseUtilities.getClientIdGenerator()) when the order is
+	 * constructed, and is sent again if the same object is executed again.
+	 * 
+	 * @return the client id of the order
+	 */
+	public long getClientId()
+	{
+		return m_clientId;
+	}
+
+	/**
+	 * Sets the client id of this order, replacing the generated one
+	 * 
+	 * @param clientId
+	 *            the client id of the order
+	 */
+	public void setClientId(long clientId)
+	{
+		m_clientId = clientId;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
+	 */
+	@Override
+	protected OhMsgCreateComplexOrderReq prepareRequest()
+	{
+		m_request = new OhMsgCreateComplexOrderReq(m_authToken, m_accountId,
+				m_quantity, m_limitPrice, m_priceType, m_tif, m_legs,
+				m_clientId);
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#isIdempotent()
+	 */
+	@Override
+	protected boolean isIdempotent()
+	{
+		// sending the order again could place it twice
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgCreateComplexOrderRsp.build(response);
+	}
+
+	/**
+	 * Returns the request to preview this order (see OhOrderPreview)
+	 * 
+	 * @return the preview request
+	 */
+	OhMsgPreviewOrderReq preparePreviewRequest()
+	{
+		return new OhMsgPreviewOrderReq(m_authToken, m_accountId, m_quantity,
+				m_limitPrice, m_priceType, m_tif, m_legs, m_clientId);
+	}
+
+	/**
+	 * Returns the authorization token of the order
+	 * 
+	 * @return the authorization token
+	 */
+	String getAuthToken()
+	{
+		return m_authToken;
+	}
+
+	/**
+	 * Returns a string that identifies what the order would do: its account,
+	 * quantity, price, time-in-force and legs, but not its client id or
+	 * authorization token. Two orders with the same shape have the same
+	 * preview.
+	 * 
+	 * @return the shape of the order
+	 */
+	String getShapeKey()
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append(m_accountId).append('|').append(m_quantity).append('|')
+				.append(m_limitPrice).append('|').append(m_priceType)
+				.append('|').append(m_tif);
+
+		for (Leg leg : m_legs)
+		{
+			sb.append('|').append(leg.m_key).append(',').append(leg.m_side)
+					.append(',').append(leg.m_positionType).append(',')
+					.append(leg.m_ratio);
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns true if the order was successfully created.
+	 * 
+	 * @return true if the order was created
+	 */
+	public boolean wasCreated()
+	{
+		if (null != getData())
+		{
+			return getData().created;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the id string of the newly created order.
+	 * 
+	 * @return the id string of the order
+	 */
+	public String getOrderId()
+	{
+		if (null != getData() && null != getData().id)
+		{
+			return getData().id;
+		}
+
+		return "";
+	}
+
+	/**
+	 * Internal helper method to get data from the response message
+	 * 
+	 * @return the data object
+	 */
+	private OhMsgCreateComplexOrderRsp.EZMessage_.data_ getData()
+	{
+		if (null != m_response && null != m_response.EZMessage
+				&& null != m_response.EZMessage.data)
+		{
+			return m_response.EZMessage.data;
+		}
+
+		return null;
+	}
+
+}
+
+/**
+ * Internal data structure to represent JSON communication with the OptionsHouse
+ * API. Specifies the request for creating an order with any number of legs.
+ * 
+ * The JSON is not serialized from the message objects for each order: the
+ * order and a leg are serialized once, with placeholders for their values
+ * (see OhJsonTemplate), and each request is built from those templates.
+ * 
+ * @author Ryan Antkowiak 
+ */
+class OhMsgCreateComplexOrderReq extends IOhMsgReq
+{
+	/** placeholder for a long value of the order templates */
+	private static final long LONG_PLACEHOLDER = 918273645546372819L;
+
+	/** the template of the order, without its legs */
+	private static final OhJsonTemplate s_order = createOrderTemplate(
+			"order.create.json");
+
+	/** the template of one leg */
+	private static final OhJsonTemplate s_leg = createLegTemplate();
+
+	public OhMsgCreateComplexOrderReq(String authToken, String account,
+			long quantity, double limitPrice, String priceType,
+			TimeInForce tif, List<OhComplexOrder.Leg> legs, long clientId)
+	{
+		this(s_order, authToken, account, quantity, limitPrice, priceType,
+				tif, legs, clientId);
+	}
+
+	/**
+	 * Constructor for a request built from the given order template (see
+	 * createOrderTemplate())
+	 */
+	protected OhMsgCreateComplexOrderReq(OhJsonTemplate order,
+			String authToken, String account, long quantity, double limitPrice,
+			String priceType, TimeInForce tif, List<OhComplexOrder.Leg> legs,
+			long clientId)
+	{
+		String underlying = "";
+		if (!legs.isEmpty())
+		{
+			underlying = OptionsHouseUtilities
+					.extractStockFromKey(legs.get(0).m_key);
+		}
+
+		m_page = "j";
+
+		StringBuilder sb = new StringBuilder(256 + 160 * legs.size());
+
+		order.appendFragment(sb, 0);
+		OhJsonTemplate.appendString(sb, authToken);
+		order.appendFragment(sb, 1);
+		OhJsonTemplate.appendString(sb, account);
+		order.appendFragment(sb, 2);
+		OhJsonTemplate.appendString(sb, (legs.size() > 1) ? "spread"
+				: "single");
+		order.appendFragment(sb, 3);
+		OhJsonTemplate.appendString(sb, priceType);
+		order.appendFragment(sb, 4);
+		OhJsonTemplate.appendString(sb, getTimeInForce(tif));
+		order.appendFragment(sb, 5);
+		OhJsonTemplate.appendString(sb, "" + limitPrice);
+		order.appendFragment(sb, 6);
+		OhJsonTemplate.appendString(sb, underlying);
+		order.appendFragment(sb, 7);
+		sb.append(clientId);
+		order.appendFragment(sb, 8);
+
+		sb.append('[');
+		for (int i = 0; i < legs.size(); ++i)
+		{
+			OhComplexOrder.Leg leg = legs.get(i);
+
+			if (i > 0)
+			{
+				sb.append(',');
+			}
+
+			s_leg.appendFragment(sb, 0);
+			sb.append(i);
+			s_leg.appendFragment(sb, 1);
+			OhJsonTemplate.appendString(sb,
+					(leg.m_side == Side.Sell) ? "sell" : "buy");
+			s_leg.appendFragment(sb, 2);
+			OhJsonTemplate.appendString(sb, getSecurityType(leg.m_key));
+			s_leg.appendFragment(sb, 3);
+			sb.append(quantity * leg.m_ratio);
+			s_leg.appendFragment(sb, 4);
+			OhJsonTemplate.appendString(sb, leg.m_key);
+			s_leg.appendFragment(sb, 5);
+			sb.append(1);
+			s_leg.appendFragment(sb, 6);
+			OhJsonTemplate.appendString(sb,
+					(leg.m_positionType == PositionType.Close) ? "closing"
+							: "opening");
+			s_leg.appendFragment(sb, 7);
+		}
+		sb.append(']');
+
+		order.appendFragment(sb, 9);
+
+		m_json = sb.toString();
+	}
+
+	/**
+	 * Private constructor, only used to create the templates
+	 */
+	private OhMsgCreateComplexOrderReq()
+	{
+	}
+
+	/**
+	 * Returns the time-in-force string of the request
+	 * 
+	 * @param tif
+	 *            the time-in-force of the order
+	 * @return the time-in-force string
+	 */
+	private static String getTimeInForce(TimeInForce tif)
+	{
+		switch (tif)
+		{
+			case GTC:
+			{
+				return "good_till_cancel";
+			}
+			case EXT:
+			{
+				return "ext_trading";
+			}
+			default:
+			{
+				return "day";
+			}
+		}
+	}
+
+	/**
+	 * Returns the security type string of a leg
+	 * 
+	 * @param key
+	 *            the security key of the leg
+	 * @return the security type string
+	 */
+	private static String getSecurityType(String key)
+	{
+		if (OptionsHouseUtilities.isKeyStock(key))
+		{
+			return "stock";
+		}
+
+		if (OptionsHouseUtilities.isKeyOption(key))
+		{
+			return "option";
+		}
+
+		return "";
+	}
+
+	/**
+	 * Returns the placeholder of a string value of a template
+	 * 
+	 * @param index
+	 *            the index of the value
+	 * @return the placeholder
+	 */
+	private static String placeholder(int index)
+	{
+		return "$" + index + "$";
+	}
+
+	/**
+	 * Returns the placeholder of a string value as it appears in the JSON
+	 * 
+	 * @param index
+	 *            the index of the value
+	 * @return the quoted placeholder
+	 */
+	private static String quoted(int index)
+	{
+		return "\"" + placeholder(index) + "\"";
+	}
+
+	/**
+	 * Serializes an order without legs, with placeholders for its values, and
+	 * returns it as a template
+	 * 
+	 * @param action
+	 *            the action of the request
+	 * @return the template of the order
+	 */
+	static OhJsonTemplate createOrderTemplate(String action)
+	{
+		EZCreateComplexOrderReq ezReq = new OhMsgCreateComplexOrderReq().new EZCreateComplexOrderReq();
+		ezReq.EZMessage.action = action;
+		ezReq.EZMessage.data.authToken = placeholder(0);
+		ezReq.EZMessage.data.account = placeholder(1);
+		ezReq.EZMessage.data.order.order_type = "regular";
+		ezReq.EZMessage.data.order.order_id = false;
+		ezReq.EZMessage.data.order.m_order_id = 1;
+		ezReq.EZMessage.data.order.order_subtype = placeholder(2);
+		ezReq.EZMessage.data.order.price_type = placeholder(3);
+		ezReq.EZMessage.data.order.time_in_force = placeholder(4);
+		ezReq.EZMessage.data.order.alias = "(A) Order 1";
+		ezReq.EZMessage.data.order.price = placeholder(5);
+		ezReq.EZMessage.data.order.underlying_stock_symbol = placeholder(6);
+		ezReq.EZMessage.data.order.allOrNone = false;
+		ezReq.EZMessage.data.order.source = "API";
+		ezReq.EZMessage.data.order.client_id = LONG_PLACEHOLDER;
+		ezReq.EZMessage.data.order.preferred_destination = "BEST";
+
+		String json = OhGson.get().toJson(ezReq, ezReq.getClass());
+
+		// the empty list of legs is the placeholder of the legs
+		return new OhJsonTemplate(json, quoted(0), quoted(1), quoted(2),
+				quoted(3), quoted(4), quoted(5), quoted(6),
+				Long.toString(LONG_PLACEHOLDER), "[]");
+	}
+
+	/**
+	 * Serializes a leg, with placeholders for its values, and returns it as a
+	 * template
+	 * 
+	 * @return the template of a leg
+	 */
+	private static OhJsonTemplate createLegTemplate()
+	{
+		EZCreateComplexOrderReq ezReq = new OhMsgCreateComplexOrderReq().new EZCreateComplexOrderReq();
+		EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_ leg = ezReq.EZMessage.data.order.new leg_();
+		leg.index = LONG_PLACEHOLDER;
+		leg.side = placeholder(0);
+		leg.security_type = placeholder(1);
+		leg.quantity = LONG_PLACEHOLDER + 1;
+		leg.key = placeholder(2);
+		leg.multiplier = LONG_PLACEHOLDER + 2;
+		leg.position_type = placeholder(3);
+
+		String json = OhGson.get().toJson(leg, leg.getClass());
+
+		return new OhJsonTemplate(json, Long.toString(LONG_PLACEHOLDER),
+				quoted(0), quoted(1), Long.toString(LONG_PLACEHOLDER + 1),
+				quoted(2), Long.toString(LONG_PLACEHOLDER + 2), quoted(3));
+	}
+
+	public class EZCreateComplexOrderReq
+	{
+		public EZMessage_ EZMessage = new EZMessage_();
+
+		public class EZMessage_
+		{
+			public String action;
+
+			public data_ data = new data_();
+
+			public class data_
+			{
+				public String authToken;
+				public String account;
+
+				public order_ order = new order_();
+
+				public class order_
+				{
+					public String order_type;
+					public boolean order_id;
+					public long m_order_id;
+					public String order_subtype;
+					public String price_type;
+					public String time_in_force;
+					public String alias;
+					public String price;
+					public String underlying_stock_symbol;
+					public boolean allOrNone;
+					public String source;
+					public long client_id;
+					public String preferred_destination;
+
+					public class leg_
+					{
+						public long index;
+						public String side;
+						public String security_type;
+						public long quantity;
+						public String key;
+						public long multiplier;
+						public String position_type;
+					}
+
+					public List<leg_> legs = new ArrayList<leg_>();
+				}
+			}
+		}
+	}
+}
+
+/**
+ * Internal data structure to represent JSON communication with the OptionsHouse
+ * API. Specifies the response for creating an order with any number of legs.
+ * 
+ * @author Ryan Antkowiak 
+ */
+class OhMsgCreateComplexOrderRsp extends IOhMsgRsp
+{
+	@Override
+	public EZMessageBaseRsp getEZ()
+	{
+		return EZMessage;
+	}
+
+	public static OhMsgCreateComplexOrderRsp build(Reader reader)
+	{
+		Gson gson = OhGson.get();
+		OhMsgCreateComplexOrderRsp rsp = (gson.fromJson(reader,
+				OhMsgCreateComplexOrderRsp.class));
+		return rsp;
+	}
+
+	public EZMessage_ EZMessage;
+
+	public class EZMessage_ extends EZMessageBaseRsp
+	{
+		public data_ data;
+
+		public class data_
+		{
+			public boolean created;
+			public String id;
+		}
+	}
+}
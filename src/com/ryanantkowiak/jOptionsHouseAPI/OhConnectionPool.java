@@ -0,0 +1,1912 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * <pre>
+ * A pool of persistent (keep-alive) HTTPS connections to the OptionsHouse API
+ * servers. Every request sent by one of the "Oh" classes leases a connection
+ * from the shared pool, so only the first request to a host pays for the TCP
+ * and TLS handshakes. Subsequent requests only pay for the round trip.
+ * 
+ * The pool can be tuned through the shared instance:
+ * 
+ *    OhConnectionPool pool = OhConnectionPool.getInstance();
+ *    pool.setMaxConnectionsPerHost(2);
+ *    pool.setIdleTimeoutMs(60000);
+ *    pool.setReadTimeoutMs(10000);
+ * 
+ * Connections are opened within the connect timeout, and a response that
+ * stalls for longer than the read timeout fails the request, so a server that
+ * stops responding (or a half-open connection) never blocks a caller forever.
+ * 
+ * Statistics (hits, new connections, evictions) are kept so that connection
+ * re-use can be verified.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhConnectionPool
+{
+	/** default maximum number of connections that may be open to one host */
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 4;
+
+	/** default time (in ms) an idle connection is kept open before eviction */
+	public static final long DEFAULT_IDLE_TIMEOUT_MS = 30000;
+
+	/** default time (in ms) allowed for opening a new connection */
+	public static final int DEFAULT_CONNECT_TIMEOUT_MS = 10000;
+
+	/** default time (in ms) a response may stall before the request fails */
+	public static final int DEFAULT_READ_TIMEOUT_MS = 30000;
+
+	/**
+	 * default time (in ms) a connection may be idle before it is checked for
+	 * being closed by the server when it is leased. Requests paced at 1 per
+	 * second re-use their connection without the check, while connections
+	 * idle long enough to reach the common server keep-alive timeouts (5
+	 * seconds and up) are checked.
+	 */
+	public static final long DEFAULT_VALIDATE_AFTER_IDLE_MS = 3000;
+
+	/** interval (in ms) at which idle connections are checked for eviction */
+	private static final long EVICTION_INTERVAL_MS = 1000;
+
+	/** time (in ms) an unused thread of the asynchronous executor is kept */
+	private static final long EXECUTOR_KEEP_ALIVE_MS = 60000;
+
+	/** the shared pool used for all requests to the OptionsHouse API */
+	private static final OhConnectionPool s_instance = new OhConnectionPool();
+
+	/** factory used to layer TLS on top of newly opened sockets */
+	private final SSLSocketFactory m_sslSocketFactory;
+
+	/** flag that indicates whether connections are kept open between requests */
+	private boolean m_keepAlive;
+
+	/** maximum number of connections (leased + idle) open to one host */
+	private int m_maxConnectionsPerHost;
+
+	/** time (in ms) an idle connection is kept open before eviction */
+	private long m_idleTimeoutMs;
+
+	/** time (in ms) allowed for opening a new connection */
+	private int m_connectTimeoutMs;
+
+	/** time (in ms) a response may stall before the request fails */
+	private int m_readTimeoutMs;
+
+	/** time (in ms) a connection may be idle before it is checked on lease */
+	private long m_validateAfterIdleMs;
+
+	/** connections for each host, keyed by "host:port" */
+	private final Map<String, HostConnections> m_hosts;
+
+	/** background task that evicts expired idle connections */
+	private ScheduledExecutorService m_evictor;
+
+	/**
+	 * executor of the asynchronous requests that hold a connection, with at
+	 * most one thread per connection of a host
+	 */
+	private ThreadPoolExecutor m_executor;
+
+	/** number of requests that were able to re-use an idle connection */
+	private final AtomicLong m_hits;
+
+	/** number of new connections that were opened */
+	private final AtomicLong m_newConnections;
+
+	/** number of idle connections that were closed by the pool */
+	private final AtomicLong m_evictions;
+
+	/**
+	 * Returns the shared connection pool used by all requests to the
+	 * OptionsHouse API.
+	 * 
+	 * @return the shared connection pool
+	 */
+	public static OhConnectionPool getInstance()
+	{
+		return s_instance;
+	}
+
+	/**
+	 * Constructor for a pool that uses the default TLS socket factory
+	 */
+	OhConnectionPool()
+	{
+		this((SSLSocketFactory) SSLSocketFactory.getDefault());
+	}
+
+	/**
+	 * Constructor for a pool that uses the provided TLS socket factory
+	 * 
+	 * @param sslSocketFactory
+	 *            the factory used to layer TLS on top of new sockets
+	 */
+	OhConnectionPool(SSLSocketFactory sslSocketFactory)
+	{
+		m_sslSocketFactory = sslSocketFactory;
+		m_keepAlive = true;
+		m_maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+		m_idleTimeoutMs = DEFAULT_IDLE_TIMEOUT_MS;
+		m_connectTimeoutMs = DEFAULT_CONNECT_TIMEOUT_MS;
+		m_readTimeoutMs = DEFAULT_READ_TIMEOUT_MS;
+		m_validateAfterIdleMs = DEFAULT_VALIDATE_AFTER_IDLE_MS;
+		m_hosts = new HashMap<String, HostConnections>();
+		m_hits = new AtomicLong();
+		m_newConnections = new AtomicLong();
+		m_evictions = new AtomicLong();
+	}
+
+	/**
+	 * Returns true if connections are kept open between requests
+	 * 
+	 * @return true if keep-alive is enabled
+	 */
+	public synchronized boolean isKeepAlive()
+	{
+		return m_keepAlive;
+	}
+
+	/**
+	 * Sets whether connections are kept open between requests. Disabling
+	 * keep-alive closes all idle connections, and every subsequent request
+	 * will open (and close) its own connection.
+	 * 
+	 * @param keepAlive
+	 *            true to keep connections open between requests
+	 */
+	public synchronized void setKeepAlive(boolean keepAlive)
+	{
+		m_keepAlive = keepAlive;
+
+		if (!m_keepAlive)
+		{
+			closeIdleConnections();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of connections that may be open to one host
+	 * 
+	 * @return the maximum number of connections per host
+	 */
+	public synchronized int getMaxConnectionsPerHost()
+	{
+		return m_maxConnectionsPerHost;
+	}
+
+	/**
+	 * Sets the maximum number of connections that may be open to one host.
+	 * Requests that are made while all connections are in use will wait for a
+	 * connection to be returned to the pool.
+	 * 
+	 * @param maxConnectionsPerHost
+	 *            the maximum number of connections per host (at least 1)
+	 */
+	public synchronized void setMaxConnectionsPerHost(int maxConnectionsPerHost)
+	{
+		if (maxConnectionsPerHost < 1)
+		{
+			throw new IllegalArgumentException(
+					"maxConnectionsPerHost must be at least 1");
+		}
+
+		if (null != m_executor)
+		{
+			if (maxConnectionsPerHost > m_executor.getMaximumPoolSize())
+			{
+				m_executor.setMaximumPoolSize(maxConnectionsPerHost);
+				m_executor.setCorePoolSize(maxConnectionsPerHost);
+			}
+			else
+			{
+				m_executor.setCorePoolSize(maxConnectionsPerHost);
+				m_executor.setMaximumPoolSize(maxConnectionsPerHost);
+			}
+		}
+
+		m_maxConnectionsPerHost = maxConnectionsPerHost;
+
+		// queued requests may take the new places at once
+		for (HostConnections hc : m_hosts.values())
+		{
+			while (hc.m_open < m_maxConnectionsPerHost
+					&& !hc.m_waiting.isEmpty())
+			{
+				++hc.m_open;
+				dispatch(hc.m_waiting.pollFirst(), null);
+			}
+		}
+
+		notifyAll();
+	}
+
+	/**
+	 * Returns the time (in ms) an idle connection is kept open
+	 * 
+	 * @return the idle timeout in milliseconds
+	 */
+	public synchronized long getIdleTimeoutMs()
+	{
+		return m_idleTimeoutMs;
+	}
+
+	/**
+	 * Sets the time (in ms) an idle connection is kept open before it is
+	 * closed by the pool.
+	 * 
+	 * @param idleTimeoutMs
+	 *            the idle timeout in milliseconds
+	 */
+	public synchronized void setIdleTimeoutMs(long idleTimeoutMs)
+	{
+		m_idleTimeoutMs = idleTimeoutMs;
+	}
+
+	/**
+	 * Returns the time (in ms) allowed for opening a new connection
+	 * 
+	 * @return the connect timeout in milliseconds
+	 */
+	public synchronized int getConnectTimeoutMs()
+	{
+		return m_connectTimeoutMs;
+	}
+
+	/**
+	 * Sets the time (in ms) allowed for opening a new connection (TCP connect;
+	 * the TLS handshake is bounded by the read timeout)
+	 * 
+	 * @param connectTimeoutMs
+	 *            the connect timeout in milliseconds (0 waits forever)
+	 */
+	public synchronized void setConnectTimeoutMs(int connectTimeoutMs)
+	{
+		if (connectTimeoutMs < 0)
+		{
+			throw new IllegalArgumentException(
+					"connectTimeoutMs must not be negative");
+		}
+
+		m_connectTimeoutMs = connectTimeoutMs;
+	}
+
+	/**
+	 * Returns the time (in ms) a response may stall before the request fails
+	 * 
+	 * @return the read timeout in milliseconds
+	 */
+	public synchronized int getReadTimeoutMs()
+	{
+		return m_readTimeoutMs;
+	}
+
+	/**
+	 * Sets the time (in ms) a response may stall (no byte received) before the
+	 * request fails. Applies to the requests sent after the call.
+	 * 
+	 * @param readTimeoutMs
+	 *            the read timeout in milliseconds (0 waits forever)
+	 */
+	public synchronized void setReadTimeoutMs(int readTimeoutMs)
+	{
+		if (readTimeoutMs < 0)
+		{
+			throw new IllegalArgumentException(
+					"readTimeoutMs must not be negative");
+		}
+
+		m_readTimeoutMs = readTimeoutMs;
+	}
+
+	/**
+	 * Returns the time (in ms) a connection may be idle before it is checked
+	 * for being closed by the server when it is leased
+	 * 
+	 * @return the idle time after which connections are validated
+	 */
+	public synchronized long getValidateAfterIdleMs()
+	{
+		return m_validateAfterIdleMs;
+	}
+
+	/**
+	 * Sets the time (in ms) a connection may be idle before it is checked for
+	 * being closed by the server when it is leased. The check is only made
+	 * when an idle connection is re-used, and waits up to 1 ms for the end of
+	 * the stream, unless the server has already sent something.
+	 * 
+	 * @param validateAfterIdleMs
+	 *            the idle time after which connections are validated (0 to
+	 *            validate every re-used connection)
+	 */
+	public synchronized void setValidateAfterIdleMs(long validateAfterIdleMs)
+	{
+		m_validateAfterIdleMs = Math.max(0, validateAfterIdleMs);
+	}
+
+	/**
+	 * Returns the number of requests that re-used an already open connection
+	 * 
+	 * @return the number of pool hits
+	 */
+	public long getHits()
+	{
+		return m_hits.get();
+	}
+
+	/**
+	 * Returns the number of new connections that were opened by the pool
+	 * 
+	 * @return the number of new connections
+	 */
+	public long getNewConnections()
+	{
+		return m_newConnections.get();
+	}
+
+	/**
+	 * Returns the number of idle connections that were closed by the pool,
+	 * either because they expired or because the server had closed them.
+	 * 
+	 * @return the number of evictions
+	 */
+	public long getEvictions()
+	{
+		return m_evictions.get();
+	}
+
+	/**
+	 * Returns the number of connections currently idle in the pool
+	 * 
+	 * @return the number of idle connections
+	 */
+	public synchronized int getIdleConnections()
+	{
+		int idle = 0;
+
+		for (HostConnections hc : m_hosts.values())
+		{
+			idle += hc.m_idle.size();
+		}
+
+		return idle;
+	}
+
+	/**
+	 * Resets the hit, new connection and eviction counters to zero
+	 */
+	public void resetStats()
+	{
+		m_hits.set(0);
+		m_newConnections.set(0);
+		m_evictions.set(0);
+	}
+
+	/**
+	 * Closes every idle connection in the pool. Connections currently in use
+	 * are not affected.
+	 */
+	public synchronized void closeIdleConnections()
+	{
+		for (HostConnections hc : m_hosts.values())
+		{
+			while (!hc.m_idle.isEmpty())
+			{
+				evict(hc, hc.m_idle.pollLast());
+			}
+		}
+	}
+
+	/**
+	 * Closes idle connections that have not been used within the idle timeout
+	 */
+	public synchronized void evictIdleConnections()
+	{
+		long now = System.currentTimeMillis();
+
+		for (HostConnections hc : m_hosts.values())
+		{
+			evictExpired(hc, now);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("hits=");
+		sb.append(getHits());
+		sb.append(" newConnections=");
+		sb.append(getNewConnections());
+		sb.append(" evictions=");
+		sb.append(getEvictions());
+		sb.append(" idle=");
+		sb.append(getIdleConnections());
+
+		return sb.toString();
+	}
+
+	/**
+	 * Sends a POST request with the provided body to the given host and path,
+	 * using a pooled connection. Returns the body of the response.
+	 * 
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @param path
+	 *            the path of the page to request (ex: "/j")
+	 * @param body
+	 *            the body of the request
+	 * @param idempotent
+	 *            true if the request may safely be sent twice (see below)
+	 * @return the body of the response
+	 * @throws IOException
+	 *             if the request could not be sent, or the response could not
+	 *             be read
+	 */
+	String post(String host, int port, String path, String body,
+			boolean idempotent) throws IOException
+	{
+		return post(host, port, path, body, idempotent, new BodyHandler<String>()
+		{
+			public String handle(InputStream in) throws IOException
+			{
+				return OhPooledConnection.readFully(in);
+			}
+		});
+	}
+
+	/**
+	 * Sends a POST request with the provided body to the given host and path,
+	 * using a pooled connection. The body of the response is passed to the
+	 * handler as a stream, while it is still arriving from the server, so that
+	 * it never needs to be held in memory as a whole.
+	 * 
+	 * A request that fails on a re-used connection is retried once on a fresh
+	 * connection, since the server may have closed the idle connection in the
+	 * meantime, but only if it cannot have been processed twice: either the
+	 * request could not be written, or it is idempotent and no part of the
+	 * response has arrived. A request that is not idempotent (ex: creating or
+	 * canceling an order) and was written is never sent again, as the server
+	 * may already have received it. The handler is never called more than
+	 * once.
+	 * 
+	 * @param <T>
+	 *            the type of the result of the handler
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @param path
+	 *            the path of the page to request (ex: "/j")
+	 * @param body
+	 *            the body of the request
+	 * @param idempotent
+	 *            true if the request may safely be sent twice
+	 * @param handler
+	 *            reads the body of the response
+	 * @return the result of the handler
+	 * @throws IOException
+	 *             if the request could not be sent, or the response could not
+	 *             be read
+	 */
+	<T> T post(String host, int port, String path, String body,
+			boolean idempotent, BodyHandler<T> handler) throws IOException
+	{
+		byte[] content = body.getBytes(OhPooledConnection.UTF8);
+
+		for (int attempt = 0;; ++attempt)
+		{
+			OhPooledConnection conn = lease(host, port);
+
+			try
+			{
+				return exchange(conn, path, content, handler);
+			}
+			catch (IOException e)
+			{
+				if (!mayRetry(conn, attempt, idempotent))
+				{
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sends a POST request like post(), without blocking the calling thread.
+	 * No thread waits for a connection: when the maximum number of connections
+	 * to the host are in use, the request is queued and handed the next
+	 * connection that is released. The exchange itself (writing the request,
+	 * reading the response and calling the handler) runs on a thread of the
+	 * pool's executor, which only ever runs requests that hold a connection.
+	 * It has at most getMaxConnectionsPerHost() threads (the requests to
+	 * several hosts share them).
+	 * 
+	 * @param <T>
+	 *            the type of the result of the handler
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @param path
+	 *            the path of the page to request (ex: "/j")
+	 * @param body
+	 *            the body of the request
+	 * @param idempotent
+	 *            true if the request may safely be sent twice
+	 * @param handler
+	 *            reads the body of the response
+	 * @return a future that is completed with the result of the handler, or
+	 *         exceptionally if the request failed
+	 */
+	<T> CompletableFuture<T> postAsync(String host, int port, String path,
+			String body, boolean idempotent, BodyHandler<T> handler)
+	{
+		CompletableFuture<T> future = new CompletableFuture<T>();
+
+		leaseAsync(host, port, new AsyncExchange<T>(host, port, path,
+				body.getBytes(OhPooledConnection.UTF8), idempotent, handler,
+				future));
+
+		return future;
+	}
+
+	/**
+	 * Writes a request on a leased connection and reads its response, then
+	 * returns the connection to the pool
+	 * 
+	 * @param <T>
+	 *            the type of the result of the handler
+	 * @param conn
+	 *            the leased connection
+	 * @param path
+	 *            the path of the page to request
+	 * @param content
+	 *            the body of the request
+	 * @param handler
+	 *            reads the body of the response
+	 * @return the result of the handler
+	 * @throws IOException
+	 *             if the request could not be sent, or the response could not
+	 *             be read
+	 */
+	private <T> T exchange(OhPooledConnection conn, String path,
+			byte[] content, BodyHandler<T> handler) throws IOException
+	{
+		boolean reusable = false;
+
+		try
+		{
+			conn.setReadTimeoutMs(getReadTimeoutMs());
+			InputStream in = conn.post(path, content, isKeepAlive());
+			T result = handler.handle(in);
+			in.close();
+			reusable = conn.isReusable();
+			return result;
+		}
+		finally
+		{
+			release(conn, reusable);
+		}
+	}
+
+	/**
+	 * Returns true if a request that failed may be sent again on a fresh
+	 * connection: only once, only after a failure on a re-used connection
+	 * (which the server may have closed while it was idle), and only if the
+	 * request cannot have been processed (see post())
+	 * 
+	 * @param conn
+	 *            the connection on which the request failed
+	 * @param attempt
+	 *            the number of the attempt that failed (0 for the first one)
+	 * @param idempotent
+	 *            true if the request may safely be sent twice
+	 * @return true if the request may be sent again
+	 */
+	private static boolean mayRetry(OhPooledConnection conn, int attempt,
+			boolean idempotent)
+	{
+		boolean mayHaveArrived = conn.isRequestSent()
+				&& (!idempotent || conn.isResponseStarted());
+
+		return 0 == attempt && conn.isReused() && !mayHaveArrived;
+	}
+
+	/**
+	 * Leases a connection to the given host, re-using an idle connection when
+	 * one is available. Waits if the maximum number of connections to the host
+	 * are already in use.
+	 * 
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @return a connection to the host
+	 * @throws IOException
+	 *             if a new connection could not be opened
+	 */
+	OhPooledConnection lease(String host, int port) throws IOException
+	{
+		OhPooledConnection idle;
+
+		synchronized (this)
+		{
+			HostConnections hc = getHostConnections(host, port);
+
+			while (true)
+			{
+				evictExpired(hc, System.currentTimeMillis());
+
+				idle = pollIdle(hc);
+				if (null != idle)
+				{
+					break;
+				}
+
+				if (hc.m_open < m_maxConnectionsPerHost)
+				{
+					++hc.m_open;
+					break;
+				}
+
+				try
+				{
+					wait();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					throw new IOException(
+							"Interrupted while waiting for a connection to "
+									+ host);
+				}
+			}
+		}
+
+		return open(host, port, idle);
+	}
+
+	/**
+	 * Leases a connection to the given host without waiting. If an idle
+	 * connection is available, or another connection may be opened, the
+	 * callback is run at once on the pool's executor; otherwise it is queued,
+	 * and run when a connection of the host is released.
+	 * 
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @param callback
+	 *            runs the request once a connection (or the right to open
+	 *            one) is leased
+	 */
+	private synchronized void leaseAsync(String host, int port,
+			LeaseCallback callback)
+	{
+		HostConnections hc = getHostConnections(host, port);
+		evictExpired(hc, System.currentTimeMillis());
+
+		OhPooledConnection idle = pollIdle(hc);
+		if (null != idle)
+		{
+			dispatch(callback, idle);
+		}
+		else if (hc.m_open < m_maxConnectionsPerHost)
+		{
+			++hc.m_open;
+			dispatch(callback, null);
+		}
+		else
+		{
+			hc.m_waiting.addLast(callback);
+		}
+	}
+
+	/**
+	 * Returns a connection that is ready for a request, from an idle
+	 * connection that was leased or else by opening a new connection in the
+	 * place that was reserved for it. An idle connection that was closed by
+	 * the server is replaced by a new one. Must be called without holding the
+	 * lock of the pool, since the check and the handshake take a while.
+	 * 
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @param idle
+	 *            the idle connection that was leased, or null to open one
+	 * @return a connection to the host
+	 * @throws IOException
+	 *             if a new connection could not be opened
+	 */
+	private OhPooledConnection open(String host, int port,
+			OhPooledConnection idle) throws IOException
+	{
+		if (null != idle)
+		{
+			// the server may have closed the connection while it was idle
+			long idleMs = System.currentTimeMillis() - idle.getLastUsedMs();
+
+			if (idleMs < getValidateAfterIdleMs() || !idle.isStale())
+			{
+				m_hits.incrementAndGet();
+				idle.setReused(true);
+				return idle;
+			}
+
+			// replaced by a new connection, which keeps its place
+			idle.close();
+			m_evictions.incrementAndGet();
+		}
+
+		boolean opened = false;
+		try
+		{
+			OhPooledConnection conn = new OhPooledConnection(host, port,
+					connect(host, port));
+			m_newConnections.incrementAndGet();
+			opened = true;
+			return conn;
+		}
+		finally
+		{
+			if (!opened)
+			{
+				synchronized (this)
+				{
+					freePlace(getHostConnections(host, port));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a leased connection to the pool. The connection is kept open for
+	 * re-use if keep-alive is enabled and the connection is reusable,
+	 * otherwise it is closed. A request waiting for a connection of the host
+	 * is handed the connection (or its place) at once.
+	 * 
+	 * @param conn
+	 *            the leased connection
+	 * @param reusable
+	 *            true if the connection may be re-used by another request
+	 */
+	synchronized void release(OhPooledConnection conn, boolean reusable)
+	{
+		HostConnections hc = getHostConnections(conn.getHost(), conn.getPort());
+
+		if (m_keepAlive && reusable && !conn.isClosed())
+		{
+			conn.setLastUsedMs(System.currentTimeMillis());
+
+			LeaseCallback waiting = hc.m_waiting.pollFirst();
+			if (null != waiting)
+			{
+				dispatch(waiting, conn);
+			}
+			else
+			{
+				hc.m_idle.addFirst(conn);
+				startEvictor();
+			}
+		}
+		else
+		{
+			conn.close();
+			freePlace(hc);
+		}
+
+		notifyAll();
+	}
+
+	/**
+	 * Frees the place of a connection of a host that was closed (or could not
+	 * be opened): it is handed to the first queued request, if any, which
+	 * opens a new connection. Called while holding the lock of the pool.
+	 * 
+	 * @param hc
+	 *            the connections of the host
+	 */
+	private void freePlace(HostConnections hc)
+	{
+		LeaseCallback waiting = hc.m_waiting.pollFirst();
+
+		if (null != waiting)
+		{
+			dispatch(waiting, null);
+		}
+		else
+		{
+			--hc.m_open;
+		}
+
+		notifyAll();
+	}
+
+	/**
+	 * Takes the most recently used idle connection of a host, evicting the
+	 * ones that were closed. Called while holding the lock of the pool.
+	 * 
+	 * @param hc
+	 *            the connections of the host
+	 * @return an idle connection, or null if there is none
+	 */
+	private OhPooledConnection pollIdle(HostConnections hc)
+	{
+		while (true)
+		{
+			OhPooledConnection idle = hc.m_idle.pollFirst();
+
+			if (null == idle || !idle.isClosed())
+			{
+				return idle;
+			}
+
+			evict(hc, idle);
+		}
+	}
+
+	/**
+	 * Runs a leased callback on the pool's executor. Called while holding the
+	 * lock of the pool.
+	 * 
+	 * @param callback
+	 *            the callback
+	 * @param idle
+	 *            the idle connection that was leased, or null if the callback
+	 *            must open one
+	 */
+	private void dispatch(final LeaseCallback callback,
+			final OhPooledConnection idle)
+	{
+		if (null == m_executor)
+		{
+			m_executor = new ThreadPoolExecutor(m_maxConnectionsPerHost,
+					m_maxConnectionsPerHost, EXECUTOR_KEEP_ALIVE_MS,
+					TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+					new ThreadFactory()
+					{
+						private final AtomicInteger m_count = new AtomicInteger();
+
+						public Thread newThread(Runnable r)
+						{
+							Thread t = new Thread(r,
+									"OhConnectionPool-exchange-"
+											+ m_count.incrementAndGet());
+							t.setDaemon(true);
+							return t;
+						}
+					});
+			m_executor.allowCoreThreadTimeOut(true);
+		}
+
+		m_executor.execute(new Runnable()
+		{
+			public void run()
+			{
+				callback.leased(idle);
+			}
+		});
+	}
+
+	/**
+	 * Returns the connections for the given host, creating the entry if needed
+	 * 
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @return the connections for the host
+	 */
+	private HostConnections getHostConnections(String host, int port)
+	{
+		String key = host + ":" + port;
+		HostConnections hc = m_hosts.get(key);
+
+		if (null == hc)
+		{
+			hc = new HostConnections();
+			m_hosts.put(key, hc);
+		}
+
+		return hc;
+	}
+
+	/**
+	 * Closes the idle connections of a host that have exceeded the idle
+	 * timeout. The least recently used connections are at the end of the
+	 * queue.
+	 * 
+	 * @param hc
+	 *            the connections of one host
+	 * @param now
+	 *            the current time in milliseconds
+	 */
+	private void evictExpired(HostConnections hc, long now)
+	{
+		Iterator<OhPooledConnection> it = hc.m_idle.descendingIterator();
+
+		while (it.hasNext())
+		{
+			OhPooledConnection conn = it.next();
+
+			if (conn.isClosed() || now - conn.getLastUsedMs() >= m_idleTimeoutMs)
+			{
+				it.remove();
+				evict(hc, conn);
+			}
+		}
+	}
+
+	/**
+	 * Closes an idle connection that has already been removed from the idle
+	 * queue
+	 * 
+	 * @param hc
+	 *            the connections of the host
+	 * @param conn
+	 *            the connection to close
+	 */
+	private void evict(HostConnections hc, OhPooledConnection conn)
+	{
+		conn.close();
+		m_evictions.incrementAndGet();
+		freePlace(hc);
+	}
+
+	/**
+	 * Starts the background task that evicts expired idle connections, if it
+	 * is not already running.
+	 */
+	private void startEvictor()
+	{
+		if (null != m_evictor)
+		{
+			return;
+		}
+
+		m_evictor = Executors
+				.newSingleThreadScheduledExecutor(new ThreadFactory()
+				{
+					public Thread newThread(Runnable r)
+					{
+						Thread t = new Thread(r, "OhConnectionPool-evictor");
+						t.setDaemon(true);
+						return t;
+					}
+				});
+
+		m_evictor.scheduleWithFixedDelay(new Runnable()
+		{
+			public void run()
+			{
+				evictIdleConnections();
+			}
+		}, EVICTION_INTERVAL_MS, EVICTION_INTERVAL_MS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Opens a new TLS socket to the given host, honoring any proxy that is
+	 * configured for the JVM (ex: the "https.proxyHost" system property). The
+	 * server's certificate is verified against the host name. The connection
+	 * is bounded by the connect timeout, and the handshake by the read
+	 * timeout.
+	 * 
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @return the connected socket, after the TLS handshake has completed
+	 * @throws IOException
+	 *             if the connection could not be opened
+	 */
+	private Socket connect(String host, int port) throws IOException
+	{
+		Proxy proxy = selectProxy(host, port);
+
+		Socket plain;
+		InetSocketAddress address;
+		if (proxy.type() == Proxy.Type.DIRECT)
+		{
+			plain = new Socket();
+			address = new InetSocketAddress(host, port);
+		}
+		else
+		{
+			plain = new Socket(proxy);
+			address = InetSocketAddress.createUnresolved(host, port);
+		}
+
+		try
+		{
+			plain.setTcpNoDelay(true);
+			plain.setKeepAlive(true);
+			plain.setSoTimeout(getReadTimeoutMs());
+			plain.connect(address, getConnectTimeoutMs());
+
+			SSLSocket ssl = (SSLSocket) m_sslSocketFactory.createSocket(plain,
+					host, port, true);
+			SSLParameters params = ssl.getSSLParameters();
+			params.setEndpointIdentificationAlgorithm("HTTPS");
+			ssl.setSSLParameters(params);
+			ssl.startHandshake();
+
+			return ssl;
+		}
+		catch (IOException e)
+		{
+			plain.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the proxy to be used for connecting to the given host
+	 * 
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @return the proxy (Proxy.NO_PROXY for a direct connection)
+	 */
+	private static Proxy selectProxy(String host, int port)
+	{
+		ProxySelector selector = ProxySelector.getDefault();
+
+		if (null != selector)
+		{
+			try
+			{
+				List<Proxy> proxies = selector.select(new URI("https://" + host
+						+ ":" + port + "/"));
+
+				if (null != proxies && !proxies.isEmpty())
+				{
+					return proxies.get(0);
+				}
+			}
+			catch (URISyntaxException e)
+			{
+			}
+		}
+
+		return Proxy.NO_PROXY;
+	}
+
+	/**
+	 * The open connections to one host
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private static class HostConnections
+	{
+		/** idle connections, most recently used first */
+		private final Deque<OhPooledConnection> m_idle = new ArrayDeque<OhPooledConnection>();
+
+		/** number of connections open to the host (leased + idle) */
+		private int m_open;
+
+		/** asynchronous requests waiting for a connection, oldest first */
+		private final Deque<LeaseCallback> m_waiting = new ArrayDeque<LeaseCallback>();
+	}
+
+	/**
+	 * Runs an asynchronous request once it has leased a connection
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private interface LeaseCallback
+	{
+		/**
+		 * Called on the pool's executor once a connection is leased
+		 * 
+		 * @param idle
+		 *            the idle connection that was leased, or null if a new
+		 *            connection may be opened
+		 */
+		void leased(OhPooledConnection idle);
+	}
+
+	/**
+	 * One asynchronous POST request, run once it has leased a connection
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private class AsyncExchange<T> implements LeaseCallback
+	{
+		/** the host name of the server */
+		private final String m_host;
+
+		/** the port of the server */
+		private final int m_port;
+
+		/** the path of the page to request */
+		private final String m_path;
+
+		/** the body of the request */
+		private final byte[] m_content;
+
+		/** true if the request may safely be sent twice */
+		private final boolean m_idempotent;
+
+		/** reads the body of the response */
+		private final BodyHandler<T> m_handler;
+
+		/** completed with the result of the handler */
+		private final CompletableFuture<T> m_future;
+
+		/** the number of the current attempt (0 for the first one) */
+		private int m_attempt;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param host
+		 *            the host name of the server
+		 * @param port
+		 *            the port of the server
+		 * @param path
+		 *            the path of the page to request
+		 * @param content
+		 *            the body of the request
+		 * @param idempotent
+		 *            true if the request may safely be sent twice
+		 * @param handler
+		 *            reads the body of the response
+		 * @param future
+		 *            completed with the result of the handler
+		 */
+		AsyncExchange(String host, int port, String path, byte[] content,
+				boolean idempotent, BodyHandler<T> handler,
+				CompletableFuture<T> future)
+		{
+			m_host = host;
+			m_port = port;
+			m_path = path;
+			m_content = content;
+			m_idempotent = idempotent;
+			m_handler = handler;
+			m_future = future;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see
+		 * com.ryanantkowiak.jOptionsHouseAPI.OhConnectionPool.LeaseCallback
+		 * #leased(com.ryanantkowiak.jOptionsHouseAPI.OhPooledConnection)
+		 */
+		@Override
+		public void leased(OhPooledConnection idle)
+		{
+			OhPooledConnection conn;
+
+			try
+			{
+				conn = open(m_host, m_port, idle);
+			}
+			catch (IOException e)
+			{
+				m_future.completeExceptionally(e);
+				return;
+			}
+
+			try
+			{
+				m_future.complete(exchange(conn, m_path, m_content, m_handler));
+			}
+			catch (IOException e)
+			{
+				if (mayRetry(conn, m_attempt, m_idempotent))
+				{
+					++m_attempt;
+					leaseAsync(m_host, m_port, this);
+				}
+				else
+				{
+					m_future.completeExceptionally(e);
+				}
+			}
+			catch (RuntimeException e)
+			{
+				m_future.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * Reads the body of a response from a pooled connection
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	interface BodyHandler<T>
+	{
+		/**
+		 * Reads the body of a response. The stream must not be used after this
+		 * method returns.
+		 * 
+		 * @param in
+		 *            the body of the response
+		 * @return the result of reading the body
+		 * @throws IOException
+		 *             if the body could not be read
+		 */
+		T handle(InputStream in) throws IOException;
+	}
+}
+
+/**
+ * One persistent HTTP/1.1 connection to an OptionsHouse API server. A
+ * connection is leased from the OhConnectionPool for the duration of one
+ * request/response exchange.
+ * 
+ * @author Ryan Antkowiak 
+ */
+class OhPooledConnection
+{
+	/** character set of request and response bodies */
+	static final Charset UTF8 = Charset.forName("UTF-8");
+
+	/** character set of the HTTP status line and headers */
+	private static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+	/** maximum number of unread body bytes that will be skipped on close */
+	private static final long MAX_DRAIN_BYTES = 65536;
+
+	/** the host name of the server */
+	private final String m_host;
+
+	/** the port of the server */
+	private final int m_port;
+
+	/** the underlying socket */
+	private final Socket m_socket;
+
+	/** buffered input stream of the socket */
+	private final InputStream m_in;
+
+	/** buffered output stream of the socket */
+	private final OutputStream m_out;
+
+	/** time (in ms) at which the connection was last returned to the pool */
+	private long m_lastUsedMs;
+
+	/** flag that indicates the connection was taken from the idle pool */
+	private boolean m_reused;
+
+	/** flag that indicates the current request has been written completely */
+	private boolean m_requestSent;
+
+	/** flag that indicates any part of the current response has arrived */
+	private boolean m_responseStarted;
+
+	/** flag that indicates the server allows the connection to be re-used */
+	private boolean m_keepAlive;
+
+	/** the body of the current response */
+	private ResponseBodyInputStream m_body;
+
+	/**
+	 * Constructor wraps an already connected socket
+	 * 
+	 * @param host
+	 *            the host name of the server
+	 * @param port
+	 *            the port of the server
+	 * @param socket
+	 *            the connected socket
+	 * @throws IOException
+	 *             if the streams of the socket could not be opened
+	 */
+	OhPooledConnection(String host, int port, Socket socket) throws IOException
+	{
+		m_host = host;
+		m_port = port;
+		m_socket = socket;
+		m_in = new BufferedInputStream(socket.getInputStream());
+		m_out = new BufferedOutputStream(socket.getOutputStream());
+	}
+
+	/**
+	 * Returns the host name of the server
+	 */
+	String getHost()
+	{
+		return m_host;
+	}
+
+	/**
+	 * Returns the port of the server
+	 */
+	int getPort()
+	{
+		return m_port;
+	}
+
+	/**
+	 * Returns the time (in ms) at which the connection was last returned to the pool
+	 */
+	long getLastUsedMs()
+	{
+		return m_lastUsedMs;
+	}
+
+	/**
+	 * Sets the time (in ms) at which the connection was returned to the pool
+	 */
+	void setLastUsedMs(long lastUsedMs)
+	{
+		m_lastUsedMs = lastUsedMs;
+	}
+
+	/**
+	 * Returns true if the connection was taken from the idle pool
+	 */
+	boolean isReused()
+	{
+		return m_reused;
+	}
+
+	/**
+	 * Sets the flag that indicates the connection was taken from the idle pool
+	 */
+	void setReused(boolean reused)
+	{
+		m_reused = reused;
+	}
+
+	/**
+	 * Returns true if the current request has been written completely (the
+	 * server may have received it)
+	 */
+	boolean isRequestSent()
+	{
+		return m_requestSent;
+	}
+
+	/**
+	 * Returns true if any part of the current response has arrived
+	 */
+	boolean isResponseStarted()
+	{
+		return m_responseStarted;
+	}
+
+	/**
+	 * Sets the time (in ms) a read may block before it fails
+	 * 
+	 * @param readTimeoutMs
+	 *            the read timeout in milliseconds (0 waits forever)
+	 * @throws IOException
+	 *             if the timeout could not be set
+	 */
+	void setReadTimeoutMs(int readTimeoutMs) throws IOException
+	{
+		m_socket.setSoTimeout(readTimeoutMs);
+	}
+
+	/**
+	 * Returns true if an idle connection can no longer be used: the server
+	 * has closed it, or has sent data that no request asked for. Waits up to
+	 * 1 ms for the end of the stream, unless data is already buffered.
+	 * 
+	 * @return true if the connection must not be re-used
+	 */
+	boolean isStale()
+	{
+		if (isClosed())
+		{
+			return true;
+		}
+
+		try
+		{
+			if (m_in.available() > 0)
+			{
+				return true;
+			}
+
+			int timeout = m_socket.getSoTimeout();
+			m_socket.setSoTimeout(1);
+
+			try
+			{
+				// any byte, or the end of the stream, means the connection
+				// is not waiting for a request
+				m_in.read();
+				return true;
+			}
+			catch (SocketTimeoutException e)
+			{
+				return false;
+			}
+			finally
+			{
+				m_socket.setSoTimeout(timeout);
+			}
+		}
+		catch (IOException e)
+		{
+			return true;
+		}
+	}
+
+	/**
+	 * Returns true if the underlying socket has been closed
+	 */
+	boolean isClosed()
+	{
+		return m_socket.isClosed();
+	}
+
+	/**
+	 * Returns true if the last response was read completely and the server
+	 * allows the connection to be used for another request
+	 * 
+	 * @return true if the connection can be re-used
+	 */
+	boolean isReusable()
+	{
+		return m_keepAlive && null != m_body && m_body.isComplete()
+				&& !isClosed();
+	}
+
+	/**
+	 * Closes the underlying socket
+	 */
+	void close()
+	{
+		try
+		{
+			m_socket.close();
+		}
+		catch (IOException e)
+		{
+		}
+	}
+
+	/**
+	 * Sends a POST request and reads the status line and headers of the
+	 * response. Returns a stream containing the body of the response, which
+	 * must be read (or closed) before the connection is returned to the pool.
+	 * 
+	 * @param path
+	 *            the path of the page to request (ex: "/j")
+	 * @param content
+	 *            the body of the request
+	 * @param keepAlive
+	 *            true to ask the server to keep the connection open
+	 * @return the body of the response
+	 * @throws IOException
+	 *             if the exchange failed, or the server returned an HTTP error
+	 */
+	InputStream post(String path, byte[] content, boolean keepAlive)
+			throws IOException
+	{
+		m_requestSent = false;
+		m_responseStarted = false;
+		m_keepAlive = keepAlive;
+		m_body = null;
+
+		StringBuilder sb = new StringBuilder();
+		sb.append("POST ").append(path).append(" HTTP/1.1\r\n");
+		sb.append("Host: ").append(m_host).append("\r\n");
+		sb.append("User-Agent: jOptionsHouseAPI\r\n");
+		sb.append("Accept: */*\r\n");
+		sb.append("Content-Type: text/xml\r\n");
+		sb.append("Content-Length: ").append(content.length).append("\r\n");
+		sb.append("Connection: ").append(keepAlive ? "keep-alive" : "close")
+				.append("\r\n");
+		sb.append("\r\n");
+
+		m_out.write(sb.toString().getBytes(ISO_8859_1));
+		m_out.write(content);
+		m_out.flush();
+		m_requestSent = true;
+
+		int status;
+		long contentLength;
+		boolean chunked;
+
+		do
+		{
+			String statusLine = readLine();
+			if (null == statusLine)
+			{
+				throw new IOException("Server closed connection to " + m_host
+						+ " without a response");
+			}
+			m_responseStarted = true;
+
+			String[] parts = statusLine.split(" ", 3);
+			if (parts.length < 2 || !parts[0].startsWith("HTTP/"))
+			{
+				throw new IOException("Invalid HTTP status line: " + statusLine);
+			}
+
+			try
+			{
+				status = Integer.parseInt(parts[1]);
+			}
+			catch (NumberFormatException e)
+			{
+				throw new IOException("Invalid HTTP status line: " + statusLine);
+			}
+
+			if (parts[0].equals("HTTP/1.0"))
+			{
+				m_keepAlive = false;
+			}
+
+			contentLength = -1;
+			chunked = false;
+
+			String header;
+			while (null != (header = readLine()) && !header.isEmpty())
+			{
+				int colon = header.indexOf(':');
+				if (colon <= 0)
+				{
+					continue;
+				}
+
+				String name = header.substring(0, colon).trim();
+				String value = header.substring(colon + 1).trim();
+
+				if (name.equalsIgnoreCase("Content-Length"))
+				{
+					try
+					{
+						contentLength = Long.parseLong(value);
+					}
+					catch (NumberFormatException e)
+					{
+						throw new IOException("Invalid Content-Length: "
+								+ value);
+					}
+				}
+				else if (name.equalsIgnoreCase("Transfer-Encoding"))
+				{
+					chunked = value.toLowerCase().contains("chunked");
+				}
+				else if (name.equalsIgnoreCase("Connection"))
+				{
+					if (value.equalsIgnoreCase("close"))
+					{
+						m_keepAlive = false;
+					}
+					else if (value.equalsIgnoreCase("keep-alive")
+							&& parts[0].equals("HTTP/1.0"))
+					{
+						m_keepAlive = keepAlive;
+					}
+				}
+			}
+		} while (status >= 100 && status < 200);
+
+		if (chunked)
+		{
+			m_body = new ChunkedInputStream();
+		}
+		else if (contentLength >= 0)
+		{
+			m_body = new FixedLengthInputStream(contentLength);
+		}
+		else
+		{
+			m_keepAlive = false;
+			m_body = new UntilCloseInputStream();
+		}
+
+		if (status >= 400)
+		{
+			m_body.close();
+			throw new IOException("Server returned HTTP response code: "
+					+ status + " for URL: https://" + m_host + path);
+		}
+
+		return m_body;
+	}
+
+	/**
+	 * Reads an entire stream into a UTF-8 string
+	 * 
+	 * @param in
+	 *            the stream to be read
+	 * @return the contents of the stream
+	 * @throws IOException
+	 *             if the stream could not be read
+	 */
+	static String readFully(InputStream in) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buf = new byte[8192];
+		int n;
+
+		while ((n = in.read(buf)) != -1)
+		{
+			bytes.write(buf, 0, n);
+		}
+
+		return new String(bytes.toByteArray(), UTF8);
+	}
+
+	/**
+	 * Reads one CRLF (or LF) terminated line of the HTTP status line or
+	 * headers. Returns null if the end of the stream is reached before any
+	 * character is read.
+	 * 
+	 * @return the line, without the line terminator
+	 * @throws IOException
+	 *             if the line could not be read
+	 */
+	private String readLine() throws IOException
+	{
+		ByteArrayOutputStream line = new ByteArrayOutputStream(64);
+		int c;
+
+		while ((c = m_in.read()) != -1)
+		{
+			if (c == '\n')
+			{
+				break;
+			}
+
+			if (c != '\r')
+			{
+				line.write(c);
+			}
+		}
+
+		if (c == -1 && line.size() == 0)
+		{
+			return null;
+		}
+
+		return new String(line.toByteArray(), ISO_8859_1);
+	}
+
+	/**
+	 * Base class for streams that read the body of one response. Closing the
+	 * stream skips any unread part of the body (so the connection can be
+	 * re-used), but never closes the socket.
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private abstract class ResponseBodyInputStream extends InputStream
+	{
+		/** flag that indicates the end of the body was reached */
+		protected boolean m_complete;
+
+		/** flag that indicates the stream was closed */
+		protected boolean m_closed;
+
+		/**
+		 * Returns true if the end of the body was reached
+		 */
+		boolean isComplete()
+		{
+			return m_complete;
+		}
+
+		@Override
+		public int read() throws IOException
+		{
+			byte[] b = new byte[1];
+			int n = read(b, 0, 1);
+			return (n == -1) ? -1 : (b[0] & 0xff);
+		}
+
+		@Override
+		public void close() throws IOException
+		{
+			if (m_closed)
+			{
+				return;
+			}
+			m_closed = true;
+
+			byte[] buf = new byte[4096];
+			long drained = 0;
+			int n;
+			while (!m_complete && drained < MAX_DRAIN_BYTES
+					&& (n = read(buf, 0, buf.length)) != -1)
+			{
+				drained += n;
+			}
+		}
+	}
+
+	/**
+	 * Reads a body whose length was given by the Content-Length header
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private class FixedLengthInputStream extends ResponseBodyInputStream
+	{
+		/** number of body bytes that have not been read yet */
+		private long m_remaining;
+
+		FixedLengthInputStream(long length)
+		{
+			m_remaining = length;
+			m_complete = (length == 0);
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			if (m_remaining <= 0)
+			{
+				return -1;
+			}
+
+			int n = m_in.read(b, off, (int) Math.min(len, m_remaining));
+			if (n == -1)
+			{
+				throw new IOException("Premature end of response body from "
+						+ m_host);
+			}
+
+			m_remaining -= n;
+			m_complete = (m_remaining == 0);
+			return n;
+		}
+
+		@Override
+		public int available() throws IOException
+		{
+			return (int) Math.min(m_in.available(), m_remaining);
+		}
+	}
+
+	/**
+	 * Reads a body that was sent with "Transfer-Encoding: chunked"
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private class ChunkedInputStream extends ResponseBodyInputStream
+	{
+		/** number of bytes remaining in the current chunk */
+		private long m_chunkRemaining;
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			if (m_complete)
+			{
+				return -1;
+			}
+
+			if (m_chunkRemaining == 0)
+			{
+				String sizeLine = readLine();
+				if (null == sizeLine)
+				{
+					throw new IOException("Premature end of chunked response from "
+							+ m_host);
+				}
+
+				int semi = sizeLine.indexOf(';');
+				if (semi >= 0)
+				{
+					sizeLine = sizeLine.substring(0, semi);
+				}
+
+				try
+				{
+					m_chunkRemaining = Long.parseLong(sizeLine.trim(), 16);
+				}
+				catch (NumberFormatException e)
+				{
+					throw new IOException("Invalid chunk size: " + sizeLine);
+				}
+
+				if (m_chunkRemaining == 0)
+				{
+					// skip any trailers up to the terminating empty line
+					String trailer;
+					while (null != (trailer = readLine()) && !trailer.isEmpty())
+					{
+					}
+
+					m_complete = true;
+					return -1;
+				}
+			}
+
+			int n = m_in.read(b, off, (int) Math.min(len, m_chunkRemaining));
+			if (n == -1)
+			{
+				throw new IOException("Premature end of chunked response from "
+						+ m_host);
+			}
+
+			m_chunkRemaining -= n;
+			if (m_chunkRemaining == 0)
+			{
+				// consume the CRLF that follows the chunk data
+				readLine();
+			}
+
+			return n;
+		}
+	}
+
+	/**
+	 * Reads a body that is terminated by the server closing the connection
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private class UntilCloseInputStream extends ResponseBodyInputStream
+	{
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException
+		{
+			if (m_complete)
+			{
+				return -1;
+			}
+
+			int n = m_in.read(b, off, len);
+			if (n == -1)
+			{
+				m_complete = true;
+			}
+
+			return n;
+		}
+	}
+}
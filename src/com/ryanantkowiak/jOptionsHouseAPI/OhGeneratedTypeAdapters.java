@@ -0,0 +1,8239 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Streaming Gson type adapters for the request and response message models.
+ * GENERATED by TypeAdapterGenerator (see tools/) - do not edit by hand.
+ * 
+ * @author Ryan Antkowiak 
+ */
+final class OhGeneratedTypeAdapters implements TypeAdapterFactory
+{
+	/** the generated models, indexed by id */
+	private static final Class<?>[] MODELS = {
+			OhMsgAccountActivityReq.EZAccountActivityReq.class,
+			OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_.class,
+			OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_.data_.class,
+			OhMsgAccountActivityRsp.class,
+			OhMsgAccountActivityRsp.EZMessage_.class,
+			OhMsgAccountActivityRsp.EZMessage_.data_.class,
+			OhMsgAccountActivityRsp.EZMessage_.data_.activity_.class,
+			OhMsgAccountCashReq.EZAccountCashReq.class,
+			OhMsgAccountCashReq.EZAccountCashReq.EZMessage_.class,
+			OhMsgAccountCashReq.EZAccountCashReq.EZMessage_.data_.class,
+			OhMsgAccountCashRsp.class,
+			OhMsgAccountCashRsp.EZMessage_.class,
+			OhMsgAccountCashRsp.EZMessage_.data_.class,
+			OhMsgAccountInfoReq.EZAccountInfoReq.class,
+			OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_.class,
+			OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_.data_.class,
+			OhMsgAccountInfoRsp.class,
+			OhMsgAccountInfoRsp.EZMessage_.class,
+			OhMsgAccountInfoRsp.EZMessage_.data_.class,
+			OhMsgAccountInfoRsp.EZMessage_.data_.account_.class,
+			OhMsgAccountInfoRsp.EZMessage_.data_.login_.class,
+			OhMsgAccountPositionsReq.EZAccountPositionsReq.class,
+			OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_.class,
+			OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_.data_.class,
+			OhMsgAccountPositionsRsp.class,
+			OhMsgAccountPositionsRsp.EZMessage_.class,
+			OhMsgAccountPositionsRsp.EZMessage_.data_.class,
+			OhMsgAccountPositionsRsp.EZMessage_.data_.unified_.class,
+			OhMsgAllOrderStatusReq.EZAllOrderStatusReq.class,
+			OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.class,
+			OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_.class,
+			OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_.master_order_.class,
+			OhMsgAllOrderStatusRsp.class,
+			OhMsgAllOrderStatusRsp.EZMessage_.class,
+			OhMsgAllOrderStatusRsp.EZMessage_.data_.class,
+			OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.class,
+			OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.record.class,
+			OhMsgAuthKeepAliveReq.EZAuthKeepAlive.class,
+			OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_.class,
+			OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_.data_.class,
+			OhMsgAuthKeepAliveRsp.class,
+			OhMsgAuthKeepAliveRsp.EZMessage_.class,
+			OhMsgAuthLoginReq.EZLoginReq.class,
+			OhMsgAuthLoginReq.EZLoginReq.EZMessage_.class,
+			OhMsgAuthLoginReq.EZLoginReq.EZMessage_.data_.class,
+			OhMsgAuthLoginRsp.class,
+			OhMsgAuthLoginRsp.EZMessage_.class,
+			OhMsgAuthLoginRsp.EZMessage_.data_.class,
+			OhMsgAuthLoginRsp.EZMessage_.data_.nasdaq_.class,
+			OhMsgAuthLoginRsp.EZMessage_.data_.nyse_.class,
+			OhMsgAuthLoginRsp.EZMessage_.data_.opera_.class,
+			OhMsgAuthLogoutReq.EZLogoutReq.class,
+			OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_.class,
+			OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_.data_.class,
+			OhMsgAuthLogoutRsp.class,
+			OhMsgAuthLogoutRsp.EZMessage_.class,
+			OhMsgAuthLogoutRsp.EZMessage_.data_.class,
+			OhMsgCancelOrderReq.EZCancelOrderReq.class,
+			OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_.class,
+			OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_.data_.class,
+			OhMsgCancelOrderRsp.class,
+			OhMsgCancelOrderRsp.EZMessage_.class,
+			OhMsgCancelOrderRsp.EZMessage_.data_.class,
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.class,
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.class,
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.class,
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.class,
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_.class,
+			OhMsgCreateComplexOrderRsp.class,
+			OhMsgCreateComplexOrderRsp.EZMessage_.class,
+			OhMsgCreateComplexOrderRsp.EZMessage_.data_.class,
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.class,
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.class,
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.class,
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.class,
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.leg_.class,
+			OhMsgCreateSimpleOrderRsp.class,
+			OhMsgCreateSimpleOrderRsp.EZMessage_.class,
+			OhMsgCreateSimpleOrderRsp.EZMessage_.data_.class,
+			OhMsgOrderDetailsReq.EZOrderDetailsReq.class,
+			OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.class,
+			OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_.class,
+			OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_.order_details_.class,
+			OhMsgOrderDetailsRsp.class,
+			OhMsgOrderDetailsRsp.EZMessage_.class,
+			OhMsgOrderDetailsRsp.EZMessage_.data_.class,
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.class,
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.class,
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.option_clearing_firm_.class,
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.stock_clearing_firm_.class,
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg.class,
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.transaction_time_.class,
+			OhMsgOrderHistoryReq.EZOrderHistoryReq.class,
+			OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.class,
+			OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_.class,
+			OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_.order_history_.class,
+			OhMsgOrderHistoryRsp.class,
+			OhMsgOrderHistoryRsp.EZMessage_.class,
+			OhMsgOrderHistoryRsp.EZMessage_.data_.class,
+			OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_.class,
+			OhMsgOrderPreviewRsp.class,
+			OhMsgOrderPreviewRsp.EZMessage_.class,
+			OhMsgOrderPreviewRsp.EZMessage_.data_.class,
+			OhMsgViewQuoteListReq.EZViewQuoteListReq.class,
+			OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_.class,
+			OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_.data_.class,
+			OhMsgViewQuoteListRsp.class,
+			OhMsgViewQuoteListRsp.EZMessage_.class,
+			OhMsgViewQuoteListRsp.EZMessage_.data_.class,
+			OhMsgViewQuoteListRsp.EZMessage_.data_.quote_.class,
+			OhMsgViewSeriesReq.EZViewSeriesReq.class,
+			OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_.class,
+			OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_.data_.class,
+			OhMsgViewSeriesRsp.class,
+			OhMsgViewSeriesRsp.EZMessage_.class,
+			OhMsgViewSeriesRsp.EZMessage_.data_.class,
+			OhMsgViewSeriesRsp.EZMessage_.data_.s_.class };
+
+	/** the ids of the generated models */
+	private static final Map<Class<?>, Integer> s_ids = new HashMap<Class<?>, Integer>();
+
+	static
+	{
+		for (int i = 0; i < MODELS.length; ++i)
+		{
+			s_ids.put(MODELS[i], i);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson,
+	 * com.google.gson.reflect.TypeToken)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)
+	{
+		Integer id = s_ids.get(type.getRawType());
+		if (null == id)
+		{
+			return null;
+		}
+
+		// an inner class cannot be created without its enclosing object, so
+		// Gson reads it when it is not nested in another model
+		TypeAdapter<T> reflective = (null == MODELS[id].getEnclosingClass()) ? null
+				: gson.getDelegateAdapter(this, type);
+
+		return (TypeAdapter<T>) new Codec(gson).new Adapter(id, reflective);
+	}
+
+	/**
+	 * Reads a double, keeping the current value if the JSON value is null
+	 */
+	static double readDouble(JsonReader in, double current) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return current;
+		}
+
+		return in.nextDouble();
+	}
+
+	/**
+	 * Reads a long, keeping the current value if the JSON value is null
+	 */
+	static long readLong(JsonReader in, long current) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return current;
+		}
+
+		try
+		{
+			return in.nextLong();
+		} catch (NumberFormatException e)
+		{
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	/**
+	 * Reads an int, keeping the current value if the JSON value is null
+	 */
+	static int readInt(JsonReader in, int current) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return current;
+		}
+
+		try
+		{
+			return in.nextInt();
+		} catch (NumberFormatException e)
+		{
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	/**
+	 * Reads a boolean, keeping the current value if the JSON value is null
+	 */
+	static boolean readBoolean(JsonReader in, boolean current) throws IOException
+	{
+		JsonToken token = in.peek();
+		if (token == JsonToken.NULL)
+		{
+			in.nextNull();
+			return current;
+		}
+		else if (token == JsonToken.STRING)
+		{
+			return Boolean.parseBoolean(in.nextString());
+		}
+
+		return in.nextBoolean();
+	}
+
+	/**
+	 * Reads a string
+	 */
+	static String readString(JsonReader in) throws IOException
+	{
+		JsonToken token = in.peek();
+		if (token == JsonToken.NULL)
+		{
+			in.nextNull();
+			return null;
+		}
+		else if (token == JsonToken.BOOLEAN)
+		{
+			return Boolean.toString(in.nextBoolean());
+		}
+
+		return in.nextString();
+	}
+
+	/**
+	 * Begins reading a list. Returns false if the JSON value is a single
+	 * element rather than an array, as OptionsHouse sends a list of one
+	 * element as the element itself.
+	 */
+	static boolean beginList(JsonReader in) throws IOException
+	{
+		if (in.peek() == JsonToken.BEGIN_ARRAY)
+		{
+			in.beginArray();
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Reads a list of strings (or a single string, as a list of one)
+	 */
+	static List<String> readStringList(JsonReader in) throws IOException
+	{
+		if (in.peek() == JsonToken.NULL)
+		{
+			in.nextNull();
+			return null;
+		}
+
+		List<String> list = new ArrayList<String>();
+		if (beginList(in))
+		{
+			while (in.hasNext())
+			{
+				list.add(readString(in));
+			}
+			in.endArray();
+		}
+		else
+		{
+			list.add(readString(in));
+		}
+
+		return list;
+	}
+
+	/**
+	 * Writes a double, rejecting the values that JSON cannot represent
+	 */
+	static void writeDouble(JsonWriter out, double value) throws IOException
+	{
+		if (Double.isNaN(value) || Double.isInfinite(value))
+		{
+			throw new IllegalArgumentException(value
+					+ " is not a valid double value as per JSON specification.");
+		}
+
+		out.value(value);
+	}
+
+	/**
+	 * Writes a list of strings
+	 */
+	static void writeStringList(JsonWriter out, List<String> list) throws IOException
+	{
+		if (null == list)
+		{
+			out.nullValue();
+			return;
+		}
+
+		out.beginArray();
+		for (String s : list)
+		{
+			out.value(s);
+		}
+		out.endArray();
+	}
+
+	/**
+	 * Reads and writes the models, using the adapters of the given Gson
+	 * instance for the types that have no generated adapter
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private static final class Codec
+	{
+		/** the Gson instance */
+		private final Gson m_gson;
+
+		/** the Gson adapter for ErrorMap */
+		private TypeAdapter<ErrorMap> m_adapterErrorMap;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param gson
+		 *            the Gson instance
+		 */
+		Codec(Gson gson)
+		{
+			m_gson = gson;
+		}
+
+		/**
+		 * Returns the Gson adapter for ErrorMap
+		 * 
+		 * @return the adapter
+		 */
+		private TypeAdapter<ErrorMap> adapterErrorMap()
+		{
+			if (null == m_adapterErrorMap)
+			{
+				m_adapterErrorMap = m_gson.getAdapter(ErrorMap.class);
+			}
+
+			return m_adapterErrorMap;
+		}
+
+		/**
+		 * Reads a OhMsgAccountActivityReq.EZAccountActivityReq
+		 */
+		OhMsgAccountActivityReq.EZAccountActivityReq readOhMsgAccountActivityReq_EZAccountActivityReq(JsonReader in, OhMsgAccountActivityReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountActivityReq.EZAccountActivityReq value = outer.new EZAccountActivityReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountActivityReq.EZAccountActivityReq
+		 */
+		void writeOhMsgAccountActivityReq_EZAccountActivityReq(JsonWriter out, OhMsgAccountActivityReq.EZAccountActivityReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_
+		 */
+		OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_ readOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage_(JsonReader in, OhMsgAccountActivityReq.EZAccountActivityReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_
+		 */
+		void writeOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage_(JsonWriter out, OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_.data_
+		 */
+		OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_.data_ readOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage__data_(JsonReader in, OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_.data_
+		 */
+		void writeOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage__data_(JsonWriter out, OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account");
+			out.value(value.account);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountActivityRsp
+		 */
+		OhMsgAccountActivityRsp readOhMsgAccountActivityRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountActivityRsp value = new OhMsgAccountActivityRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAccountActivityRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountActivityRsp
+		 */
+		void writeOhMsgAccountActivityRsp(JsonWriter out, OhMsgAccountActivityRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAccountActivityRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountActivityRsp.EZMessage_
+		 */
+		OhMsgAccountActivityRsp.EZMessage_ readOhMsgAccountActivityRsp_EZMessage_(JsonReader in, OhMsgAccountActivityRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountActivityRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgAccountActivityRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountActivityRsp.EZMessage_
+		 */
+		void writeOhMsgAccountActivityRsp_EZMessage_(JsonWriter out, OhMsgAccountActivityRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgAccountActivityRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountActivityRsp.EZMessage_.data_
+		 */
+		OhMsgAccountActivityRsp.EZMessage_.data_ readOhMsgAccountActivityRsp_EZMessage__data_(JsonReader in, OhMsgAccountActivityRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountActivityRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "total":
+						value.total = readLong(in, value.total);
+						break;
+					case "timeStamp":
+						value.timeStamp = readLong(in, value.timeStamp);
+						break;
+					case "activity":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.activity = null;
+							break;
+						}
+
+						value.activity = new ArrayList<OhMsgAccountActivityRsp.EZMessage_.data_.activity_>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.activity.add(readOhMsgAccountActivityRsp_EZMessage__data__activity_(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.activity.add(readOhMsgAccountActivityRsp_EZMessage__data__activity_(in, value));
+						}
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountActivityRsp.EZMessage_.data_
+		 */
+		void writeOhMsgAccountActivityRsp_EZMessage__data_(JsonWriter out, OhMsgAccountActivityRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("total");
+			out.value(value.total);
+			out.name("timeStamp");
+			out.value(value.timeStamp);
+			out.name("activity");
+			if (null == value.activity)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgAccountActivityRsp.EZMessage_.data_.activity_ e : value.activity)
+				{
+					writeOhMsgAccountActivityRsp_EZMessage__data__activity_(out, e);
+				}
+				out.endArray();
+			}
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountActivityRsp.EZMessage_.data_.activity_
+		 */
+		OhMsgAccountActivityRsp.EZMessage_.data_.activity_ readOhMsgAccountActivityRsp_EZMessage__data__activity_(JsonReader in, OhMsgAccountActivityRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountActivityRsp.EZMessage_.data_.activity_ value = outer.new activity_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "activityDateStr":
+						value.activityDateStr = readString(in);
+						break;
+					case "price":
+						value.price = readDouble(in, value.price);
+						break;
+					case "accountId":
+						value.accountId = readString(in);
+						break;
+					case "symbol":
+						value.symbol = readString(in);
+						break;
+					case "transaction":
+						value.transaction = readString(in);
+						break;
+					case "description":
+						value.description = readString(in);
+						break;
+					case "qty":
+						value.qty = readDouble(in, value.qty);
+						break;
+					case "netAmount":
+						value.netAmount = readDouble(in, value.netAmount);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountActivityRsp.EZMessage_.data_.activity_
+		 */
+		void writeOhMsgAccountActivityRsp_EZMessage__data__activity_(JsonWriter out, OhMsgAccountActivityRsp.EZMessage_.data_.activity_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("activityDateStr");
+			out.value(value.activityDateStr);
+			out.name("price");
+			writeDouble(out, value.price);
+			out.name("accountId");
+			out.value(value.accountId);
+			out.name("symbol");
+			out.value(value.symbol);
+			out.name("transaction");
+			out.value(value.transaction);
+			out.name("description");
+			out.value(value.description);
+			out.name("qty");
+			writeDouble(out, value.qty);
+			out.name("netAmount");
+			writeDouble(out, value.netAmount);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountCashReq.EZAccountCashReq
+		 */
+		OhMsgAccountCashReq.EZAccountCashReq readOhMsgAccountCashReq_EZAccountCashReq(JsonReader in, OhMsgAccountCashReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountCashReq.EZAccountCashReq value = outer.new EZAccountCashReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAccountCashReq_EZAccountCashReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountCashReq.EZAccountCashReq
+		 */
+		void writeOhMsgAccountCashReq_EZAccountCashReq(JsonWriter out, OhMsgAccountCashReq.EZAccountCashReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAccountCashReq_EZAccountCashReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountCashReq.EZAccountCashReq.EZMessage_
+		 */
+		OhMsgAccountCashReq.EZAccountCashReq.EZMessage_ readOhMsgAccountCashReq_EZAccountCashReq_EZMessage_(JsonReader in, OhMsgAccountCashReq.EZAccountCashReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountCashReq.EZAccountCashReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgAccountCashReq_EZAccountCashReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountCashReq.EZAccountCashReq.EZMessage_
+		 */
+		void writeOhMsgAccountCashReq_EZAccountCashReq_EZMessage_(JsonWriter out, OhMsgAccountCashReq.EZAccountCashReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgAccountCashReq_EZAccountCashReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountCashReq.EZAccountCashReq.EZMessage_.data_
+		 */
+		OhMsgAccountCashReq.EZAccountCashReq.EZMessage_.data_ readOhMsgAccountCashReq_EZAccountCashReq_EZMessage__data_(JsonReader in, OhMsgAccountCashReq.EZAccountCashReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountCashReq.EZAccountCashReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					case "portfolio":
+						value.portfolio = readBoolean(in, value.portfolio);
+						break;
+					case "historical":
+						value.historical = readBoolean(in, value.historical);
+						break;
+					case "fastValues":
+						value.fastValues = readBoolean(in, value.fastValues);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountCashReq.EZAccountCashReq.EZMessage_.data_
+		 */
+		void writeOhMsgAccountCashReq_EZAccountCashReq_EZMessage__data_(JsonWriter out, OhMsgAccountCashReq.EZAccountCashReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account");
+			out.value(value.account);
+			out.name("portfolio");
+			out.value(value.portfolio);
+			out.name("historical");
+			out.value(value.historical);
+			out.name("fastValues");
+			out.value(value.fastValues);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountCashRsp
+		 */
+		OhMsgAccountCashRsp readOhMsgAccountCashRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountCashRsp value = new OhMsgAccountCashRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAccountCashRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountCashRsp
+		 */
+		void writeOhMsgAccountCashRsp(JsonWriter out, OhMsgAccountCashRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAccountCashRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountCashRsp.EZMessage_
+		 */
+		OhMsgAccountCashRsp.EZMessage_ readOhMsgAccountCashRsp_EZMessage_(JsonReader in, OhMsgAccountCashRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountCashRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgAccountCashRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountCashRsp.EZMessage_
+		 */
+		void writeOhMsgAccountCashRsp_EZMessage_(JsonWriter out, OhMsgAccountCashRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgAccountCashRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountCashRsp.EZMessage_.data_
+		 */
+		OhMsgAccountCashRsp.EZMessage_.data_ readOhMsgAccountCashRsp_EZMessage__data_(JsonReader in, OhMsgAccountCashRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountCashRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "marginEquity":
+						value.marginEquity = readString(in);
+						break;
+					case "accountValueYearToDate":
+						value.accountValueYearToDate = readString(in);
+						break;
+					case "availableToWithdraw":
+						value.availableToWithdraw = readString(in);
+						break;
+					case "accountValueMonthToDate":
+						value.accountValueMonthToDate = readString(in);
+						break;
+					case "pendingOrders":
+						value.pendingOrders = readString(in);
+						break;
+					case "accountValueDailyChange":
+						value.accountValueDailyChange = readString(in);
+						break;
+					case "dayTradingBuyPower":
+						value.dayTradingBuyPower = readString(in);
+						break;
+					case "accountValue":
+						value.accountValue = readString(in);
+						break;
+					case "optionBuyingPower":
+						value.optionBuyingPower = readString(in);
+						break;
+					case "stockBuyingPower":
+						value.stockBuyingPower = readString(in);
+						break;
+					case "cashBalance":
+						value.cashBalance = readString(in);
+						break;
+					case "availableToTrade":
+						value.availableToTrade = readString(in);
+						break;
+					case "portfolioValue":
+						value.portfolioValue = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountCashRsp.EZMessage_.data_
+		 */
+		void writeOhMsgAccountCashRsp_EZMessage__data_(JsonWriter out, OhMsgAccountCashRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("marginEquity");
+			out.value(value.marginEquity);
+			out.name("accountValueYearToDate");
+			out.value(value.accountValueYearToDate);
+			out.name("availableToWithdraw");
+			out.value(value.availableToWithdraw);
+			out.name("accountValueMonthToDate");
+			out.value(value.accountValueMonthToDate);
+			out.name("pendingOrders");
+			out.value(value.pendingOrders);
+			out.name("accountValueDailyChange");
+			out.value(value.accountValueDailyChange);
+			out.name("dayTradingBuyPower");
+			out.value(value.dayTradingBuyPower);
+			out.name("accountValue");
+			out.value(value.accountValue);
+			out.name("optionBuyingPower");
+			out.value(value.optionBuyingPower);
+			out.name("stockBuyingPower");
+			out.value(value.stockBuyingPower);
+			out.name("cashBalance");
+			out.value(value.cashBalance);
+			out.name("availableToTrade");
+			out.value(value.availableToTrade);
+			out.name("portfolioValue");
+			out.value(value.portfolioValue);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountInfoReq.EZAccountInfoReq
+		 */
+		OhMsgAccountInfoReq.EZAccountInfoReq readOhMsgAccountInfoReq_EZAccountInfoReq(JsonReader in, OhMsgAccountInfoReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountInfoReq.EZAccountInfoReq value = outer.new EZAccountInfoReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountInfoReq.EZAccountInfoReq
+		 */
+		void writeOhMsgAccountInfoReq_EZAccountInfoReq(JsonWriter out, OhMsgAccountInfoReq.EZAccountInfoReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_
+		 */
+		OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_ readOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage_(JsonReader in, OhMsgAccountInfoReq.EZAccountInfoReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_
+		 */
+		void writeOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage_(JsonWriter out, OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_.data_
+		 */
+		OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_.data_ readOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage__data_(JsonReader in, OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_.data_
+		 */
+		void writeOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage__data_(JsonWriter out, OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountInfoRsp
+		 */
+		OhMsgAccountInfoRsp readOhMsgAccountInfoRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountInfoRsp value = new OhMsgAccountInfoRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAccountInfoRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountInfoRsp
+		 */
+		void writeOhMsgAccountInfoRsp(JsonWriter out, OhMsgAccountInfoRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAccountInfoRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountInfoRsp.EZMessage_
+		 */
+		OhMsgAccountInfoRsp.EZMessage_ readOhMsgAccountInfoRsp_EZMessage_(JsonReader in, OhMsgAccountInfoRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountInfoRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgAccountInfoRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountInfoRsp.EZMessage_
+		 */
+		void writeOhMsgAccountInfoRsp_EZMessage_(JsonWriter out, OhMsgAccountInfoRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgAccountInfoRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountInfoRsp.EZMessage_.data_
+		 */
+		OhMsgAccountInfoRsp.EZMessage_.data_ readOhMsgAccountInfoRsp_EZMessage__data_(JsonReader in, OhMsgAccountInfoRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountInfoRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "account":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.account = null;
+							break;
+						}
+
+						value.account = new ArrayList<OhMsgAccountInfoRsp.EZMessage_.data_.account_>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.account.add(readOhMsgAccountInfoRsp_EZMessage__data__account_(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.account.add(readOhMsgAccountInfoRsp_EZMessage__data__account_(in, value));
+						}
+						break;
+					case "login":
+						value.login = readOhMsgAccountInfoRsp_EZMessage__data__login_(in, value);
+						break;
+					case "inactivityTimeout":
+						value.inactivityTimeout = readString(in);
+						break;
+					case "requiresAccountCreation":
+						value.requiresAccountCreation = readBoolean(in, value.requiresAccountCreation);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountInfoRsp.EZMessage_.data_
+		 */
+		void writeOhMsgAccountInfoRsp_EZMessage__data_(JsonWriter out, OhMsgAccountInfoRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("account");
+			if (null == value.account)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgAccountInfoRsp.EZMessage_.data_.account_ e : value.account)
+				{
+					writeOhMsgAccountInfoRsp_EZMessage__data__account_(out, e);
+				}
+				out.endArray();
+			}
+			out.name("login");
+			writeOhMsgAccountInfoRsp_EZMessage__data__login_(out, value.login);
+			out.name("inactivityTimeout");
+			out.value(value.inactivityTimeout);
+			out.name("requiresAccountCreation");
+			out.value(value.requiresAccountCreation);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountInfoRsp.EZMessage_.data_.account_
+		 */
+		OhMsgAccountInfoRsp.EZMessage_.data_.account_ readOhMsgAccountInfoRsp_EZMessage__data__account_(JsonReader in, OhMsgAccountInfoRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountInfoRsp.EZMessage_.data_.account_ value = outer.new account_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "canChangeCommissionSchedule":
+						value.canChangeCommissionSchedule = readBoolean(in, value.canChangeCommissionSchedule);
+						break;
+					case "accountId":
+						value.accountId = readString(in);
+						break;
+					case "nextCommissionSchedule":
+						value.nextCommissionSchedule = readString(in);
+						break;
+					case "isVirtual":
+						value.isVirtual = readBoolean(in, value.isVirtual);
+						break;
+					case "riskMaxDollarsPerOrder":
+						value.riskMaxDollarsPerOrder = readString(in);
+						break;
+					case "riskMaxSharesPerOrder":
+						value.riskMaxSharesPerOrder = readString(in);
+						break;
+					case "accountDesc":
+						value.accountDesc = readString(in);
+						break;
+					case "accountName":
+						value.accountName = readString(in);
+						break;
+					case "yearAccountOpened":
+						value.yearAccountOpened = readString(in);
+						break;
+					case "riskMaxContractsPerOrder":
+						value.riskMaxContractsPerOrder = readString(in);
+						break;
+					case "optionsWarning":
+						value.optionsWarning = readBoolean(in, value.optionsWarning);
+						break;
+					case "partnerCode":
+						value.partnerCode = readString(in);
+						break;
+					case "accountType":
+						value.accountType = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					case "canAccountACH":
+						value.canAccountACH = readBoolean(in, value.canAccountACH);
+						break;
+					case "accountTypeId":
+						value.accountTypeId = readString(in);
+						break;
+					case "currentCommissionSchedule":
+						value.currentCommissionSchedule = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountInfoRsp.EZMessage_.data_.account_
+		 */
+		void writeOhMsgAccountInfoRsp_EZMessage__data__account_(JsonWriter out, OhMsgAccountInfoRsp.EZMessage_.data_.account_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("canChangeCommissionSchedule");
+			out.value(value.canChangeCommissionSchedule);
+			out.name("accountId");
+			out.value(value.accountId);
+			out.name("nextCommissionSchedule");
+			out.value(value.nextCommissionSchedule);
+			out.name("isVirtual");
+			out.value(value.isVirtual);
+			out.name("riskMaxDollarsPerOrder");
+			out.value(value.riskMaxDollarsPerOrder);
+			out.name("riskMaxSharesPerOrder");
+			out.value(value.riskMaxSharesPerOrder);
+			out.name("accountDesc");
+			out.value(value.accountDesc);
+			out.name("accountName");
+			out.value(value.accountName);
+			out.name("yearAccountOpened");
+			out.value(value.yearAccountOpened);
+			out.name("riskMaxContractsPerOrder");
+			out.value(value.riskMaxContractsPerOrder);
+			out.name("optionsWarning");
+			out.value(value.optionsWarning);
+			out.name("partnerCode");
+			out.value(value.partnerCode);
+			out.name("accountType");
+			out.value(value.accountType);
+			out.name("account");
+			out.value(value.account);
+			out.name("canAccountACH");
+			out.value(value.canAccountACH);
+			out.name("accountTypeId");
+			out.value(value.accountTypeId);
+			out.name("currentCommissionSchedule");
+			out.value(value.currentCommissionSchedule);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountInfoRsp.EZMessage_.data_.login_
+		 */
+		OhMsgAccountInfoRsp.EZMessage_.data_.login_ readOhMsgAccountInfoRsp_EZMessage__data__login_(JsonReader in, OhMsgAccountInfoRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountInfoRsp.EZMessage_.data_.login_ value = outer.new login_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "lastName":
+						value.lastName = readString(in);
+						break;
+					case "accountMode":
+						value.accountMode = readString(in);
+						break;
+					case "rfqWarning":
+						value.rfqWarning = readBoolean(in, value.rfqWarning);
+						break;
+					case "toolsWarning":
+						value.toolsWarning = readBoolean(in, value.toolsWarning);
+						break;
+					case "loginCount":
+						value.loginCount = readString(in);
+						break;
+					case "firstName":
+						value.firstName = readString(in);
+						break;
+					case "toolsWarningVersion":
+						value.toolsWarningVersion = readString(in);
+						break;
+					case "defaultSymbol":
+						value.defaultSymbol = readString(in);
+						break;
+					case "uiMode":
+						value.uiMode = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountInfoRsp.EZMessage_.data_.login_
+		 */
+		void writeOhMsgAccountInfoRsp_EZMessage__data__login_(JsonWriter out, OhMsgAccountInfoRsp.EZMessage_.data_.login_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("lastName");
+			out.value(value.lastName);
+			out.name("accountMode");
+			out.value(value.accountMode);
+			out.name("rfqWarning");
+			out.value(value.rfqWarning);
+			out.name("toolsWarning");
+			out.value(value.toolsWarning);
+			out.name("loginCount");
+			out.value(value.loginCount);
+			out.name("firstName");
+			out.value(value.firstName);
+			out.name("toolsWarningVersion");
+			out.value(value.toolsWarningVersion);
+			out.name("defaultSymbol");
+			out.value(value.defaultSymbol);
+			out.name("uiMode");
+			out.value(value.uiMode);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountPositionsReq.EZAccountPositionsReq
+		 */
+		OhMsgAccountPositionsReq.EZAccountPositionsReq readOhMsgAccountPositionsReq_EZAccountPositionsReq(JsonReader in, OhMsgAccountPositionsReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountPositionsReq.EZAccountPositionsReq value = outer.new EZAccountPositionsReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountPositionsReq.EZAccountPositionsReq
+		 */
+		void writeOhMsgAccountPositionsReq_EZAccountPositionsReq(JsonWriter out, OhMsgAccountPositionsReq.EZAccountPositionsReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_
+		 */
+		OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_ readOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage_(JsonReader in, OhMsgAccountPositionsReq.EZAccountPositionsReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_
+		 */
+		void writeOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage_(JsonWriter out, OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_.data_
+		 */
+		OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_.data_ readOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage__data_(JsonReader in, OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_.data_
+		 */
+		void writeOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage__data_(JsonWriter out, OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account");
+			out.value(value.account);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountPositionsRsp
+		 */
+		OhMsgAccountPositionsRsp readOhMsgAccountPositionsRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountPositionsRsp value = new OhMsgAccountPositionsRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAccountPositionsRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountPositionsRsp
+		 */
+		void writeOhMsgAccountPositionsRsp(JsonWriter out, OhMsgAccountPositionsRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAccountPositionsRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountPositionsRsp.EZMessage_
+		 */
+		OhMsgAccountPositionsRsp.EZMessage_ readOhMsgAccountPositionsRsp_EZMessage_(JsonReader in, OhMsgAccountPositionsRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountPositionsRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgAccountPositionsRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountPositionsRsp.EZMessage_
+		 */
+		void writeOhMsgAccountPositionsRsp_EZMessage_(JsonWriter out, OhMsgAccountPositionsRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgAccountPositionsRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountPositionsRsp.EZMessage_.data_
+		 */
+		OhMsgAccountPositionsRsp.EZMessage_.data_ readOhMsgAccountPositionsRsp_EZMessage__data_(JsonReader in, OhMsgAccountPositionsRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountPositionsRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "timeStamp":
+						value.timeStamp = readString(in);
+						break;
+					case "unified":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.unified = null;
+							break;
+						}
+
+						value.unified = new ArrayList<OhMsgAccountPositionsRsp.EZMessage_.data_.unified_>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.unified.add(readOhMsgAccountPositionsRsp_EZMessage__data__unified_(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.unified.add(readOhMsgAccountPositionsRsp_EZMessage__data__unified_(in, value));
+						}
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountPositionsRsp.EZMessage_.data_
+		 */
+		void writeOhMsgAccountPositionsRsp_EZMessage__data_(JsonWriter out, OhMsgAccountPositionsRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("timeStamp");
+			out.value(value.timeStamp);
+			out.name("unified");
+			if (null == value.unified)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgAccountPositionsRsp.EZMessage_.data_.unified_ e : value.unified)
+				{
+					writeOhMsgAccountPositionsRsp_EZMessage__data__unified_(out, e);
+				}
+				out.endArray();
+			}
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAccountPositionsRsp.EZMessage_.data_.unified_
+		 */
+		OhMsgAccountPositionsRsp.EZMessage_.data_.unified_ readOhMsgAccountPositionsRsp_EZMessage__data__unified_(JsonReader in, OhMsgAccountPositionsRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAccountPositionsRsp.EZMessage_.data_.unified_ value = outer.new unified_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "accountId":
+						value.accountId = readString(in);
+						break;
+					case "shareCostBasis":
+						value.shareCostBasis = readDouble(in, value.shareCostBasis);
+						break;
+					case "isCustomCostBasis":
+						value.isCustomCostBasis = readBoolean(in, value.isCustomCostBasis);
+						break;
+					case "expString":
+						value.expString = readString(in);
+						break;
+					case "stock":
+						value.stock = readDouble(in, value.stock);
+						break;
+					case "description":
+						value.description = readString(in);
+						break;
+					case "defaultCostBasis":
+						value.defaultCostBasis = readDouble(in, value.defaultCostBasis);
+						break;
+					case "isExchangeDelayed":
+						value.isExchangeDelayed = readBoolean(in, value.isExchangeDelayed);
+						break;
+					case "underlying":
+						value.underlying = readString(in);
+						break;
+					case "spc":
+						value.spc = readDouble(in, value.spc);
+						break;
+					case "bid":
+						value.bid = readDouble(in, value.bid);
+						break;
+					case "securityKey":
+						value.securityKey = readString(in);
+						break;
+					case "qty":
+						value.qty = readLong(in, value.qty);
+						break;
+					case "dailyChange":
+						value.dailyChange = readDouble(in, value.dailyChange);
+						break;
+					case "multiplier":
+						value.multiplier = readDouble(in, value.multiplier);
+						break;
+					case "gain":
+						value.gain = readDouble(in, value.gain);
+						break;
+					case "sortHint":
+						value.sortHint = readStringList(in);
+						break;
+					case "mktVal":
+						value.mktVal = readDouble(in, value.mktVal);
+						break;
+					case "posValChange":
+						value.posValChange = readDouble(in, value.posValChange);
+						break;
+					case "price":
+						value.price = readDouble(in, value.price);
+						break;
+					case "strikeString":
+						value.strikeString = readString(in);
+						break;
+					case "canExercise":
+						value.canExercise = readBoolean(in, value.canExercise);
+						break;
+					case "costBasis":
+						value.costBasis = readDouble(in, value.costBasis);
+						break;
+					case "positionNewToday":
+						value.positionNewToday = readBoolean(in, value.positionNewToday);
+						break;
+					case "ask":
+						value.ask = readDouble(in, value.ask);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAccountPositionsRsp.EZMessage_.data_.unified_
+		 */
+		void writeOhMsgAccountPositionsRsp_EZMessage__data__unified_(JsonWriter out, OhMsgAccountPositionsRsp.EZMessage_.data_.unified_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("accountId");
+			out.value(value.accountId);
+			out.name("shareCostBasis");
+			writeDouble(out, value.shareCostBasis);
+			out.name("isCustomCostBasis");
+			out.value(value.isCustomCostBasis);
+			out.name("expString");
+			out.value(value.expString);
+			out.name("stock");
+			writeDouble(out, value.stock);
+			out.name("description");
+			out.value(value.description);
+			out.name("defaultCostBasis");
+			writeDouble(out, value.defaultCostBasis);
+			out.name("isExchangeDelayed");
+			out.value(value.isExchangeDelayed);
+			out.name("underlying");
+			out.value(value.underlying);
+			out.name("spc");
+			writeDouble(out, value.spc);
+			out.name("bid");
+			writeDouble(out, value.bid);
+			out.name("securityKey");
+			out.value(value.securityKey);
+			out.name("qty");
+			out.value(value.qty);
+			out.name("dailyChange");
+			writeDouble(out, value.dailyChange);
+			out.name("multiplier");
+			writeDouble(out, value.multiplier);
+			out.name("gain");
+			writeDouble(out, value.gain);
+			out.name("sortHint");
+			writeStringList(out, value.sortHint);
+			out.name("mktVal");
+			writeDouble(out, value.mktVal);
+			out.name("posValChange");
+			writeDouble(out, value.posValChange);
+			out.name("price");
+			writeDouble(out, value.price);
+			out.name("strikeString");
+			out.value(value.strikeString);
+			out.name("canExercise");
+			out.value(value.canExercise);
+			out.name("costBasis");
+			writeDouble(out, value.costBasis);
+			out.name("positionNewToday");
+			out.value(value.positionNewToday);
+			out.name("ask");
+			writeDouble(out, value.ask);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAllOrderStatusReq.EZAllOrderStatusReq
+		 */
+		OhMsgAllOrderStatusReq.EZAllOrderStatusReq readOhMsgAllOrderStatusReq_EZAllOrderStatusReq(JsonReader in, OhMsgAllOrderStatusReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAllOrderStatusReq.EZAllOrderStatusReq value = outer.new EZAllOrderStatusReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAllOrderStatusReq.EZAllOrderStatusReq
+		 */
+		void writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq(JsonWriter out, OhMsgAllOrderStatusReq.EZAllOrderStatusReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_
+		 */
+		OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_ readOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage_(JsonReader in, OhMsgAllOrderStatusReq.EZAllOrderStatusReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_
+		 */
+		void writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage_(JsonWriter out, OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_
+		 */
+		OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_ readOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data_(JsonReader in, OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account_id":
+						value.account_id = readString(in);
+						break;
+					case "master_order":
+						value.master_order = readOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data__master_order_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_
+		 */
+		void writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data_(JsonWriter out, OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account_id");
+			out.value(value.account_id);
+			out.name("master_order");
+			writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data__master_order_(out, value.master_order);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_.master_order_
+		 */
+		OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_.master_order_ readOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data__master_order_(JsonReader in, OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_.master_order_ value = outer.new master_order_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "page":
+						value.page = readLong(in, value.page);
+						break;
+					case "page_count":
+						value.page_count = readLong(in, value.page_count);
+						break;
+					case "page_size":
+						value.page_size = readLong(in, value.page_size);
+						break;
+					case "master_order_view":
+						value.master_order_view = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_.master_order_
+		 */
+		void writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data__master_order_(JsonWriter out, OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_.master_order_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("page");
+			out.value(value.page);
+			out.name("page_count");
+			out.value(value.page_count);
+			out.name("page_size");
+			out.value(value.page_size);
+			out.name("master_order_view");
+			out.value(value.master_order_view);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAllOrderStatusRsp
+		 */
+		OhMsgAllOrderStatusRsp readOhMsgAllOrderStatusRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAllOrderStatusRsp value = new OhMsgAllOrderStatusRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAllOrderStatusRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAllOrderStatusRsp
+		 */
+		void writeOhMsgAllOrderStatusRsp(JsonWriter out, OhMsgAllOrderStatusRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAllOrderStatusRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAllOrderStatusRsp.EZMessage_
+		 */
+		OhMsgAllOrderStatusRsp.EZMessage_ readOhMsgAllOrderStatusRsp_EZMessage_(JsonReader in, OhMsgAllOrderStatusRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAllOrderStatusRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgAllOrderStatusRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAllOrderStatusRsp.EZMessage_
+		 */
+		void writeOhMsgAllOrderStatusRsp_EZMessage_(JsonWriter out, OhMsgAllOrderStatusRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgAllOrderStatusRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAllOrderStatusRsp.EZMessage_.data_
+		 */
+		OhMsgAllOrderStatusRsp.EZMessage_.data_ readOhMsgAllOrderStatusRsp_EZMessage__data_(JsonReader in, OhMsgAllOrderStatusRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAllOrderStatusRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "timestamp":
+						value.timestamp = readString(in);
+						break;
+					case "response_type":
+						value.response_type = readString(in);
+						break;
+					case "master_account_orders":
+						value.master_account_orders = readOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAllOrderStatusRsp.EZMessage_.data_
+		 */
+		void writeOhMsgAllOrderStatusRsp_EZMessage__data_(JsonWriter out, OhMsgAllOrderStatusRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("timestamp");
+			out.value(value.timestamp);
+			out.name("response_type");
+			out.value(value.response_type);
+			out.name("master_account_orders");
+			writeOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders_(out, value.master_account_orders);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_
+		 */
+		OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_ readOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders_(JsonReader in, OhMsgAllOrderStatusRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_ value = outer.new master_account_orders_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "page":
+						value.page = readLong(in, value.page);
+						break;
+					case "page_size":
+						value.page_size = readLong(in, value.page_size);
+						break;
+					case "total_records":
+						value.total_records = readLong(in, value.total_records);
+						break;
+					case "records":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.records = null;
+							break;
+						}
+
+						value.records = new ArrayList<OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.record>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.records.add(readOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders__record(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.records.add(readOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders__record(in, value));
+						}
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_
+		 */
+		void writeOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders_(JsonWriter out, OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("page");
+			out.value(value.page);
+			out.name("page_size");
+			out.value(value.page_size);
+			out.name("total_records");
+			out.value(value.total_records);
+			out.name("records");
+			if (null == value.records)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.record e : value.records)
+				{
+					writeOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders__record(out, e);
+				}
+				out.endArray();
+			}
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.record
+		 */
+		OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.record readOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders__record(JsonReader in, OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.record value = outer.new record();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "order_id":
+						value.order_id = readLong(in, value.order_id);
+						break;
+					case "message":
+						value.message = readString(in);
+						break;
+					case "time_in_force":
+						value.time_in_force = readString(in);
+						break;
+					case "quantity":
+						value.quantity = readLong(in, value.quantity);
+						break;
+					case "fill_quantity":
+						value.fill_quantity = readString(in);
+						break;
+					case "transaction":
+						value.transaction = readString(in);
+						break;
+					case "short_description":
+						value.short_description = readString(in);
+						break;
+					case "long_description":
+						value.long_description = readString(in);
+						break;
+					case "status":
+						value.status = readString(in);
+						break;
+					case "date_created_ms":
+						value.date_created_ms = readLong(in, value.date_created_ms);
+						break;
+					case "last_updated_ms":
+						value.last_updated_ms = readLong(in, value.last_updated_ms);
+						break;
+					case "date_created":
+						value.date_created = readString(in);
+						break;
+					case "last_updated":
+						value.last_updated = readString(in);
+						break;
+					case "master_order_id":
+						value.master_order_id = readLong(in, value.master_order_id);
+						break;
+					case "order_type":
+						value.order_type = readString(in);
+						break;
+					case "price_type":
+						value.price_type = readString(in);
+						break;
+					case "price":
+						value.price = readDouble(in, value.price);
+						break;
+					case "trigger_order":
+						value.trigger_order = readBoolean(in, value.trigger_order);
+						break;
+					case "trailing_stop_order":
+						value.trailing_stop_order = readBoolean(in, value.trailing_stop_order);
+						break;
+					case "complex_order":
+						value.complex_order = readBoolean(in, value.complex_order);
+						break;
+					case "modifiable":
+						value.modifiable = readBoolean(in, value.modifiable);
+						break;
+					case "root_order_id":
+						value.root_order_id = readLong(in, value.root_order_id);
+						break;
+					case "is_spread_order":
+						value.is_spread_order = readBoolean(in, value.is_spread_order);
+						break;
+					case "is_mutual_fund_order":
+						value.is_mutual_fund_order = readBoolean(in, value.is_mutual_fund_order);
+						break;
+					case "underlying_stock_symbol":
+						value.underlying_stock_symbol = readString(in);
+						break;
+					case "timestamp":
+						value.timestamp = readString(in);
+						break;
+					case "has_expired_keys":
+						value.has_expired_keys = readBoolean(in, value.has_expired_keys);
+						break;
+					case "security_keys":
+						value.security_keys = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.record
+		 */
+		void writeOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders__record(JsonWriter out, OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.record value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("order_id");
+			out.value(value.order_id);
+			out.name("message");
+			out.value(value.message);
+			out.name("time_in_force");
+			out.value(value.time_in_force);
+			out.name("quantity");
+			out.value(value.quantity);
+			out.name("fill_quantity");
+			out.value(value.fill_quantity);
+			out.name("transaction");
+			out.value(value.transaction);
+			out.name("short_description");
+			out.value(value.short_description);
+			out.name("long_description");
+			out.value(value.long_description);
+			out.name("status");
+			out.value(value.status);
+			out.name("date_created_ms");
+			out.value(value.date_created_ms);
+			out.name("last_updated_ms");
+			out.value(value.last_updated_ms);
+			out.name("date_created");
+			out.value(value.date_created);
+			out.name("last_updated");
+			out.value(value.last_updated);
+			out.name("master_order_id");
+			out.value(value.master_order_id);
+			out.name("order_type");
+			out.value(value.order_type);
+			out.name("price_type");
+			out.value(value.price_type);
+			out.name("price");
+			writeDouble(out, value.price);
+			out.name("trigger_order");
+			out.value(value.trigger_order);
+			out.name("trailing_stop_order");
+			out.value(value.trailing_stop_order);
+			out.name("complex_order");
+			out.value(value.complex_order);
+			out.name("modifiable");
+			out.value(value.modifiable);
+			out.name("root_order_id");
+			out.value(value.root_order_id);
+			out.name("is_spread_order");
+			out.value(value.is_spread_order);
+			out.name("is_mutual_fund_order");
+			out.value(value.is_mutual_fund_order);
+			out.name("underlying_stock_symbol");
+			out.value(value.underlying_stock_symbol);
+			out.name("timestamp");
+			out.value(value.timestamp);
+			out.name("has_expired_keys");
+			out.value(value.has_expired_keys);
+			out.name("security_keys");
+			out.value(value.security_keys);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthKeepAliveReq.EZAuthKeepAlive
+		 */
+		OhMsgAuthKeepAliveReq.EZAuthKeepAlive readOhMsgAuthKeepAliveReq_EZAuthKeepAlive(JsonReader in, OhMsgAuthKeepAliveReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthKeepAliveReq.EZAuthKeepAlive value = outer.new EZAuthKeepAlive();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthKeepAliveReq.EZAuthKeepAlive
+		 */
+		void writeOhMsgAuthKeepAliveReq_EZAuthKeepAlive(JsonWriter out, OhMsgAuthKeepAliveReq.EZAuthKeepAlive value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_
+		 */
+		OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_ readOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage_(JsonReader in, OhMsgAuthKeepAliveReq.EZAuthKeepAlive outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_
+		 */
+		void writeOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage_(JsonWriter out, OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_.data_
+		 */
+		OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_.data_ readOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage__data_(JsonReader in, OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_.data_
+		 */
+		void writeOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage__data_(JsonWriter out, OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account");
+			out.value(value.account);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthKeepAliveRsp
+		 */
+		OhMsgAuthKeepAliveRsp readOhMsgAuthKeepAliveRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthKeepAliveRsp value = new OhMsgAuthKeepAliveRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAuthKeepAliveRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthKeepAliveRsp
+		 */
+		void writeOhMsgAuthKeepAliveRsp(JsonWriter out, OhMsgAuthKeepAliveRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAuthKeepAliveRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthKeepAliveRsp.EZMessage_
+		 */
+		OhMsgAuthKeepAliveRsp.EZMessage_ readOhMsgAuthKeepAliveRsp_EZMessage_(JsonReader in, OhMsgAuthKeepAliveRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthKeepAliveRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthKeepAliveRsp.EZMessage_
+		 */
+		void writeOhMsgAuthKeepAliveRsp_EZMessage_(JsonWriter out, OhMsgAuthKeepAliveRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLoginReq.EZLoginReq
+		 */
+		OhMsgAuthLoginReq.EZLoginReq readOhMsgAuthLoginReq_EZLoginReq(JsonReader in, OhMsgAuthLoginReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLoginReq.EZLoginReq value = outer.new EZLoginReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAuthLoginReq_EZLoginReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLoginReq.EZLoginReq
+		 */
+		void writeOhMsgAuthLoginReq_EZLoginReq(JsonWriter out, OhMsgAuthLoginReq.EZLoginReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAuthLoginReq_EZLoginReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLoginReq.EZLoginReq.EZMessage_
+		 */
+		OhMsgAuthLoginReq.EZLoginReq.EZMessage_ readOhMsgAuthLoginReq_EZLoginReq_EZMessage_(JsonReader in, OhMsgAuthLoginReq.EZLoginReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLoginReq.EZLoginReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgAuthLoginReq_EZLoginReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLoginReq.EZLoginReq.EZMessage_
+		 */
+		void writeOhMsgAuthLoginReq_EZLoginReq_EZMessage_(JsonWriter out, OhMsgAuthLoginReq.EZLoginReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgAuthLoginReq_EZLoginReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLoginReq.EZLoginReq.EZMessage_.data_
+		 */
+		OhMsgAuthLoginReq.EZLoginReq.EZMessage_.data_ readOhMsgAuthLoginReq_EZLoginReq_EZMessage__data_(JsonReader in, OhMsgAuthLoginReq.EZLoginReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLoginReq.EZLoginReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "userName":
+						value.userName = readString(in);
+						break;
+					case "password":
+						value.password = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLoginReq.EZLoginReq.EZMessage_.data_
+		 */
+		void writeOhMsgAuthLoginReq_EZLoginReq_EZMessage__data_(JsonWriter out, OhMsgAuthLoginReq.EZLoginReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("userName");
+			out.value(value.userName);
+			out.name("password");
+			out.value(value.password);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLoginRsp
+		 */
+		OhMsgAuthLoginRsp readOhMsgAuthLoginRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLoginRsp value = new OhMsgAuthLoginRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAuthLoginRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLoginRsp
+		 */
+		void writeOhMsgAuthLoginRsp(JsonWriter out, OhMsgAuthLoginRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAuthLoginRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLoginRsp.EZMessage_
+		 */
+		OhMsgAuthLoginRsp.EZMessage_ readOhMsgAuthLoginRsp_EZMessage_(JsonReader in, OhMsgAuthLoginRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLoginRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgAuthLoginRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLoginRsp.EZMessage_
+		 */
+		void writeOhMsgAuthLoginRsp_EZMessage_(JsonWriter out, OhMsgAuthLoginRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgAuthLoginRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLoginRsp.EZMessage_.data_
+		 */
+		OhMsgAuthLoginRsp.EZMessage_.data_ readOhMsgAuthLoginRsp_EZMessage__data_(JsonReader in, OhMsgAuthLoginRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLoginRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "lastName":
+						value.lastName = readString(in);
+						break;
+					case "funded":
+						value.funded = readBoolean(in, value.funded);
+						break;
+					case "nasdaq":
+						value.nasdaq = readOhMsgAuthLoginRsp_EZMessage__data__nasdaq_(in, value);
+						break;
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "nyse":
+						value.nyse = readOhMsgAuthLoginRsp_EZMessage__data__nyse_(in, value);
+						break;
+					case "opera":
+						value.opera = readOhMsgAuthLoginRsp_EZMessage__data__opera_(in, value);
+						break;
+					case "delayedQuotes":
+						value.delayedQuotes = readBoolean(in, value.delayedQuotes);
+						break;
+					case "firstName":
+						value.firstName = readString(in);
+						break;
+					case "access":
+						value.access = readString(in);
+						break;
+					case "requiresAccountCreation":
+						value.requiresAccountCreation = readBoolean(in, value.requiresAccountCreation);
+						break;
+					case "professional":
+						value.professional = readBoolean(in, value.professional);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLoginRsp.EZMessage_.data_
+		 */
+		void writeOhMsgAuthLoginRsp_EZMessage__data_(JsonWriter out, OhMsgAuthLoginRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("lastName");
+			out.value(value.lastName);
+			out.name("funded");
+			out.value(value.funded);
+			out.name("nasdaq");
+			writeOhMsgAuthLoginRsp_EZMessage__data__nasdaq_(out, value.nasdaq);
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("nyse");
+			writeOhMsgAuthLoginRsp_EZMessage__data__nyse_(out, value.nyse);
+			out.name("opera");
+			writeOhMsgAuthLoginRsp_EZMessage__data__opera_(out, value.opera);
+			out.name("delayedQuotes");
+			out.value(value.delayedQuotes);
+			out.name("firstName");
+			out.value(value.firstName);
+			out.name("access");
+			out.value(value.access);
+			out.name("requiresAccountCreation");
+			out.value(value.requiresAccountCreation);
+			out.name("professional");
+			out.value(value.professional);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLoginRsp.EZMessage_.data_.nasdaq_
+		 */
+		OhMsgAuthLoginRsp.EZMessage_.data_.nasdaq_ readOhMsgAuthLoginRsp_EZMessage__data__nasdaq_(JsonReader in, OhMsgAuthLoginRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLoginRsp.EZMessage_.data_.nasdaq_ value = outer.new nasdaq_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "professional":
+						value.professional = readBoolean(in, value.professional);
+						break;
+					case "agree":
+						value.agree = readBoolean(in, value.agree);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLoginRsp.EZMessage_.data_.nasdaq_
+		 */
+		void writeOhMsgAuthLoginRsp_EZMessage__data__nasdaq_(JsonWriter out, OhMsgAuthLoginRsp.EZMessage_.data_.nasdaq_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("professional");
+			out.value(value.professional);
+			out.name("agree");
+			out.value(value.agree);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLoginRsp.EZMessage_.data_.nyse_
+		 */
+		OhMsgAuthLoginRsp.EZMessage_.data_.nyse_ readOhMsgAuthLoginRsp_EZMessage__data__nyse_(JsonReader in, OhMsgAuthLoginRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLoginRsp.EZMessage_.data_.nyse_ value = outer.new nyse_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "professional":
+						value.professional = readBoolean(in, value.professional);
+						break;
+					case "agree":
+						value.agree = readBoolean(in, value.agree);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLoginRsp.EZMessage_.data_.nyse_
+		 */
+		void writeOhMsgAuthLoginRsp_EZMessage__data__nyse_(JsonWriter out, OhMsgAuthLoginRsp.EZMessage_.data_.nyse_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("professional");
+			out.value(value.professional);
+			out.name("agree");
+			out.value(value.agree);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLoginRsp.EZMessage_.data_.opera_
+		 */
+		OhMsgAuthLoginRsp.EZMessage_.data_.opera_ readOhMsgAuthLoginRsp_EZMessage__data__opera_(JsonReader in, OhMsgAuthLoginRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLoginRsp.EZMessage_.data_.opera_ value = outer.new opera_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "professional":
+						value.professional = readBoolean(in, value.professional);
+						break;
+					case "agree":
+						value.agree = readBoolean(in, value.agree);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLoginRsp.EZMessage_.data_.opera_
+		 */
+		void writeOhMsgAuthLoginRsp_EZMessage__data__opera_(JsonWriter out, OhMsgAuthLoginRsp.EZMessage_.data_.opera_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("professional");
+			out.value(value.professional);
+			out.name("agree");
+			out.value(value.agree);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLogoutReq.EZLogoutReq
+		 */
+		OhMsgAuthLogoutReq.EZLogoutReq readOhMsgAuthLogoutReq_EZLogoutReq(JsonReader in, OhMsgAuthLogoutReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLogoutReq.EZLogoutReq value = outer.new EZLogoutReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAuthLogoutReq_EZLogoutReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLogoutReq.EZLogoutReq
+		 */
+		void writeOhMsgAuthLogoutReq_EZLogoutReq(JsonWriter out, OhMsgAuthLogoutReq.EZLogoutReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAuthLogoutReq_EZLogoutReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_
+		 */
+		OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_ readOhMsgAuthLogoutReq_EZLogoutReq_EZMessage_(JsonReader in, OhMsgAuthLogoutReq.EZLogoutReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgAuthLogoutReq_EZLogoutReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_
+		 */
+		void writeOhMsgAuthLogoutReq_EZLogoutReq_EZMessage_(JsonWriter out, OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgAuthLogoutReq_EZLogoutReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_.data_
+		 */
+		OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_.data_ readOhMsgAuthLogoutReq_EZLogoutReq_EZMessage__data_(JsonReader in, OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_.data_
+		 */
+		void writeOhMsgAuthLogoutReq_EZLogoutReq_EZMessage__data_(JsonWriter out, OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLogoutRsp
+		 */
+		OhMsgAuthLogoutRsp readOhMsgAuthLogoutRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLogoutRsp value = new OhMsgAuthLogoutRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgAuthLogoutRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLogoutRsp
+		 */
+		void writeOhMsgAuthLogoutRsp(JsonWriter out, OhMsgAuthLogoutRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgAuthLogoutRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLogoutRsp.EZMessage_
+		 */
+		OhMsgAuthLogoutRsp.EZMessage_ readOhMsgAuthLogoutRsp_EZMessage_(JsonReader in, OhMsgAuthLogoutRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLogoutRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgAuthLogoutRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLogoutRsp.EZMessage_
+		 */
+		void writeOhMsgAuthLogoutRsp_EZMessage_(JsonWriter out, OhMsgAuthLogoutRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgAuthLogoutRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgAuthLogoutRsp.EZMessage_.data_
+		 */
+		OhMsgAuthLogoutRsp.EZMessage_.data_ readOhMsgAuthLogoutRsp_EZMessage__data_(JsonReader in, OhMsgAuthLogoutRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgAuthLogoutRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgAuthLogoutRsp.EZMessage_.data_
+		 */
+		void writeOhMsgAuthLogoutRsp_EZMessage__data_(JsonWriter out, OhMsgAuthLogoutRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCancelOrderReq.EZCancelOrderReq
+		 */
+		OhMsgCancelOrderReq.EZCancelOrderReq readOhMsgCancelOrderReq_EZCancelOrderReq(JsonReader in, OhMsgCancelOrderReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCancelOrderReq.EZCancelOrderReq value = outer.new EZCancelOrderReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCancelOrderReq.EZCancelOrderReq
+		 */
+		void writeOhMsgCancelOrderReq_EZCancelOrderReq(JsonWriter out, OhMsgCancelOrderReq.EZCancelOrderReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_
+		 */
+		OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_ readOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage_(JsonReader in, OhMsgCancelOrderReq.EZCancelOrderReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_
+		 */
+		void writeOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage_(JsonWriter out, OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_.data_
+		 */
+		OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_.data_ readOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage__data_(JsonReader in, OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					case "order_id":
+						value.order_id = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_.data_
+		 */
+		void writeOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage__data_(JsonWriter out, OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account");
+			out.value(value.account);
+			out.name("order_id");
+			out.value(value.order_id);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCancelOrderRsp
+		 */
+		OhMsgCancelOrderRsp readOhMsgCancelOrderRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCancelOrderRsp value = new OhMsgCancelOrderRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgCancelOrderRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCancelOrderRsp
+		 */
+		void writeOhMsgCancelOrderRsp(JsonWriter out, OhMsgCancelOrderRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgCancelOrderRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCancelOrderRsp.EZMessage_
+		 */
+		OhMsgCancelOrderRsp.EZMessage_ readOhMsgCancelOrderRsp_EZMessage_(JsonReader in, OhMsgCancelOrderRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCancelOrderRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgCancelOrderRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCancelOrderRsp.EZMessage_
+		 */
+		void writeOhMsgCancelOrderRsp_EZMessage_(JsonWriter out, OhMsgCancelOrderRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgCancelOrderRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCancelOrderRsp.EZMessage_.data_
+		 */
+		OhMsgCancelOrderRsp.EZMessage_.data_ readOhMsgCancelOrderRsp_EZMessage__data_(JsonReader in, OhMsgCancelOrderRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCancelOrderRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "canceled":
+						value.canceled = readBoolean(in, value.canceled);
+						break;
+					case "id":
+						value.id = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCancelOrderRsp.EZMessage_.data_
+		 */
+		void writeOhMsgCancelOrderRsp_EZMessage__data_(JsonWriter out, OhMsgCancelOrderRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("canceled");
+			out.value(value.canceled);
+			out.name("id");
+			out.value(value.id);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq
+		 */
+		OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq(JsonReader in, OhMsgCreateComplexOrderReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq value = outer.new EZCreateComplexOrderReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq
+		 */
+		void writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq(JsonWriter out, OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_
+		 */
+		OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_ readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage_(JsonReader in, OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_
+		 */
+		void writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage_(JsonWriter out, OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_
+		 */
+		OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_ readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data_(JsonReader in, OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					case "order":
+						value.order = readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_
+		 */
+		void writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data_(JsonWriter out, OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account");
+			out.value(value.account);
+			out.name("order");
+			writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order_(out, value.order);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_
+		 */
+		OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_ readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order_(JsonReader in, OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_ value = outer.new order_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "order_type":
+						value.order_type = readString(in);
+						break;
+					case "order_id":
+						value.order_id = readBoolean(in, value.order_id);
+						break;
+					case "m_order_id":
+						value.m_order_id = readLong(in, value.m_order_id);
+						break;
+					case "order_subtype":
+						value.order_subtype = readString(in);
+						break;
+					case "price_type":
+						value.price_type = readString(in);
+						break;
+					case "time_in_force":
+						value.time_in_force = readString(in);
+						break;
+					case "alias":
+						value.alias = readString(in);
+						break;
+					case "price":
+						value.price = readString(in);
+						break;
+					case "underlying_stock_symbol":
+						value.underlying_stock_symbol = readString(in);
+						break;
+					case "allOrNone":
+						value.allOrNone = readBoolean(in, value.allOrNone);
+						break;
+					case "source":
+						value.source = readString(in);
+						break;
+					case "client_id":
+						value.client_id = readLong(in, value.client_id);
+						break;
+					case "preferred_destination":
+						value.preferred_destination = readString(in);
+						break;
+					case "legs":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.legs = null;
+							break;
+						}
+
+						value.legs = new ArrayList<OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.legs.add(readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order__leg_(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.legs.add(readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order__leg_(in, value));
+						}
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_
+		 */
+		void writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order_(JsonWriter out, OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("order_type");
+			out.value(value.order_type);
+			out.name("order_id");
+			out.value(value.order_id);
+			out.name("m_order_id");
+			out.value(value.m_order_id);
+			out.name("order_subtype");
+			out.value(value.order_subtype);
+			out.name("price_type");
+			out.value(value.price_type);
+			out.name("time_in_force");
+			out.value(value.time_in_force);
+			out.name("alias");
+			out.value(value.alias);
+			out.name("price");
+			out.value(value.price);
+			out.name("underlying_stock_symbol");
+			out.value(value.underlying_stock_symbol);
+			out.name("allOrNone");
+			out.value(value.allOrNone);
+			out.name("source");
+			out.value(value.source);
+			out.name("client_id");
+			out.value(value.client_id);
+			out.name("preferred_destination");
+			out.value(value.preferred_destination);
+			out.name("legs");
+			if (null == value.legs)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_ e : value.legs)
+				{
+					writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order__leg_(out, e);
+				}
+				out.endArray();
+			}
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_
+		 */
+		OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_ readOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order__leg_(JsonReader in, OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_ value = outer.new leg_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "index":
+						value.index = readLong(in, value.index);
+						break;
+					case "side":
+						value.side = readString(in);
+						break;
+					case "security_type":
+						value.security_type = readString(in);
+						break;
+					case "quantity":
+						value.quantity = readLong(in, value.quantity);
+						break;
+					case "key":
+						value.key = readString(in);
+						break;
+					case "multiplier":
+						value.multiplier = readLong(in, value.multiplier);
+						break;
+					case "position_type":
+						value.position_type = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_
+		 */
+		void writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order__leg_(JsonWriter out, OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("index");
+			out.value(value.index);
+			out.name("side");
+			out.value(value.side);
+			out.name("security_type");
+			out.value(value.security_type);
+			out.name("quantity");
+			out.value(value.quantity);
+			out.name("key");
+			out.value(value.key);
+			out.name("multiplier");
+			out.value(value.multiplier);
+			out.name("position_type");
+			out.value(value.position_type);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateComplexOrderRsp
+		 */
+		OhMsgCreateComplexOrderRsp readOhMsgCreateComplexOrderRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateComplexOrderRsp value = new OhMsgCreateComplexOrderRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgCreateComplexOrderRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateComplexOrderRsp
+		 */
+		void writeOhMsgCreateComplexOrderRsp(JsonWriter out, OhMsgCreateComplexOrderRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgCreateComplexOrderRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateComplexOrderRsp.EZMessage_
+		 */
+		OhMsgCreateComplexOrderRsp.EZMessage_ readOhMsgCreateComplexOrderRsp_EZMessage_(JsonReader in, OhMsgCreateComplexOrderRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateComplexOrderRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgCreateComplexOrderRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateComplexOrderRsp.EZMessage_
+		 */
+		void writeOhMsgCreateComplexOrderRsp_EZMessage_(JsonWriter out, OhMsgCreateComplexOrderRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgCreateComplexOrderRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateComplexOrderRsp.EZMessage_.data_
+		 */
+		OhMsgCreateComplexOrderRsp.EZMessage_.data_ readOhMsgCreateComplexOrderRsp_EZMessage__data_(JsonReader in, OhMsgCreateComplexOrderRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateComplexOrderRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "created":
+						value.created = readBoolean(in, value.created);
+						break;
+					case "id":
+						value.id = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateComplexOrderRsp.EZMessage_.data_
+		 */
+		void writeOhMsgCreateComplexOrderRsp_EZMessage__data_(JsonWriter out, OhMsgCreateComplexOrderRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("created");
+			out.value(value.created);
+			out.name("id");
+			out.value(value.id);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq
+		 */
+		OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq(JsonReader in, OhMsgCreateSimpleOrderReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq value = outer.new EZCreateSimpleOrderReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq
+		 */
+		void writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq(JsonWriter out, OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_
+		 */
+		OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_ readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage_(JsonReader in, OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_
+		 */
+		void writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage_(JsonWriter out, OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_
+		 */
+		OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_ readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data_(JsonReader in, OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					case "order":
+						value.order = readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_
+		 */
+		void writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data_(JsonWriter out, OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account");
+			out.value(value.account);
+			out.name("order");
+			writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order_(out, value.order);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_
+		 */
+		OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_ readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order_(JsonReader in, OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_ value = outer.new order_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "order_type":
+						value.order_type = readString(in);
+						break;
+					case "order_id":
+						value.order_id = readBoolean(in, value.order_id);
+						break;
+					case "m_order_id":
+						value.m_order_id = readLong(in, value.m_order_id);
+						break;
+					case "order_subtype":
+						value.order_subtype = readString(in);
+						break;
+					case "price_type":
+						value.price_type = readString(in);
+						break;
+					case "time_in_force":
+						value.time_in_force = readString(in);
+						break;
+					case "alias":
+						value.alias = readString(in);
+						break;
+					case "price":
+						value.price = readString(in);
+						break;
+					case "underlying_stock_symbol":
+						value.underlying_stock_symbol = readString(in);
+						break;
+					case "allOrNone":
+						value.allOrNone = readBoolean(in, value.allOrNone);
+						break;
+					case "source":
+						value.source = readString(in);
+						break;
+					case "client_id":
+						value.client_id = readLong(in, value.client_id);
+						break;
+					case "preferred_destination":
+						value.preferred_destination = readString(in);
+						break;
+					case "legs":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.legs = null;
+							break;
+						}
+
+						value.legs = new ArrayList<OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.leg_>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.legs.add(readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order__leg_(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.legs.add(readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order__leg_(in, value));
+						}
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_
+		 */
+		void writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order_(JsonWriter out, OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("order_type");
+			out.value(value.order_type);
+			out.name("order_id");
+			out.value(value.order_id);
+			out.name("m_order_id");
+			out.value(value.m_order_id);
+			out.name("order_subtype");
+			out.value(value.order_subtype);
+			out.name("price_type");
+			out.value(value.price_type);
+			out.name("time_in_force");
+			out.value(value.time_in_force);
+			out.name("alias");
+			out.value(value.alias);
+			out.name("price");
+			out.value(value.price);
+			out.name("underlying_stock_symbol");
+			out.value(value.underlying_stock_symbol);
+			out.name("allOrNone");
+			out.value(value.allOrNone);
+			out.name("source");
+			out.value(value.source);
+			out.name("client_id");
+			out.value(value.client_id);
+			out.name("preferred_destination");
+			out.value(value.preferred_destination);
+			out.name("legs");
+			if (null == value.legs)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.leg_ e : value.legs)
+				{
+					writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order__leg_(out, e);
+				}
+				out.endArray();
+			}
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.leg_
+		 */
+		OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.leg_ readOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order__leg_(JsonReader in, OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.leg_ value = outer.new leg_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "index":
+						value.index = readLong(in, value.index);
+						break;
+					case "side":
+						value.side = readString(in);
+						break;
+					case "security_type":
+						value.security_type = readString(in);
+						break;
+					case "quantity":
+						value.quantity = readLong(in, value.quantity);
+						break;
+					case "key":
+						value.key = readString(in);
+						break;
+					case "multiplier":
+						value.multiplier = readLong(in, value.multiplier);
+						break;
+					case "position_type":
+						value.position_type = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.leg_
+		 */
+		void writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order__leg_(JsonWriter out, OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.leg_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("index");
+			out.value(value.index);
+			out.name("side");
+			out.value(value.side);
+			out.name("security_type");
+			out.value(value.security_type);
+			out.name("quantity");
+			out.value(value.quantity);
+			out.name("key");
+			out.value(value.key);
+			out.name("multiplier");
+			out.value(value.multiplier);
+			out.name("position_type");
+			out.value(value.position_type);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateSimpleOrderRsp
+		 */
+		OhMsgCreateSimpleOrderRsp readOhMsgCreateSimpleOrderRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateSimpleOrderRsp value = new OhMsgCreateSimpleOrderRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgCreateSimpleOrderRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateSimpleOrderRsp
+		 */
+		void writeOhMsgCreateSimpleOrderRsp(JsonWriter out, OhMsgCreateSimpleOrderRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgCreateSimpleOrderRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateSimpleOrderRsp.EZMessage_
+		 */
+		OhMsgCreateSimpleOrderRsp.EZMessage_ readOhMsgCreateSimpleOrderRsp_EZMessage_(JsonReader in, OhMsgCreateSimpleOrderRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateSimpleOrderRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgCreateSimpleOrderRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateSimpleOrderRsp.EZMessage_
+		 */
+		void writeOhMsgCreateSimpleOrderRsp_EZMessage_(JsonWriter out, OhMsgCreateSimpleOrderRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgCreateSimpleOrderRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgCreateSimpleOrderRsp.EZMessage_.data_
+		 */
+		OhMsgCreateSimpleOrderRsp.EZMessage_.data_ readOhMsgCreateSimpleOrderRsp_EZMessage__data_(JsonReader in, OhMsgCreateSimpleOrderRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgCreateSimpleOrderRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "created":
+						value.created = readBoolean(in, value.created);
+						break;
+					case "id":
+						value.id = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgCreateSimpleOrderRsp.EZMessage_.data_
+		 */
+		void writeOhMsgCreateSimpleOrderRsp_EZMessage__data_(JsonWriter out, OhMsgCreateSimpleOrderRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("created");
+			out.value(value.created);
+			out.name("id");
+			out.value(value.id);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsReq.EZOrderDetailsReq
+		 */
+		OhMsgOrderDetailsReq.EZOrderDetailsReq readOhMsgOrderDetailsReq_EZOrderDetailsReq(JsonReader in, OhMsgOrderDetailsReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsReq.EZOrderDetailsReq value = outer.new EZOrderDetailsReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsReq.EZOrderDetailsReq
+		 */
+		void writeOhMsgOrderDetailsReq_EZOrderDetailsReq(JsonWriter out, OhMsgOrderDetailsReq.EZOrderDetailsReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_
+		 */
+		OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_ readOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage_(JsonReader in, OhMsgOrderDetailsReq.EZOrderDetailsReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_
+		 */
+		void writeOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage_(JsonWriter out, OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_
+		 */
+		OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_ readOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data_(JsonReader in, OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account_id":
+						value.account_id = readString(in);
+						break;
+					case "order_details":
+						value.order_details = readOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data__order_details_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_
+		 */
+		void writeOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data_(JsonWriter out, OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account_id");
+			out.value(value.account_id);
+			out.name("order_details");
+			writeOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data__order_details_(out, value.order_details);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_.order_details_
+		 */
+		OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_.order_details_ readOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data__order_details_(JsonReader in, OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_.order_details_ value = outer.new order_details_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "master_order_view":
+						value.master_order_view = readString(in);
+						break;
+					case "master_order_id":
+						value.master_order_id = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_.order_details_
+		 */
+		void writeOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data__order_details_(JsonWriter out, OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_.order_details_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("master_order_view");
+			out.value(value.master_order_view);
+			out.name("master_order_id");
+			out.value(value.master_order_id);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsRsp
+		 */
+		OhMsgOrderDetailsRsp readOhMsgOrderDetailsRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsRsp value = new OhMsgOrderDetailsRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgOrderDetailsRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsRsp
+		 */
+		void writeOhMsgOrderDetailsRsp(JsonWriter out, OhMsgOrderDetailsRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgOrderDetailsRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsRsp.EZMessage_
+		 */
+		OhMsgOrderDetailsRsp.EZMessage_ readOhMsgOrderDetailsRsp_EZMessage_(JsonReader in, OhMsgOrderDetailsRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgOrderDetailsRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsRsp.EZMessage_
+		 */
+		void writeOhMsgOrderDetailsRsp_EZMessage_(JsonWriter out, OhMsgOrderDetailsRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgOrderDetailsRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsRsp.EZMessage_.data_
+		 */
+		OhMsgOrderDetailsRsp.EZMessage_.data_ readOhMsgOrderDetailsRsp_EZMessage__data_(JsonReader in, OhMsgOrderDetailsRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "order_details":
+						value.order_details = readOhMsgOrderDetailsRsp_EZMessage__data__order_details_(in, value);
+						break;
+					case "master_order_view":
+						value.master_order_view = readString(in);
+						break;
+					case "timestamp":
+						value.timestamp = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsRsp.EZMessage_.data_
+		 */
+		void writeOhMsgOrderDetailsRsp_EZMessage__data_(JsonWriter out, OhMsgOrderDetailsRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("order_details");
+			writeOhMsgOrderDetailsRsp_EZMessage__data__order_details_(out, value.order_details);
+			out.name("master_order_view");
+			out.value(value.master_order_view);
+			out.name("timestamp");
+			out.value(value.timestamp);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_
+		 */
+		OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_ readOhMsgOrderDetailsRsp_EZMessage__data__order_details_(JsonReader in, OhMsgOrderDetailsRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_ value = outer.new order_details_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "order_id":
+						value.order_id = readString(in);
+						break;
+					case "order_subtype":
+						value.order_subtype = readString(in);
+						break;
+					case "order_type":
+						value.order_type = readString(in);
+						break;
+					case "transaction_time":
+						value.transaction_time = readOhMsgOrderDetailsRsp_EZMessage__data__order_details__transaction_time_(in, value);
+						break;
+					case "customer":
+						value.customer = readOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer_(in, value);
+						break;
+					case "order_creator_id":
+						value.order_creator_id = readString(in);
+						break;
+					case "preferred_destination":
+						value.preferred_destination = readString(in);
+						break;
+					case "fix_symbol":
+						value.fix_symbol = readString(in);
+						break;
+					case "quantity":
+						value.quantity = readLong(in, value.quantity);
+						break;
+					case "price_type":
+						value.price_type = readString(in);
+						break;
+					case "price":
+						value.price = readDouble(in, value.price);
+						break;
+					case "time_in_force":
+						value.time_in_force = readString(in);
+						break;
+					case "allOrNone":
+						value.allOrNone = readBoolean(in, value.allOrNone);
+						break;
+					case "legs":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.legs = null;
+							break;
+						}
+
+						value.legs = new ArrayList<OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.legs.add(readOhMsgOrderDetailsRsp_EZMessage__data__order_details__leg(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.legs.add(readOhMsgOrderDetailsRsp_EZMessage__data__order_details__leg(in, value));
+						}
+						break;
+					case "order_title":
+						value.order_title = readString(in);
+						break;
+					case "status":
+						value.status = readString(in);
+						break;
+					case "date_created":
+						value.date_created = readString(in);
+						break;
+					case "date_modified":
+						value.date_modified = readString(in);
+						break;
+					case "master_order_id":
+						value.master_order_id = readLong(in, value.master_order_id);
+						break;
+					case "time_in_force_desc":
+						value.time_in_force_desc = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_
+		 */
+		void writeOhMsgOrderDetailsRsp_EZMessage__data__order_details_(JsonWriter out, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("order_id");
+			out.value(value.order_id);
+			out.name("order_subtype");
+			out.value(value.order_subtype);
+			out.name("order_type");
+			out.value(value.order_type);
+			out.name("transaction_time");
+			writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__transaction_time_(out, value.transaction_time);
+			out.name("customer");
+			writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer_(out, value.customer);
+			out.name("order_creator_id");
+			out.value(value.order_creator_id);
+			out.name("preferred_destination");
+			out.value(value.preferred_destination);
+			out.name("fix_symbol");
+			out.value(value.fix_symbol);
+			out.name("quantity");
+			out.value(value.quantity);
+			out.name("price_type");
+			out.value(value.price_type);
+			out.name("price");
+			writeDouble(out, value.price);
+			out.name("time_in_force");
+			out.value(value.time_in_force);
+			out.name("allOrNone");
+			out.value(value.allOrNone);
+			out.name("legs");
+			if (null == value.legs)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg e : value.legs)
+				{
+					writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__leg(out, e);
+				}
+				out.endArray();
+			}
+			out.name("order_title");
+			out.value(value.order_title);
+			out.name("status");
+			out.value(value.status);
+			out.name("date_created");
+			out.value(value.date_created);
+			out.name("date_modified");
+			out.value(value.date_modified);
+			out.name("master_order_id");
+			out.value(value.master_order_id);
+			out.name("time_in_force_desc");
+			out.value(value.time_in_force_desc);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_
+		 */
+		OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_ readOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer_(JsonReader in, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_ value = outer.new customer_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "account":
+						value.account = readString(in);
+						break;
+					case "stock_clearing_firm":
+						value.stock_clearing_firm = readOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__stock_clearing_firm_(in, value);
+						break;
+					case "org":
+						value.org = readString(in);
+						break;
+					case "option_clearing_firm":
+						value.option_clearing_firm = readOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__option_clearing_firm_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_
+		 */
+		void writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer_(JsonWriter out, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("account");
+			out.value(value.account);
+			out.name("stock_clearing_firm");
+			writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__stock_clearing_firm_(out, value.stock_clearing_firm);
+			out.name("org");
+			out.value(value.org);
+			out.name("option_clearing_firm");
+			writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__option_clearing_firm_(out, value.option_clearing_firm);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.option_clearing_firm_
+		 */
+		OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.option_clearing_firm_ readOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__option_clearing_firm_(JsonReader in, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.option_clearing_firm_ value = outer.new option_clearing_firm_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "name":
+						value.name = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					case "mpid":
+						value.mpid = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.option_clearing_firm_
+		 */
+		void writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__option_clearing_firm_(JsonWriter out, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.option_clearing_firm_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("name");
+			out.value(value.name);
+			out.name("account");
+			out.value(value.account);
+			out.name("mpid");
+			out.value(value.mpid);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.stock_clearing_firm_
+		 */
+		OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.stock_clearing_firm_ readOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__stock_clearing_firm_(JsonReader in, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.stock_clearing_firm_ value = outer.new stock_clearing_firm_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "name":
+						value.name = readString(in);
+						break;
+					case "account":
+						value.account = readString(in);
+						break;
+					case "mpid":
+						value.mpid = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.stock_clearing_firm_
+		 */
+		void writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__stock_clearing_firm_(JsonWriter out, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.stock_clearing_firm_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("name");
+			out.value(value.name);
+			out.name("account");
+			out.value(value.account);
+			out.name("mpid");
+			out.value(value.mpid);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg
+		 */
+		OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg readOhMsgOrderDetailsRsp_EZMessage__data__order_details__leg(JsonReader in, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg value = outer.new leg();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "side":
+						value.side = readString(in);
+						break;
+					case "index":
+						value.index = readLong(in, value.index);
+						break;
+					case "security_type":
+						value.security_type = readString(in);
+						break;
+					case "key":
+						value.key = readString(in);
+						break;
+					case "multiplier":
+						value.multiplier = readLong(in, value.multiplier);
+						break;
+					case "ratio_quantity":
+						value.ratio_quantity = readLong(in, value.ratio_quantity);
+						break;
+					case "position_type":
+						value.position_type = readString(in);
+						break;
+					case "leg_description":
+						value.leg_description = readString(in);
+						break;
+					case "quantity":
+						value.quantity = readLong(in, value.quantity);
+						break;
+					case "quantity_filled":
+						value.quantity_filled = readLong(in, value.quantity_filled);
+						break;
+					case "transaction":
+						value.transaction = readString(in);
+						break;
+					case "last_updated":
+						value.last_updated = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg
+		 */
+		void writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__leg(JsonWriter out, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("side");
+			out.value(value.side);
+			out.name("index");
+			out.value(value.index);
+			out.name("security_type");
+			out.value(value.security_type);
+			out.name("key");
+			out.value(value.key);
+			out.name("multiplier");
+			out.value(value.multiplier);
+			out.name("ratio_quantity");
+			out.value(value.ratio_quantity);
+			out.name("position_type");
+			out.value(value.position_type);
+			out.name("leg_description");
+			out.value(value.leg_description);
+			out.name("quantity");
+			out.value(value.quantity);
+			out.name("quantity_filled");
+			out.value(value.quantity_filled);
+			out.name("transaction");
+			out.value(value.transaction);
+			out.name("last_updated");
+			out.value(value.last_updated);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.transaction_time_
+		 */
+		OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.transaction_time_ readOhMsgOrderDetailsRsp_EZMessage__data__order_details__transaction_time_(JsonReader in, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.transaction_time_ value = outer.new transaction_time_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "raw":
+						value.raw = readString(in);
+						break;
+					case "pretty":
+						value.pretty = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.transaction_time_
+		 */
+		void writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__transaction_time_(JsonWriter out, OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.transaction_time_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("raw");
+			out.value(value.raw);
+			out.name("pretty");
+			out.value(value.pretty);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderHistoryReq.EZOrderHistoryReq
+		 */
+		OhMsgOrderHistoryReq.EZOrderHistoryReq readOhMsgOrderHistoryReq_EZOrderHistoryReq(JsonReader in, OhMsgOrderHistoryReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderHistoryReq.EZOrderHistoryReq value = outer.new EZOrderHistoryReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderHistoryReq.EZOrderHistoryReq
+		 */
+		void writeOhMsgOrderHistoryReq_EZOrderHistoryReq(JsonWriter out, OhMsgOrderHistoryReq.EZOrderHistoryReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_
+		 */
+		OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_ readOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage_(JsonReader in, OhMsgOrderHistoryReq.EZOrderHistoryReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_
+		 */
+		void writeOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage_(JsonWriter out, OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_
+		 */
+		OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_ readOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data_(JsonReader in, OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "account_id":
+						value.account_id = readString(in);
+						break;
+					case "order_history":
+						value.order_history = readOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data__order_history_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_
+		 */
+		void writeOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data_(JsonWriter out, OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("account_id");
+			out.value(value.account_id);
+			out.name("order_history");
+			writeOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data__order_history_(out, value.order_history);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_.order_history_
+		 */
+		OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_.order_history_ readOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data__order_history_(JsonReader in, OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_.order_history_ value = outer.new order_history_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "master_order_view":
+						value.master_order_view = readString(in);
+						break;
+					case "master_order_id":
+						value.master_order_id = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_.order_history_
+		 */
+		void writeOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data__order_history_(JsonWriter out, OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_.order_history_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("master_order_view");
+			out.value(value.master_order_view);
+			out.name("master_order_id");
+			out.value(value.master_order_id);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderHistoryRsp
+		 */
+		OhMsgOrderHistoryRsp readOhMsgOrderHistoryRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderHistoryRsp value = new OhMsgOrderHistoryRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgOrderHistoryRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderHistoryRsp
+		 */
+		void writeOhMsgOrderHistoryRsp(JsonWriter out, OhMsgOrderHistoryRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgOrderHistoryRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderHistoryRsp.EZMessage_
+		 */
+		OhMsgOrderHistoryRsp.EZMessage_ readOhMsgOrderHistoryRsp_EZMessage_(JsonReader in, OhMsgOrderHistoryRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderHistoryRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgOrderHistoryRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderHistoryRsp.EZMessage_
+		 */
+		void writeOhMsgOrderHistoryRsp_EZMessage_(JsonWriter out, OhMsgOrderHistoryRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgOrderHistoryRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderHistoryRsp.EZMessage_.data_
+		 */
+		OhMsgOrderHistoryRsp.EZMessage_.data_ readOhMsgOrderHistoryRsp_EZMessage__data_(JsonReader in, OhMsgOrderHistoryRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderHistoryRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "master_order_id":
+						value.master_order_id = readString(in);
+						break;
+					case "timestamp":
+						value.timestamp = readString(in);
+						break;
+					case "order_history":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.order_history = null;
+							break;
+						}
+
+						value.order_history = new ArrayList<OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.order_history.add(readOhMsgOrderHistoryRsp_EZMessage__data__order_history_(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.order_history.add(readOhMsgOrderHistoryRsp_EZMessage__data__order_history_(in, value));
+						}
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderHistoryRsp.EZMessage_.data_
+		 */
+		void writeOhMsgOrderHistoryRsp_EZMessage__data_(JsonWriter out, OhMsgOrderHistoryRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("master_order_id");
+			out.value(value.master_order_id);
+			out.name("timestamp");
+			out.value(value.timestamp);
+			out.name("order_history");
+			if (null == value.order_history)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_ e : value.order_history)
+				{
+					writeOhMsgOrderHistoryRsp_EZMessage__data__order_history_(out, e);
+				}
+				out.endArray();
+			}
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_
+		 */
+		OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_ readOhMsgOrderHistoryRsp_EZMessage__data__order_history_(JsonReader in, OhMsgOrderHistoryRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_ value = outer.new order_history_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "transaction":
+						value.transaction = readString(in);
+						break;
+					case "activity_date":
+						value.activity_date = readString(in);
+						break;
+					case "description":
+						value.description = readString(in);
+						break;
+					case "quantity":
+						value.quantity = readString(in);
+						break;
+					case "price":
+						value.price = readString(in);
+						break;
+					case "underlying_stock_symbol":
+						value.underlying_stock_symbol = readString(in);
+						break;
+					case "event":
+						value.event = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_
+		 */
+		void writeOhMsgOrderHistoryRsp_EZMessage__data__order_history_(JsonWriter out, OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("transaction");
+			out.value(value.transaction);
+			out.name("activity_date");
+			out.value(value.activity_date);
+			out.name("description");
+			out.value(value.description);
+			out.name("quantity");
+			out.value(value.quantity);
+			out.name("price");
+			out.value(value.price);
+			out.name("underlying_stock_symbol");
+			out.value(value.underlying_stock_symbol);
+			out.name("event");
+			out.value(value.event);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderPreviewRsp
+		 */
+		OhMsgOrderPreviewRsp readOhMsgOrderPreviewRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderPreviewRsp value = new OhMsgOrderPreviewRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgOrderPreviewRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderPreviewRsp
+		 */
+		void writeOhMsgOrderPreviewRsp(JsonWriter out, OhMsgOrderPreviewRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgOrderPreviewRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderPreviewRsp.EZMessage_
+		 */
+		OhMsgOrderPreviewRsp.EZMessage_ readOhMsgOrderPreviewRsp_EZMessage_(JsonReader in, OhMsgOrderPreviewRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderPreviewRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgOrderPreviewRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderPreviewRsp.EZMessage_
+		 */
+		void writeOhMsgOrderPreviewRsp_EZMessage_(JsonWriter out, OhMsgOrderPreviewRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgOrderPreviewRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgOrderPreviewRsp.EZMessage_.data_
+		 */
+		OhMsgOrderPreviewRsp.EZMessage_.data_ readOhMsgOrderPreviewRsp_EZMessage__data_(JsonReader in, OhMsgOrderPreviewRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgOrderPreviewRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "commission":
+						value.commission = readDouble(in, value.commission);
+						break;
+					case "buying_power_effect":
+						value.buying_power_effect = readDouble(in, value.buying_power_effect);
+						break;
+					case "warnings":
+						value.warnings = readStringList(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgOrderPreviewRsp.EZMessage_.data_
+		 */
+		void writeOhMsgOrderPreviewRsp_EZMessage__data_(JsonWriter out, OhMsgOrderPreviewRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("commission");
+			writeDouble(out, value.commission);
+			out.name("buying_power_effect");
+			writeDouble(out, value.buying_power_effect);
+			out.name("warnings");
+			writeStringList(out, value.warnings);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewQuoteListReq.EZViewQuoteListReq
+		 */
+		OhMsgViewQuoteListReq.EZViewQuoteListReq readOhMsgViewQuoteListReq_EZViewQuoteListReq(JsonReader in, OhMsgViewQuoteListReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewQuoteListReq.EZViewQuoteListReq value = outer.new EZViewQuoteListReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewQuoteListReq.EZViewQuoteListReq
+		 */
+		void writeOhMsgViewQuoteListReq_EZViewQuoteListReq(JsonWriter out, OhMsgViewQuoteListReq.EZViewQuoteListReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_
+		 */
+		OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_ readOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage_(JsonReader in, OhMsgViewQuoteListReq.EZViewQuoteListReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_
+		 */
+		void writeOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage_(JsonWriter out, OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_.data_
+		 */
+		OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_.data_ readOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage__data_(JsonReader in, OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "key":
+						value.key = readStringList(in);
+						break;
+					case "addExtended":
+						value.addExtended = readStringList(in);
+						break;
+					case "addStockDetails":
+						value.addStockDetails = readStringList(in);
+						break;
+					case "addGreeks":
+						value.addGreeks = readStringList(in);
+						break;
+					case "addCompanyName":
+						value.addCompanyName = readBoolean(in, value.addCompanyName);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_.data_
+		 */
+		void writeOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage__data_(JsonWriter out, OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("key");
+			writeStringList(out, value.key);
+			out.name("addExtended");
+			writeStringList(out, value.addExtended);
+			out.name("addStockDetails");
+			writeStringList(out, value.addStockDetails);
+			out.name("addGreeks");
+			writeStringList(out, value.addGreeks);
+			out.name("addCompanyName");
+			out.value(value.addCompanyName);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewQuoteListRsp
+		 */
+		OhMsgViewQuoteListRsp readOhMsgViewQuoteListRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewQuoteListRsp value = new OhMsgViewQuoteListRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgViewQuoteListRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewQuoteListRsp
+		 */
+		void writeOhMsgViewQuoteListRsp(JsonWriter out, OhMsgViewQuoteListRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgViewQuoteListRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewQuoteListRsp.EZMessage_
+		 */
+		OhMsgViewQuoteListRsp.EZMessage_ readOhMsgViewQuoteListRsp_EZMessage_(JsonReader in, OhMsgViewQuoteListRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewQuoteListRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgViewQuoteListRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewQuoteListRsp.EZMessage_
+		 */
+		void writeOhMsgViewQuoteListRsp_EZMessage_(JsonWriter out, OhMsgViewQuoteListRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgViewQuoteListRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewQuoteListRsp.EZMessage_.data_
+		 */
+		OhMsgViewQuoteListRsp.EZMessage_.data_ readOhMsgViewQuoteListRsp_EZMessage__data_(JsonReader in, OhMsgViewQuoteListRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewQuoteListRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "session":
+						value.session = readString(in);
+						break;
+					case "quote":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.quote = null;
+							break;
+						}
+
+						value.quote = new ArrayList<OhMsgViewQuoteListRsp.EZMessage_.data_.quote_>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.quote.add(readOhMsgViewQuoteListRsp_EZMessage__data__quote_(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.quote.add(readOhMsgViewQuoteListRsp_EZMessage__data__quote_(in, value));
+						}
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewQuoteListRsp.EZMessage_.data_
+		 */
+		void writeOhMsgViewQuoteListRsp_EZMessage__data_(JsonWriter out, OhMsgViewQuoteListRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("session");
+			out.value(value.session);
+			out.name("quote");
+			if (null == value.quote)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ e : value.quote)
+				{
+					writeOhMsgViewQuoteListRsp_EZMessage__data__quote_(out, e);
+				}
+				out.endArray();
+			}
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewQuoteListRsp.EZMessage_.data_.quote_
+		 */
+		OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ readOhMsgViewQuoteListRsp_EZMessage__data__quote_(JsonReader in, OhMsgViewQuoteListRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ value = outer.new quote_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "ask":
+						value.ask = readDouble(in, value.ask);
+						break;
+					case "askSize":
+						value.askSize = readLong(in, value.askSize);
+						break;
+					case "bid":
+						value.bid = readDouble(in, value.bid);
+						break;
+					case "bidSize":
+						value.bidSize = readLong(in, value.bidSize);
+						break;
+					case "change":
+						value.change = readDouble(in, value.change);
+						break;
+					case "changePercent":
+						value.changePercent = readDouble(in, value.changePercent);
+						break;
+					case "dailyChange":
+						value.dailyChange = readDouble(in, value.dailyChange);
+						break;
+					case "delta":
+						value.delta = readDouble(in, value.delta);
+						break;
+					case "divConfirm":
+						value.divConfirm = readBoolean(in, value.divConfirm);
+						break;
+					case "earningsConfirm":
+						value.earningsConfirm = readBoolean(in, value.earningsConfirm);
+						break;
+					case "exchange":
+						value.exchange = readString(in);
+						break;
+					case "extChangeAmount":
+						value.extChangeAmount = readDouble(in, value.extChangeAmount);
+						break;
+					case "extChangePercent":
+						value.extChangePercent = readDouble(in, value.extChangePercent);
+						break;
+					case "extChangeTime":
+						value.extChangeTime = readString(in);
+						break;
+					case "extClose":
+						value.extClose = readDouble(in, value.extClose);
+						break;
+					case "extLast":
+						value.extLast = readDouble(in, value.extLast);
+						break;
+					case "gamma":
+						value.gamma = readDouble(in, value.gamma);
+						break;
+					case "hasDividends":
+						value.hasDividends = readBoolean(in, value.hasDividends);
+						break;
+					case "hasEarnings":
+						value.hasEarnings = readBoolean(in, value.hasEarnings);
+						break;
+					case "high":
+						value.high = readDouble(in, value.high);
+						break;
+					case "isExchangeDelayed":
+						value.isExchangeDelayed = readBoolean(in, value.isExchangeDelayed);
+						break;
+					case "ivol":
+						value.ivol = readDouble(in, value.ivol);
+						break;
+					case "key":
+						value.key = readString(in);
+						break;
+					case "last":
+						value.last = readDouble(in, value.last);
+						break;
+					case "low":
+						value.low = readDouble(in, value.low);
+						break;
+					case "mark":
+						value.mark = readDouble(in, value.mark);
+						break;
+					case "oi":
+						value.oi = readLong(in, value.oi);
+						break;
+					case "open":
+						value.open = readDouble(in, value.open);
+						break;
+					case "optVol":
+						value.optVol = readLong(in, value.optVol);
+						break;
+					case "prevClose":
+						value.prevClose = readDouble(in, value.prevClose);
+						break;
+					case "stockLast":
+						value.stockLast = readDouble(in, value.stockLast);
+						break;
+					case "symbol":
+						value.symbol = readString(in);
+						break;
+					case "theta":
+						value.theta = readDouble(in, value.theta);
+						break;
+					case "vega":
+						value.vega = readDouble(in, value.vega);
+						break;
+					case "volume":
+						value.volume = readLong(in, value.volume);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewQuoteListRsp.EZMessage_.data_.quote_
+		 */
+		void writeOhMsgViewQuoteListRsp_EZMessage__data__quote_(JsonWriter out, OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("ask");
+			writeDouble(out, value.ask);
+			out.name("askSize");
+			out.value(value.askSize);
+			out.name("bid");
+			writeDouble(out, value.bid);
+			out.name("bidSize");
+			out.value(value.bidSize);
+			out.name("change");
+			writeDouble(out, value.change);
+			out.name("changePercent");
+			writeDouble(out, value.changePercent);
+			out.name("dailyChange");
+			writeDouble(out, value.dailyChange);
+			out.name("delta");
+			writeDouble(out, value.delta);
+			out.name("divConfirm");
+			out.value(value.divConfirm);
+			out.name("earningsConfirm");
+			out.value(value.earningsConfirm);
+			out.name("exchange");
+			out.value(value.exchange);
+			out.name("extChangeAmount");
+			writeDouble(out, value.extChangeAmount);
+			out.name("extChangePercent");
+			writeDouble(out, value.extChangePercent);
+			out.name("extChangeTime");
+			out.value(value.extChangeTime);
+			out.name("extClose");
+			writeDouble(out, value.extClose);
+			out.name("extLast");
+			writeDouble(out, value.extLast);
+			out.name("gamma");
+			writeDouble(out, value.gamma);
+			out.name("hasDividends");
+			out.value(value.hasDividends);
+			out.name("hasEarnings");
+			out.value(value.hasEarnings);
+			out.name("high");
+			writeDouble(out, value.high);
+			out.name("isExchangeDelayed");
+			out.value(value.isExchangeDelayed);
+			out.name("ivol");
+			writeDouble(out, value.ivol);
+			out.name("key");
+			out.value(value.key);
+			out.name("last");
+			writeDouble(out, value.last);
+			out.name("low");
+			writeDouble(out, value.low);
+			out.name("mark");
+			writeDouble(out, value.mark);
+			out.name("oi");
+			out.value(value.oi);
+			out.name("open");
+			writeDouble(out, value.open);
+			out.name("optVol");
+			out.value(value.optVol);
+			out.name("prevClose");
+			writeDouble(out, value.prevClose);
+			out.name("stockLast");
+			writeDouble(out, value.stockLast);
+			out.name("symbol");
+			out.value(value.symbol);
+			out.name("theta");
+			writeDouble(out, value.theta);
+			out.name("vega");
+			writeDouble(out, value.vega);
+			out.name("volume");
+			out.value(value.volume);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewSeriesReq.EZViewSeriesReq
+		 */
+		OhMsgViewSeriesReq.EZViewSeriesReq readOhMsgViewSeriesReq_EZViewSeriesReq(JsonReader in, OhMsgViewSeriesReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewSeriesReq.EZViewSeriesReq value = outer.new EZViewSeriesReq();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewSeriesReq.EZViewSeriesReq
+		 */
+		void writeOhMsgViewSeriesReq_EZViewSeriesReq(JsonWriter out, OhMsgViewSeriesReq.EZViewSeriesReq value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_
+		 */
+		OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_ readOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage_(JsonReader in, OhMsgViewSeriesReq.EZViewSeriesReq outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "action":
+						value.action = readString(in);
+						break;
+					case "data":
+						value.data = readOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage__data_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_
+		 */
+		void writeOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage_(JsonWriter out, OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("action");
+			out.value(value.action);
+			out.name("data");
+			writeOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage__data_(out, value.data);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_.data_
+		 */
+		OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_.data_ readOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage__data_(JsonReader in, OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "authToken":
+						value.authToken = readString(in);
+						break;
+					case "symbol":
+						value.symbol = readString(in);
+						break;
+					case "quarterlies":
+						value.quarterlies = readBoolean(in, value.quarterlies);
+						break;
+					case "weeklies":
+						value.weeklies = readBoolean(in, value.weeklies);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_.data_
+		 */
+		void writeOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage__data_(JsonWriter out, OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("authToken");
+			out.value(value.authToken);
+			out.name("symbol");
+			out.value(value.symbol);
+			out.name("quarterlies");
+			out.value(value.quarterlies);
+			out.name("weeklies");
+			out.value(value.weeklies);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewSeriesRsp
+		 */
+		OhMsgViewSeriesRsp readOhMsgViewSeriesRsp(JsonReader in) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewSeriesRsp value = new OhMsgViewSeriesRsp();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "EZMessage":
+						value.EZMessage = readOhMsgViewSeriesRsp_EZMessage_(in, value);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewSeriesRsp
+		 */
+		void writeOhMsgViewSeriesRsp(JsonWriter out, OhMsgViewSeriesRsp value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("EZMessage");
+			writeOhMsgViewSeriesRsp_EZMessage_(out, value.EZMessage);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewSeriesRsp.EZMessage_
+		 */
+		OhMsgViewSeriesRsp.EZMessage_ readOhMsgViewSeriesRsp_EZMessage_(JsonReader in, OhMsgViewSeriesRsp outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewSeriesRsp.EZMessage_ value = outer.new EZMessage_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "data":
+						value.data = readOhMsgViewSeriesRsp_EZMessage__data_(in, value);
+						break;
+					case "errors":
+						value.errors = adapterErrorMap().read(in);
+						break;
+					case "alert":
+						value.alert = readString(in);
+						break;
+					case "action":
+						value.action = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewSeriesRsp.EZMessage_
+		 */
+		void writeOhMsgViewSeriesRsp_EZMessage_(JsonWriter out, OhMsgViewSeriesRsp.EZMessage_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("data");
+			writeOhMsgViewSeriesRsp_EZMessage__data_(out, value.data);
+			out.name("errors");
+			adapterErrorMap().write(out, value.errors);
+			out.name("alert");
+			out.value(value.alert);
+			out.name("action");
+			out.value(value.action);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewSeriesRsp.EZMessage_.data_
+		 */
+		OhMsgViewSeriesRsp.EZMessage_.data_ readOhMsgViewSeriesRsp_EZMessage__data_(JsonReader in, OhMsgViewSeriesRsp.EZMessage_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewSeriesRsp.EZMessage_.data_ value = outer.new data_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "s":
+						if (in.peek() == JsonToken.NULL)
+						{
+							in.nextNull();
+							value.s = null;
+							break;
+						}
+
+						value.s = new ArrayList<OhMsgViewSeriesRsp.EZMessage_.data_.s_>();
+						if (beginList(in))
+						{
+							while (in.hasNext())
+							{
+								value.s.add(readOhMsgViewSeriesRsp_EZMessage__data__s_(in, value));
+							}
+							in.endArray();
+						}
+						else
+						{
+							value.s.add(readOhMsgViewSeriesRsp_EZMessage__data__s_(in, value));
+						}
+						break;
+					case "q":
+						value.q = readString(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewSeriesRsp.EZMessage_.data_
+		 */
+		void writeOhMsgViewSeriesRsp_EZMessage__data_(JsonWriter out, OhMsgViewSeriesRsp.EZMessage_.data_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("s");
+			if (null == value.s)
+			{
+				out.nullValue();
+			}
+			else
+			{
+				out.beginArray();
+				for (OhMsgViewSeriesRsp.EZMessage_.data_.s_ e : value.s)
+				{
+					writeOhMsgViewSeriesRsp_EZMessage__data__s_(out, e);
+				}
+				out.endArray();
+			}
+			out.name("q");
+			out.value(value.q);
+			out.endObject();
+		}
+
+		/**
+		 * Reads a OhMsgViewSeriesRsp.EZMessage_.data_.s_
+		 */
+		OhMsgViewSeriesRsp.EZMessage_.data_.s_ readOhMsgViewSeriesRsp_EZMessage__data__s_(JsonReader in, OhMsgViewSeriesRsp.EZMessage_.data_ outer) throws IOException
+		{
+			if (in.peek() == JsonToken.NULL)
+			{
+				in.nextNull();
+				return null;
+			}
+
+			OhMsgViewSeriesRsp.EZMessage_.data_.s_ value = outer.new s_();
+			in.beginObject();
+			while (in.hasNext())
+			{
+				switch (in.nextName())
+				{
+					case "e":
+						value.e = readString(in);
+						break;
+					case "k":
+						value.k = readStringList(in);
+						break;
+					default:
+						in.skipValue();
+						break;
+				}
+			}
+			in.endObject();
+			return value;
+		}
+
+		/**
+		 * Writes a OhMsgViewSeriesRsp.EZMessage_.data_.s_
+		 */
+		void writeOhMsgViewSeriesRsp_EZMessage__data__s_(JsonWriter out, OhMsgViewSeriesRsp.EZMessage_.data_.s_ value) throws IOException
+		{
+			if (null == value)
+			{
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("e");
+			out.value(value.e);
+			out.name("k");
+			writeStringList(out, value.k);
+			out.endObject();
+		}
+
+		/**
+		 * The adapter returned to Gson for one of the models
+		 * 
+		 * @author Ryan Antkowiak 
+		 */
+		private final class Adapter extends TypeAdapter<Object>
+		{
+			/** the id of the model */
+			private final int m_id;
+
+			/** the reflective adapter of Gson, for inner classes (or null) */
+			private final TypeAdapter<?> m_reflective;
+
+			/**
+			 * Constructor
+			 * 
+			 * @param id
+			 *            the id of the model
+			 * @param reflective
+			 *            the reflective adapter of Gson, used to read inner
+			 *            classes (or null)
+			 */
+			Adapter(int id, TypeAdapter<?> reflective)
+			{
+				m_id = id;
+				m_reflective = reflective;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see
+			 * com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter,
+			 * java.lang.Object)
+			 */
+			@Override
+			public void write(JsonWriter out, Object value) throws IOException
+			{
+				switch (m_id)
+				{
+					case 0:
+						writeOhMsgAccountActivityReq_EZAccountActivityReq(out, (OhMsgAccountActivityReq.EZAccountActivityReq) value);
+						break;
+					case 1:
+						writeOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage_(out, (OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_) value);
+						break;
+					case 2:
+						writeOhMsgAccountActivityReq_EZAccountActivityReq_EZMessage__data_(out, (OhMsgAccountActivityReq.EZAccountActivityReq.EZMessage_.data_) value);
+						break;
+					case 3:
+						writeOhMsgAccountActivityRsp(out, (OhMsgAccountActivityRsp) value);
+						break;
+					case 4:
+						writeOhMsgAccountActivityRsp_EZMessage_(out, (OhMsgAccountActivityRsp.EZMessage_) value);
+						break;
+					case 5:
+						writeOhMsgAccountActivityRsp_EZMessage__data_(out, (OhMsgAccountActivityRsp.EZMessage_.data_) value);
+						break;
+					case 6:
+						writeOhMsgAccountActivityRsp_EZMessage__data__activity_(out, (OhMsgAccountActivityRsp.EZMessage_.data_.activity_) value);
+						break;
+					case 7:
+						writeOhMsgAccountCashReq_EZAccountCashReq(out, (OhMsgAccountCashReq.EZAccountCashReq) value);
+						break;
+					case 8:
+						writeOhMsgAccountCashReq_EZAccountCashReq_EZMessage_(out, (OhMsgAccountCashReq.EZAccountCashReq.EZMessage_) value);
+						break;
+					case 9:
+						writeOhMsgAccountCashReq_EZAccountCashReq_EZMessage__data_(out, (OhMsgAccountCashReq.EZAccountCashReq.EZMessage_.data_) value);
+						break;
+					case 10:
+						writeOhMsgAccountCashRsp(out, (OhMsgAccountCashRsp) value);
+						break;
+					case 11:
+						writeOhMsgAccountCashRsp_EZMessage_(out, (OhMsgAccountCashRsp.EZMessage_) value);
+						break;
+					case 12:
+						writeOhMsgAccountCashRsp_EZMessage__data_(out, (OhMsgAccountCashRsp.EZMessage_.data_) value);
+						break;
+					case 13:
+						writeOhMsgAccountInfoReq_EZAccountInfoReq(out, (OhMsgAccountInfoReq.EZAccountInfoReq) value);
+						break;
+					case 14:
+						writeOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage_(out, (OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_) value);
+						break;
+					case 15:
+						writeOhMsgAccountInfoReq_EZAccountInfoReq_EZMessage__data_(out, (OhMsgAccountInfoReq.EZAccountInfoReq.EZMessage_.data_) value);
+						break;
+					case 16:
+						writeOhMsgAccountInfoRsp(out, (OhMsgAccountInfoRsp) value);
+						break;
+					case 17:
+						writeOhMsgAccountInfoRsp_EZMessage_(out, (OhMsgAccountInfoRsp.EZMessage_) value);
+						break;
+					case 18:
+						writeOhMsgAccountInfoRsp_EZMessage__data_(out, (OhMsgAccountInfoRsp.EZMessage_.data_) value);
+						break;
+					case 19:
+						writeOhMsgAccountInfoRsp_EZMessage__data__account_(out, (OhMsgAccountInfoRsp.EZMessage_.data_.account_) value);
+						break;
+					case 20:
+						writeOhMsgAccountInfoRsp_EZMessage__data__login_(out, (OhMsgAccountInfoRsp.EZMessage_.data_.login_) value);
+						break;
+					case 21:
+						writeOhMsgAccountPositionsReq_EZAccountPositionsReq(out, (OhMsgAccountPositionsReq.EZAccountPositionsReq) value);
+						break;
+					case 22:
+						writeOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage_(out, (OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_) value);
+						break;
+					case 23:
+						writeOhMsgAccountPositionsReq_EZAccountPositionsReq_EZMessage__data_(out, (OhMsgAccountPositionsReq.EZAccountPositionsReq.EZMessage_.data_) value);
+						break;
+					case 24:
+						writeOhMsgAccountPositionsRsp(out, (OhMsgAccountPositionsRsp) value);
+						break;
+					case 25:
+						writeOhMsgAccountPositionsRsp_EZMessage_(out, (OhMsgAccountPositionsRsp.EZMessage_) value);
+						break;
+					case 26:
+						writeOhMsgAccountPositionsRsp_EZMessage__data_(out, (OhMsgAccountPositionsRsp.EZMessage_.data_) value);
+						break;
+					case 27:
+						writeOhMsgAccountPositionsRsp_EZMessage__data__unified_(out, (OhMsgAccountPositionsRsp.EZMessage_.data_.unified_) value);
+						break;
+					case 28:
+						writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq(out, (OhMsgAllOrderStatusReq.EZAllOrderStatusReq) value);
+						break;
+					case 29:
+						writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage_(out, (OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_) value);
+						break;
+					case 30:
+						writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data_(out, (OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_) value);
+						break;
+					case 31:
+						writeOhMsgAllOrderStatusReq_EZAllOrderStatusReq_EZMessage__data__master_order_(out, (OhMsgAllOrderStatusReq.EZAllOrderStatusReq.EZMessage_.data_.master_order_) value);
+						break;
+					case 32:
+						writeOhMsgAllOrderStatusRsp(out, (OhMsgAllOrderStatusRsp) value);
+						break;
+					case 33:
+						writeOhMsgAllOrderStatusRsp_EZMessage_(out, (OhMsgAllOrderStatusRsp.EZMessage_) value);
+						break;
+					case 34:
+						writeOhMsgAllOrderStatusRsp_EZMessage__data_(out, (OhMsgAllOrderStatusRsp.EZMessage_.data_) value);
+						break;
+					case 35:
+						writeOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders_(out, (OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_) value);
+						break;
+					case 36:
+						writeOhMsgAllOrderStatusRsp_EZMessage__data__master_account_orders__record(out, (OhMsgAllOrderStatusRsp.EZMessage_.data_.master_account_orders_.record) value);
+						break;
+					case 37:
+						writeOhMsgAuthKeepAliveReq_EZAuthKeepAlive(out, (OhMsgAuthKeepAliveReq.EZAuthKeepAlive) value);
+						break;
+					case 38:
+						writeOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage_(out, (OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_) value);
+						break;
+					case 39:
+						writeOhMsgAuthKeepAliveReq_EZAuthKeepAlive_EZMessage__data_(out, (OhMsgAuthKeepAliveReq.EZAuthKeepAlive.EZMessage_.data_) value);
+						break;
+					case 40:
+						writeOhMsgAuthKeepAliveRsp(out, (OhMsgAuthKeepAliveRsp) value);
+						break;
+					case 41:
+						writeOhMsgAuthKeepAliveRsp_EZMessage_(out, (OhMsgAuthKeepAliveRsp.EZMessage_) value);
+						break;
+					case 42:
+						writeOhMsgAuthLoginReq_EZLoginReq(out, (OhMsgAuthLoginReq.EZLoginReq) value);
+						break;
+					case 43:
+						writeOhMsgAuthLoginReq_EZLoginReq_EZMessage_(out, (OhMsgAuthLoginReq.EZLoginReq.EZMessage_) value);
+						break;
+					case 44:
+						writeOhMsgAuthLoginReq_EZLoginReq_EZMessage__data_(out, (OhMsgAuthLoginReq.EZLoginReq.EZMessage_.data_) value);
+						break;
+					case 45:
+						writeOhMsgAuthLoginRsp(out, (OhMsgAuthLoginRsp) value);
+						break;
+					case 46:
+						writeOhMsgAuthLoginRsp_EZMessage_(out, (OhMsgAuthLoginRsp.EZMessage_) value);
+						break;
+					case 47:
+						writeOhMsgAuthLoginRsp_EZMessage__data_(out, (OhMsgAuthLoginRsp.EZMessage_.data_) value);
+						break;
+					case 48:
+						writeOhMsgAuthLoginRsp_EZMessage__data__nasdaq_(out, (OhMsgAuthLoginRsp.EZMessage_.data_.nasdaq_) value);
+						break;
+					case 49:
+						writeOhMsgAuthLoginRsp_EZMessage__data__nyse_(out, (OhMsgAuthLoginRsp.EZMessage_.data_.nyse_) value);
+						break;
+					case 50:
+						writeOhMsgAuthLoginRsp_EZMessage__data__opera_(out, (OhMsgAuthLoginRsp.EZMessage_.data_.opera_) value);
+						break;
+					case 51:
+						writeOhMsgAuthLogoutReq_EZLogoutReq(out, (OhMsgAuthLogoutReq.EZLogoutReq) value);
+						break;
+					case 52:
+						writeOhMsgAuthLogoutReq_EZLogoutReq_EZMessage_(out, (OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_) value);
+						break;
+					case 53:
+						writeOhMsgAuthLogoutReq_EZLogoutReq_EZMessage__data_(out, (OhMsgAuthLogoutReq.EZLogoutReq.EZMessage_.data_) value);
+						break;
+					case 54:
+						writeOhMsgAuthLogoutRsp(out, (OhMsgAuthLogoutRsp) value);
+						break;
+					case 55:
+						writeOhMsgAuthLogoutRsp_EZMessage_(out, (OhMsgAuthLogoutRsp.EZMessage_) value);
+						break;
+					case 56:
+						writeOhMsgAuthLogoutRsp_EZMessage__data_(out, (OhMsgAuthLogoutRsp.EZMessage_.data_) value);
+						break;
+					case 57:
+						writeOhMsgCancelOrderReq_EZCancelOrderReq(out, (OhMsgCancelOrderReq.EZCancelOrderReq) value);
+						break;
+					case 58:
+						writeOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage_(out, (OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_) value);
+						break;
+					case 59:
+						writeOhMsgCancelOrderReq_EZCancelOrderReq_EZMessage__data_(out, (OhMsgCancelOrderReq.EZCancelOrderReq.EZMessage_.data_) value);
+						break;
+					case 60:
+						writeOhMsgCancelOrderRsp(out, (OhMsgCancelOrderRsp) value);
+						break;
+					case 61:
+						writeOhMsgCancelOrderRsp_EZMessage_(out, (OhMsgCancelOrderRsp.EZMessage_) value);
+						break;
+					case 62:
+						writeOhMsgCancelOrderRsp_EZMessage__data_(out, (OhMsgCancelOrderRsp.EZMessage_.data_) value);
+						break;
+					case 63:
+						writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq(out, (OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq) value);
+						break;
+					case 64:
+						writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage_(out, (OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_) value);
+						break;
+					case 65:
+						writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data_(out, (OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_) value);
+						break;
+					case 66:
+						writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order_(out, (OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_) value);
+						break;
+					case 67:
+						writeOhMsgCreateComplexOrderReq_EZCreateComplexOrderReq_EZMessage__data__order__leg_(out, (OhMsgCreateComplexOrderReq.EZCreateComplexOrderReq.EZMessage_.data_.order_.leg_) value);
+						break;
+					case 68:
+						writeOhMsgCreateComplexOrderRsp(out, (OhMsgCreateComplexOrderRsp) value);
+						break;
+					case 69:
+						writeOhMsgCreateComplexOrderRsp_EZMessage_(out, (OhMsgCreateComplexOrderRsp.EZMessage_) value);
+						break;
+					case 70:
+						writeOhMsgCreateComplexOrderRsp_EZMessage__data_(out, (OhMsgCreateComplexOrderRsp.EZMessage_.data_) value);
+						break;
+					case 71:
+						writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq(out, (OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq) value);
+						break;
+					case 72:
+						writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage_(out, (OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_) value);
+						break;
+					case 73:
+						writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data_(out, (OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_) value);
+						break;
+					case 74:
+						writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order_(out, (OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_) value);
+						break;
+					case 75:
+						writeOhMsgCreateSimpleOrderReq_EZCreateSimpleOrderReq_EZMessage__data__order__leg_(out, (OhMsgCreateSimpleOrderReq.EZCreateSimpleOrderReq.EZMessage_.data_.order_.leg_) value);
+						break;
+					case 76:
+						writeOhMsgCreateSimpleOrderRsp(out, (OhMsgCreateSimpleOrderRsp) value);
+						break;
+					case 77:
+						writeOhMsgCreateSimpleOrderRsp_EZMessage_(out, (OhMsgCreateSimpleOrderRsp.EZMessage_) value);
+						break;
+					case 78:
+						writeOhMsgCreateSimpleOrderRsp_EZMessage__data_(out, (OhMsgCreateSimpleOrderRsp.EZMessage_.data_) value);
+						break;
+					case 79:
+						writeOhMsgOrderDetailsReq_EZOrderDetailsReq(out, (OhMsgOrderDetailsReq.EZOrderDetailsReq) value);
+						break;
+					case 80:
+						writeOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage_(out, (OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_) value);
+						break;
+					case 81:
+						writeOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data_(out, (OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_) value);
+						break;
+					case 82:
+						writeOhMsgOrderDetailsReq_EZOrderDetailsReq_EZMessage__data__order_details_(out, (OhMsgOrderDetailsReq.EZOrderDetailsReq.EZMessage_.data_.order_details_) value);
+						break;
+					case 83:
+						writeOhMsgOrderDetailsRsp(out, (OhMsgOrderDetailsRsp) value);
+						break;
+					case 84:
+						writeOhMsgOrderDetailsRsp_EZMessage_(out, (OhMsgOrderDetailsRsp.EZMessage_) value);
+						break;
+					case 85:
+						writeOhMsgOrderDetailsRsp_EZMessage__data_(out, (OhMsgOrderDetailsRsp.EZMessage_.data_) value);
+						break;
+					case 86:
+						writeOhMsgOrderDetailsRsp_EZMessage__data__order_details_(out, (OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_) value);
+						break;
+					case 87:
+						writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer_(out, (OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_) value);
+						break;
+					case 88:
+						writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__option_clearing_firm_(out, (OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.option_clearing_firm_) value);
+						break;
+					case 89:
+						writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__customer__stock_clearing_firm_(out, (OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.customer_.stock_clearing_firm_) value);
+						break;
+					case 90:
+						writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__leg(out, (OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg) value);
+						break;
+					case 91:
+						writeOhMsgOrderDetailsRsp_EZMessage__data__order_details__transaction_time_(out, (OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.transaction_time_) value);
+						break;
+					case 92:
+						writeOhMsgOrderHistoryReq_EZOrderHistoryReq(out, (OhMsgOrderHistoryReq.EZOrderHistoryReq) value);
+						break;
+					case 93:
+						writeOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage_(out, (OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_) value);
+						break;
+					case 94:
+						writeOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data_(out, (OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_) value);
+						break;
+					case 95:
+						writeOhMsgOrderHistoryReq_EZOrderHistoryReq_EZMessage__data__order_history_(out, (OhMsgOrderHistoryReq.EZOrderHistoryReq.EZMessage_.data_.order_history_) value);
+						break;
+					case 96:
+						writeOhMsgOrderHistoryRsp(out, (OhMsgOrderHistoryRsp) value);
+						break;
+					case 97:
+						writeOhMsgOrderHistoryRsp_EZMessage_(out, (OhMsgOrderHistoryRsp.EZMessage_) value);
+						break;
+					case 98:
+						writeOhMsgOrderHistoryRsp_EZMessage__data_(out, (OhMsgOrderHistoryRsp.EZMessage_.data_) value);
+						break;
+					case 99:
+						writeOhMsgOrderHistoryRsp_EZMessage__data__order_history_(out, (OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_) value);
+						break;
+					case 100:
+						writeOhMsgOrderPreviewRsp(out, (OhMsgOrderPreviewRsp) value);
+						break;
+					case 101:
+						writeOhMsgOrderPreviewRsp_EZMessage_(out, (OhMsgOrderPreviewRsp.EZMessage_) value);
+						break;
+					case 102:
+						writeOhMsgOrderPreviewRsp_EZMessage__data_(out, (OhMsgOrderPreviewRsp.EZMessage_.data_) value);
+						break;
+					case 103:
+						writeOhMsgViewQuoteListReq_EZViewQuoteListReq(out, (OhMsgViewQuoteListReq.EZViewQuoteListReq) value);
+						break;
+					case 104:
+						writeOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage_(out, (OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_) value);
+						break;
+					case 105:
+						writeOhMsgViewQuoteListReq_EZViewQuoteListReq_EZMessage__data_(out, (OhMsgViewQuoteListReq.EZViewQuoteListReq.EZMessage_.data_) value);
+						break;
+					case 106:
+						writeOhMsgViewQuoteListRsp(out, (OhMsgViewQuoteListRsp) value);
+						break;
+					case 107:
+						writeOhMsgViewQuoteListRsp_EZMessage_(out, (OhMsgViewQuoteListRsp.EZMessage_) value);
+						break;
+					case 108:
+						writeOhMsgViewQuoteListRsp_EZMessage__data_(out, (OhMsgViewQuoteListRsp.EZMessage_.data_) value);
+						break;
+					case 109:
+						writeOhMsgViewQuoteListRsp_EZMessage__data__quote_(out, (OhMsgViewQuoteListRsp.EZMessage_.data_.quote_) value);
+						break;
+					case 110:
+						writeOhMsgViewSeriesReq_EZViewSeriesReq(out, (OhMsgViewSeriesReq.EZViewSeriesReq) value);
+						break;
+					case 111:
+						writeOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage_(out, (OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_) value);
+						break;
+					case 112:
+						writeOhMsgViewSeriesReq_EZViewSeriesReq_EZMessage__data_(out, (OhMsgViewSeriesReq.EZViewSeriesReq.EZMessage_.data_) value);
+						break;
+					case 113:
+						writeOhMsgViewSeriesRsp(out, (OhMsgViewSeriesRsp) value);
+						break;
+					case 114:
+						writeOhMsgViewSeriesRsp_EZMessage_(out, (OhMsgViewSeriesRsp.EZMessage_) value);
+						break;
+					case 115:
+						writeOhMsgViewSeriesRsp_EZMessage__data_(out, (OhMsgViewSeriesRsp.EZMessage_.data_) value);
+						break;
+					case 116:
+						writeOhMsgViewSeriesRsp_EZMessage__data__s_(out, (OhMsgViewSeriesRsp.EZMessage_.data_.s_) value);
+						break;
+					default:
+						throw new IllegalStateException("unknown model " + m_id);
+				}
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * 
+			 * @see
+			 * com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)
+			 */
+			@Override
+			public Object read(JsonReader in) throws IOException
+			{
+				switch (m_id)
+				{
+					case 3:
+						return readOhMsgAccountActivityRsp(in);
+					case 10:
+						return readOhMsgAccountCashRsp(in);
+					case 16:
+						return readOhMsgAccountInfoRsp(in);
+					case 24:
+						return readOhMsgAccountPositionsRsp(in);
+					case 32:
+						return readOhMsgAllOrderStatusRsp(in);
+					case 40:
+						return readOhMsgAuthKeepAliveRsp(in);
+					case 45:
+						return readOhMsgAuthLoginRsp(in);
+					case 54:
+						return readOhMsgAuthLogoutRsp(in);
+					case 60:
+						return readOhMsgCancelOrderRsp(in);
+					case 68:
+						return readOhMsgCreateComplexOrderRsp(in);
+					case 76:
+						return readOhMsgCreateSimpleOrderRsp(in);
+					case 83:
+						return readOhMsgOrderDetailsRsp(in);
+					case 96:
+						return readOhMsgOrderHistoryRsp(in);
+					case 100:
+						return readOhMsgOrderPreviewRsp(in);
+					case 106:
+						return readOhMsgViewQuoteListRsp(in);
+					case 113:
+						return readOhMsgViewSeriesRsp(in);
+					default:
+						return m_reflective.read(in);
+				}
+			}
+		}
+	}
+}
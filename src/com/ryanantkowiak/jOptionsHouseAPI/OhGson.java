@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Holds the Gson instance shared by all OptionsHouse API request and response
+ * messages. A Gson instance is thread-safe and caches the type adapters it
+ * discovers through reflection, so building it once (rather than once per
+ * message) means that each message type is only inspected the first time it
+ * is encoded or decoded. The messages themselves are read and written by the
+ * streaming adapters of OhGeneratedTypeAdapters (generated from the message
+ * classes by tools/TypeAdapterGenerator), so reflection is not used for them
+ * at all.
+ * 
+ * @author Ryan Antkowiak 
+ */
+final class OhGson
+{
+	/** the shared Gson instance */
+	private static final Gson s_gson = create();
+
+	/**
+	 * Private constructor, only static methods are provided
+	 */
+	private OhGson()
+	{
+	}
+
+	/**
+	 * Returns the shared Gson instance
+	 * 
+	 * @return the shared Gson instance
+	 */
+	static Gson get()
+	{
+		return s_gson;
+	}
+
+	/**
+	 * Builds the Gson instance, with the type adapters needed by the messages
+	 * 
+	 * @return a new Gson instance
+	 */
+	private static Gson create()
+	{
+		GsonBuilder gsonBuilder = createReflective();
+		gsonBuilder.registerTypeAdapterFactory(new OhGeneratedTypeAdapters());
+		return gsonBuilder.create();
+	}
+
+	/**
+	 * Returns a builder for a Gson instance that reads and writes the messages
+	 * through reflection, without the generated adapters. Only used to compare
+	 * both ways of decoding the messages.
+	 * 
+	 * @return a new GsonBuilder
+	 */
+	static GsonBuilder createReflective()
+	{
+		GsonBuilder gsonBuilder = new GsonBuilder();
+		gsonBuilder.registerTypeAdapter(ErrorMap.class,
+				new ErrorMapDeserializer());
+		return gsonBuilder;
+	}
+}
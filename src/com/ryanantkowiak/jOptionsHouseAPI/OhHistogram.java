@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <pre>
+ * A histogram of durations in milliseconds (ex: the ages of the quotes served
+ * by a QuoteCache). Values are counted in buckets whose bounds double:
+ * 
+ *    bucket 0:  0 ms
+ *    bucket 1:  1 ms
+ *    bucket 2:  2 to 3 ms
+ *    bucket 3:  4 to 7 ms
+ *    ...
+ * 
+ * so the histogram takes a fixed amount of memory however many values are
+ * recorded. Values may be recorded by many threads without locking.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public final class OhHistogram
+{
+	/** number of buckets (the last bucket holds all larger values) */
+	public static final int NUM_BUCKETS = 40;
+
+	/** number of values in each bucket */
+	private final AtomicLongArray m_counts;
+
+	/** number of values recorded */
+	private final AtomicLong m_count;
+
+	/** sum of the values recorded */
+	private final AtomicLong m_sum;
+
+	/** largest value recorded */
+	private final AtomicLong m_max;
+
+	/**
+	 * Constructor for an empty histogram
+	 */
+	public OhHistogram()
+	{
+		m_counts = new AtomicLongArray(NUM_BUCKETS);
+		m_count = new AtomicLong();
+		m_sum = new AtomicLong();
+		m_max = new AtomicLong();
+	}
+
+	/**
+	 * Records a value (negative values are recorded as 0)
+	 * 
+	 * @param ms
+	 *            the value in milliseconds
+	 */
+	public void record(long ms)
+	{
+		ms = Math.max(0, ms);
+
+		m_counts.incrementAndGet(getBucket(ms));
+		m_count.incrementAndGet();
+		m_sum.addAndGet(ms);
+
+		long max = m_max.get();
+		while (ms > max && !m_max.compareAndSet(max, ms))
+		{
+			max = m_max.get();
+		}
+	}
+
+	/**
+	 * Returns the number of values recorded
+	 * 
+	 * @return the number of values
+	 */
+	public long getCount()
+	{
+		return m_count.get();
+	}
+
+	/**
+	 * Returns the number of values recorded in a bucket
+	 * 
+	 * @param bucket
+	 *            the index of the bucket (0 to NUM_BUCKETS - 1)
+	 * @return the number of values in the bucket
+	 */
+	public long getCount(int bucket)
+	{
+		return m_counts.get(bucket);
+	}
+
+	/**
+	 * Returns the smallest value counted in a bucket
+	 * 
+	 * @param bucket
+	 *            the index of the bucket (0 to NUM_BUCKETS - 1)
+	 * @return the lower bound of the bucket in milliseconds
+	 */
+	public static long getBucketLowMs(int bucket)
+	{
+		return (0 == bucket) ? 0 : 1L << (bucket - 1);
+	}
+
+	/**
+	 * Returns the largest value counted in a bucket
+	 * 
+	 * @param bucket
+	 *            the index of the bucket (0 to NUM_BUCKETS - 1)
+	 * @return the upper bound of the bucket in milliseconds
+	 */
+	public static long getBucketHighMs(int bucket)
+	{
+		return (bucket >= NUM_BUCKETS - 1) ? Long.MAX_VALUE
+				: (1L << bucket) - 1;
+	}
+
+	/**
+	 * Returns the mean of the values recorded
+	 * 
+	 * @return the mean in milliseconds, or 0 if no value has been recorded
+	 */
+	public double getMean()
+	{
+		long count = m_count.get();
+		return (0 == count) ? 0 : (double) m_sum.get() / count;
+	}
+
+	/**
+	 * Returns the largest value recorded
+	 * 
+	 * @return the largest value in milliseconds, or 0 if no value has been
+	 *         recorded
+	 */
+	public long getMax()
+	{
+		return m_max.get();
+	}
+
+	/**
+	 * Returns an upper bound of a percentile of the values recorded: the upper
+	 * bound of the bucket that holds it, or the largest value if it is smaller
+	 * 
+	 * @param percentile
+	 *            the percentile (ex: 99.0)
+	 * @return the upper bound of the percentile in milliseconds, or 0 if no
+	 *         value has been recorded
+	 */
+	public long getPercentile(double percentile)
+	{
+		long count = m_count.get();
+		if (0 == count)
+		{
+			return 0;
+		}
+
+		long rank = (long) Math.ceil(count * Math.min(100, percentile) / 100);
+		long seen = 0;
+
+		for (int i = 0; i < NUM_BUCKETS; ++i)
+		{
+			seen += m_counts.get(i);
+			if (seen >= rank)
+			{
+				return Math.min(getBucketHighMs(i), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	/**
+	 * Clears all the values recorded
+	 */
+	public void reset()
+	{
+		for (int i = 0; i < NUM_BUCKETS; ++i)
+		{
+			m_counts.set(i, 0);
+		}
+
+		m_count.set(0);
+		m_sum.set(0);
+		m_max.set(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("count=");
+		sb.append(getCount());
+		sb.append(" mean=");
+		sb.append(String.format("%.1f", getMean()));
+		sb.append(" p50=");
+		sb.append(getPercentile(50));
+		sb.append(" p99=");
+		sb.append(getPercentile(99));
+		sb.append(" max=");
+		sb.append(getMax());
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the bucket in which a value is counted
+	 * 
+	 * @param ms
+	 *            the value in milliseconds (not negative)
+	 * @return the index of the bucket
+	 */
+	private static int getBucket(long ms)
+	{
+		return Math.min(NUM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(ms));
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+/**
+ * <pre>
+ * A JSON request serialized once, with placeholders in place of the values
+ * that change from one request to the next. The JSON between the placeholders
+ * (the "fragments") is kept, so a request can be built by appending the
+ * fragments and the values to a StringBuilder, without serializing the
+ * message objects again:
+ * 
+ *    template.appendFragment(sb, 0);
+ *    OhJsonTemplate.appendString(sb, authToken);
+ *    template.appendFragment(sb, 1);
+ *    ...
+ * 
+ * The template is made by serializing a message object (through OhGson) whose
+ * values are set to placeholders, so the fragments are exactly what Gson
+ * writes around those values. String values appended through appendString()
+ * are escaped the way Gson escapes them.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+final class OhJsonTemplate
+{
+	/** the JSON around the placeholders */
+	private final String[] m_fragments;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param json
+	 *            the serialized message
+	 * @param placeholders
+	 *            the placeholders, as they appear in the JSON (string
+	 *            placeholders with their quotes), in the order in which they
+	 *            appear
+	 * @throws IllegalStateException
+	 *             if a placeholder is not found
+	 */
+	OhJsonTemplate(String json, String... placeholders)
+	{
+		m_fragments = new String[placeholders.length + 1];
+
+		int from = 0;
+		for (int i = 0; i < placeholders.length; ++i)
+		{
+			int at = json.indexOf(placeholders[i], from);
+			if (at < 0)
+			{
+				throw new IllegalStateException("placeholder "
+						+ placeholders[i] + " not found in " + json);
+			}
+
+			m_fragments[i] = json.substring(from, at);
+			from = at + placeholders[i].length();
+		}
+
+		m_fragments[placeholders.length] = json.substring(from);
+	}
+
+	/**
+	 * Returns the number of fragments (one more than the number of values)
+	 * 
+	 * @return the number of fragments
+	 */
+	int getNumFragments()
+	{
+		return m_fragments.length;
+	}
+
+	/**
+	 * Appends a fragment of the template
+	 * 
+	 * @param sb
+	 *            the request being built
+	 * @param index
+	 *            the index of the fragment (the fragment before the value of
+	 *            the same index)
+	 */
+	void appendFragment(StringBuilder sb, int index)
+	{
+		sb.append(m_fragments[index]);
+	}
+
+	/**
+	 * Appends a string value, quoted and escaped as Gson does (including the
+	 * escaping of HTML characters). A null value is written as an empty string.
+	 * 
+	 * @param sb
+	 *            the request being built
+	 * @param value
+	 *            the value
+	 */
+	static void appendString(StringBuilder sb, String value)
+	{
+		sb.append('"');
+
+		if (null != value)
+		{
+			for (int i = 0; i < value.length(); ++i)
+			{
+				char c = value.charAt(i);
+
+				switch (c)
+				{
+					case '"':
+						sb.append("\\\"");
+						break;
+					case '\\':
+						sb.append("\\\\");
+						break;
+					case '\t':
+						sb.append("\\t");
+						break;
+					case '\b':
+						sb.append("\\b");
+						break;
+					case '\n':
+						sb.append("\\n");
+						break;
+					case '\r':
+						sb.append("\\r");
+						break;
+					case '\f':
+						sb.append("\\f");
+						break;
+					case '<':
+					case '>':
+					case '&':
+					case '=':
+					case '\'':
+					case 0x2028: // line separator
+					case 0x2029: // paragraph separator
+						appendUnicode(sb, c);
+						break;
+					default:
+						if (c < 0x20)
+						{
+							appendUnicode(sb, c);
+						}
+						else
+						{
+							sb.append(c);
+						}
+				}
+			}
+		}
+
+		sb.append('"');
+	}
+
+	/**
+	 * Appends a character as a six character unicode escape
+	 * 
+	 * @param sb
+	 *            the request being built
+	 * @param c
+	 *            the character
+	 */
+	private static void appendUnicode(StringBuilder sb, char c)
+	{
+		String hex = Integer.toHexString(c);
+		sb.append("\\u");
+		for (int i = hex.length(); i < 4; ++i)
+		{
+			sb.append('0');
+		}
+		sb.append(hex);
+	}
+}
@@ -8,8 +8,9 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
+
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will send a session KeepAlive request to OptionsHouse. A
@@ -88,20 +89,28 @@ public class OhKeepAlive extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgAuthKeepAliveReq prepareRequest()
 	{
 		m_request = new OhMsgAuthKeepAliveReq(m_authToken, m_accountId);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgAuthKeepAliveRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgAuthKeepAliveRsp.build(response);
 	}
 }
 
@@ -122,7 +131,7 @@ class OhMsgAuthKeepAliveReq extends IOhMsgReq
 		ezReq.EZMessage.data.authToken = authToken;
 		ezReq.EZMessage.data.account = account;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZAuthKeepAlive
@@ -158,16 +167,12 @@ class OhMsgAuthKeepAliveRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgAuthKeepAliveRsp build(String str)
+	public static OhMsgAuthKeepAliveRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgAuthKeepAliveRsp rsp = (gson.fromJson(str,
+		OhMsgAuthKeepAliveRsp rsp = (gson.fromJson(reader,
 				OhMsgAuthKeepAliveRsp.class));
-		rsp.m_raw = str;
 		return rsp;
 	}
 
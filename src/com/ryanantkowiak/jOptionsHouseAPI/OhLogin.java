@@ -8,8 +8,9 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
+
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will log into the OptionsHouse API. It will maintain an
@@ -68,6 +69,18 @@ public class OhLogin extends IOh
 		return m_response;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#isSensitive()
+	 */
+	@Override
+	protected boolean isSensitive()
+	{
+		// the request carries the password and the response the authToken
+		return true;
+	}
+
 	/**
 	 * Sets up the input values for logging into OptionsHouse. Also sends the
 	 * request to the OptionsHouse server.
@@ -84,20 +97,28 @@ public class OhLogin extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgAuthLoginReq prepareRequest()
 	{
 		m_request = new OhMsgAuthLoginReq(m_login, m_password);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgAuthLoginRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgAuthLoginRsp.build(response);
 	}
 
 	/**
@@ -251,7 +272,7 @@ class OhMsgAuthLoginReq extends IOhMsgReq
 		ezReq.EZMessage.data.userName = userName;
 		ezReq.EZMessage.data.password = password;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZLoginReq
@@ -288,15 +309,11 @@ class OhMsgAuthLoginRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgAuthLoginRsp build(String str)
+	public static OhMsgAuthLoginRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgAuthLoginRsp rsp = (gson.fromJson(str, OhMsgAuthLoginRsp.class));
-		rsp.m_raw = str;
+		OhMsgAuthLoginRsp rsp = (gson.fromJson(reader, OhMsgAuthLoginRsp.class));
 		return rsp;
 	}
 
@@ -8,8 +8,9 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
+
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will log out of the OptionsHouse API
@@ -74,20 +75,28 @@ public class OhLogout extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgAuthLogoutReq prepareRequest()
 	{
 		m_request = new OhMsgAuthLogoutReq(m_authToken);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgAuthLogoutRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgAuthLogoutRsp.build(response);
 	}
 
 	/**
@@ -137,7 +146,7 @@ class OhMsgAuthLogoutReq extends IOhMsgReq
 		ezReq.EZMessage.action = "auth.logout";
 		ezReq.EZMessage.data.authToken = authToken;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZLogoutReq
@@ -172,15 +181,11 @@ class OhMsgAuthLogoutRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgAuthLogoutRsp build(String str)
+	public static OhMsgAuthLogoutRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgAuthLogoutRsp rsp = (gson.fromJson(str, OhMsgAuthLogoutRsp.class));
-		rsp.m_raw = str;
+		OhMsgAuthLogoutRsp rsp = (gson.fromJson(reader, OhMsgAuthLogoutRsp.class));
 		return rsp;
 	}
 
@@ -8,10 +8,10 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
 import java.util.List;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.ryanantkowiak.jOptionsHouseAPI.OhMsgOrderDetailsRsp.EZMessage_.data_.order_details_.leg;
 
 /**
@@ -102,21 +102,29 @@ public class OhOrderDetails extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgOrderDetailsReq prepareRequest()
 	{
 		m_request = new OhMsgOrderDetailsReq(m_authToken, m_accountId,
 				m_orderId);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgOrderDetailsRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgOrderDetailsRsp.build(response);
 	}
 
 	/**
@@ -159,6 +167,67 @@ public class OhOrderDetails extends IOh
 		return getStatus().equals("Filled");
 	}
 
+	/**
+	 * Returns the quantity of the order
+	 * 
+	 * @return the quantity of the order
+	 */
+	public long getQuantity()
+	{
+		if (null != getOrderDetails())
+		{
+			return getOrderDetails().quantity;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns the price of the order
+	 * 
+	 * @return the price of the order
+	 */
+	public double getPrice()
+	{
+		if (null != getOrderDetails())
+		{
+			return getOrderDetails().price;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns the price type of the order. Ex: "limit"
+	 * 
+	 * @return the price type of the order
+	 */
+	public String getPriceType()
+	{
+		if (null != getOrderDetails() && null != getOrderDetails().price_type)
+		{
+			return getOrderDetails().price_type;
+		}
+
+		return "";
+	}
+
+	/**
+	 * Returns the time-in-force of the order. Ex: "day"
+	 * 
+	 * @return the time-in-force of the order
+	 */
+	public String getTimeInForce()
+	{
+		if (null != getOrderDetails()
+				&& null != getOrderDetails().time_in_force)
+		{
+			return getOrderDetails().time_in_force;
+		}
+
+		return "";
+	}
+
 	/**
 	 * Returns the total quantity filled
 	 * 
@@ -397,6 +466,45 @@ public class OhOrderDetails extends IOh
 		return 0;
 	}
 
+	/**
+	 * Returns the side (buy or sell) of the leg at the given index
+	 * 
+	 * @param index
+	 *            the index of the leg
+	 * @return the side of the leg
+	 */
+	public String getLegSide(int index)
+	{
+		leg l = getLeg(index);
+
+		if (l != null && l.side != null)
+		{
+			return l.side;
+		}
+
+		return "";
+	}
+
+	/**
+	 * Returns the side (buy or sell) of the leg with the given security key
+	 * symbol
+	 * 
+	 * @param symbol
+	 *            security key symbol of the leg
+	 * @return the side of the leg
+	 */
+	public String getLegSide(String symbol)
+	{
+		leg l = getLeg(symbol);
+
+		if (l != null && l.side != null)
+		{
+			return l.side;
+		}
+
+		return "";
+	}
+
 	/**
 	 * Returns the leg transaction of the leg at the given index
 	 * 
@@ -591,7 +699,7 @@ class OhMsgOrderDetailsReq extends IOhMsgReq
 		ezReq.EZMessage.data.order_details.master_order_view = "current";
 		ezReq.EZMessage.data.order_details.master_order_id = order_id;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZOrderDetailsReq
@@ -635,16 +743,12 @@ class OhMsgOrderDetailsRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgOrderDetailsRsp build(String str)
+	public static OhMsgOrderDetailsRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgOrderDetailsRsp rsp = (gson.fromJson(str,
+		OhMsgOrderDetailsRsp rsp = (gson.fromJson(reader,
 				OhMsgOrderDetailsRsp.class));
-		rsp.m_raw = str;
 		return rsp;
 	}
 
@@ -0,0 +1,647 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * An immutable view of one order that merges its details (OhOrderDetails:
+ * status, price, legs and their fills) with its history (OhOrderHistory: the
+ * events of the order, such as its fills):
+ * 
+ *    OhOrderFullView view = OhOrderFullView.fetch(OhRequestScheduler.getInstance(),
+ *            authToken, accountId, orderId, record.m_lastUpdatedMs);
+ * 
+ * Both messages are queued together in the order status lane of the
+ * scheduler as one unit, and the view is built once both responses have been
+ * received. The OptionsHouse API has no single message for both, so a view
+ * still costs two messages; OhOrderFullViewCache keeps the views so that an
+ * order is only fetched again once its last updated time has changed.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public final class OhOrderFullView
+{
+	/**
+	 * One leg of the order
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	public static final class Leg
+	{
+		/** the security key of the leg */
+		private final String m_key;
+
+		/** the side of the leg (buy or sell) */
+		private final String m_side;
+
+		/** the position type of the leg (opening or closing) */
+		private final String m_positionType;
+
+		/** the quantity of the leg */
+		private final long m_quantity;
+
+		/** the quantity of the leg filled so far */
+		private final long m_quantityFilled;
+
+		/** the ratio quantity of the leg */
+		private final long m_ratioQuantity;
+
+		/** the multiplier of the leg */
+		private final long m_multiplier;
+
+		/** the last updated timestamp of the leg */
+		private final String m_lastUpdated;
+
+		/**
+		 * Constructor from the leg at the given index of the order details
+		 * 
+		 * @param details
+		 *            the order details
+		 * @param index
+		 *            the index of the leg
+		 */
+		Leg(OhOrderDetails details, int index)
+		{
+			m_key = details.getLegKey(index);
+			m_side = details.getLegSide(index);
+			m_positionType = details.getLegPositionType(index);
+			m_quantity = details.getLegQuantity(index);
+			m_quantityFilled = details.getLegQuantityFilled(index);
+			m_ratioQuantity = details.getLegRatioQuantity(index);
+			m_multiplier = details.getLegMultiplier(index);
+			m_lastUpdated = details.getLegLastUpdated(index);
+		}
+
+		/**
+		 * Returns the security key of the leg
+		 * 
+		 * @return the security key
+		 */
+		public String getKey()
+		{
+			return m_key;
+		}
+
+		/**
+		 * Returns the side of the leg (buy or sell)
+		 * 
+		 * @return the side of the leg
+		 */
+		public String getSide()
+		{
+			return m_side;
+		}
+
+		/**
+		 * Returns the position type of the leg (opening or closing)
+		 * 
+		 * @return the position type of the leg
+		 */
+		public String getPositionType()
+		{
+			return m_positionType;
+		}
+
+		/**
+		 * Returns the quantity of the leg
+		 * 
+		 * @return the quantity of the leg
+		 */
+		public long getQuantity()
+		{
+			return m_quantity;
+		}
+
+		/**
+		 * Returns the quantity of the leg filled so far
+		 * 
+		 * @return the quantity filled
+		 */
+		public long getQuantityFilled()
+		{
+			return m_quantityFilled;
+		}
+
+		/**
+		 * Returns the ratio quantity of the leg
+		 * 
+		 * @return the ratio quantity
+		 */
+		public long getRatioQuantity()
+		{
+			return m_ratioQuantity;
+		}
+
+		/**
+		 * Returns the multiplier of the leg
+		 * 
+		 * @return the multiplier
+		 */
+		public long getMultiplier()
+		{
+			return m_multiplier;
+		}
+
+		/**
+		 * Returns the last updated timestamp of the leg
+		 * 
+		 * @return the last updated timestamp
+		 */
+		public String getLastUpdated()
+		{
+			return m_lastUpdated;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString()
+		{
+			return "Leg [key=" + m_key + ", side=" + m_side + ", filled="
+					+ m_quantityFilled + "/" + m_quantity + "]";
+		}
+	}
+
+	/**
+	 * One history event of the order (ex: a fill)
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	public static final class Event
+	{
+		/** the event */
+		private final String m_event;
+
+		/** the transaction of the event */
+		private final String m_transaction;
+
+		/** the date of the activity of the event */
+		private final String m_activityDate;
+
+		/** the description of the event */
+		private final String m_description;
+
+		/** the quantity of the event */
+		private final long m_quantity;
+
+		/** the price of the event */
+		private final double m_price;
+
+		/**
+		 * Constructor from a history event
+		 * 
+		 * @param e
+		 *            the history event
+		 */
+		Event(OhOrderHistory.OhOrderHistoryEvent e)
+		{
+			m_event = e.m_event;
+			m_transaction = e.m_transaction;
+			m_activityDate = e.m_activityDate;
+			m_description = e.m_description;
+			m_quantity = e.m_quantity;
+			m_price = e.m_price;
+		}
+
+		/**
+		 * Returns the event
+		 * 
+		 * @return the event
+		 */
+		public String getEvent()
+		{
+			return m_event;
+		}
+
+		/**
+		 * Returns the transaction of the event
+		 * 
+		 * @return the transaction
+		 */
+		public String getTransaction()
+		{
+			return m_transaction;
+		}
+
+		/**
+		 * Returns the date of the activity of the event
+		 * 
+		 * @return the activity date
+		 */
+		public String getActivityDate()
+		{
+			return m_activityDate;
+		}
+
+		/**
+		 * Returns the description of the event
+		 * 
+		 * @return the description
+		 */
+		public String getDescription()
+		{
+			return m_description;
+		}
+
+		/**
+		 * Returns the quantity of the event
+		 * 
+		 * @return the quantity
+		 */
+		public long getQuantity()
+		{
+			return m_quantity;
+		}
+
+		/**
+		 * Returns the price of the event
+		 * 
+		 * @return the price
+		 */
+		public double getPrice()
+		{
+			return m_price;
+		}
+
+		/**
+		 * Returns true if the event is a fill (an execution) of some quantity
+		 * of the order, as opposed to ex: its placement, a replace or a
+		 * cancel, whose quantity and price are those of the order.
+		 * 
+		 * This is a best-effort guess: the history events have no event type
+		 * or fill flag, only free-text event and transaction names, so an
+		 * event is taken as a fill when one of its names mentions a fill or an
+		 * execution.
+		 * 
+		 * @return true if the event or its transaction names a fill or an
+		 *         execution, with a quantity
+		 */
+		public boolean isFill()
+		{
+			return m_quantity > 0
+					&& (namesFill(m_event) || namesFill(m_transaction));
+		}
+
+		/**
+		 * Returns true if a name of an event or transaction names a fill or an
+		 * execution (ex: "Filled", "Partial Fill", "Executed")
+		 * 
+		 * @param name
+		 *            the name, or null
+		 * @return true if the name names a fill
+		 */
+		private static boolean namesFill(String name)
+		{
+			if (null == name)
+			{
+				return false;
+			}
+
+			String s = name.toLowerCase();
+			return (s.contains("fill") && !s.contains("unfill"))
+					|| s.contains("execut");
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString()
+		{
+			return "Event [event=" + m_event + ", quantity=" + m_quantity
+					+ ", price=" + m_price + "]";
+		}
+	}
+
+	/** the id of the order */
+	private final String m_orderId;
+
+	/** the last updated time (in ms) of the order when the view was fetched */
+	private final long m_lastUpdatedMs;
+
+	/** true if either message failed or its response contained errors */
+	private final boolean m_errors;
+
+	/** the status of the order */
+	private final String m_status;
+
+	/** the quantity of the order */
+	private final long m_quantity;
+
+	/** the price of the order */
+	private final double m_price;
+
+	/** the price type of the order */
+	private final String m_priceType;
+
+	/** the time-in-force of the order */
+	private final String m_timeInForce;
+
+	/** the total quantity filled, over all legs */
+	private final long m_totalFillQuantity;
+
+	/** the legs of the order */
+	private final List<Leg> m_legs;
+
+	/** the history events of the order */
+	private final List<Event> m_events;
+
+	/**
+	 * Constructor that merges the executed details and history of an order
+	 * 
+	 * @param orderId
+	 *            the id of the order
+	 * @param lastUpdatedMs
+	 *            the last updated time (in ms) of the order
+	 * @param details
+	 *            the executed details of the order
+	 * @param history
+	 *            the executed history of the order
+	 */
+	OhOrderFullView(String orderId, long lastUpdatedMs,
+			OhOrderDetails details, OhOrderHistory history)
+	{
+		m_orderId = orderId;
+		m_lastUpdatedMs = lastUpdatedMs;
+		m_errors = null == details.getResponse() || details.hasErrors()
+				|| null == history.getResponse() || history.hasErrors();
+
+		m_status = details.getStatus();
+		m_quantity = details.getQuantity();
+		m_price = details.getPrice();
+		m_priceType = details.getPriceType();
+		m_timeInForce = details.getTimeInForce();
+		m_totalFillQuantity = details.getTotalFillQuantity();
+
+		List<Leg> legs = new ArrayList<Leg>(details.getNumLegs());
+		for (int i = 0; i < details.getNumLegs(); ++i)
+		{
+			legs.add(new Leg(details, i));
+		}
+		m_legs = Collections.unmodifiableList(legs);
+
+		List<Event> events = new ArrayList<Event>(history.getNumHistoryEvents());
+		for (OhOrderHistory.OhOrderHistoryEvent e : history.getHistoryEvents())
+		{
+			events.add(new Event(e));
+		}
+		m_events = Collections.unmodifiableList(events);
+	}
+
+	/**
+	 * Queues the details and the history of an order together through the
+	 * scheduler, as one unit (see OhRequestScheduler.submitAll()). The
+	 * returned future is completed with the view once both responses have
+	 * been received.
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the messages are sent
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param accountId
+	 *            the account id of the order
+	 * @param orderId
+	 *            the id of the order
+	 * @param lastUpdatedMs
+	 *            the last updated time (in ms) of the order, as reported by
+	 *            OhAllOrderStatus (kept in the view)
+	 * @return a future that is completed with the view
+	 */
+	public static CompletableFuture<OhOrderFullView> fetchAsync(
+			OhRequestScheduler scheduler, String authToken, String accountId,
+			final String orderId, final long lastUpdatedMs)
+	{
+		final OhOrderDetails details = new OhOrderDetails(authToken, accountId,
+				orderId);
+		final OhOrderHistory history = new OhOrderHistory(authToken,
+				accountId, orderId);
+
+		List<CompletableFuture<IOh>> futures = scheduler.submitAll(
+				Arrays.<IOh> asList(details, history), authToken);
+
+		return CompletableFuture.allOf(
+				futures.toArray(new CompletableFuture<?>[futures.size()]))
+				.thenApply(new Function<Void, OhOrderFullView>()
+				{
+					public OhOrderFullView apply(Void v)
+					{
+						return new OhOrderFullView(orderId, lastUpdatedMs,
+								details, history);
+					}
+				});
+	}
+
+	/**
+	 * Queues the details and the history of an order together through the
+	 * scheduler, and waits for the view
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the messages are sent
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param accountId
+	 *            the account id of the order
+	 * @param orderId
+	 *            the id of the order
+	 * @param lastUpdatedMs
+	 *            the last updated time (in ms) of the order, as reported by
+	 *            OhAllOrderStatus (kept in the view)
+	 * @return the view of the order
+	 */
+	public static OhOrderFullView fetch(OhRequestScheduler scheduler,
+			String authToken, String accountId, String orderId,
+			long lastUpdatedMs)
+	{
+		return fetchAsync(scheduler, authToken, accountId, orderId,
+				lastUpdatedMs).join();
+	}
+
+	/**
+	 * Returns the id of the order
+	 * 
+	 * @return the id of the order
+	 */
+	public String getOrderId()
+	{
+		return m_orderId;
+	}
+
+	/**
+	 * Returns the last updated time (in ms) of the order when the view was
+	 * fetched
+	 * 
+	 * @return the last updated time of the order
+	 */
+	public long getLastUpdatedMs()
+	{
+		return m_lastUpdatedMs;
+	}
+
+	/**
+	 * Returns true if the details or the history could not be retrieved, or
+	 * their responses contained errors
+	 * 
+	 * @return true if the view is incomplete
+	 */
+	public boolean hasErrors()
+	{
+		return m_errors;
+	}
+
+	/**
+	 * Returns the status of the order. Ex: "Filled" or "Open" or "Canceled"
+	 * 
+	 * @return the status of the order
+	 */
+	public String getStatus()
+	{
+		return m_status;
+	}
+
+	/**
+	 * Returns true if the order was fully filled
+	 * 
+	 * @return true if the order was fully filled
+	 */
+	public boolean isFullyFilled()
+	{
+		return m_status.equals("Filled");
+	}
+
+	/**
+	 * Returns the quantity of the order
+	 * 
+	 * @return the quantity of the order
+	 */
+	public long getQuantity()
+	{
+		return m_quantity;
+	}
+
+	/**
+	 * Returns the price of the order
+	 * 
+	 * @return the price of the order
+	 */
+	public double getPrice()
+	{
+		return m_price;
+	}
+
+	/**
+	 * Returns the price type of the order
+	 * 
+	 * @return the price type of the order
+	 */
+	public String getPriceType()
+	{
+		return m_priceType;
+	}
+
+	/**
+	 * Returns the time-in-force of the order
+	 * 
+	 * @return the time-in-force of the order
+	 */
+	public String getTimeInForce()
+	{
+		return m_timeInForce;
+	}
+
+	/**
+	 * Returns the total quantity filled, over all legs
+	 * 
+	 * @return the total quantity filled
+	 */
+	public long getTotalFillQuantity()
+	{
+		return m_totalFillQuantity;
+	}
+
+	/**
+	 * Returns the legs of the order
+	 * 
+	 * @return the unmodifiable list of legs
+	 */
+	public List<Leg> getLegs()
+	{
+		return m_legs;
+	}
+
+	/**
+	 * Returns the history events of the order
+	 * 
+	 * @return the unmodifiable list of events
+	 */
+	public List<Event> getEvents()
+	{
+		return m_events;
+	}
+
+	/**
+	 * Returns the average fill price of the order: the average price of the
+	 * fill events (see Event.isFill()), weighted by their quantities. The
+	 * other events (placement, replace, cancel) are not trades.
+	 * 
+	 * This is a best-effort value. The details only give the filled quantity
+	 * of each leg, not its fill price, so the prices come from the history
+	 * events that Event.isFill() recognizes by name. When the details report
+	 * no filled quantity, 0 is returned whatever the history says.
+	 * 
+	 * @return the average price, or 0 if nothing was filled
+	 */
+	public double getAveragePrice()
+	{
+		if (0 == m_totalFillQuantity)
+		{
+			return 0;
+		}
+
+		double qty = 0;
+		double total = 0;
+
+		for (Event e : m_events)
+		{
+			if (e.isFill())
+			{
+				qty += e.m_quantity;
+				total += e.m_quantity * e.m_price;
+			}
+		}
+
+		return (qty == 0) ? 0 : total / qty;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return "OhOrderFullView [orderId=" + m_orderId + ", status="
+				+ m_status + ", filled=" + m_totalFillQuantity + "/"
+				+ m_quantity + ", legs=" + m_legs + ", events=" + m_events
+				+ "]";
+	}
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * <pre>
+ * Keeps the OhOrderFullView of the orders of an account until their last
+ * updated time changes:
+ * 
+ *    OhOrderFullViewCache cache = new OhOrderFullViewCache(
+ *            OhRequestScheduler.getInstance(), authToken, accountId);
+ *    for (OhOrderStatusRecord r : allOrderStatus.getOrderStatusRecords())
+ *    {
+ *        OhOrderFullView view = cache.get(r);
+ *    }
+ * 
+ * A view is only fetched (details and history) when no view of the order is
+ * kept, or the kept one has another last updated time. Threads asking for the
+ * same order at the same time share one fetch. Views with errors are not
+ * kept, and the least recently used view is dropped when the cache is full.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhOrderFullViewCache
+{
+	/** default maximum number of views kept */
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+	/**
+	 * The view (or the fetch of the view) of one order
+	 */
+	private static class CachedView
+	{
+		/** the last updated time (in ms) of the order that was fetched */
+		final long m_lastUpdatedMs;
+
+		/** the fetch of the view */
+		final CompletableFuture<OhOrderFullView> m_future;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param lastUpdatedMs
+		 *            the last updated time (in ms) of the order
+		 * @param future
+		 *            the fetch of the view
+		 */
+		CachedView(long lastUpdatedMs,
+				CompletableFuture<OhOrderFullView> future)
+		{
+			m_lastUpdatedMs = lastUpdatedMs;
+			m_future = future;
+		}
+	}
+
+	/** scheduler through which the views are fetched */
+	private final OhRequestScheduler m_scheduler;
+
+	/** authorization token for the session with OptionsHouse API */
+	private final String m_authToken;
+
+	/** the account id of the orders */
+	private final String m_accountId;
+
+	/** the views, by order id, least recently used first */
+	private final LinkedHashMap<String, CachedView> m_views;
+
+	/** maximum number of views kept */
+	private int m_maxEntries;
+
+	/** number of views served from the cache */
+	private long m_hits;
+
+	/** number of views that were fetched */
+	private long m_misses;
+
+	/**
+	 * Constructor for a cache of the orders of an account
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the views are fetched
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param accountId
+	 *            the account id of the orders
+	 */
+	public OhOrderFullViewCache(OhRequestScheduler scheduler,
+			String authToken, String accountId)
+	{
+		m_scheduler = scheduler;
+		m_authToken = authToken;
+		m_accountId = accountId;
+		m_maxEntries = DEFAULT_MAX_ENTRIES;
+
+		m_views = new LinkedHashMap<String, CachedView>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<String, CachedView> eldest)
+			{
+				return size() > m_maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns the view of an order from its status record, fetching it only if
+	 * the order changed since its kept view was fetched. Waits for the fetch.
+	 * 
+	 * @param record
+	 *            the status record of the order
+	 * @return the view of the order
+	 */
+	public OhOrderFullView get(OhAllOrderStatus.OhOrderStatusRecord record)
+	{
+		return getAsync(Long.toString(record.m_orderId), record.m_lastUpdatedMs)
+				.join();
+	}
+
+	/**
+	 * Returns the view of an order, fetching it only if no view of the order
+	 * with the same last updated time is kept. Waits for the fetch.
+	 * 
+	 * @param orderId
+	 *            the id of the order
+	 * @param lastUpdatedMs
+	 *            the last updated time (in ms) of the order, as reported by
+	 *            OhAllOrderStatus
+	 * @return the view of the order
+	 */
+	public OhOrderFullView get(String orderId, long lastUpdatedMs)
+	{
+		return getAsync(orderId, lastUpdatedMs).join();
+	}
+
+	/**
+	 * Returns the view of an order, fetching it only if no view of the order
+	 * with the same last updated time is kept. Does not wait for the fetch.
+	 * 
+	 * @param orderId
+	 *            the id of the order
+	 * @param lastUpdatedMs
+	 *            the last updated time (in ms) of the order, as reported by
+	 *            OhAllOrderStatus
+	 * @return a future that is completed with the view of the order
+	 */
+	public CompletableFuture<OhOrderFullView> getAsync(final String orderId,
+			long lastUpdatedMs)
+	{
+		final CachedView fetch;
+
+		synchronized (this)
+		{
+			CachedView v = m_views.get(orderId);
+			if (null != v && v.m_lastUpdatedMs == lastUpdatedMs)
+			{
+				++m_hits;
+				return v.m_future;
+			}
+
+			++m_misses;
+			fetch = new CachedView(lastUpdatedMs, OhOrderFullView.fetchAsync(
+					m_scheduler, m_authToken, m_accountId, orderId,
+					lastUpdatedMs));
+			m_views.put(orderId, fetch);
+		}
+
+		// a view with errors is not kept, so the order is fetched again
+		fetch.m_future.whenComplete(new BiConsumer<OhOrderFullView, Throwable>()
+		{
+			public void accept(OhOrderFullView view, Throwable ex)
+			{
+				if (null != ex || view.hasErrors())
+				{
+					remove(orderId, fetch);
+				}
+			}
+		});
+
+		return fetch.m_future;
+	}
+
+	/**
+	 * Drops the view of an order
+	 * 
+	 * @param orderId
+	 *            the id of the order
+	 */
+	public synchronized void invalidate(String orderId)
+	{
+		m_views.remove(orderId);
+	}
+
+	/**
+	 * Drops all the views
+	 */
+	public synchronized void clear()
+	{
+		m_views.clear();
+	}
+
+	/**
+	 * Returns the number of views kept
+	 * 
+	 * @return the number of views kept
+	 */
+	public synchronized int size()
+	{
+		return m_views.size();
+	}
+
+	/**
+	 * Returns the maximum number of views kept
+	 * 
+	 * @return the maximum number of views kept
+	 */
+	public synchronized int getMaxEntries()
+	{
+		return m_maxEntries;
+	}
+
+	/**
+	 * Sets the maximum number of views kept (the least recently used views
+	 * are dropped first)
+	 * 
+	 * @param maxEntries
+	 *            the maximum number of views kept (at least 1)
+	 */
+	public synchronized void setMaxEntries(int maxEntries)
+	{
+		m_maxEntries = Math.max(1, maxEntries);
+	}
+
+	/**
+	 * Returns the number of views served from the cache
+	 * 
+	 * @return the number of hits
+	 */
+	public synchronized long getHits()
+	{
+		return m_hits;
+	}
+
+	/**
+	 * Returns the number of views that were fetched
+	 * 
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses()
+	{
+		return m_misses;
+	}
+
+	/**
+	 * Resets the counts of hits and misses
+	 */
+	public synchronized void resetStats()
+	{
+		m_hits = 0;
+		m_misses = 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		return "OhOrderFullViewCache [account=" + m_accountId + ", views="
+				+ m_views.size() + ", hits=" + m_hits + ", misses="
+				+ m_misses + "]";
+	}
+
+	/**
+	 * Drops the view of an order, if it is still the given one
+	 * 
+	 * @param orderId
+	 *            the id of the order
+	 * @param view
+	 *            the view to drop
+	 */
+	private synchronized void remove(String orderId, CachedView view)
+	{
+		if (m_views.get(orderId) == view)
+		{
+			m_views.remove(orderId);
+		}
+	}
+}
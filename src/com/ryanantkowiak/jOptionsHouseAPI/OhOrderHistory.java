@@ -8,11 +8,11 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.ryanantkowiak.jOptionsHouseAPI.OhMsgOrderHistoryRsp.EZMessage_.data_.order_history_;
 
 /**
@@ -128,21 +128,29 @@ public class OhOrderHistory extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgOrderHistoryReq prepareRequest()
 	{
 		m_request = new OhMsgOrderHistoryReq(m_authToken, m_accountId,
 				m_orderId);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgOrderHistoryRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgOrderHistoryRsp.build(response);
 	}
 
 	/**
@@ -335,7 +343,7 @@ class OhMsgOrderHistoryReq extends IOhMsgReq
 		ezReq.EZMessage.data.order_history.master_order_view = "current";
 		ezReq.EZMessage.data.order_history.master_order_id = order_id;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZOrderHistoryReq
@@ -379,16 +387,12 @@ class OhMsgOrderHistoryRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgOrderHistoryRsp build(String str)
+	public static OhMsgOrderHistoryRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgOrderHistoryRsp rsp = (gson.fromJson(str,
+		OhMsgOrderHistoryRsp rsp = (gson.fromJson(reader,
 				OhMsgOrderHistoryRsp.class));
-		rsp.m_raw = str;
 		return rsp;
 	}
 
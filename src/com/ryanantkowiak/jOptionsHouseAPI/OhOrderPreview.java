@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.Gson;
+
+/**
+ * This class will preview an order (an OhSimpleOrder or an OhComplexOrder) at
+ * OptionsHouse without placing it: the same legs are sent to the preview
+ * action, which returns the commission, the effect of the order on the buying
+ * power, and any warnings. Repeated previews of the same order can be served
+ * from an OhOrderPreviewCache.
+ * 
+ * Experimental: the preview action (order.preview.json) and the fields of its
+ * response are assumed from the order creation message, and have not been
+ * confirmed against the OptionsHouse API.
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhOrderPreview extends IOh
+{
+	/** the order being previewed */
+	private final OhComplexOrder m_order;
+
+	/** the shape of the order when the preview was created */
+	private final String m_shapeKey;
+
+	/** contains the request JSON message for previewing the order */
+	private OhMsgPreviewOrderReq m_request;
+
+	/** contains the response JSON message for previewing the order */
+	private OhMsgOrderPreviewRsp m_response;
+
+	/**
+	 * Constructor for the preview of an order with any number of legs. The
+	 * order should not be changed until the preview has been executed.
+	 * 
+	 * @param order
+	 *            the order to preview
+	 */
+	public OhOrderPreview(OhComplexOrder order)
+	{
+		m_order = order;
+		m_shapeKey = order.getShapeKey();
+	}
+
+	/**
+	 * Constructor for the preview of a simple one-legged order
+	 * 
+	 * @param order
+	 *            the order to preview
+	 */
+	public OhOrderPreview(OhSimpleOrder order)
+	{
+		this(order.toComplexOrder());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#getRequest()
+	 */
+	@Override
+	protected OhMsgPreviewOrderReq getRequest()
+	{
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#getResponse()
+	 */
+	@Override
+	protected OhMsgOrderPreviewRsp getResponse()
+	{
+		return m_response;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
+	 */
+	@Override
+	protected OhMsgPreviewOrderReq prepareRequest()
+	{
+		m_request = m_order.preparePreviewRequest();
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgOrderPreviewRsp.build(response);
+	}
+
+	/**
+	 * Takes the response of another preview of an order of the same shape,
+	 * instead of sending this preview. The other preview's order (its client
+	 * id and its session) is not exposed: getOrder() still returns the order
+	 * of this preview.
+	 * 
+	 * @param preview
+	 *            the executed preview whose response is shared
+	 */
+	void shareResponse(OhOrderPreview preview)
+	{
+		m_response = preview.m_response;
+	}
+
+	/**
+	 * Returns the order being previewed
+	 * 
+	 * @return the order
+	 */
+	public OhComplexOrder getOrder()
+	{
+		return m_order;
+	}
+
+	/**
+	 * Returns the commission of the order
+	 * 
+	 * @return the commission
+	 */
+	public double getCommission()
+	{
+		if (null != getData())
+		{
+			return getData().commission;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns the change of the buying power if the order is filled (negative
+	 * when the order uses buying power)
+	 * 
+	 * @return the effect of the order on the buying power
+	 */
+	public double getBuyingPowerEffect()
+	{
+		if (null != getData())
+		{
+			return getData().buying_power_effect;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Returns the warnings about the order
+	 * 
+	 * @return the list of warnings (empty if there are none)
+	 */
+	public List<String> getWarnings()
+	{
+		if (null != getData() && null != getData().warnings)
+		{
+			return getData().warnings;
+		}
+
+		return new ArrayList<String>();
+	}
+
+	/**
+	 * Returns true if there are warnings about the order
+	 * 
+	 * @return true if there are warnings
+	 */
+	public boolean hasWarnings()
+	{
+		return !getWarnings().isEmpty();
+	}
+
+	/**
+	 * Returns the shape of the order when the preview was created (see
+	 * OhComplexOrder.getShapeKey())
+	 * 
+	 * @return the shape of the order
+	 */
+	String getShapeKey()
+	{
+		return m_shapeKey;
+	}
+
+	/**
+	 * Returns the authorization token of the order
+	 * 
+	 * @return the authorization token
+	 */
+	String getAuthToken()
+	{
+		return m_order.getAuthToken();
+	}
+
+	/**
+	 * Internal helper method to get data from the response message
+	 * 
+	 * @return the data object
+	 */
+	private OhMsgOrderPreviewRsp.EZMessage_.data_ getData()
+	{
+		if (null != m_response && null != m_response.EZMessage
+				&& null != m_response.EZMessage.data)
+		{
+			return m_response.EZMessage.data;
+		}
+
+		return null;
+	}
+
+}
+
+/**
+ * Internal data structure to represent JSON communication with the OptionsHouse
+ * API. Specifies the request for previewing an order: the same message as the
+ * creation of the order (see OhMsgCreateComplexOrderReq), sent to the preview
+ * action.
+ * 
+ * @author Ryan Antkowiak 
+ */
+class OhMsgPreviewOrderReq extends OhMsgCreateComplexOrderReq
+{
+	/** the template of the order, without its legs */
+	private static final OhJsonTemplate s_order = createOrderTemplate(
+			"order.preview.json");
+
+	public OhMsgPreviewOrderReq(String authToken, String account,
+			long quantity, double limitPrice, String priceType,
+			TimeInForce tif, List<OhComplexOrder.Leg> legs, long clientId)
+	{
+		super(s_order, authToken, account, quantity, limitPrice, priceType,
+				tif, legs, clientId);
+	}
+}
+
+/**
+ * Internal data structure to represent JSON communication with the OptionsHouse
+ * API. Specifies the response for previewing an order.
+ * 
+ * @author Ryan Antkowiak 
+ */
+class OhMsgOrderPreviewRsp extends IOhMsgRsp
+{
+	@Override
+	public EZMessageBaseRsp getEZ()
+	{
+		return EZMessage;
+	}
+
+	public static OhMsgOrderPreviewRsp build(Reader reader)
+	{
+		Gson gson = OhGson.get();
+		OhMsgOrderPreviewRsp rsp = (gson.fromJson(reader,
+				OhMsgOrderPreviewRsp.class));
+		return rsp;
+	}
+
+	public EZMessage_ EZMessage;
+
+	public class EZMessage_ extends EZMessageBaseRsp
+	{
+		public data_ data;
+
+		public class data_
+		{
+			public double commission;
+			public double buying_power_effect;
+			public List<String> warnings;
+		}
+	}
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * <pre>
+ * Keeps the recent previews of orders, so that previewing the same order
+ * again (ex: repeated what-if checks from a user interface) does not spend
+ * another message:
+ * 
+ *    OhOrderPreviewCache cache = new OhOrderPreviewCache(OhRequestScheduler.getInstance());
+ *    OhOrderPreview preview = cache.preview(order);
+ * 
+ * Previews are keyed by the shape of the order: its account, quantity,
+ * price, price type, time-in-force and legs (not its client id). A preview is
+ * reused until it is older than the maximum age, since the buying power of
+ * the account changes over time. Only successful previews are kept, and the
+ * least recently used preview is dropped when the cache is full. A preview
+ * that is requested again while it is being sent is not sent twice: the
+ * second caller waits for the first one.
+ * 
+ * Each caller gets its own OhOrderPreview, whose getOrder() is the caller's
+ * order; only the response (commission, buying power effect, warnings) is
+ * shared with the preview that was sent.
+ * 
+ * Experimental, like OhOrderPreview.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhOrderPreviewCache
+{
+	/** default time (in ms) that a preview is reused */
+	public static final long DEFAULT_MAX_AGE_MS = 30000;
+
+	/** default maximum number of previews kept */
+	public static final int DEFAULT_MAX_ENTRIES = 256;
+
+	/**
+	 * One preview kept by the cache
+	 */
+	private static class CachedPreview
+	{
+		/** the time (in ms) at which the preview was sent */
+		final long m_timeMs;
+
+		/** the preview, completed once its response has been received */
+		final CompletableFuture<OhOrderPreview> m_future;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param timeMs
+		 *            the time (in ms) at which the preview was sent
+		 * @param future
+		 *            the preview, completed once its response has been
+		 *            received
+		 */
+		CachedPreview(long timeMs, CompletableFuture<OhOrderPreview> future)
+		{
+			m_timeMs = timeMs;
+			m_future = future;
+		}
+	}
+
+	/** scheduler through which the previews are sent */
+	private final OhRequestScheduler m_scheduler;
+
+	/** the previews, by shape of the order, least recently used first */
+	private final LinkedHashMap<String, CachedPreview> m_entries;
+
+	/** time (in ms) that a preview is reused */
+	private long m_maxAgeMs;
+
+	/** maximum number of previews kept */
+	private int m_maxEntries;
+
+	/** number of previews served from the cache */
+	private long m_hits;
+
+	/** number of previews that were sent */
+	private long m_misses;
+
+	/**
+	 * Constructor for a cache that sends its previews through the given
+	 * scheduler
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the previews are sent
+	 */
+	public OhOrderPreviewCache(OhRequestScheduler scheduler)
+	{
+		m_scheduler = scheduler;
+		m_maxAgeMs = DEFAULT_MAX_AGE_MS;
+		m_maxEntries = DEFAULT_MAX_ENTRIES;
+
+		m_entries = new LinkedHashMap<String, CachedPreview>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<String, CachedPreview> eldest)
+			{
+				return size() > m_maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns the preview of an order with any number of legs, from the cache
+	 * if a recent preview of the same order is kept, or else by sending it
+	 * through the scheduler (and waiting for it)
+	 * 
+	 * @param order
+	 *            the order to preview
+	 * @return the preview of the order
+	 */
+	public OhOrderPreview preview(OhComplexOrder order)
+	{
+		return preview(new OhOrderPreview(order));
+	}
+
+	/**
+	 * Returns the preview of a simple one-legged order, from the cache if a
+	 * recent preview of the same order is kept, or else by sending it through
+	 * the scheduler (and waiting for it)
+	 * 
+	 * @param order
+	 *            the order to preview
+	 * @return the preview of the order
+	 */
+	public OhOrderPreview preview(OhSimpleOrder order)
+	{
+		return preview(new OhOrderPreview(order));
+	}
+
+	/**
+	 * Returns the cached preview of the same order as the given preview, or
+	 * else sends the given preview through the scheduler
+	 * 
+	 * @param preview
+	 *            the (not executed) preview of the order
+	 * @return the preview of the order
+	 */
+	private OhOrderPreview preview(OhOrderPreview preview)
+	{
+		final String key = preview.getShapeKey();
+		final CachedPreview fetch;
+		CachedPreview hit = null;
+
+		synchronized (this)
+		{
+			long now = System.currentTimeMillis();
+			CachedPreview e = m_entries.get(key);
+
+			// a preview that is still being sent is shared whatever its age
+			if (null != e
+					&& (!e.m_future.isDone() || now - e.m_timeMs < m_maxAgeMs))
+			{
+				++m_hits;
+				hit = e;
+				fetch = null;
+			}
+			else
+			{
+				++m_misses;
+				fetch = (0 == m_maxAgeMs) ? null : new CachedPreview(now,
+						m_scheduler.submit(preview, preview.getAuthToken()));
+
+				if (null != fetch)
+				{
+					m_entries.put(key, fetch);
+				}
+			}
+		}
+
+		if (null != hit)
+		{
+			preview.shareResponse(hit.m_future.join());
+			return preview;
+		}
+
+		if (null == fetch)
+		{
+			return m_scheduler.execute(preview, preview.getAuthToken());
+		}
+
+		// a failed preview is not kept, so the order is previewed again
+		fetch.m_future.whenComplete(new BiConsumer<OhOrderPreview, Throwable>()
+		{
+			public void accept(OhOrderPreview p, Throwable ex)
+			{
+				if (null != ex || null == p.getResponse() || p.hasErrors())
+				{
+					remove(key, fetch);
+				}
+			}
+		});
+
+		return fetch.m_future.join();
+	}
+
+	/**
+	 * Drops all the previews
+	 */
+	public synchronized void clear()
+	{
+		m_entries.clear();
+	}
+
+	/**
+	 * Returns the number of previews kept, including those being sent (some of
+	 * them may be too old to be reused)
+	 * 
+	 * @return the number of previews kept
+	 */
+	public synchronized int size()
+	{
+		return m_entries.size();
+	}
+
+	/**
+	 * Returns the time (in ms) that a preview is reused
+	 * 
+	 * @return the maximum age of a preview
+	 */
+	public synchronized long getMaxAgeMs()
+	{
+		return m_maxAgeMs;
+	}
+
+	/**
+	 * Sets the time (in ms) that a preview is reused
+	 * 
+	 * @param maxAgeMs
+	 *            the maximum age of a preview (0 disables the cache)
+	 */
+	public synchronized void setMaxAgeMs(long maxAgeMs)
+	{
+		m_maxAgeMs = Math.max(0, maxAgeMs);
+	}
+
+	/**
+	 * Returns the maximum number of previews kept
+	 * 
+	 * @return the maximum number of previews kept
+	 */
+	public synchronized int getMaxEntries()
+	{
+		return m_maxEntries;
+	}
+
+	/**
+	 * Sets the maximum number of previews kept (the least recently used
+	 * previews are dropped first)
+	 * 
+	 * @param maxEntries
+	 *            the maximum number of previews kept (at least 1)
+	 */
+	public synchronized void setMaxEntries(int maxEntries)
+	{
+		m_maxEntries = Math.max(1, maxEntries);
+	}
+
+	/**
+	 * Returns the number of previews served from the cache
+	 * 
+	 * @return the number of hits
+	 */
+	public synchronized long getHits()
+	{
+		return m_hits;
+	}
+
+	/**
+	 * Returns the number of previews that were sent
+	 * 
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses()
+	{
+		return m_misses;
+	}
+
+	/**
+	 * Resets the counts of hits and misses
+	 */
+	public synchronized void resetStats()
+	{
+		m_hits = 0;
+		m_misses = 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		return "OhOrderPreviewCache [entries=" + m_entries.size() + ", hits="
+				+ m_hits + ", misses=" + m_misses + "]";
+	}
+
+	/**
+	 * Drops the preview of an order, if it is still the given one
+	 * 
+	 * @param key
+	 *            the shape key of the order
+	 * @param preview
+	 *            the preview to drop
+	 */
+	private synchronized void remove(String key, CachedPreview preview)
+	{
+		if (m_entries.get(key) == preview)
+		{
+			m_entries.remove(key);
+		}
+	}
+}
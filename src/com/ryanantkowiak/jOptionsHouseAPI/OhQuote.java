@@ -8,11 +8,16 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will retrieve quote pricing data from OptionsHouse for a security
@@ -37,6 +42,15 @@ public class OhQuote extends IOh
 	/** contains the response JSON message for quotes */
 	private OhMsgViewQuoteListRsp m_response;
 
+	/** quotes of the response, by normalized security key */
+	private Map<String, OhMsgViewQuoteListRsp.EZMessage_.data_.quote_> m_quotesByKey;
+
+	/**
+	 * quotes already looked up, by the symbol exactly as given by the caller,
+	 * so that repeated lookups do not need to normalize the symbol again
+	 */
+	private Map<String, OhMsgViewQuoteListRsp.EZMessage_.data_.quote_> m_quotesBySymbol;
+
 	/**
 	 * Constructor sets up the input values for retrieving quotes
 	 * 
@@ -165,20 +179,61 @@ public class OhQuote extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgViewQuoteListReq prepareRequest()
 	{
 		m_request = new OhMsgViewQuoteListReq(m_authToken, m_stocks, m_options);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgViewQuoteListRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgViewQuoteListRsp.build(response);
+
+		m_quotesByKey = new HashMap<String, OhMsgViewQuoteListRsp.EZMessage_.data_.quote_>();
+		m_quotesBySymbol = new ConcurrentHashMap<String, OhMsgViewQuoteListRsp.EZMessage_.data_.quote_>();
+
+		if (null != getQuoteList())
+		{
+			for (OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q : getQuoteList())
+			{
+				if (null == q.key)
+				{
+					continue;
+				}
+
+				String key = OptionsHouseUtilities.createKey(q.key);
+				if (!m_quotesByKey.containsKey(key))
+				{
+					m_quotesByKey.put(key, q);
+				}
+			}
+		}
+	}
 
-		super.execute();
+	/**
+	 * Returns true if the response contains a quote for the provided security
+	 * symbol (the other accessors return 0 when there is none)
+	 * 
+	 * @param symbol
+	 *            the provided security symbol
+	 * @return true if there is a quote for the symbol
+	 */
+	public boolean hasQuote(String symbol)
+	{
+		return null != findQuote(symbol);
 	}
 
 	/**
@@ -377,13 +432,16 @@ public class OhQuote extends IOh
 	}
 
 	/**
-	 * Returns the option delta for the provided security symbol
+	 * Returns the option delta for the provided security symbol. The delta is
+	 * the change in the price of one share of the option per 1.00 change in
+	 * the price of the underlying, a ratio between -1 and 1 (ex: 0.52), not
+	 * multiplied by the contract size.
 	 * 
 	 * @param symbol
 	 *            the provided security symbol
 	 * @return the option delta
 	 */
-	public long getDelta(String symbol)
+	public double getDelta(String symbol)
 	{
 		OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ quoteObj = findQuote(symbol);
 		if (null != quoteObj)
@@ -498,28 +556,51 @@ public class OhQuote extends IOh
 	}
 
 	/**
-	 * Internal helper method to get data from the response message
+	 * Returns the security keys of the quotes in the response
+	 * 
+	 * @return the set of security keys (empty if there is no response)
+	 */
+	Set<String> getQuotedKeys()
+	{
+		if (null == m_quotesByKey)
+		{
+			return Collections.emptySet();
+		}
+
+		return Collections.unmodifiableSet(m_quotesByKey.keySet());
+	}
+
+	/**
+	 * Internal helper method to look up the quote of a security in the index
+	 * built from the response message
 	 * 
-	 * @return the quote
+	 * @param symbol
+	 *            the provided security symbol
+	 * @return the quote, or null if the response has no quote for the symbol
 	 */
-	private OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ findQuote(
+	OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ findQuote(
 			String symbol)
 	{
-		if (null != getQuoteList())
+		if (null == m_quotesByKey || null == symbol)
 		{
-			String key = OptionsHouseUtilities.createKey(symbol);
+			return null;
+		}
+
+		OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ quoteObj = m_quotesBySymbol
+				.get(symbol);
+
+		if (null == quoteObj)
+		{
+			quoteObj = m_quotesByKey.get(OptionsHouseUtilities
+					.createKey(symbol));
 
-			for (int i = 0; i < getQuoteList().size(); ++i)
+			if (null != quoteObj)
 			{
-				if (OptionsHouseUtilities.areKeysEqual(key,
-						getQuoteList().get(i).key))
-				{
-					return getQuoteList().get(i);
-				}
+				m_quotesBySymbol.put(symbol, quoteObj);
 			}
 		}
 
-		return null;
+		return quoteObj;
 	}
 
 }
@@ -557,7 +638,7 @@ class OhMsgViewQuoteListReq extends IOhMsgReq
 			ezReq.EZMessage.data.addGreeks.add(security);
 		}
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 
 	}
 
@@ -598,16 +679,12 @@ class OhMsgViewQuoteListRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgViewQuoteListRsp build(String str)
+	public static OhMsgViewQuoteListRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgViewQuoteListRsp rsp = gson.fromJson(str,
+		OhMsgViewQuoteListRsp rsp = gson.fromJson(reader,
 				OhMsgViewQuoteListRsp.class);
-		rsp.m_raw = str;
 		return rsp;
 	}
 
@@ -632,7 +709,7 @@ class OhMsgViewQuoteListRsp extends IOhMsgRsp
 				public double change;
 				public double changePercent;
 				public double dailyChange;
-				public long delta;
+				public double delta;
 				public boolean divConfirm;
 				public boolean earningsConfirm;
 				public String exchange;
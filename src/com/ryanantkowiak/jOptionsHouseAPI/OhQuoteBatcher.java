@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * Combines the quote requests of many threads into as few view.quote.list
+ * messages as possible. Since OptionsHouse asks for no more than 1 message per
+ * second, asking for 20 symbols in one message is much faster than asking for
+ * each of them in its own message:
+ * 
+ *    OhQuoteBatcher batcher = OhQuoteBatcher.getInstance();
+ *    batcher.submit(authToken, "SPY")
+ *           .thenAccept(q -&gt; System.out.println(q.getBid("SPY")));
+ * 
+ * Symbols submitted with the same authToken within the batching window are
+ * sent together, through the OhRequestScheduler, as one OhQuote. Every caller
+ * receives that shared OhQuote, which holds the quotes of all the symbols in
+ * the batch. A batch is sent early once it holds the maximum number of keys
+ * per message.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhQuoteBatcher
+{
+	/** default time (in ms) that symbols are collected before being sent */
+	public static final long DEFAULT_WINDOW_MS = 50;
+
+	/** default maximum number of security keys sent in one message */
+	public static final int DEFAULT_MAX_KEYS_PER_MESSAGE = 100;
+
+	/** the shared batcher, created on first use */
+	private static OhQuoteBatcher s_instance;
+
+	/** scheduler through which the batched quotes are sent */
+	private final OhRequestScheduler m_scheduler;
+
+	/** timer that sends batches at the end of their window */
+	private final ScheduledExecutorService m_timer;
+
+	/** batches still collecting symbols, by authToken */
+	private final Map<String, Batch> m_open;
+
+	/** time (in ms) that symbols are collected before being sent */
+	private long m_windowMs;
+
+	/** maximum number of security keys sent in one message */
+	private int m_maxKeysPerMessage;
+
+	/** number of symbols that have been submitted */
+	private long m_symbolsSubmitted;
+
+	/** number of quote messages that have been sent */
+	private long m_messagesSent;
+
+	/**
+	 * Returns the batcher shared by the whole process, which sends its
+	 * messages through the shared OhRequestScheduler.
+	 * 
+	 * @return the shared batcher
+	 */
+	public static synchronized OhQuoteBatcher getInstance()
+	{
+		if (null == s_instance)
+		{
+			s_instance = new OhQuoteBatcher(OhRequestScheduler.getInstance());
+		}
+
+		return s_instance;
+	}
+
+	/**
+	 * Constructor for a batcher that sends its messages through the given
+	 * scheduler
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the batched quotes are sent
+	 */
+	public OhQuoteBatcher(OhRequestScheduler scheduler)
+	{
+		m_scheduler = scheduler;
+		m_open = new HashMap<String, Batch>();
+		m_windowMs = DEFAULT_WINDOW_MS;
+		m_maxKeysPerMessage = DEFAULT_MAX_KEYS_PER_MESSAGE;
+
+		m_timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+		{
+			public Thread newThread(Runnable r)
+			{
+				Thread t = new Thread(r, "OhQuoteBatcher-timer");
+				t.setDaemon(true);
+				return t;
+			}
+		});
+	}
+
+	/**
+	 * Requests the quote of a security. The returned future is completed with
+	 * the OhQuote of the batch that the symbol was sent in.
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbol
+	 *            the security symbol for which the quote will be retrieved
+	 * @return a future that is completed with the quote
+	 */
+	public CompletableFuture<OhQuote> submit(String authToken, String symbol)
+	{
+		CompletableFuture<OhQuote> future = new CompletableFuture<OhQuote>();
+		String key = OptionsHouseUtilities.createKey(symbol);
+		Batch full = null;
+
+		synchronized (this)
+		{
+			++m_symbolsSubmitted;
+
+			Batch batch = m_open.get(authToken);
+			if (null == batch)
+			{
+				batch = new Batch(authToken);
+				m_open.put(authToken, batch);
+
+				final Batch b = batch;
+				batch.m_timeout = m_timer.schedule(new Runnable()
+				{
+					public void run()
+					{
+						flush(b);
+					}
+				}, m_windowMs, TimeUnit.MILLISECONDS);
+			}
+
+			if (!batch.m_symbols.containsKey(key))
+			{
+				batch.m_symbols.put(key, symbol);
+			}
+			batch.m_callers.add(future);
+
+			if (batch.m_symbols.size() >= m_maxKeysPerMessage)
+			{
+				m_open.remove(authToken);
+				batch.m_timeout.cancel(false);
+				full = batch;
+			}
+		}
+
+		if (null != full)
+		{
+			send(full);
+		}
+
+		return future;
+	}
+
+	/**
+	 * Sends all batches that are still collecting symbols, without waiting for
+	 * the end of their window.
+	 */
+	public void flush()
+	{
+		List<Batch> batches = new ArrayList<Batch>();
+
+		synchronized (this)
+		{
+			for (Batch b : m_open.values())
+			{
+				b.m_timeout.cancel(false);
+				batches.add(b);
+			}
+
+			m_open.clear();
+		}
+
+		for (Batch b : batches)
+		{
+			send(b);
+		}
+	}
+
+	/**
+	 * Returns the time (in ms) that symbols are collected before being sent
+	 * 
+	 * @return the batching window in milliseconds
+	 */
+	public synchronized long getWindowMs()
+	{
+		return m_windowMs;
+	}
+
+	/**
+	 * Sets the time (in ms) that symbols are collected before being sent
+	 * 
+	 * @param windowMs
+	 *            the batching window in milliseconds
+	 */
+	public synchronized void setWindowMs(long windowMs)
+	{
+		m_windowMs = Math.max(0, windowMs);
+	}
+
+	/**
+	 * Returns the maximum number of security keys sent in one message
+	 * 
+	 * @return the maximum number of keys per message
+	 */
+	public synchronized int getMaxKeysPerMessage()
+	{
+		return m_maxKeysPerMessage;
+	}
+
+	/**
+	 * Sets the maximum number of security keys sent in one message
+	 * 
+	 * @param maxKeysPerMessage
+	 *            the maximum number of keys per message (at least 1)
+	 */
+	public synchronized void setMaxKeysPerMessage(int maxKeysPerMessage)
+	{
+		m_maxKeysPerMessage = Math.max(1, maxKeysPerMessage);
+	}
+
+	/**
+	 * Returns the number of symbols that have been submitted
+	 * 
+	 * @return the number of submitted symbols
+	 */
+	public synchronized long getSymbolsSubmitted()
+	{
+		return m_symbolsSubmitted;
+	}
+
+	/**
+	 * Returns the number of quote messages that have been sent
+	 * 
+	 * @return the number of sent messages
+	 */
+	public synchronized long getMessagesSent()
+	{
+		return m_messagesSent;
+	}
+
+	/**
+	 * Resets the submitted symbol and sent message counts
+	 */
+	public synchronized void resetStats()
+	{
+		m_symbolsSubmitted = 0;
+		m_messagesSent = 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("symbolsSubmitted=");
+		sb.append(m_symbolsSubmitted);
+		sb.append(" messagesSent=");
+		sb.append(m_messagesSent);
+		sb.append(" openBatches=");
+		sb.append(m_open.size());
+
+		return sb.toString();
+	}
+
+	/**
+	 * Sends a batch at the end of its window, unless it has already been sent
+	 * 
+	 * @param batch
+	 *            the batch to be sent
+	 */
+	private void flush(Batch batch)
+	{
+		synchronized (this)
+		{
+			if (m_open.get(batch.m_authToken) != batch)
+			{
+				return;
+			}
+
+			m_open.remove(batch.m_authToken);
+		}
+
+		send(batch);
+	}
+
+	/**
+	 * Submits the quote request of a batch to the scheduler, and completes the
+	 * futures of its callers once the response has been received.
+	 * 
+	 * @param batch
+	 *            the batch to be sent
+	 */
+	private void send(final Batch batch)
+	{
+		synchronized (this)
+		{
+			++m_messagesSent;
+		}
+
+		OhQuote quote = new OhQuote(batch.m_authToken, new ArrayList<String>(
+				batch.m_symbols.values()));
+
+		try
+		{
+			m_scheduler.submit(quote, batch.m_authToken).whenComplete(
+					(rsp, ex) -> {
+						for (CompletableFuture<OhQuote> caller : batch.m_callers)
+						{
+							if (null != ex)
+							{
+								caller.completeExceptionally(ex);
+							}
+							else
+							{
+								caller.complete(rsp);
+							}
+						}
+					});
+		}
+		catch (RuntimeException e)
+		{
+			for (CompletableFuture<OhQuote> caller : batch.m_callers)
+			{
+				caller.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * The symbols of one authToken that will be sent in one message
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private static class Batch
+	{
+		/** authorization token for the session with OptionsHouse API */
+		private final String m_authToken;
+
+		/** symbols of the batch as submitted, by normalized security key */
+		private final Map<String, String> m_symbols;
+
+		/** futures of the callers waiting for the batch */
+		private final List<CompletableFuture<OhQuote>> m_callers;
+
+		/** timer task that sends the batch at the end of its window */
+		private ScheduledFuture<?> m_timeout;
+
+		Batch(String authToken)
+		{
+			m_authToken = authToken;
+			m_symbols = new LinkedHashMap<String, String>();
+			m_callers = new ArrayList<CompletableFuture<OhQuote>>();
+		}
+	}
+}
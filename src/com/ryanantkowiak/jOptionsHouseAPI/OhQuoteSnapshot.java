@@ -0,0 +1,726 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+/**
+ * <pre>
+ * Retrieves the quotes of many securities (ex: a whole option chain) in
+ * columns: one array of primitive values per QuoteField, indexed by the
+ * ordinal of the security in the snapshot. The response of view.quote.list is
+ * decoded straight into the columns, without creating an object per quote, so
+ * that scans, filters and sorts over thousands of securities run as tight
+ * loops over arrays:
+ * 
+ *    OhQuoteSnapshot snap = new OhQuoteSnapshot(authToken, chain);
+ *    snap.execute();
+ * 
+ *    for (int i : snap.filter(QuoteField.IMPLIED_VOL, 0.5, Double.MAX_VALUE))
+ *    {
+ *        System.out.println(snap.getKey(i) + " " + snap.getBid(i));
+ *    }
+ * 
+ *    double maxOi = snap.indices().parallel()
+ *            .mapToDouble(i -&gt; snap.get(QuoteField.OPEN_INTEREST, i)).max().orElse(0);
+ * 
+ * The ordinal of a security is its position in the list of symbols given to
+ * the constructor (duplicates removed), or its contract index when the
+ * snapshot is built from an OptionChain. All the securities are requested in
+ * one message, like OhQuote.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhQuoteSnapshot extends IOh
+{
+	/** the fields of a quote, by QuoteField ordinal */
+	private static final QuoteField[] FIELDS = QuoteField.values();
+
+	/** authorization token for the session with OptionsHouse API */
+	private String m_authToken;
+
+	/** the securities of the snapshot, by ordinal */
+	private final SecurityKey[] m_keys;
+
+	/** the ordinal of each security, by normalized security key */
+	private final Map<String, Integer> m_ordinals;
+
+	/** the values of the quotes, by QuoteField ordinal and security ordinal */
+	private final double[][] m_columns;
+
+	/** the ordinals of the securities for which a quote was received */
+	private final BitSet m_present;
+
+	/** the values of the quote being decoded, by QuoteField ordinal */
+	private final double[] m_row;
+
+	/** contains the request JSON message for the quotes */
+	private OhMsgViewQuoteListReq m_request;
+
+	/**
+	 * contains the errors, alert and action of the response (the quotes
+	 * themselves are decoded into the columns)
+	 */
+	private OhMsgViewQuoteListRsp m_response;
+
+	/**
+	 * Constructor sets up the input values for requesting the quotes of
+	 * securities
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbols
+	 *            the security symbols, in the order of their ordinals
+	 */
+	public OhQuoteSnapshot(String authToken, List<String> symbols)
+	{
+		m_authToken = authToken;
+		m_ordinals = new HashMap<String, Integer>();
+
+		List<SecurityKey> keys = new ArrayList<SecurityKey>(symbols.size());
+		for (String symbol : symbols)
+		{
+			SecurityKey sk = SecurityKey.of(symbol);
+			if (!m_ordinals.containsKey(sk.toString()))
+			{
+				m_ordinals.put(sk.toString(), keys.size());
+				keys.add(sk);
+			}
+		}
+
+		m_keys = keys.toArray(new SecurityKey[keys.size()]);
+		m_columns = new double[FIELDS.length][m_keys.length];
+		m_present = new BitSet(m_keys.length);
+		m_row = new double[FIELDS.length];
+	}
+
+	/**
+	 * Constructor sets up the input values for requesting the quotes of all
+	 * the contracts of an option chain. The ordinal of each contract is its
+	 * contract index in the chain.
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param chain
+	 *            the option chain
+	 */
+	public OhQuoteSnapshot(String authToken, OptionChain chain)
+	{
+		this(authToken, chain.getKeys());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#getRequest()
+	 */
+	@Override
+	protected OhMsgViewQuoteListReq getRequest()
+	{
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#getResponse()
+	 */
+	@Override
+	protected OhMsgViewQuoteListRsp getResponse()
+	{
+		return m_response;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
+	 */
+	@Override
+	protected OhMsgViewQuoteListReq prepareRequest()
+	{
+		List<String> stocks = new ArrayList<String>();
+		List<String> options = new ArrayList<String>();
+
+		for (SecurityKey sk : m_keys)
+		{
+			if (sk.isStock())
+			{
+				stocks.add(sk.toString());
+			}
+			else
+			{
+				options.add(sk.toString());
+			}
+		}
+
+		m_request = new OhMsgViewQuoteListReq(m_authToken, stocks, options);
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		for (double[] column : m_columns)
+		{
+			Arrays.fill(column, 0);
+		}
+		m_present.clear();
+		m_response = null;
+
+		JsonReader in = OhGson.get().newJsonReader(response);
+
+		try
+		{
+			// an empty response (ex: a failed request) leaves no response,
+			// like Gson.fromJson()
+			try
+			{
+				in.peek();
+			} catch (EOFException e)
+			{
+				return;
+			}
+
+			OhMsgViewQuoteListRsp rsp = new OhMsgViewQuoteListRsp();
+
+			in.beginObject();
+			while (in.hasNext())
+			{
+				if ("EZMessage".equals(in.nextName())
+						&& in.peek() == JsonToken.BEGIN_OBJECT)
+				{
+					rsp.EZMessage = readEZMessage(in, rsp);
+				}
+				else
+				{
+					in.skipValue();
+				}
+			}
+			in.endObject();
+
+			m_response = rsp;
+		}
+		catch (MalformedJsonException e)
+		{
+			throw new JsonSyntaxException(e);
+		}
+		catch (IllegalStateException e)
+		{
+			throw new JsonSyntaxException(e);
+		}
+		catch (NumberFormatException e)
+		{
+			throw new JsonSyntaxException(e);
+		}
+		catch (IOException e)
+		{
+			throw new JsonIOException(e);
+		}
+	}
+
+	/**
+	 * Returns the number of securities of the snapshot
+	 * 
+	 * @return the number of securities
+	 */
+	public int size()
+	{
+		return m_keys.length;
+	}
+
+	/**
+	 * Returns the security of an ordinal
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the security (0 to size() - 1)
+	 * @return the security key
+	 */
+	public SecurityKey getKey(int ordinal)
+	{
+		return m_keys[ordinal];
+	}
+
+	/**
+	 * Returns the ordinal of a security
+	 * 
+	 * @param symbol
+	 *            the security symbol
+	 * @return the ordinal of the security, or -1 if it is not in the snapshot
+	 */
+	public int indexOf(String symbol)
+	{
+		Integer ordinal = m_ordinals.get(SecurityKey.of(symbol).toString());
+		return (null == ordinal) ? -1 : ordinal;
+	}
+
+	/**
+	 * Returns the number of securities for which a quote was received
+	 * 
+	 * @return the number of quotes
+	 */
+	public int getNumQuotes()
+	{
+		return m_present.cardinality();
+	}
+
+	/**
+	 * Returns true if a quote was received for a security (the other
+	 * accessors return 0 when there is none)
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the security
+	 * @return true if there is a quote for the security
+	 */
+	public boolean hasQuote(int ordinal)
+	{
+		return m_present.get(ordinal);
+	}
+
+	/**
+	 * Returns the ordinals of the securities for which a quote was received,
+	 * in increasing order
+	 * 
+	 * @return a stream of the ordinals
+	 */
+	public IntStream indices()
+	{
+		return m_present.stream();
+	}
+
+	/**
+	 * Returns the value of a field of the quote of a security
+	 * 
+	 * @param field
+	 *            the field
+	 * @param ordinal
+	 *            the ordinal of the security
+	 * @return the value of the field
+	 */
+	public double get(QuoteField field, int ordinal)
+	{
+		return m_columns[field.ordinal()][ordinal];
+	}
+
+	/**
+	 * Returns the current bid price of a security
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the security
+	 * @return the bid price
+	 */
+	public double getBid(int ordinal)
+	{
+		return m_columns[QuoteField.BID.ordinal()][ordinal];
+	}
+
+	/**
+	 * Returns the current ask price of a security
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the security
+	 * @return the ask price
+	 */
+	public double getAsk(int ordinal)
+	{
+		return m_columns[QuoteField.ASK.ordinal()][ordinal];
+	}
+
+	/**
+	 * Returns the last trade price of a security
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the security
+	 * @return the last trade price
+	 */
+	public double getLast(int ordinal)
+	{
+		return m_columns[QuoteField.LAST.ordinal()][ordinal];
+	}
+
+	/**
+	 * Returns the delta of an option
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the option
+	 * @return the delta
+	 */
+	public double getDelta(int ordinal)
+	{
+		return m_columns[QuoteField.DELTA.ordinal()][ordinal];
+	}
+
+	/**
+	 * Returns the implied volatility of an option
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the option
+	 * @return the implied volatility
+	 */
+	public double getImpliedVol(int ordinal)
+	{
+		return m_columns[QuoteField.IMPLIED_VOL.ordinal()][ordinal];
+	}
+
+	/**
+	 * Returns the open interest of an option
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the option
+	 * @return the open interest
+	 */
+	public long getOpenInterest(int ordinal)
+	{
+		return (long) m_columns[QuoteField.OPEN_INTEREST.ordinal()][ordinal];
+	}
+
+	/**
+	 * Returns the ordinals of the securities whose quote has a field within a
+	 * range, in increasing order
+	 * 
+	 * @param field
+	 *            the field
+	 * @param min
+	 *            the smallest value accepted
+	 * @param max
+	 *            the largest value accepted
+	 * @return the ordinals of the matching securities
+	 */
+	public int[] filter(QuoteField field, double min, double max)
+	{
+		double[] column = m_columns[field.ordinal()];
+		int[] matches = new int[m_keys.length];
+		int n = 0;
+
+		for (int i = m_present.nextSetBit(0); i >= 0; i = m_present
+				.nextSetBit(i + 1))
+		{
+			if (column[i] >= min && column[i] <= max)
+			{
+				matches[n++] = i;
+			}
+		}
+
+		return Arrays.copyOf(matches, n);
+	}
+
+	/**
+	 * Returns the ordinals of the securities for which a quote was received,
+	 * sorted by the value of a field (securities with equal values keep their
+	 * order)
+	 * 
+	 * @param field
+	 *            the field
+	 * @param descending
+	 *            true to sort from the largest value to the smallest
+	 * @return the sorted ordinals
+	 */
+	public int[] sort(QuoteField field, boolean descending)
+	{
+		double[] column = m_columns[field.ordinal()];
+		int[] ordinals = m_present.stream().toArray();
+
+		mergeSort(ordinals, new int[ordinals.length], 0, ordinals.length,
+				column, descending ? -1 : 1);
+
+		return ordinals;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return "OhQuoteSnapshot [securities=" + m_keys.length + ", quotes="
+				+ getNumQuotes() + "]";
+	}
+
+	/**
+	 * Reads the EZMessage object of the response, decoding its quotes into
+	 * the columns
+	 * 
+	 * @param in
+	 *            the reader, positioned on the object
+	 * @param rsp
+	 *            the response that the object belongs to
+	 * @return the EZMessage, without its data
+	 * @throws IOException
+	 *             if the response cannot be read
+	 */
+	private OhMsgViewQuoteListRsp.EZMessage_ readEZMessage(JsonReader in,
+			OhMsgViewQuoteListRsp rsp) throws IOException
+	{
+		OhMsgViewQuoteListRsp.EZMessage_ ez = rsp.new EZMessage_();
+
+		in.beginObject();
+		while (in.hasNext())
+		{
+			switch (in.nextName())
+			{
+				case "data":
+					readData(in);
+					break;
+				case "errors":
+					ez.errors = OhGson.get().getAdapter(ErrorMap.class).read(in);
+					break;
+				case "alert":
+					ez.alert = OhGeneratedTypeAdapters.readString(in);
+					break;
+				case "action":
+					ez.action = OhGeneratedTypeAdapters.readString(in);
+					break;
+				default:
+					in.skipValue();
+					break;
+			}
+		}
+		in.endObject();
+
+		return ez;
+	}
+
+	/**
+	 * Reads the data object of the response, decoding its quotes into the
+	 * columns
+	 * 
+	 * @param in
+	 *            the reader, positioned on the object
+	 * @throws IOException
+	 *             if the response cannot be read
+	 */
+	private void readData(JsonReader in) throws IOException
+	{
+		if (in.peek() != JsonToken.BEGIN_OBJECT)
+		{
+			in.skipValue();
+			return;
+		}
+
+		in.beginObject();
+		while (in.hasNext())
+		{
+			if (!"quote".equals(in.nextName())
+					|| in.peek() == JsonToken.NULL)
+			{
+				in.skipValue();
+			}
+			else if (OhGeneratedTypeAdapters.beginList(in))
+			{
+				while (in.hasNext())
+				{
+					readQuote(in);
+				}
+				in.endArray();
+			}
+			else
+			{
+				readQuote(in);
+			}
+		}
+		in.endObject();
+	}
+
+	/**
+	 * Reads one quote object of the response into the columns. The values are
+	 * held in a scratch row until the key of the quote has been read, as it
+	 * may come after them.
+	 * 
+	 * @param in
+	 *            the reader, positioned on the object
+	 * @throws IOException
+	 *             if the response cannot be read
+	 */
+	private void readQuote(JsonReader in) throws IOException
+	{
+		if (in.peek() != JsonToken.BEGIN_OBJECT)
+		{
+			in.skipValue();
+			return;
+		}
+
+		double[] row = m_row;
+		String key = null;
+		Arrays.fill(row, 0);
+
+		in.beginObject();
+		while (in.hasNext())
+		{
+			String name = in.nextName();
+			QuoteField field = getField(name);
+
+			if (null != field)
+			{
+				row[field.ordinal()] = OhGeneratedTypeAdapters.readDouble(in,
+						0);
+			}
+			else if ("key".equals(name))
+			{
+				key = OhGeneratedTypeAdapters.readString(in);
+			}
+			else
+			{
+				in.skipValue();
+			}
+		}
+		in.endObject();
+
+		// the keys sent back are normally already normalized
+		Integer ordinal = (null == key) ? null : m_ordinals.get(key);
+		if (null == ordinal && null != key)
+		{
+			ordinal = m_ordinals.get(SecurityKey.of(key).toString());
+		}
+
+		// a quote of a security that was not requested, or a duplicate
+		if (null == ordinal || m_present.get(ordinal))
+		{
+			return;
+		}
+
+		m_present.set(ordinal);
+		for (int f = 0; f < row.length; ++f)
+		{
+			m_columns[f][ordinal] = row[f];
+		}
+	}
+
+	/**
+	 * Returns the field of a quote_ member
+	 * 
+	 * @param name
+	 *            the name of the member in the JSON message
+	 * @return the field, or null if the member is not a QuoteField
+	 */
+	private static QuoteField getField(String name)
+	{
+		switch (name)
+		{
+			case "bid":
+				return QuoteField.BID;
+			case "ask":
+				return QuoteField.ASK;
+			case "bidSize":
+				return QuoteField.BID_SIZE;
+			case "askSize":
+				return QuoteField.ASK_SIZE;
+			case "last":
+				return QuoteField.LAST;
+			case "mark":
+				return QuoteField.MARK;
+			case "volume":
+				return QuoteField.VOLUME;
+			case "optVol":
+				return QuoteField.OPTION_VOLUME;
+			case "change":
+				return QuoteField.CHANGE;
+			case "changePercent":
+				return QuoteField.CHANGE_PERCENT;
+			case "high":
+				return QuoteField.HIGH;
+			case "low":
+				return QuoteField.LOW;
+			case "open":
+				return QuoteField.OPEN;
+			case "prevClose":
+				return QuoteField.PREV_CLOSE;
+			case "stockLast":
+				return QuoteField.STOCK_LAST;
+			case "delta":
+				return QuoteField.DELTA;
+			case "gamma":
+				return QuoteField.GAMMA;
+			case "theta":
+				return QuoteField.THETA;
+			case "vega":
+				return QuoteField.VEGA;
+			case "ivol":
+				return QuoteField.IMPLIED_VOL;
+			case "oi":
+				return QuoteField.OPEN_INTEREST;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Sorts a range of ordinals by the values of a column (stable)
+	 * 
+	 * @param ordinals
+	 *            the ordinals to be sorted
+	 * @param scratch
+	 *            an array at least as long as the ordinals
+	 * @param from
+	 *            the first index of the range (inclusive)
+	 * @param to
+	 *            the last index of the range (exclusive)
+	 * @param column
+	 *            the values of the column, by ordinal
+	 * @param sign
+	 *            1 to sort in ascending order, -1 in descending order
+	 */
+	private static void mergeSort(int[] ordinals, int[] scratch, int from,
+			int to, double[] column, int sign)
+	{
+		if (to - from < 2)
+		{
+			return;
+		}
+
+		int mid = (from + to) >>> 1;
+		mergeSort(ordinals, scratch, from, mid, column, sign);
+		mergeSort(ordinals, scratch, mid, to, column, sign);
+
+		if (sign * Double.compare(column[ordinals[mid - 1]],
+				column[ordinals[mid]]) <= 0)
+		{
+			return;
+		}
+
+		System.arraycopy(ordinals, from, scratch, from, to - from);
+		for (int i = from, a = from, b = mid; i < to; ++i)
+		{
+			if (b >= to
+					|| (a < mid && sign
+							* Double.compare(column[scratch[a]],
+									column[scratch[b]]) <= 0))
+			{
+				ordinals[i] = scratch[a++];
+			}
+			else
+			{
+				ordinals[i] = scratch[b++];
+			}
+		}
+	}
+}
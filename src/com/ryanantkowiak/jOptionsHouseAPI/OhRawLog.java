@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * A bounded log of the most recent raw JSON exchanges with OptionsHouse. When
+ * the log is enabled, the raw strings that the OhRawRetention policy does not
+ * keep on the "Oh" objects are recorded here instead, so that the most recent
+ * messages can still be inspected without every object holding on to its
+ * strings:
+ * 
+ *    OhRawLog.setCapacity(50);
+ *    ...
+ *    for (OhRawLog.Entry e : OhRawLog.getEntries())
+ *    {
+ *        System.out.println(e.getName() + " " + e.getResponse());
+ *    }
+ * 
+ * The log is disabled (capacity 0) by default. While it is enabled, responses
+ * are read into a string before being decoded. The request and the response
+ * of exchanges that carry credentials (OhLogin: the password and the
+ * authToken) are recorded as REDACTED.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhRawLog
+{
+	/** recorded in place of a request or response carrying credentials */
+	public static final String REDACTED = "[redacted]";
+
+	/** the entries of the log, used as a ring buffer */
+	private static Entry[] s_entries = new Entry[0];
+
+	/** index at which the next entry will be stored */
+	private static int s_next = 0;
+
+	/** number of entries currently in the log */
+	private static int s_size = 0;
+
+	/**
+	 * Private constructor, only static methods are provided
+	 */
+	private OhRawLog()
+	{
+	}
+
+	/**
+	 * Sets the maximum number of exchanges kept in the log. The oldest
+	 * exchanges are discarded once the log is full. A capacity of 0 disables
+	 * the log. Changing the capacity clears the log.
+	 * 
+	 * @param capacity
+	 *            the maximum number of exchanges kept
+	 */
+	public static synchronized void setCapacity(int capacity)
+	{
+		s_entries = new Entry[Math.max(0, capacity)];
+		s_next = 0;
+		s_size = 0;
+	}
+
+	/**
+	 * Returns the maximum number of exchanges kept in the log
+	 * 
+	 * @return the capacity of the log (0 if disabled)
+	 */
+	public static synchronized int getCapacity()
+	{
+		return s_entries.length;
+	}
+
+	/**
+	 * Returns true if the log is enabled
+	 * 
+	 * @return true if the capacity of the log is not 0
+	 */
+	public static synchronized boolean isEnabled()
+	{
+		return s_entries.length > 0;
+	}
+
+	/**
+	 * Returns the exchanges in the log, oldest first
+	 * 
+	 * @return a copy of the entries of the log
+	 */
+	public static synchronized List<Entry> getEntries()
+	{
+		List<Entry> list = new ArrayList<Entry>(s_size);
+		int first = s_next - s_size + s_entries.length;
+
+		for (int i = 0; i < s_size; ++i)
+		{
+			list.add(s_entries[(first + i) % s_entries.length]);
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes all exchanges from the log
+	 */
+	public static synchronized void clear()
+	{
+		for (int i = 0; i < s_entries.length; ++i)
+		{
+			s_entries[i] = null;
+		}
+
+		s_next = 0;
+		s_size = 0;
+	}
+
+	/**
+	 * Adds an exchange to the log, discarding the oldest one if the log is
+	 * full. Nothing is done if the log is disabled.
+	 * 
+	 * @param name
+	 *            the name of the "Oh" class that made the exchange
+	 * @param request
+	 *            the raw JSON string of the request
+	 * @param response
+	 *            the raw JSON string of the response
+	 * @param error
+	 *            true if the request failed or the response contains errors
+	 */
+	static synchronized void add(String name, String request, String response,
+			boolean error)
+	{
+		if (s_entries.length == 0)
+		{
+			return;
+		}
+
+		s_entries[s_next] = new Entry(name, request, response, error);
+		s_next = (s_next + 1) % s_entries.length;
+		s_size = Math.min(s_size + 1, s_entries.length);
+	}
+
+	/**
+	 * One raw JSON exchange with OptionsHouse
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	public static class Entry
+	{
+		/** time (in ms since the epoch) at which the exchange was logged */
+		private final long m_timeMs;
+
+		/** the name of the "Oh" class that made the exchange */
+		private final String m_name;
+
+		/** the raw JSON string of the request */
+		private final String m_request;
+
+		/** the raw JSON string of the response */
+		private final String m_response;
+
+		/** true if the request failed or the response contains errors */
+		private final boolean m_error;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param name
+		 *            the name of the "Oh" class that made the exchange
+		 * @param request
+		 *            the raw JSON string of the request
+		 * @param response
+		 *            the raw JSON string of the response
+		 * @param error
+		 *            true if the request failed or the response contains
+		 *            errors
+		 */
+		Entry(String name, String request, String response, boolean error)
+		{
+			m_timeMs = System.currentTimeMillis();
+			m_name = name;
+			m_request = request;
+			m_response = response;
+			m_error = error;
+		}
+
+		/**
+		 * Returns the time (in ms since the epoch) at which the exchange was
+		 * logged
+		 * 
+		 * @return the time of the exchange
+		 */
+		public long getTimeMs()
+		{
+			return m_timeMs;
+		}
+
+		/**
+		 * Returns the name of the "Oh" class that made the exchange (ex:
+		 * "OhQuote")
+		 * 
+		 * @return the name of the class
+		 */
+		public String getName()
+		{
+			return m_name;
+		}
+
+		/**
+		 * Returns the raw JSON string of the request
+		 * 
+		 * @return the request
+		 */
+		public String getRequest()
+		{
+			return m_request;
+		}
+
+		/**
+		 * Returns the raw JSON string of the response
+		 * 
+		 * @return the response
+		 */
+		public String getResponse()
+		{
+			return m_response;
+		}
+
+		/**
+		 * Returns true if the request failed or the response contains errors
+		 * 
+		 * @return true on error
+		 */
+		public boolean isError()
+		{
+			return m_error;
+		}
+	}
+}
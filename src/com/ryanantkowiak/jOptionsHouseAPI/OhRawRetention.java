@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+/**
+ * Policies that decide whether the raw JSON strings of a request and its
+ * response are kept by the "Oh" object after it has been executed. The raw
+ * strings are only useful for debugging, can be large, and the request of a
+ * login contains the password in clear text. The policy is set for all
+ * objects through OptionsHouseUtilities.setRawRetention(), and may be
+ * overridden for a single object through IOh.setRawRetention().
+ * 
+ * @author Ryan Antkowiak 
+ */
+public enum OhRawRetention
+{
+	/** the raw strings are never kept (responses are decoded as they arrive) */
+	NEVER,
+
+	/**
+	 * the raw strings are kept only if the request failed or the response
+	 * contains errors
+	 */
+	ON_ERROR,
+
+	/** the raw strings are always kept */
+	ALWAYS
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+/**
+ * Priority classes used by the OhRequestScheduler, from most urgent to least
+ * urgent. When more requests are waiting than the message budget allows, a
+ * request of a more urgent class is always sent first.
+ * 
+ * @author Ryan Antkowiak 
+ */
+public enum OhRequestPriority
+{
+	/** cancellation of an order */
+	CANCEL,
+
+	/** creation of a new order */
+	ORDER_CREATE,
+
+	/** status, details, history or preview of orders */
+	ORDER_STATUS,
+
+	/** quotes and option series data */
+	QUOTE,
+
+	/** account information, and everything else */
+	ACCOUNT_INFO;
+
+	/**
+	 * Returns the priority class of a request, based on its type
+	 * 
+	 * @param request
+	 *            the request
+	 * @return the priority class of the request
+	 */
+	public static OhRequestPriority forRequest(IOh request)
+	{
+		if (request instanceof OhCancelOrder)
+		{
+			return CANCEL;
+		}
+		else if (request instanceof OhSimpleOrder
+				|| request instanceof OhComplexOrder)
+		{
+			return ORDER_CREATE;
+		}
+		else if (request instanceof OhAllOrderStatus
+				|| request instanceof OhOrderDetails
+				|| request instanceof OhOrderHistory
+				|| request instanceof OhOrderPreview)
+		{
+			return ORDER_STATUS;
+		}
+		else if (request instanceof OhQuote
+				|| request instanceof OhQuoteSnapshot
+				|| request instanceof OhViewSeries)
+		{
+			return QUOTE;
+		}
+
+		return ACCOUNT_INFO;
+	}
+}
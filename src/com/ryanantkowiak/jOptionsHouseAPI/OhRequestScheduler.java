@@ -0,0 +1,886 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <pre>
+ * Sends "Oh" requests to OptionsHouse at a limited rate. OptionsHouse asks
+ * that no more than 1 API message per second is sent. Rather than having every
+ * thread sleep on its own, all threads can submit their requests to one shared
+ * scheduler, which queues them and sends them through a token bucket:
+ * 
+ *    OhRequestScheduler scheduler = OhRequestScheduler.getInstance();
+ *    OhQuote quote = scheduler.execute(new OhQuote(authToken, "SPY"));
+ * 
+ * or, without blocking the calling thread:
+ * 
+ *    scheduler.submit(new OhQuote(authToken, "SPY"))
+ *             .thenAccept(q -&gt; System.out.println(q.getBid("SPY")));
+ * 
+ * Requests may be submitted under a session name (ex: the authToken). Each
+ * session can be given its own budget, in addition to the overall rate of
+ * the scheduler.
+ * 
+ * Each request is placed in the lane of its OhRequestPriority (taken from its
+ * type, unless given explicitly), so that a cancel is never stuck behind a
+ * queue of quotes. Requests within a lane are sent in the order they were
+ * submitted. A request that has waited longer than the starvation limit is
+ * sent before requests of more urgent lanes that were queued after it.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OhRequestScheduler
+{
+	/** default number of messages sent per second */
+	public static final double DEFAULT_MESSAGES_PER_SECOND = 1.0;
+
+	/** name of the session used when none is provided */
+	public static final String DEFAULT_SESSION = "";
+
+	/**
+	 * default time (in ms) a request may wait before it is sent ahead of more
+	 * urgent lanes
+	 */
+	public static final long DEFAULT_STARVATION_LIMIT_MS = 10000;
+
+	/** the shared scheduler, created on first use */
+	private static OhRequestScheduler s_instance;
+
+	/** lock that protects the queue, the buckets and the statistics */
+	private final ReentrantLock m_lock;
+
+	/** signalled when a request is queued or the budgets change */
+	private final Condition m_changed;
+
+	/**
+	 * requests waiting to be sent, one lane per priority (indexed by ordinal),
+	 * each in the order they were submitted
+	 */
+	private final List<ArrayDeque<Pending<?>>> m_lanes;
+
+	/** time (in ns) a request may wait before it is sent ahead of its lane */
+	private long m_starvationLimitNanos;
+
+	/** bucket that limits the overall rate of messages */
+	private final OhTokenBucket m_bucket;
+
+	/** buckets that limit the rate of messages of individual sessions */
+	private final Map<String, OhTokenBucket> m_sessionBuckets;
+
+	/** rate given to sessions without their own budget (0 for no limit) */
+	private double m_defaultSessionRate;
+
+	/** thread that sends queued requests when a token is available */
+	private final Thread m_dispatcher;
+
+	/** flag that indicates the scheduler has been shut down */
+	private volatile boolean m_shutdown;
+
+	/** number of requests that have been sent */
+	private long m_dispatched;
+
+	/** total time (in ns) that sent requests waited in the queue */
+	private long m_totalWaitNanos;
+
+	/** longest time (in ns) that a sent request waited in the queue */
+	private long m_maxWaitNanos;
+
+	/**
+	 * Returns the scheduler shared by the whole process, sending the default
+	 * number of messages per second.
+	 * 
+	 * @return the shared scheduler
+	 */
+	public static synchronized OhRequestScheduler getInstance()
+	{
+		if (null == s_instance)
+		{
+			s_instance = new OhRequestScheduler(DEFAULT_MESSAGES_PER_SECOND);
+		}
+
+		return s_instance;
+	}
+
+	/**
+	 * Constructor for a scheduler that sends the default number of messages
+	 * per second
+	 */
+	public OhRequestScheduler()
+	{
+		this(DEFAULT_MESSAGES_PER_SECOND);
+	}
+
+	/**
+	 * Constructor for a scheduler that sends the given number of messages per
+	 * second
+	 * 
+	 * @param messagesPerSecond
+	 *            the number of messages sent per second
+	 */
+	public OhRequestScheduler(double messagesPerSecond)
+	{
+		m_lock = new ReentrantLock();
+		m_changed = m_lock.newCondition();
+		m_lanes = new ArrayList<ArrayDeque<Pending<?>>>();
+		for (int i = 0; i < OhRequestPriority.values().length; ++i)
+		{
+			m_lanes.add(new ArrayDeque<Pending<?>>());
+		}
+		m_starvationLimitNanos = DEFAULT_STARVATION_LIMIT_MS * 1000000L;
+		m_bucket = new OhTokenBucket(messagesPerSecond, 1);
+		m_sessionBuckets = new HashMap<String, OhTokenBucket>();
+		m_defaultSessionRate = 0;
+
+		m_dispatcher = new Thread(new Runnable()
+		{
+			public void run()
+			{
+				dispatchLoop();
+			}
+		}, "OhRequestScheduler-dispatcher");
+		m_dispatcher.setDaemon(true);
+		m_dispatcher.start();
+	}
+
+	/**
+	 * Queues a request under the default session. The returned future is
+	 * completed with the request once its response has been received.
+	 * 
+	 * @param <T>
+	 *            the type of the request
+	 * @param request
+	 *            the request to be sent
+	 * @return a future that is completed with the request
+	 */
+	public <T extends IOh> CompletableFuture<T> submit(T request)
+	{
+		return submit(request, DEFAULT_SESSION);
+	}
+
+	/**
+	 * Queues a request under the given session. The returned future is
+	 * completed with the request once its response has been received.
+	 * 
+	 * @param <T>
+	 *            the type of the request
+	 * @param request
+	 *            the request to be sent
+	 * @param session
+	 *            the name of the session (ex: the authToken)
+	 * @return a future that is completed with the request
+	 */
+	public <T extends IOh> CompletableFuture<T> submit(T request, String session)
+	{
+		return submit(request, session, OhRequestPriority.forRequest(request));
+	}
+
+	/**
+	 * Queues a request under the default session, in the lane of the given
+	 * priority. The returned future is completed with the request once its
+	 * response has been received.
+	 * 
+	 * @param <T>
+	 *            the type of the request
+	 * @param request
+	 *            the request to be sent
+	 * @param priority
+	 *            the priority of the request
+	 * @return a future that is completed with the request
+	 */
+	public <T extends IOh> CompletableFuture<T> submit(T request,
+			OhRequestPriority priority)
+	{
+		return submit(request, DEFAULT_SESSION, priority);
+	}
+
+	/**
+	 * Queues a request under the given session, in the lane of the given
+	 * priority. The returned future is completed with the request once its
+	 * response has been received.
+	 * 
+	 * @param <T>
+	 *            the type of the request
+	 * @param request
+	 *            the request to be sent
+	 * @param session
+	 *            the name of the session (ex: the authToken)
+	 * @param priority
+	 *            the priority of the request, or null to take it from the type
+	 *            of the request
+	 * @return a future that is completed with the request
+	 */
+	public <T extends IOh> CompletableFuture<T> submit(T request,
+			String session, OhRequestPriority priority)
+	{
+		Pending<T> p = new Pending<T>(request, (null == session) ? DEFAULT_SESSION
+				: session, (null == priority) ? OhRequestPriority
+				.forRequest(request) : priority);
+
+		m_lock.lock();
+		try
+		{
+			if (m_shutdown)
+			{
+				throw new RejectedExecutionException(
+						"OhRequestScheduler has been shut down");
+			}
+
+			m_lanes.get(p.m_priority.ordinal()).addLast(p);
+			m_changed.signalAll();
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+
+		return p.m_future;
+	}
+
+	/**
+	 * Queues several requests under the given session as one unit: they are
+	 * added to their lanes at once, so no request submitted by another thread
+	 * is queued between them, and requests of the same lane are sent one
+	 * after the other (unless a more urgent or a starved request is sent in
+	 * between). Each request still costs one token.
+	 * 
+	 * @param <T>
+	 *            the type of the requests
+	 * @param requests
+	 *            the requests to be sent, in order
+	 * @param session
+	 *            the name of the session (ex: the authToken)
+	 * @return the futures of the requests, in the same order, each completed
+	 *         with its request once its response has been received
+	 */
+	public <T extends IOh> List<CompletableFuture<T>> submitAll(
+			List<? extends T> requests, String session)
+	{
+		List<Pending<T>> pending = new ArrayList<Pending<T>>(requests.size());
+		List<CompletableFuture<T>> futures = new ArrayList<CompletableFuture<T>>(
+				requests.size());
+
+		for (T request : requests)
+		{
+			Pending<T> p = new Pending<T>(request,
+					(null == session) ? DEFAULT_SESSION : session,
+					OhRequestPriority.forRequest(request));
+			pending.add(p);
+			futures.add(p.m_future);
+		}
+
+		m_lock.lock();
+		try
+		{
+			if (m_shutdown)
+			{
+				throw new RejectedExecutionException(
+						"OhRequestScheduler has been shut down");
+			}
+
+			for (Pending<T> p : pending)
+			{
+				m_lanes.get(p.m_priority.ordinal()).addLast(p);
+			}
+			m_changed.signalAll();
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+
+		return futures;
+	}
+
+	/**
+	 * Queues a request under the default session and waits for its response.
+	 * 
+	 * @param <T>
+	 *            the type of the request
+	 * @param request
+	 *            the request to be sent
+	 * @return the request, after its response has been received
+	 */
+	public <T extends IOh> T execute(T request)
+	{
+		return submit(request).join();
+	}
+
+	/**
+	 * Queues a request under the given session and waits for its response.
+	 * 
+	 * @param <T>
+	 *            the type of the request
+	 * @param request
+	 *            the request to be sent
+	 * @param session
+	 *            the name of the session (ex: the authToken)
+	 * @return the request, after its response has been received
+	 */
+	public <T extends IOh> T execute(T request, String session)
+	{
+		return submit(request, session).join();
+	}
+
+	/**
+	 * Queues a request under the given session, in the lane of the given
+	 * priority, and waits for its response.
+	 * 
+	 * @param <T>
+	 *            the type of the request
+	 * @param request
+	 *            the request to be sent
+	 * @param session
+	 *            the name of the session (ex: the authToken)
+	 * @param priority
+	 *            the priority of the request
+	 * @return the request, after its response has been received
+	 */
+	public <T extends IOh> T execute(T request, String session,
+			OhRequestPriority priority)
+	{
+		return submit(request, session, priority).join();
+	}
+
+	/**
+	 * Returns the time (in ms) a request may wait before it is sent ahead of
+	 * more urgent lanes
+	 * 
+	 * @return the starvation limit in milliseconds
+	 */
+	public long getStarvationLimitMs()
+	{
+		m_lock.lock();
+		try
+		{
+			return m_starvationLimitNanos / 1000000L;
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Sets the time (in ms) a request may wait before it is sent ahead of more
+	 * urgent lanes. Requests of urgent lanes are still sent first as long as
+	 * the requests of other lanes have not waited this long.
+	 * 
+	 * @param starvationLimitMs
+	 *            the starvation limit in milliseconds
+	 */
+	public void setStarvationLimitMs(long starvationLimitMs)
+	{
+		m_lock.lock();
+		try
+		{
+			m_starvationLimitNanos = Math.max(0, starvationLimitMs) * 1000000L;
+			m_changed.signalAll();
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of messages sent per second
+	 * 
+	 * @return the number of messages sent per second
+	 */
+	public double getMessagesPerSecond()
+	{
+		m_lock.lock();
+		try
+		{
+			return m_bucket.getRate();
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Sets the number of messages sent per second, across all sessions
+	 * 
+	 * @param messagesPerSecond
+	 *            the number of messages sent per second
+	 */
+	public void setMessagesPerSecond(double messagesPerSecond)
+	{
+		m_lock.lock();
+		try
+		{
+			m_bucket.setRate(messagesPerSecond, 1);
+			m_changed.signalAll();
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Gives a session its own budget of messages per second. Requests of the
+	 * session are limited by both this budget and the overall rate.
+	 * 
+	 * @param session
+	 *            the name of the session
+	 * @param messagesPerSecond
+	 *            the number of messages per second for the session, or 0 to
+	 *            remove the session budget
+	 */
+	public void setSessionRate(String session, double messagesPerSecond)
+	{
+		m_lock.lock();
+		try
+		{
+			if (messagesPerSecond <= 0)
+			{
+				m_sessionBuckets.remove(session);
+			}
+			else if (m_sessionBuckets.containsKey(session))
+			{
+				m_sessionBuckets.get(session).setRate(messagesPerSecond, 1);
+			}
+			else
+			{
+				m_sessionBuckets.put(session, new OhTokenBucket(
+						messagesPerSecond, 1));
+			}
+
+			m_changed.signalAll();
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Sets the budget given to sessions that have not been given their own
+	 * budget through setSessionRate().
+	 * 
+	 * @param messagesPerSecond
+	 *            the number of messages per second for each session, or 0 for
+	 *            sessions to be limited only by the overall rate
+	 */
+	public void setDefaultSessionRate(double messagesPerSecond)
+	{
+		m_lock.lock();
+		try
+		{
+			m_defaultSessionRate = Math.max(0, messagesPerSecond);
+			m_changed.signalAll();
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of requests waiting to be sent
+	 * 
+	 * @return the number of queued requests
+	 */
+	public int getQueueDepth()
+	{
+		m_lock.lock();
+		try
+		{
+			int depth = 0;
+			for (ArrayDeque<Pending<?>> lane : m_lanes)
+			{
+				depth += lane.size();
+			}
+
+			return depth;
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of requests of the given priority waiting to be sent
+	 * 
+	 * @param priority
+	 *            the priority
+	 * @return the number of queued requests in the lane of the priority
+	 */
+	public int getQueueDepth(OhRequestPriority priority)
+	{
+		m_lock.lock();
+		try
+		{
+			return m_lanes.get(priority.ordinal()).size();
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of requests that have been sent
+	 * 
+	 * @return the number of sent requests
+	 */
+	public long getDispatchedCount()
+	{
+		m_lock.lock();
+		try
+		{
+			return m_dispatched;
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the average time (in ms) that sent requests waited in the queue
+	 * 
+	 * @return the average wait time in milliseconds
+	 */
+	public double getAverageWaitMs()
+	{
+		m_lock.lock();
+		try
+		{
+			if (m_dispatched == 0)
+			{
+				return 0;
+			}
+
+			return (m_totalWaitNanos / (double) m_dispatched) / 1000000.0;
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the longest time (in ms) that a sent request waited in the queue
+	 * 
+	 * @return the maximum wait time in milliseconds
+	 */
+	public double getMaxWaitMs()
+	{
+		m_lock.lock();
+		try
+		{
+			return m_maxWaitNanos / 1000000.0;
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Resets the sent count and the wait time statistics
+	 */
+	public void resetStats()
+	{
+		m_lock.lock();
+		try
+		{
+			m_dispatched = 0;
+			m_totalWaitNanos = 0;
+			m_maxWaitNanos = 0;
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the scheduler. Requests that are still queued will never be sent;
+	 * their futures are completed exceptionally.
+	 */
+	public void shutdown()
+	{
+		m_lock.lock();
+		try
+		{
+			m_shutdown = true;
+
+			for (ArrayDeque<Pending<?>> lane : m_lanes)
+			{
+				for (Pending<?> p : lane)
+				{
+					p.m_future.completeExceptionally(new RejectedExecutionException(
+							"OhRequestScheduler has been shut down"));
+				}
+
+				lane.clear();
+			}
+
+			m_changed.signalAll();
+		}
+		finally
+		{
+			m_lock.unlock();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("queueDepth=");
+		sb.append(getQueueDepth());
+		sb.append(" dispatched=");
+		sb.append(getDispatchedCount());
+		sb.append(" avgWaitMs=");
+		sb.append(getAverageWaitMs());
+		sb.append(" maxWaitMs=");
+		sb.append(getMaxWaitMs());
+
+		return sb.toString();
+	}
+
+	/**
+	 * Sends queued requests, one token at a time, until the scheduler is shut
+	 * down.
+	 */
+	private void dispatchLoop()
+	{
+		while (!m_shutdown)
+		{
+			Pending<?> next = null;
+
+			m_lock.lock();
+			try
+			{
+				next = takeNext();
+			}
+			catch (InterruptedException e)
+			{
+				return;
+			}
+			finally
+			{
+				m_lock.unlock();
+			}
+
+			if (null != next)
+			{
+				next.send();
+			}
+		}
+	}
+
+	/**
+	 * Waits until a queued request may be sent, then removes it from the
+	 * queue and consumes its tokens. Must be called while holding the lock.
+	 * 
+	 * @return the request to be sent, or null if the scheduler was shut down
+	 * @throws InterruptedException
+	 *             if the dispatcher thread was interrupted
+	 */
+	private Pending<?> takeNext() throws InterruptedException
+	{
+		while (!m_shutdown)
+		{
+			if (getQueueDepth() == 0)
+			{
+				m_changed.await();
+				continue;
+			}
+
+			long now = System.nanoTime();
+			long wait = m_bucket.nanosUntilAvailable(now);
+
+			if (wait == 0)
+			{
+				// within each lane, the oldest request whose session has a
+				// token available is the candidate of the lane. The candidate
+				// of the most urgent lane is sent, unless a candidate has
+				// waited past the starvation limit, in which case the oldest
+				// such candidate is sent.
+				long sessionWait = Long.MAX_VALUE;
+				Pending<?> urgent = null;
+				Pending<?> starved = null;
+
+				for (ArrayDeque<Pending<?>> lane : m_lanes)
+				{
+					for (Pending<?> p : lane)
+					{
+						long w = sessionWait(p.m_session, now);
+
+						if (w == 0)
+						{
+							if (null == urgent)
+							{
+								urgent = p;
+							}
+
+							if (now - p.m_queuedNanos >= m_starvationLimitNanos
+									&& (null == starved || p.m_queuedNanos < starved.m_queuedNanos))
+							{
+								starved = p;
+							}
+
+							break;
+						}
+
+						sessionWait = Math.min(sessionWait, w);
+					}
+				}
+
+				Pending<?> next = (null != starved) ? starved : urgent;
+
+				if (null != next)
+				{
+					m_lanes.get(next.m_priority.ordinal()).remove(next);
+					m_bucket.consume(now);
+
+					OhTokenBucket sessionBucket = getSessionBucket(next.m_session);
+					if (null != sessionBucket)
+					{
+						sessionBucket.consume(now);
+					}
+
+					long waited = now - next.m_queuedNanos;
+					++m_dispatched;
+					m_totalWaitNanos += waited;
+					m_maxWaitNanos = Math.max(m_maxWaitNanos, waited);
+
+					return next;
+				}
+
+				wait = sessionWait;
+			}
+
+			m_changed.awaitNanos(wait);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the number of nanoseconds until the given session has a token
+	 * available
+	 * 
+	 * @param session
+	 *            the name of the session
+	 * @param now
+	 *            the current time (from System.nanoTime)
+	 * @return the number of nanoseconds to wait, or 0 if a token is available
+	 */
+	private long sessionWait(String session, long now)
+	{
+		OhTokenBucket sessionBucket = getSessionBucket(session);
+
+		return (null == sessionBucket) ? 0 : sessionBucket
+				.nanosUntilAvailable(now);
+	}
+
+	/**
+	 * Returns the bucket that limits the given session, creating it from the
+	 * default session rate if needed. Returns null if the session has no
+	 * budget of its own.
+	 * 
+	 * @param session
+	 *            the name of the session
+	 * @return the bucket of the session, or null
+	 */
+	private OhTokenBucket getSessionBucket(String session)
+	{
+		OhTokenBucket bucket = m_sessionBuckets.get(session);
+
+		if (null == bucket && m_defaultSessionRate > 0)
+		{
+			bucket = new OhTokenBucket(m_defaultSessionRate, 1);
+			m_sessionBuckets.put(session, bucket);
+		}
+
+		return bucket;
+	}
+
+	/**
+	 * A request waiting in the queue
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private static class Pending<T extends IOh>
+	{
+		/** the request to be sent */
+		private final T m_request;
+
+		/** the name of the session of the request */
+		private final String m_session;
+
+		/** the priority (lane) of the request */
+		private final OhRequestPriority m_priority;
+
+		/** time (from System.nanoTime) at which the request was queued */
+		private final long m_queuedNanos;
+
+		/** future completed when the response has been received */
+		private final CompletableFuture<T> m_future;
+
+		Pending(T request, String session, OhRequestPriority priority)
+		{
+			m_request = request;
+			m_session = session;
+			m_priority = priority;
+			m_queuedNanos = System.nanoTime();
+			m_future = new CompletableFuture<T>();
+		}
+
+		/**
+		 * Sends the request without blocking, and completes the future once
+		 * the response has been received.
+		 */
+		void send()
+		{
+			try
+			{
+				m_request.<T> executeAsync().whenComplete((rsp, ex) -> {
+					if (null != ex)
+					{
+						m_future.completeExceptionally(ex);
+					}
+					else
+					{
+						m_future.complete(rsp);
+					}
+				});
+			}
+			catch (RuntimeException e)
+			{
+				m_future.completeExceptionally(e);
+			}
+		}
+	}
+}
@@ -8,12 +8,11 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will create a simple one-legged order on OptionsHouse
@@ -46,6 +45,12 @@ public class OhSimpleOrder extends IOh
 	/** the time-in-force of this order (Day or GTC) */
 	private TimeInForce m_tif;
 
+	/**
+	 * the client id of this order, sent with every attempt to create it so
+	 * that a retried request can be recognized
+	 */
+	private long m_clientId;
+
 	/** contains the request JSON message for placing the order */
 	private OhMsgCreateSimpleOrderReq m_request;
 
@@ -84,6 +89,7 @@ public class OhSimpleOrder extends IOh
 		m_side = side;
 		m_positionType = positionType;
 		m_tif = tif;
+		m_clientId = OptionsHouseUtilities.nextClientId();
 	}
 
 	/*
@@ -109,8 +115,8 @@ public class OhSimpleOrder extends IOh
 	}
 
 	/**
-	 * Sets up the input values for placing an order. Also sends the request to
-	 * the OptionsHouse server.
+	 * Sets up the input values for placing a new order (with a new client id).
+	 * Also sends the request to the OptionsHouse server.
 	 * 
 	 * @param authToken
 	 *            the authorization token for the session with OptionsHouse
@@ -141,27 +147,47 @@ public class OhSimpleOrder extends IOh
 		m_side = side;
 		m_positionType = positionType;
 		m_tif = tif;
+		m_clientId = OptionsHouseUtilities.nextClientId();
 
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgCreateSimpleOrderReq prepareRequest()
 	{
 		m_request = new OhMsgCreateSimpleOrderReq(m_authToken, m_accountId,
 				m_symbol, m_quantity, m_limitPrice, m_side, m_positionType,
-				m_tif);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgCreateSimpleOrderRsp.build(m_httpRequest
-				.getResponse());
-
-		super.execute();
+				m_tif, m_clientId);
+		return m_request;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#isIdempotent()
+	 */
+	@Override
+	protected boolean isIdempotent()
+	{
+		// sending the order again could place it twice
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgCreateSimpleOrderRsp.build(response);
 	}
 
 	/**
@@ -179,6 +205,44 @@ public class OhSimpleOrder extends IOh
 		return false;
 	}
 
+	/**
+	 * Returns an order with one leg that is equivalent to this order (used to
+	 * preview this order)
+	 * 
+	 * @return the equivalent complex order
+	 */
+	OhComplexOrder toComplexOrder()
+	{
+		OhComplexOrder order = new OhComplexOrder(m_authToken, m_accountId,
+				m_quantity, m_limitPrice, m_tif);
+		order.addLeg(m_symbol, m_side, m_positionType);
+		order.setClientId(m_clientId);
+		return order;
+	}
+
+	/**
+	 * Returns the client id of this order. It is generated (see
+	 * OptionsHouseUtilities.getClientIdGenerator()) when the order is
+	 * constructed, and is sent again if the same object is executed again.
+	 * 
+	 * @return the client id of the order
+	 */
+	public long getClientId()
+	{
+		return m_clientId;
+	}
+
+	/**
+	 * Sets the client id of this order, replacing the generated one
+	 * 
+	 * @param clientId
+	 *            the client id of the order
+	 */
+	public void setClientId(long clientId)
+	{
+		m_clientId = clientId;
+	}
+
 	/**
 	 * Returns the id string of the newly created order.
 	 * 
@@ -222,7 +286,7 @@ class OhMsgCreateSimpleOrderReq extends IOhMsgReq
 {
 	public OhMsgCreateSimpleOrderReq(String authToken, String account,
 			String symbol, long quantity, double limitPrice, Side side,
-			PositionType positionType, TimeInForce tif)
+			PositionType positionType, TimeInForce tif, long clientId)
 	{
 		String key = OptionsHouseUtilities.createKey(symbol);
 		String underlying = OptionsHouseUtilities.extractStockFromKey(key);
@@ -270,9 +334,6 @@ class OhMsgCreateSimpleOrderReq extends IOhMsgReq
 			posTypeStr = "closing";
 		}
 
-		Date d = new Date();
-		long timestamp = d.getTime();
-
 		m_page = "j";
 
 		EZCreateSimpleOrderReq ezReq = new EZCreateSimpleOrderReq();
@@ -290,13 +351,13 @@ class OhMsgCreateSimpleOrderReq extends IOhMsgReq
 		ezReq.EZMessage.data.order.underlying_stock_symbol = underlying;
 		ezReq.EZMessage.data.order.allOrNone = false;
 		ezReq.EZMessage.data.order.source = "API";
-		ezReq.EZMessage.data.order.client_id = timestamp;
+		ezReq.EZMessage.data.order.client_id = clientId;
 		ezReq.EZMessage.data.order.preferred_destination = "BEST";
 
 		ezReq.EZMessage.data.order.addLeg(0, sideStr, securityType, quantity,
 				key, 1, posTypeStr);
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 
 	}
 
@@ -380,16 +441,12 @@ class OhMsgCreateSimpleOrderRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgCreateSimpleOrderRsp build(String str)
+	public static OhMsgCreateSimpleOrderRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgCreateSimpleOrderRsp rsp = (gson.fromJson(str,
+		OhMsgCreateSimpleOrderRsp rsp = (gson.fromJson(reader,
 				OhMsgCreateSimpleOrderRsp.class));
-		rsp.m_raw = str;
 		return rsp;
 	}
 
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+/**
+ * A token bucket that limits the rate at which messages may be sent. Tokens
+ * are added at a fixed rate, up to the capacity of the bucket. Sending one
+ * message consumes one token. This class is not thread-safe; callers must
+ * provide their own locking.
+ * 
+ * @author Ryan Antkowiak 
+ */
+class OhTokenBucket
+{
+	/** number of nanoseconds in one second */
+	private static final double NANOS_PER_SECOND = 1000000000.0;
+
+	/** rate at which tokens are added to the bucket (tokens per second) */
+	private double m_rate;
+
+	/** maximum number of tokens the bucket can hold */
+	private double m_capacity;
+
+	/** number of tokens currently in the bucket */
+	private double m_tokens;
+
+	/** time (from System.nanoTime) at which tokens were last added */
+	private long m_lastRefillNanos;
+
+	/**
+	 * Constructor for a bucket that starts full
+	 * 
+	 * @param rate
+	 *            the number of tokens added per second
+	 * @param capacity
+	 *            the maximum number of tokens the bucket can hold (at least 1)
+	 */
+	OhTokenBucket(double rate, double capacity)
+	{
+		setRate(rate, capacity);
+		m_tokens = m_capacity;
+		m_lastRefillNanos = System.nanoTime();
+	}
+
+	/**
+	 * Changes the rate and capacity of the bucket
+	 * 
+	 * @param rate
+	 *            the number of tokens added per second
+	 * @param capacity
+	 *            the maximum number of tokens the bucket can hold (at least 1)
+	 */
+	void setRate(double rate, double capacity)
+	{
+		if (rate <= 0 || capacity < 1)
+		{
+			throw new IllegalArgumentException(
+					"rate must be positive and capacity at least 1");
+		}
+
+		m_rate = rate;
+		m_capacity = capacity;
+		m_tokens = Math.min(m_tokens, m_capacity);
+	}
+
+	/**
+	 * Returns the number of tokens added per second
+	 * 
+	 * @return the rate of the bucket
+	 */
+	double getRate()
+	{
+		return m_rate;
+	}
+
+	/**
+	 * Returns the number of nanoseconds until a token will be available
+	 * 
+	 * @param now
+	 *            the current time (from System.nanoTime)
+	 * @return the number of nanoseconds to wait, or 0 if a token is available
+	 */
+	long nanosUntilAvailable(long now)
+	{
+		refill(now);
+
+		if (m_tokens >= 1)
+		{
+			return 0;
+		}
+
+		return (long) Math.ceil((1 - m_tokens) * NANOS_PER_SECOND / m_rate);
+	}
+
+	/**
+	 * Removes one token from the bucket
+	 * 
+	 * @param now
+	 *            the current time (from System.nanoTime)
+	 */
+	void consume(long now)
+	{
+		refill(now);
+		m_tokens -= 1;
+	}
+
+	/**
+	 * Adds the tokens that have accumulated since the last refill
+	 * 
+	 * @param now
+	 *            the current time (from System.nanoTime)
+	 */
+	private void refill(long now)
+	{
+		if (now > m_lastRefillNanos)
+		{
+			m_tokens = Math.min(m_capacity, m_tokens
+					+ (now - m_lastRefillNanos) * m_rate / NANOS_PER_SECOND);
+			m_lastRefillNanos = now;
+		}
+	}
+}
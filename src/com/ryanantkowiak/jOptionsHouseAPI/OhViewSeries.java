@@ -8,11 +8,11 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * This class will retrieve the list of option security symbols for a provided
@@ -58,6 +58,9 @@ public class OhViewSeries extends IOh
 	/** contains the response JSON message for option series data */
 	private OhMsgViewSeriesRsp m_response;
 
+	/** the option chain of the response, built on first use */
+	private OptionChain m_chain;
+
 	/**
 	 * Constructor sets up the input values for retrieving the option series
 	 * data. The default behavior will show quarterly option data, but will omit
@@ -170,21 +173,30 @@ public class OhViewSeries extends IOh
 		execute();
 	}
 
-	/**
-	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response.
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.IOh#prepareRequest()
 	 */
 	@Override
-	public void execute()
+	protected OhMsgViewSeriesReq prepareRequest()
 	{
 		m_request = new OhMsgViewSeriesReq(m_authToken, m_symbol,
 				m_showQuarterlies, m_showWeeklies);
-		m_httpRequest = new OptionsHouseHttpRequest(m_request.getJsonString(),
-				m_request.getPage());
-		m_httpRequest.sendRequest();
-		m_response = OhMsgViewSeriesRsp.build(m_httpRequest.getResponse());
+		return m_request;
+	}
 
-		super.execute();
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * com.ryanantkowiak.jOptionsHouseAPI.IOh#processResponse(java.io.Reader)
+	 */
+	@Override
+	protected void processResponse(Reader response)
+	{
+		m_response = OhMsgViewSeriesRsp.build(response);
+		m_chain = null;
 	}
 
 	/**
@@ -215,19 +227,47 @@ public class OhViewSeries extends IOh
 
 		if (null != getSeriesList())
 		{
-			for (int i = 0; i < m_response.EZMessage.data.s.size(); ++i)
+			for (OhMsgViewSeriesRsp.EZMessage_.data_.s_ s : getSeriesList())
 			{
 				OhSeriesExpiration exp = new OhSeriesExpiration();
-				exp.m_expirationDate = getSeriesList().get(i).e;
-				exp.m_contracts = new ArrayList<String>();
-				for (int j = 0; j < getSeriesList().get(i).k.size(); ++j)
+				exp.m_expirationDate = s.e;
+				exp.m_contracts = (null == s.k) ? new ArrayList<String>()
+						: new ArrayList<String>(s.k);
+				data.add(exp);
+			}
+		}
+
+		return data;
+	}
+
+	/**
+	 * Returns the option chain of the series: all the option contracts,
+	 * indexed by expiration and strike. The chain is built on the first call,
+	 * and kept until the next response.
+	 * 
+	 * @return the option chain
+	 */
+	public OptionChain getOptionChain()
+	{
+		if (null == m_chain)
+		{
+			List<String> keys = new ArrayList<String>();
+
+			if (null != getSeriesList())
+			{
+				for (OhMsgViewSeriesRsp.EZMessage_.data_.s_ s : getSeriesList())
 				{
-					exp.m_contracts.add(getSeriesList().get(i).k.get(j));
+					if (null != s.k)
+					{
+						keys.addAll(s.k);
+					}
 				}
 			}
+
+			m_chain = OptionChain.of(m_symbol, keys);
 		}
 
-		return data;
+		return m_chain;
 	}
 
 	/**
@@ -283,7 +323,7 @@ class OhMsgViewSeriesReq extends IOhMsgReq
 		ezReq.EZMessage.data.quarterlies = quarterlies;
 		ezReq.EZMessage.data.weeklies = weeklies;
 
-		m_json = (new GsonBuilder()).create().toJson(ezReq, ezReq.getClass());
+		m_json = OhGson.get().toJson(ezReq, ezReq.getClass());
 	}
 
 	public class EZViewSeriesReq
@@ -321,15 +361,11 @@ class OhMsgViewSeriesRsp extends IOhMsgRsp
 		return EZMessage;
 	}
 
-	public static OhMsgViewSeriesRsp build(String str)
+	public static OhMsgViewSeriesRsp build(Reader reader)
 	{
-		GsonBuilder gsonBuilder = new GsonBuilder();
-		gsonBuilder.registerTypeAdapter(ErrorMap.class,
-				new ErrorMapDeserializer());
-		Gson gson = gsonBuilder.create();
+		Gson gson = OhGson.get();
 
-		OhMsgViewSeriesRsp rsp = (gson.fromJson(str, OhMsgViewSeriesRsp.class));
-		rsp.m_raw = str;
+		OhMsgViewSeriesRsp rsp = (gson.fromJson(reader, OhMsgViewSeriesRsp.class));
 		return rsp;
 	}
 
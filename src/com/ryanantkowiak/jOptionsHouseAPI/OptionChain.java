@@ -0,0 +1,665 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <pre>
+ * An immutable option chain: the option contracts of an underlying, indexed
+ * for fast lookups.
+ * 
+ *    OptionChain chain = series.getOptionChain();     // an executed OhViewSeries
+ *    int exp = chain.nearestExpiration(LocalDate.now().toEpochDay() + 30);
+ *    int atm = chain.atm(exp, spot, SecurityKey.CALL);
+ *    SecurityKey call = chain.getKey(atm);
+ * 
+ * The expirations are sorted and held as epoch days (days since 1970-01-01).
+ * The contracts are held in arrays sorted by expiration, then strike, then
+ * type (the call before the put of the same strike), and are designated by
+ * their index in those arrays. The contracts of expiration i are the indexes
+ * getFirstContract(i) to getLastContract(i) - 1. Strikes are held in a
+ * double[] and the type of each contract in a BitSet, so lookups by strike
+ * are binary searches over primitive arrays, O(log n), without allocating.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public final class OptionChain
+{
+	/** orders contracts by expiration, then strike, then type */
+	private static final Comparator<SecurityKey> CONTRACT_ORDER =
+			new Comparator<SecurityKey>()
+	{
+		public int compare(SecurityKey a, SecurityKey b)
+		{
+			int c = a.getExpiry().compareTo(b.getExpiry());
+			if (0 == c)
+			{
+				c = Long.compare(a.getStrike(), b.getStrike());
+			}
+			if (0 == c)
+			{
+				c = Character.compare(a.getType(), b.getType());
+			}
+			if (0 == c)
+			{
+				c = a.compareTo(b);
+			}
+			return c;
+		}
+	};
+
+	/** epoch day returned for an invalid expiration date */
+	private static final int INVALID_DAY = Integer.MIN_VALUE;
+
+	/** the underlying stock symbol */
+	private final String m_underlying;
+
+	/** the expirations, as epoch days, ascending */
+	private final int[] m_expirationDays;
+
+	/** the expirations, as YYYYMMDD */
+	private final String[] m_expirationDates;
+
+	/**
+	 * index of the first contract of each expiration (with one more entry,
+	 * the number of contracts)
+	 */
+	private final int[] m_firstContract;
+
+	/** the security keys of the contracts */
+	private final SecurityKey[] m_keys;
+
+	/** the strike prices (in dollars) of the contracts */
+	private final double[] m_strikes;
+
+	/** the contracts that are puts (the others are calls) */
+	private final BitSet m_puts;
+
+	/**
+	 * Returns the chain of the given option contracts. Keys that are not
+	 * option contracts, and duplicate keys, are ignored.
+	 * 
+	 * @param underlying
+	 *            the underlying stock symbol
+	 * @param keys
+	 *            the security keys of the option contracts
+	 * @return the option chain
+	 */
+	public static OptionChain of(String underlying, Collection<String> keys)
+	{
+		List<SecurityKey> contracts = new ArrayList<SecurityKey>(keys.size());
+
+		for (String k : keys)
+		{
+			if (null != k)
+			{
+				SecurityKey sk = SecurityKey.of(k);
+				if (sk.isOption() && INVALID_DAY != toEpochDay(sk.getExpiry()))
+				{
+					contracts.add(sk);
+				}
+			}
+		}
+
+		return new OptionChain(underlying, contracts);
+	}
+
+	/**
+	 * Private constructor builds the chain from its option contracts
+	 * 
+	 * @param underlying
+	 *            the underlying stock symbol
+	 * @param contracts
+	 *            the option contracts (in any order, may contain duplicates)
+	 */
+	private OptionChain(String underlying, List<SecurityKey> contracts)
+	{
+		SecurityKey[] sorted = contracts.toArray(new SecurityKey[contracts
+				.size()]);
+		Arrays.sort(sorted, CONTRACT_ORDER);
+
+		int n = 0;
+		for (int i = 0; i < sorted.length; ++i)
+		{
+			if (0 == n || !sorted[i].equals(sorted[n - 1]))
+			{
+				sorted[n++] = sorted[i];
+			}
+		}
+
+		m_underlying = underlying;
+		m_keys = Arrays.copyOf(sorted, n);
+		m_strikes = new double[n];
+		m_puts = new BitSet(n);
+
+		int numExpirations = 0;
+		for (int i = 0; i < n; ++i)
+		{
+			m_strikes[i] = m_keys[i].getStrikePrice();
+			m_puts.set(i, m_keys[i].isPut());
+
+			if (0 == i
+					|| !m_keys[i].getExpiry().equals(m_keys[i - 1].getExpiry()))
+			{
+				++numExpirations;
+			}
+		}
+
+		m_expirationDays = new int[numExpirations];
+		m_expirationDates = new String[numExpirations];
+		m_firstContract = new int[numExpirations + 1];
+
+		int e = -1;
+		for (int i = 0; i < n; ++i)
+		{
+			if (0 == i
+					|| !m_keys[i].getExpiry().equals(m_keys[i - 1].getExpiry()))
+			{
+				++e;
+				m_expirationDates[e] = m_keys[i].getExpiry();
+				m_expirationDays[e] = toEpochDay(m_expirationDates[e]);
+				m_firstContract[e] = i;
+			}
+		}
+		m_firstContract[numExpirations] = n;
+	}
+
+	/**
+	 * Returns the underlying stock symbol
+	 * 
+	 * @return the underlying stock symbol
+	 */
+	public String getUnderlying()
+	{
+		return m_underlying;
+	}
+
+	/**
+	 * Returns the number of expirations
+	 * 
+	 * @return the number of expirations
+	 */
+	public int getNumExpirations()
+	{
+		return m_expirationDays.length;
+	}
+
+	/**
+	 * Returns an expiration as an epoch day (days since 1970-01-01)
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @return the epoch day of the expiration
+	 */
+	public int getExpirationDay(int exp)
+	{
+		return m_expirationDays[exp];
+	}
+
+	/**
+	 * Returns an expiration as YYYYMMDD (ex: "20131116")
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @return the expiration date
+	 */
+	public String getExpirationDate(int exp)
+	{
+		return m_expirationDates[exp];
+	}
+
+	/**
+	 * Returns the index of the expiration on the given day
+	 * 
+	 * @param epochDay
+	 *            the day (days since 1970-01-01)
+	 * @return the index of the expiration, or -1 if no contract expires on
+	 *         that day
+	 */
+	public int findExpiration(long epochDay)
+	{
+		int i = nearestExpiration(epochDay);
+		return (i >= 0 && m_expirationDays[i] == epochDay) ? i : -1;
+	}
+
+	/**
+	 * Returns the index of the first expiration on or after the given day
+	 * 
+	 * @param epochDay
+	 *            the day (days since 1970-01-01)
+	 * @return the index of the expiration, or -1 if all expirations are
+	 *         before that day
+	 */
+	public int nearestExpiration(long epochDay)
+	{
+		int lo = 0;
+		int hi = m_expirationDays.length;
+
+		while (lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if (m_expirationDays[mid] < epochDay)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+
+		return (lo < m_expirationDays.length) ? lo : -1;
+	}
+
+	/**
+	 * Returns the number of contracts, over all expirations
+	 * 
+	 * @return the number of contracts
+	 */
+	public int getNumContracts()
+	{
+		return m_keys.length;
+	}
+
+	/**
+	 * Returns the index of the first contract of an expiration
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @return the index of its first contract
+	 */
+	public int getFirstContract(int exp)
+	{
+		return m_firstContract[exp];
+	}
+
+	/**
+	 * Returns the index after the last contract of an expiration
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @return the index after its last contract
+	 */
+	public int getLastContract(int exp)
+	{
+		return m_firstContract[exp + 1];
+	}
+
+	/**
+	 * Returns the security key of a contract
+	 * 
+	 * @param contract
+	 *            the index of the contract
+	 * @return the security key
+	 */
+	public SecurityKey getKey(int contract)
+	{
+		return m_keys[contract];
+	}
+
+	/**
+	 * Returns the strike price (in dollars) of a contract
+	 * 
+	 * @param contract
+	 *            the index of the contract
+	 * @return the strike price
+	 */
+	public double getStrike(int contract)
+	{
+		return m_strikes[contract];
+	}
+
+	/**
+	 * Returns true if a contract is a put
+	 * 
+	 * @param contract
+	 *            the index of the contract
+	 * @return true for a put, false for a call
+	 */
+	public boolean isPut(int contract)
+	{
+		return m_puts.get(contract);
+	}
+
+	/**
+	 * Returns true if a contract is a call
+	 * 
+	 * @param contract
+	 *            the index of the contract
+	 * @return true for a call, false for a put
+	 */
+	public boolean isCall(int contract)
+	{
+		return !m_puts.get(contract);
+	}
+
+	/**
+	 * Returns the index of the expiration of a contract
+	 * 
+	 * @param contract
+	 *            the index of the contract
+	 * @return the index of its expiration
+	 */
+	public int getExpiration(int contract)
+	{
+		// every expiration has at least one contract, so the first contracts
+		// are strictly increasing
+		int i = Arrays.binarySearch(m_firstContract, 0,
+				m_expirationDays.length, contract);
+		return (i >= 0) ? i : -i - 2;
+	}
+
+	/**
+	 * Returns the index of a contract
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @param strike
+	 *            the strike price (in dollars)
+	 * @param type
+	 *            SecurityKey.CALL or SecurityKey.PUT
+	 * @return the index of the contract, or -1 if there is no such contract
+	 */
+	public int find(int exp, double strike, char type)
+	{
+		int end = m_firstContract[exp + 1];
+		boolean put = (type == SecurityKey.PUT);
+
+		for (int i = lowerBound(exp, strike); i < end
+				&& m_strikes[i] == strike; ++i)
+		{
+			if (m_puts.get(i) == put)
+			{
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the strike (in dollars) of an expiration nearest to a price. The
+	 * lower strike wins a tie.
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @param price
+	 *            the price
+	 * @return the nearest strike, or NaN if the expiration has no contract
+	 */
+	public double nearestStrike(int exp, double price)
+	{
+		int i = nearestIndex(exp, price);
+		return (i < 0) ? Double.NaN : m_strikes[i];
+	}
+
+	/**
+	 * Returns the contract of the given type of an expiration whose strike is
+	 * nearest to a price (the at-the-money contract when the price is the spot
+	 * price of the underlying). The lower strike wins a tie.
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @param spot
+	 *            the price of the underlying
+	 * @param type
+	 *            SecurityKey.CALL or SecurityKey.PUT
+	 * @return the index of the contract, or -1 if the expiration has no
+	 *         contract of that type
+	 */
+	public int atm(int exp, double spot, char type)
+	{
+		int start = m_firstContract[exp];
+		int end = m_firstContract[exp + 1];
+		boolean put = (type == SecurityKey.PUT);
+
+		int above = lowerBound(exp, spot);
+		while (above < end && m_puts.get(above) != put)
+		{
+			++above;
+		}
+
+		int below = above - 1;
+		while (below >= start && m_puts.get(below) != put)
+		{
+			--below;
+		}
+
+		if (below < start)
+		{
+			return (above < end) ? above : -1;
+		}
+		if (above >= end)
+		{
+			return below;
+		}
+
+		return (spot - m_strikes[below] <= m_strikes[above] - spot) ? below
+				: above;
+	}
+
+	/**
+	 * Returns the contracts of the given type of an expiration around a price:
+	 * the at-the-money contract (see atm()), and up to n contracts with lower
+	 * strikes and up to n contracts with higher strikes
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @param spot
+	 *            the price of the underlying
+	 * @param n
+	 *            the number of strikes on each side of the at-the-money strike
+	 * @param type
+	 *            SecurityKey.CALL or SecurityKey.PUT
+	 * @return the indexes of the contracts, by ascending strike (empty if the
+	 *         expiration has no contract of that type)
+	 */
+	public int[] strikesAround(int exp, double spot, int n, char type)
+	{
+		int atm = atm(exp, spot, type);
+		if (atm < 0)
+		{
+			return new int[0];
+		}
+
+		int start = m_firstContract[exp];
+		int end = m_firstContract[exp + 1];
+		boolean put = (type == SecurityKey.PUT);
+
+		int lo = atm;
+		for (int found = 0, i = atm - 1; found < n && i >= start; --i)
+		{
+			if (m_puts.get(i) == put)
+			{
+				lo = i;
+				++found;
+			}
+		}
+
+		int hi = atm;
+		for (int found = 0, i = atm + 1; found < n && i < end; ++i)
+		{
+			if (m_puts.get(i) == put)
+			{
+				hi = i;
+				++found;
+			}
+		}
+
+		int count = 0;
+		int[] around = new int[2 * n + 1];
+		for (int i = lo; i <= hi; ++i)
+		{
+			if (m_puts.get(i) == put)
+			{
+				around[count++] = i;
+			}
+		}
+
+		return Arrays.copyOf(around, count);
+	}
+
+	/**
+	 * Returns the distinct strikes (in dollars) of an expiration
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @return the strikes, ascending
+	 */
+	public double[] getStrikes(int exp)
+	{
+		int start = m_firstContract[exp];
+		int end = m_firstContract[exp + 1];
+
+		int count = 0;
+		double[] strikes = new double[end - start];
+		for (int i = start; i < end; ++i)
+		{
+			if (0 == count || m_strikes[i] != strikes[count - 1])
+			{
+				strikes[count++] = m_strikes[i];
+			}
+		}
+
+		return Arrays.copyOf(strikes, count);
+	}
+
+	/**
+	 * Returns the security keys of all the contracts, in the order of their
+	 * indexes
+	 * 
+	 * @return the list of security keys
+	 */
+	public List<String> getKeys()
+	{
+		List<String> keys = new ArrayList<String>(m_keys.length);
+		for (SecurityKey k : m_keys)
+		{
+			keys.add(k.toString());
+		}
+		return keys;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return "OptionChain [underlying=" + m_underlying + ", expirations="
+				+ m_expirationDays.length + ", contracts=" + m_keys.length
+				+ "]";
+	}
+
+	/**
+	 * Returns the index of the first contract of an expiration whose strike
+	 * is not lower than a price
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @param price
+	 *            the price
+	 * @return the index of the contract (the end of the expiration if all
+	 *         strikes are lower)
+	 */
+	private int lowerBound(int exp, double price)
+	{
+		int lo = m_firstContract[exp];
+		int hi = m_firstContract[exp + 1];
+
+		while (lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if (m_strikes[mid] < price)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+
+		return lo;
+	}
+
+	/**
+	 * Returns the index of a contract of an expiration whose strike is nearest
+	 * to a price, of either type. The lower strike wins a tie.
+	 * 
+	 * @param exp
+	 *            the index of the expiration
+	 * @param price
+	 *            the price
+	 * @return the index of the contract, or -1 if the expiration has no
+	 *         contract
+	 */
+	private int nearestIndex(int exp, double price)
+	{
+		int start = m_firstContract[exp];
+		int end = m_firstContract[exp + 1];
+
+		if (start == end)
+		{
+			return -1;
+		}
+
+		int above = lowerBound(exp, price);
+		if (above == start)
+		{
+			return above;
+		}
+		if (above == end)
+		{
+			return end - 1;
+		}
+
+		if (price - m_strikes[above - 1] <= m_strikes[above] - price)
+		{
+			return above - 1;
+		}
+
+		return above;
+	}
+
+	/**
+	 * Converts a YYYYMMDD date to an epoch day
+	 * 
+	 * @param date
+	 *            the date as YYYYMMDD
+	 * @return the epoch day, or INVALID_DAY if the date is invalid
+	 */
+	private static int toEpochDay(String date)
+	{
+		if (date.length() != 8)
+		{
+			return INVALID_DAY;
+		}
+
+		try
+		{
+			return (int) LocalDate.of(Integer.parseInt(date.substring(0, 4)),
+					Integer.parseInt(date.substring(4, 6)),
+					Integer.parseInt(date.substring(6, 8))).toEpochDay();
+		} catch (RuntimeException ex)
+		{
+			return INVALID_DAY;
+		}
+	}
+}
@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Keeps the option chains of underlyings (see OptionChain), so that the
+ * series of an underlying, which change at most once a day, are not requested
+ * again on every cycle:
+ * 
+ *    OptionChainCache cache = new OptionChainCache(OhRequestScheduler.getInstance());
+ *    OptionChain chain = cache.get(authToken, "IBM", true, false);
+ * 
+ * Chains are keyed by symbol, quarterlies and weeklies, and are kept for the
+ * time to live (1 hour by default); the least recently used chain is dropped
+ * when the cache is full. Threads that miss on the same chain at the same time
+ * share one OhViewSeries request. A request that fails is not kept: get()
+ * throws a CompletionException and the next call requests the series again.
+ * 
+ * The chains can be saved to a file with saveSnapshot() and loaded back with
+ * loadSnapshot() (ex: after a restart). Loaded chains keep the time at which
+ * they were received, so they still expire on time.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OptionChainCache
+{
+	/** default time (in ms) that a chain is kept */
+	public static final long DEFAULT_TTL_MS = 60 * 60 * 1000;
+
+	/** default maximum number of chains kept */
+	public static final int DEFAULT_MAX_ENTRIES = 500;
+
+	/** first line of a snapshot file */
+	private static final String SNAPSHOT_HEADER = "OptionChainCache 1";
+
+	/**
+	 * The chain (or the request of the chain) of one key
+	 */
+	private static class CachedChain
+	{
+		/** the time (in ms) at which the chain was requested or received */
+		final long m_timeMs;
+
+		/** the request of the chain */
+		final CompletableFuture<OptionChain> m_future;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param timeMs
+		 *            the time (in ms) at which the chain was requested or
+		 *            received
+		 * @param future
+		 *            the request of the chain
+		 */
+		CachedChain(long timeMs, CompletableFuture<OptionChain> future)
+		{
+			m_timeMs = timeMs;
+			m_future = future;
+		}
+	}
+
+	/** scheduler through which the series are requested */
+	private final OhRequestScheduler m_scheduler;
+
+	/** the chains, by key, least recently used first */
+	private final LinkedHashMap<String, CachedChain> m_chains;
+
+	/** time (in ms) that a chain is kept */
+	private long m_ttlMs;
+
+	/** maximum number of chains kept */
+	private int m_maxEntries;
+
+	/** number of chains served from the cache */
+	private long m_hits;
+
+	/** number of series that were requested */
+	private long m_misses;
+
+	/**
+	 * Constructor for a cache that requests the series through the given
+	 * scheduler
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the series are requested
+	 */
+	public OptionChainCache(OhRequestScheduler scheduler)
+	{
+		m_scheduler = scheduler;
+		m_ttlMs = DEFAULT_TTL_MS;
+		m_maxEntries = DEFAULT_MAX_ENTRIES;
+
+		m_chains = new LinkedHashMap<String, CachedChain>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<String, CachedChain> eldest)
+			{
+				return size() > m_maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns the option chain of an underlying, from the cache if it is kept
+	 * and has not expired, or else by requesting its series (and waiting for
+	 * it)
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbol
+	 *            the underlying stock symbol
+	 * @param quarterlies
+	 *            true to include quarterly options
+	 * @param weeklies
+	 *            true to include weekly options
+	 * @return the option chain
+	 */
+	public OptionChain get(String authToken, String symbol,
+			boolean quarterlies, boolean weeklies)
+	{
+		return getAsync(authToken, symbol, quarterlies, weeklies).join();
+	}
+
+	/**
+	 * Returns the option chain of an underlying, from the cache if it is kept
+	 * and has not expired, or else by requesting its series. Does not wait
+	 * for the request.
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbol
+	 *            the underlying stock symbol
+	 * @param quarterlies
+	 *            true to include quarterly options
+	 * @param weeklies
+	 *            true to include weekly options
+	 * @return a future that is completed with the option chain
+	 */
+	public CompletableFuture<OptionChain> getAsync(String authToken,
+			String symbol, boolean quarterlies, boolean weeklies)
+	{
+		final String underlying = SecurityKey.of(symbol).getUnderlying();
+		final String key = key(underlying, quarterlies, weeklies);
+		final CachedChain load;
+
+		synchronized (this)
+		{
+			CachedChain c = m_chains.get(key);
+			if (null != c
+					&& System.currentTimeMillis() - c.m_timeMs < m_ttlMs)
+			{
+				++m_hits;
+				return c.m_future;
+			}
+
+			++m_misses;
+			load = new CachedChain(System.currentTimeMillis(), m_scheduler
+					.submit(new OhViewSeries(authToken, underlying,
+							quarterlies, weeklies), authToken)
+					.thenApply(new Function<OhViewSeries, OptionChain>()
+					{
+						public OptionChain apply(OhViewSeries series)
+						{
+							if (null == series.getResponse()
+									|| series.hasErrors())
+							{
+								throw new IllegalStateException(
+										"view.series failed for "
+												+ underlying + ": "
+												+ series.getAlert());
+							}
+
+							return series.getOptionChain();
+						}
+					}));
+			m_chains.put(key, load);
+		}
+
+		// a failed request is not kept, so the series is requested again
+		load.m_future.whenComplete(new BiConsumer<OptionChain, Throwable>()
+		{
+			public void accept(OptionChain chain, Throwable ex)
+			{
+				if (null != ex)
+				{
+					remove(key, load);
+				}
+			}
+		});
+
+		return load.m_future;
+	}
+
+	/**
+	 * Drops the chains of an underlying
+	 * 
+	 * @param symbol
+	 *            the underlying stock symbol
+	 */
+	public synchronized void invalidate(String symbol)
+	{
+		String underlying = SecurityKey.of(symbol).getUnderlying();
+
+		for (boolean q : new boolean[] { false, true })
+		{
+			for (boolean w : new boolean[] { false, true })
+			{
+				m_chains.remove(key(underlying, q, w));
+			}
+		}
+	}
+
+	/**
+	 * Drops all the chains
+	 */
+	public synchronized void clear()
+	{
+		m_chains.clear();
+	}
+
+	/**
+	 * Returns the number of chains kept (some of them may have expired)
+	 * 
+	 * @return the number of chains kept
+	 */
+	public synchronized int size()
+	{
+		return m_chains.size();
+	}
+
+	/**
+	 * Writes the chains that have been received and have not expired to a
+	 * file
+	 * 
+	 * @param file
+	 *            the snapshot file
+	 * @return the number of chains written
+	 * @throws IOException
+	 *             if the file cannot be written
+	 */
+	public int saveSnapshot(File file) throws IOException
+	{
+		List<String> keys = new ArrayList<String>();
+		List<CachedChain> chains = new ArrayList<CachedChain>();
+
+		synchronized (this)
+		{
+			long now = System.currentTimeMillis();
+			for (Map.Entry<String, CachedChain> e : m_chains.entrySet())
+			{
+				CachedChain c = e.getValue();
+				if (now - c.m_timeMs < m_ttlMs && c.m_future.isDone()
+						&& !c.m_future.isCompletedExceptionally())
+				{
+					keys.add(e.getKey());
+					chains.add(c);
+				}
+			}
+		}
+
+		BufferedWriter out = new BufferedWriter(new OutputStreamWriter(
+				new FileOutputStream(file), StandardCharsets.UTF_8));
+		try
+		{
+			out.write(SNAPSHOT_HEADER);
+			out.newLine();
+
+			for (int i = 0; i < keys.size(); ++i)
+			{
+				OptionChain chain = chains.get(i).m_future.join();
+
+				// key, time received, underlying, contracts
+				out.write(keys.get(i));
+				out.write('\t');
+				out.write(Long.toString(chains.get(i).m_timeMs));
+				out.write('\t');
+				out.write(chain.getUnderlying());
+				out.write('\t');
+
+				List<String> contracts = chain.getKeys();
+				for (int j = 0; j < contracts.size(); ++j)
+				{
+					if (j > 0)
+					{
+						out.write(',');
+					}
+					out.write(contracts.get(j));
+				}
+				out.newLine();
+			}
+		}
+		finally
+		{
+			out.close();
+		}
+
+		return keys.size();
+	}
+
+	/**
+	 * Reads the chains of a file written by saveSnapshot(). The chains that
+	 * have expired are skipped, and chains already in the cache are kept.
+	 * 
+	 * @param file
+	 *            the snapshot file
+	 * @return the number of chains loaded
+	 * @throws IOException
+	 *             if the file cannot be read, or is not a snapshot
+	 */
+	public int loadSnapshot(File file) throws IOException
+	{
+		int loaded = 0;
+
+		BufferedReader in = new BufferedReader(new InputStreamReader(
+				new FileInputStream(file), StandardCharsets.UTF_8));
+		try
+		{
+			if (!SNAPSHOT_HEADER.equals(in.readLine()))
+			{
+				throw new IOException("not an option chain snapshot: " + file);
+			}
+
+			String line;
+			while (null != (line = in.readLine()))
+			{
+				String[] fields = line.split("\t", -1);
+				if (fields.length != 4)
+				{
+					throw new IOException("invalid option chain snapshot: "
+							+ file);
+				}
+
+				long timeMs;
+				try
+				{
+					timeMs = Long.parseLong(fields[1]);
+				} catch (NumberFormatException ex)
+				{
+					throw new IOException("invalid option chain snapshot: "
+							+ file);
+				}
+
+				List<String> contracts = fields[3].isEmpty() ? new ArrayList<String>()
+						: Arrays.asList(fields[3].split(","));
+				OptionChain chain = OptionChain.of(fields[2], contracts);
+
+				synchronized (this)
+				{
+					if (System.currentTimeMillis() - timeMs < m_ttlMs
+							&& !m_chains.containsKey(fields[0]))
+					{
+						m_chains.put(fields[0], new CachedChain(timeMs,
+								CompletableFuture.completedFuture(chain)));
+						++loaded;
+					}
+				}
+			}
+		}
+		finally
+		{
+			in.close();
+		}
+
+		return loaded;
+	}
+
+	/**
+	 * Returns the time (in ms) that a chain is kept
+	 * 
+	 * @return the time to live of a chain
+	 */
+	public synchronized long getTtlMs()
+	{
+		return m_ttlMs;
+	}
+
+	/**
+	 * Sets the time (in ms) that a chain is kept
+	 * 
+	 * @param ttlMs
+	 *            the time to live of a chain
+	 */
+	public synchronized void setTtlMs(long ttlMs)
+	{
+		m_ttlMs = Math.max(0, ttlMs);
+	}
+
+	/**
+	 * Returns the maximum number of chains kept
+	 * 
+	 * @return the maximum number of chains kept
+	 */
+	public synchronized int getMaxEntries()
+	{
+		return m_maxEntries;
+	}
+
+	/**
+	 * Sets the maximum number of chains kept (the least recently used chains
+	 * are dropped first)
+	 * 
+	 * @param maxEntries
+	 *            the maximum number of chains kept (at least 1)
+	 */
+	public synchronized void setMaxEntries(int maxEntries)
+	{
+		m_maxEntries = Math.max(1, maxEntries);
+
+		Iterator<String> it = m_chains.keySet().iterator();
+		while (m_chains.size() > m_maxEntries)
+		{
+			it.next();
+			it.remove();
+		}
+	}
+
+	/**
+	 * Returns the number of chains served from the cache
+	 * 
+	 * @return the number of hits
+	 */
+	public synchronized long getHits()
+	{
+		return m_hits;
+	}
+
+	/**
+	 * Returns the number of series that were requested
+	 * 
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses()
+	{
+		return m_misses;
+	}
+
+	/**
+	 * Resets the counts of hits and misses
+	 */
+	public synchronized void resetStats()
+	{
+		m_hits = 0;
+		m_misses = 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		return "OptionChainCache [chains=" + m_chains.size() + ", hits="
+				+ m_hits + ", misses=" + m_misses + "]";
+	}
+
+	/**
+	 * Returns the key of a chain
+	 * 
+	 * @param underlying
+	 *            the underlying stock symbol
+	 * @param quarterlies
+	 *            true to include quarterly options
+	 * @param weeklies
+	 *            true to include weekly options
+	 * @return the key of the chain
+	 */
+	private static String key(String underlying, boolean quarterlies,
+			boolean weeklies)
+	{
+		return underlying + (quarterlies ? ":Q" : ":") + (weeklies ? "W" : "");
+	}
+
+	/**
+	 * Drops the chain of a key, if it is still the given one
+	 * 
+	 * @param key
+	 *            the key of the chain
+	 * @param chain
+	 *            the chain to drop
+	 */
+	private synchronized void remove(String key, CachedChain chain)
+	{
+		if (m_chains.get(key) == chain)
+		{
+			m_chains.remove(key);
+		}
+	}
+}
@@ -8,19 +8,16 @@
  */
 package com.ryanantkowiak.jOptionsHouseAPI;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.io.StringWriter;
-import java.net.MalformedURLException;
-import java.net.ProtocolException;
-import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
-import javax.net.ssl.HttpsURLConnection;
+import com.google.gson.JsonIOException;
 
 /**
  * This class takes care of making a request to one of the OptionsHouse API
@@ -32,6 +29,12 @@ import javax.net.ssl.HttpsURLConnection;
 
 class OptionsHouseHttpRequest
 {
+	/** The host name of the OptionsHouse API server */
+	static final String API_HOST = "api.optionshouse.com";
+
+	/** The port of the OptionsHouse API server */
+	static final int API_PORT = 443;
+
 	/** The JSON request that will be sent to the OptionsHouse API */
 	private String m_query;
 
@@ -53,6 +56,9 @@ class OptionsHouseHttpRequest
 	/** Flag that indicates the success of the last request to OptionsHouse API */
 	private boolean m_success;
 
+	/** Flag that indicates the request may safely be sent twice */
+	private boolean m_idempotent;
+
 	/**
 	 * Unused default constructor
 	 */
@@ -84,6 +90,20 @@ class OptionsHouseHttpRequest
 		m_errorMessage = "";
 		m_requestAttempted = false;
 		m_success = false;
+		m_idempotent = true;
+	}
+
+	/**
+	 * Sets whether the request may safely be sent twice. The connection pool
+	 * never sends a request that is not idempotent again once it may have
+	 * reached the server.
+	 * 
+	 * @param idempotent
+	 *            true if the request is idempotent
+	 */
+	void setIdempotent(boolean idempotent)
+	{
+		m_idempotent = idempotent;
 	}
 
 	/**
@@ -119,9 +139,20 @@ class OptionsHouseHttpRequest
 		return m_errorMessage;
 	}
 
+	/**
+	 * Discards the JSON strings of the request and the response, so that they
+	 * are not kept in memory once the response has been processed
+	 */
+	void discardPayloads()
+	{
+		m_query = "";
+		m_response = "";
+	}
+
 	/**
 	 * Send the request to the OptionsHouse API server and retrieve the
-	 * response. Returns true on success.
+	 * response. The request is sent over a persistent connection leased from
+	 * the shared OhConnectionPool. Returns true on success.
 	 * 
 	 * @return true on success
 	 */
@@ -133,95 +164,143 @@ class OptionsHouseHttpRequest
 
 			m_success = true;
 
-			String httpsURL = "https://api.optionshouse.com/" + m_page;
-
-			StringBuilder response = new StringBuilder();
-			URL url = null;
 			try
 			{
-				url = new URL(httpsURL);
-			} catch (MalformedURLException e)
+				m_response = OhConnectionPool.getInstance().post(API_HOST,
+						API_PORT, "/" + m_page, m_query, m_idempotent);
+			} catch (IOException e)
 			{
 				handleFailure(e);
 			}
+		}
 
-			if (m_success)
-			{
-				HttpsURLConnection conn = null;
-				try
-				{
-					conn = (HttpsURLConnection) url.openConnection();
-					try
-					{
-						conn.setRequestMethod("POST");
-						conn.setDoOutput(true);
-						conn.setDoInput(true);
-						conn.setUseCaches(false);
-						conn.setAllowUserInteraction(false);
-						conn.setRequestProperty("Content-Type", "text/xml");
-					} catch (ProtocolException e)
-					{
-						handleFailure(e);
-					}
+		return m_success;
+	}
 
-					if (m_success)
-					{
-						OutputStream out = conn.getOutputStream();
-						OutputStreamWriter wr = null;
-						try
-						{
-							wr = new OutputStreamWriter(out);
-							wr.write(m_query);
-						} catch (IOException e)
-						{
-							handleFailure(e);
-						} finally
-						{
-							if (wr != null)
-							{
-								wr.close();
-							}
-						}
-					}
+	/**
+	 * Send the request to the OptionsHouse API server and pass the body of the
+	 * response to the given reader while it is still arriving, rather than
+	 * collecting it into the response string. getResponse() will return an
+	 * empty string. The reader is not called if the request fails. Returns
+	 * true on success.
+	 * 
+	 * @param reader
+	 *            reads the body of the response
+	 * @return true on success
+	 */
+	public boolean sendRequest(final ResponseReader reader)
+	{
+		if (!m_requestAttempted)
+		{
+			m_requestAttempted = true;
 
-					if (m_success)
-					{
-						InputStream in = conn.getInputStream();
-						BufferedReader rd = null;
-						try
-						{
-							rd = new BufferedReader(new InputStreamReader(in));
-							String responseSingle = null;
-							while ((responseSingle = rd.readLine()) != null)
-							{
-								response.append(responseSingle);
-							}
-							m_response = response.toString();
-						} catch (IOException e)
-						{
-							handleFailure(e);
-						} finally
+			m_success = true;
+
+			try
+			{
+				OhConnectionPool.getInstance().post(API_HOST, API_PORT,
+						"/" + m_page, m_query, m_idempotent,
+						new OhConnectionPool.BodyHandler<Void>()
 						{
-							if (rd != null)
+							public Void handle(InputStream in)
 							{
-								rd.close();
+								reader.read(new InputStreamReader(in,
+										StandardCharsets.UTF_8));
+								return null;
 							}
-						}
-					}
-				} catch (IOException e)
-				{
-					handleFailure(e);
-				} finally
+						});
+			} catch (IOException e)
+			{
+				handleFailure(e);
+			} catch (JsonIOException e)
+			{
+				handleFailure(e);
+			}
+		}
+
+		return m_success;
+	}
+
+	/**
+	 * Send the request to the OptionsHouse API server without blocking the
+	 * calling thread. The returned future is completed with true on success,
+	 * once the response has been received. The request is queued by the
+	 * shared OhConnectionPool until it can lease a connection, so no thread
+	 * waits for it in the meantime (see OhConnectionPool.postAsync()).
+	 * 
+	 * @return a future that is completed with true on success
+	 */
+	public CompletableFuture<Boolean> sendRequestAsync()
+	{
+		if (m_requestAttempted)
+		{
+			return CompletableFuture.completedFuture(m_success);
+		}
+
+		m_requestAttempted = true;
+		m_success = true;
+
+		return OhConnectionPool.getInstance().postAsync(API_HOST, API_PORT,
+				"/" + m_page, m_query, m_idempotent,
+				new OhConnectionPool.BodyHandler<String>()
 				{
-					if (conn != null)
+					public String handle(InputStream in) throws IOException
 					{
-						conn.disconnect();
+						return OhPooledConnection.readFully(in);
 					}
-				}
+				}).handle((response, ex) -> {
+			if (null != ex)
+			{
+				handleFailure(ex);
 			}
+			else
+			{
+				m_response = response;
+			}
+			return m_success;
+		});
+	}
+
+	/**
+	 * Send the request to the OptionsHouse API server without blocking the
+	 * calling thread, and pass the body of the response to the given reader
+	 * while it is still arriving, rather than collecting it into the response
+	 * string. The request is queued by the shared OhConnectionPool until it
+	 * can lease a connection. The reader is called by a thread of the pool,
+	 * and is not called if the request fails. The returned future is
+	 * completed with true on success, once the reader has returned.
+	 * 
+	 * @param reader
+	 *            reads the body of the response
+	 * @return a future that is completed with true on success
+	 */
+	public CompletableFuture<Boolean> sendRequestAsync(final ResponseReader reader)
+	{
+		if (m_requestAttempted)
+		{
+			return CompletableFuture.completedFuture(m_success);
 		}
 
-		return m_success;
+		m_requestAttempted = true;
+		m_success = true;
+
+		return OhConnectionPool.getInstance().postAsync(API_HOST, API_PORT,
+				"/" + m_page, m_query, m_idempotent,
+				new OhConnectionPool.BodyHandler<Void>()
+				{
+					public Void handle(InputStream in)
+					{
+						reader.read(new InputStreamReader(in,
+								StandardCharsets.UTF_8));
+						return null;
+					}
+				}).handle((ignored, ex) -> {
+			if (null != ex)
+			{
+				handleFailure(ex);
+			}
+			return m_success;
+		});
 	}
 
 	/**
@@ -233,7 +312,7 @@ class OptionsHouseHttpRequest
 	 *            the exception used for retrieving the stack trace for the
 	 *            error message
 	 */
-	private void handleFailure(Exception e)
+	private void handleFailure(Throwable e)
 	{
 		m_success = false;
 		StringWriter sw = new StringWriter();
@@ -242,4 +321,21 @@ class OptionsHouseHttpRequest
 		m_errorMessage += sw.toString() + "\n";
 	}
 
+	/**
+	 * Reads the body of a response while it is arriving from the server
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	interface ResponseReader
+	{
+		/**
+		 * Reads the body of a response. The reader must not be used after
+		 * this method returns.
+		 * 
+		 * @param body
+		 *            the body of the response
+		 */
+		void read(Reader body);
+	}
+
 }
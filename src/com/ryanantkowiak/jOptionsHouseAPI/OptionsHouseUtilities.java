@@ -53,6 +53,81 @@ public class OptionsHouseUtilities
 		DEBUG_MSG_TRACING = msgTracing;
 	}
 
+	/**
+	 * Policy that decides whether the raw JSON strings of requests and
+	 * responses are kept by the "Oh" objects (returned by the toString()
+	 * method of the request and response objects). By default they are never
+	 * kept: responses are decoded while they are arriving from the server and
+	 * the JSON string is never built, which saves memory for large responses.
+	 * Raw strings are always kept while debug message tracing is enabled.
+	 */
+	public static OhRawRetention RAW_RETENTION = OhRawRetention.NEVER;
+
+	/**
+	 * Sets the policy that decides whether the raw JSON strings of requests
+	 * and responses are kept by the "Oh" objects. The policy of a single
+	 * object can be overridden through IOh.setRawRetention().
+	 * 
+	 * @param retention
+	 *            the policy for all "Oh" objects
+	 */
+	public static void setRawRetention(OhRawRetention retention)
+	{
+		RAW_RETENTION = (null == retention) ? OhRawRetention.NEVER : retention;
+	}
+
+	/**
+	 * Holder of the default client id generator. It is only created on first
+	 * use, because deriving its node id resolves the local host name, which
+	 * may block on a slow DNS lookup.
+	 */
+	private static class DefaultClientIdGenerator
+	{
+		/** the default client id generator */
+		static final ClientIdGenerator INSTANCE = new SnowflakeClientIdGenerator();
+	}
+
+	/**
+	 * generator of the client ids sent with new orders, or null for the
+	 * default generator
+	 */
+	private static volatile ClientIdGenerator s_clientIdGenerator;
+
+	/**
+	 * Returns the generator of the client ids sent with new orders
+	 * 
+	 * @return the client id generator
+	 */
+	public static ClientIdGenerator getClientIdGenerator()
+	{
+		ClientIdGenerator generator = s_clientIdGenerator;
+		return (null == generator) ? DefaultClientIdGenerator.INSTANCE
+				: generator;
+	}
+
+	/**
+	 * Sets the generator of the client ids sent with new orders. By default a
+	 * SnowflakeClientIdGenerator with a node id derived from the host name and
+	 * the process id is used; it is created by the first call that needs it.
+	 * 
+	 * @param generator
+	 *            the client id generator, or null for the default generator
+	 */
+	public static void setClientIdGenerator(ClientIdGenerator generator)
+	{
+		s_clientIdGenerator = generator;
+	}
+
+	/**
+	 * Returns a new client id from the client id generator
+	 * 
+	 * @return the new client id
+	 */
+	public static long nextClientId()
+	{
+		return getClientIdGenerator().nextId();
+	}
+
 	/**
 	 * Normalize a stock symbol by removing all characters except alphabetic
 	 * characters. Also convert it to all upper-case characters.
@@ -63,10 +138,7 @@ public class OptionsHouseUtilities
 	 */
 	public static String normalizeStockSymbol(String symbol)
 	{
-		String s = symbol;
-		s = s.replaceAll("[^A-Za-z]", "");
-		s = s.toUpperCase();
-		return s;
+		return SecurityKey.normalizeStockSymbol(symbol);
 	}
 
 	/**
@@ -81,10 +153,7 @@ public class OptionsHouseUtilities
 	 */
 	public static String normalizeKey(String key)
 	{
-		String s = key;
-		s = s.replaceAll("[^A-Za-z0-9:]", "");
-		s = s.toUpperCase();
-		return s;
+		return SecurityKey.normalizeKey(key);
 	}
 
 	/**
@@ -126,9 +195,12 @@ public class OptionsHouseUtilities
 	 */
 	public static String extractStockFromKey(String key)
 	{
-		String s = normalizeKey(key);
-		s = s.replaceAll(":.*", "");
-		return s;
+		if (isAlreadyKey(key))
+		{
+			return SecurityKey.of(key).getUnderlying();
+		}
+
+		return normalizeKey(key);
 	}
 
 	/**
@@ -142,17 +214,7 @@ public class OptionsHouseUtilities
 	 */
 	public static String createKey(String input)
 	{
-		String key = "";
-
-		if (isAlreadyKey(input))
-		{
-			key = normalizeKey(input);
-		} else
-		{
-			key = convertStockToKey(normalizeStockSymbol(input));
-		}
-
-		return key;
+		return SecurityKey.of(input).toString();
 	}
 
 	/**
@@ -165,9 +227,7 @@ public class OptionsHouseUtilities
 	 */
 	public static boolean isKeyStock(String key)
 	{
-		String k = createKey(key);
-
-		return k.endsWith("S");
+		return SecurityKey.of(key).isStock();
 	}
 
 	/**
@@ -180,9 +240,7 @@ public class OptionsHouseUtilities
 	 */
 	public static boolean isKeyOption(String key)
 	{
-		String k = createKey(key);
-
-		return (k.endsWith("C") || k.endsWith("P"));
+		return SecurityKey.of(key).isOption();
 	}
 
 	/**
@@ -196,9 +254,7 @@ public class OptionsHouseUtilities
 	 */
 	public static boolean areKeysEqual(String key1, String key2)
 	{
-		String k1 = createKey(key1);
-		String k2 = createKey(key2);
-		return k1.equals(k2);
+		return SecurityKey.of(key1).equals(SecurityKey.of(key2));
 	}
 
 }
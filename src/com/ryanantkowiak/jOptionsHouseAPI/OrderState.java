@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+/**
+ * Enumeration of the states of an order followed by the OrderTracker
+ * 
+ * @author Ryan Antkowiak 
+ */
+public enum OrderState
+{
+	/** the order is working and nothing has been filled */
+	OPEN,
+
+	/** part of the order has been filled and the rest is still working */
+	PARTIALLY_FILLED,
+
+	/** the whole order has been filled */
+	FILLED,
+
+	/**
+	 * the order was canceled, rejected or expired (part of it may have been
+	 * filled before)
+	 */
+	CANCELED;
+
+	/**
+	 * Returns true if the order can no longer change state
+	 * 
+	 * @return true for FILLED and CANCELED
+	 */
+	public boolean isTerminal()
+	{
+		return this == FILLED || this == CANCELED;
+	}
+
+	/**
+	 * Returns the state of an order from the status reported by OptionsHouse
+	 * (ex: "Open", "Filled", "Canceled") and the quantities of the order.
+	 * Only the final statuses "Canceled", "Rejected" and "Expired" map to
+	 * CANCELED; a cancel that is still pending (ex: "Pending Cancel") leaves
+	 * the order OPEN or PARTIALLY_FILLED, since it may still fill.
+	 * 
+	 * @param status
+	 *            the status of the order
+	 * @param quantity
+	 *            the quantity of the order
+	 * @param filledQuantity
+	 *            the quantity filled so far
+	 * @return the state of the order
+	 */
+	public static OrderState fromStatus(String status, long quantity,
+			long filledQuantity)
+	{
+		String s = (null == status) ? "" : status.trim().toLowerCase();
+
+		if (s.equals("canceled") || s.equals("cancelled")
+				|| s.equals("rejected") || s.equals("expired"))
+		{
+			return CANCELED;
+		}
+
+		if (s.equals("filled")
+				|| (quantity > 0 && filledQuantity >= quantity))
+		{
+			return FILLED;
+		}
+
+		if (filledQuantity > 0 || s.contains("partial"))
+		{
+			return PARTIALLY_FILLED;
+		}
+
+		return OPEN;
+	}
+}
@@ -0,0 +1,843 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * <pre>
+ * Follows the state of the orders of an account (see OrderState) and raises
+ * fill, partial fill and cancel events to its listeners:
+ * 
+ *    OrderTracker tracker = new OrderTracker(OhRequestScheduler.getInstance(),
+ *            authToken, accountId);
+ *    tracker.addListener(listener);
+ *    tracker.poll();                       // call periodically
+ * 
+ * Each poll requests the status of all orders (OhAllOrderStatus, all pages).
+ * An order whose last updated time has not changed since the previous poll
+ * costs nothing more. Only for an order whose last updated time changed is
+ * its OhOrderDetails requested, to confirm its status and fill quantity;
+ * with setFetchDetails(false) the status and fill quantity of the status
+ * record are used instead, and a poll costs only the status pages.
+ * 
+ * The orders seen by the first poll are only recorded: no details are
+ * requested for them and no events are raised. A first poll that fails, or
+ * receives only some of the pages, records nothing, so the next poll is
+ * again the first one. Snapshots obtained elsewhere can be fed to the
+ * tracker through update().
+ * 
+ * The messages are sent and the listeners are called without holding the
+ * lock of the tracker, so its getters do not wait on the network and a
+ * listener may call back into the tracker.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class OrderTracker
+{
+	/**
+	 * The state of one order followed by the tracker
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	public static class TrackedOrder
+	{
+		/** the id of the order */
+		private final long m_orderId;
+
+		/** the state of the order */
+		private OrderState m_state;
+
+		/** the status of the order, as reported by OptionsHouse */
+		private String m_status;
+
+		/** the quantity of the order */
+		private long m_quantity;
+
+		/** the quantity filled so far */
+		private long m_filledQuantity;
+
+		/** the last updated time of the order, as of the last poll */
+		private long m_lastUpdatedMs;
+
+		/** the last status record of the order */
+		private OhAllOrderStatus.OhOrderStatusRecord m_record;
+
+		/** the last details requested for the order, or null */
+		private OhOrderDetails m_details;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param orderId
+		 *            the id of the order
+		 */
+		TrackedOrder(long orderId)
+		{
+			m_orderId = orderId;
+			m_state = OrderState.OPEN;
+			m_status = "";
+		}
+
+		/**
+		 * Returns the id of the order
+		 * 
+		 * @return the id of the order
+		 */
+		public long getOrderId()
+		{
+			return m_orderId;
+		}
+
+		/**
+		 * Returns the state of the order
+		 * 
+		 * @return the state of the order
+		 */
+		public OrderState getState()
+		{
+			return m_state;
+		}
+
+		/**
+		 * Returns the status of the order, as reported by OptionsHouse. Ex:
+		 * "Filled" or "Open" or "Canceled"
+		 * 
+		 * @return the status of the order
+		 */
+		public String getStatus()
+		{
+			return m_status;
+		}
+
+		/**
+		 * Returns the quantity of the order
+		 * 
+		 * @return the quantity of the order
+		 */
+		public long getQuantity()
+		{
+			return m_quantity;
+		}
+
+		/**
+		 * Returns the quantity filled so far
+		 * 
+		 * @return the quantity filled so far
+		 */
+		public long getFilledQuantity()
+		{
+			return m_filledQuantity;
+		}
+
+		/**
+		 * Returns the last updated time of the order (in ms), as of the last
+		 * poll
+		 * 
+		 * @return the last updated time of the order
+		 */
+		public long getLastUpdatedMs()
+		{
+			return m_lastUpdatedMs;
+		}
+
+		/**
+		 * Returns the last status record of the order
+		 * 
+		 * @return the last status record
+		 */
+		public OhAllOrderStatus.OhOrderStatusRecord getStatusRecord()
+		{
+			return m_record;
+		}
+
+		/**
+		 * Returns the last details requested for the order
+		 * 
+		 * @return the details, or null if none were requested
+		 */
+		public OhOrderDetails getDetails()
+		{
+			return m_details;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString()
+		{
+			return "TrackedOrder [orderId=" + m_orderId + ", state=" + m_state
+					+ ", status=" + m_status + ", filled=" + m_filledQuantity
+					+ "/" + m_quantity + "]";
+		}
+	}
+
+	/** scheduler through which the messages are sent */
+	private final OhRequestScheduler m_scheduler;
+
+	/** authorization token for the session with OptionsHouse API */
+	private final String m_authToken;
+
+	/** the account id of the orders */
+	private final String m_accountId;
+
+	/** the listeners of the tracker */
+	private final List<OrderTrackerListener> m_listeners;
+
+	/** the tracked orders, by order id */
+	private final Map<Long, TrackedOrder> m_orders;
+
+	/** the view of the orders that is polled */
+	private String m_view;
+
+	/** the number of orders per status page */
+	private long m_pageSize;
+
+	/** true if the details of changed orders are requested */
+	private boolean m_fetchDetails;
+
+	/** true once the first snapshot has been recorded */
+	private boolean m_started;
+
+	/**
+	 * the last updated time of the terminal orders that were removed, by order
+	 * id, so that they are not taken for new orders while they are still in
+	 * the polled view
+	 */
+	private final Map<Long, Long> m_removed;
+
+	/** number of status records received */
+	private long m_recordsReceived;
+
+	/** number of OhOrderDetails requested */
+	private long m_detailsRequested;
+
+	/**
+	 * An event of an order, raised once the tracker lock is released
+	 * 
+	 * @author Ryan Antkowiak 
+	 */
+	private static class OrderChange
+	{
+		/** the order */
+		final TrackedOrder m_order;
+
+		/** the state of the order before the update */
+		final OrderState m_previous;
+
+		/** the state of the order after the update */
+		final OrderState m_state;
+
+		/** the quantity filled by the update */
+		final long m_fillQuantity;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param order
+		 *            the order
+		 * @param previous
+		 *            the state of the order before the update
+		 * @param state
+		 *            the state of the order after the update
+		 * @param fillQuantity
+		 *            the quantity filled by the update
+		 */
+		OrderChange(TrackedOrder order, OrderState previous, OrderState state,
+				long fillQuantity)
+		{
+			m_order = order;
+			m_previous = previous;
+			m_state = state;
+			m_fillQuantity = fillQuantity;
+		}
+	}
+
+	/**
+	 * Constructor for a tracker that sends its messages through the given
+	 * scheduler
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the messages are sent
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param accountId
+	 *            the account id of the orders
+	 */
+	public OrderTracker(OhRequestScheduler scheduler, String authToken,
+			String accountId)
+	{
+		m_scheduler = scheduler;
+		m_authToken = authToken;
+		m_accountId = accountId;
+		m_listeners = new CopyOnWriteArrayList<OrderTrackerListener>();
+		m_orders = new HashMap<Long, TrackedOrder>();
+		m_removed = new HashMap<Long, Long>();
+		m_view = OhAllOrderStatus.DEFAULT_VIEW;
+		m_pageSize = OhAllOrderStatus.DEFAULT_PAGE_SIZE;
+		m_fetchDetails = true;
+	}
+
+	/**
+	 * Adds a listener to the tracker
+	 * 
+	 * @param listener
+	 *            the listener to add
+	 */
+	public void addListener(OrderTrackerListener listener)
+	{
+		m_listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener from the tracker
+	 * 
+	 * @param listener
+	 *            the listener to remove
+	 */
+	public void removeListener(OrderTrackerListener listener)
+	{
+		m_listeners.remove(listener);
+	}
+
+	/**
+	 * Requests the status of all orders of the account, through the scheduler,
+	 * and updates the tracked orders from it. Waits for all of the messages.
+	 * 
+	 * @return false if a message failed or its response contained errors (the
+	 *         orders received before are still updated, unless this was the
+	 *         first poll)
+	 */
+	public boolean poll()
+	{
+		OhAllOrderStatusIterator it = OhAllOrderStatus.iterator(m_scheduler,
+				m_authToken, m_accountId, getView(), getPageSize());
+
+		List<OhAllOrderStatus.OhOrderStatusRecord> records = new ArrayList<OhAllOrderStatus.OhOrderStatusRecord>();
+
+		while (it.hasNext())
+		{
+			records.add(it.next());
+		}
+
+		updateOrders(records, !it.hasErrors(), true);
+
+		return !it.hasErrors();
+	}
+
+	/**
+	 * Updates the tracked orders from a snapshot of the status of orders that
+	 * was executed elsewhere
+	 * 
+	 * @param snapshot
+	 *            the executed OhAllOrderStatus
+	 */
+	public void update(OhAllOrderStatus snapshot)
+	{
+		updateOrders(snapshot.getOrderStatusRecords(),
+				null != snapshot.getResponse() && !snapshot.hasErrors(), false);
+	}
+
+	/**
+	 * Returns the tracked order with the given id
+	 * 
+	 * @param orderId
+	 *            the id of the order
+	 * @return the order, or null if it is not tracked
+	 */
+	public synchronized TrackedOrder getOrder(long orderId)
+	{
+		return m_orders.get(orderId);
+	}
+
+	/**
+	 * Returns the tracked orders
+	 * 
+	 * @return a copy of the list of tracked orders
+	 */
+	public synchronized List<TrackedOrder> getOrders()
+	{
+		return new ArrayList<TrackedOrder>(m_orders.values());
+	}
+
+	/**
+	 * Returns the tracked orders that are in the given state
+	 * 
+	 * @param state
+	 *            the state of the orders
+	 * @return the list of orders in that state
+	 */
+	public synchronized List<TrackedOrder> getOrders(OrderState state)
+	{
+		List<TrackedOrder> orders = new ArrayList<TrackedOrder>();
+
+		for (TrackedOrder o : m_orders.values())
+		{
+			if (o.m_state == state)
+			{
+				orders.add(o);
+			}
+		}
+
+		return orders;
+	}
+
+	/**
+	 * Stops tracking the orders that are filled or canceled. Their ids are
+	 * remembered while they are still in the polled view, so that they are
+	 * not taken for new orders (no details are requested and no events are
+	 * raised for them again).
+	 * 
+	 * @return the number of orders that were removed
+	 */
+	public synchronized int removeTerminalOrders()
+	{
+		int removed = 0;
+
+		for (Iterator<TrackedOrder> it = m_orders.values().iterator(); it
+				.hasNext();)
+		{
+			TrackedOrder order = it.next();
+			if (order.m_state.isTerminal())
+			{
+				m_removed.put(order.m_orderId, order.m_lastUpdatedMs);
+				it.remove();
+				++removed;
+			}
+		}
+
+		return removed;
+	}
+
+	/**
+	 * Stops tracking all orders. The next poll is treated like the first one.
+	 */
+	public synchronized void clear()
+	{
+		m_orders.clear();
+		m_removed.clear();
+		m_started = false;
+	}
+
+	/**
+	 * Returns the view of the orders that is polled
+	 * 
+	 * @return the view of the orders
+	 */
+	public synchronized String getView()
+	{
+		return m_view;
+	}
+
+	/**
+	 * Sets the view of the orders that is polled (ex: "current")
+	 * 
+	 * @param view
+	 *            the view of the orders, or null for the default view
+	 */
+	public synchronized void setView(String view)
+	{
+		m_view = (null == view) ? OhAllOrderStatus.DEFAULT_VIEW : view;
+	}
+
+	/**
+	 * Returns the number of orders per status page
+	 * 
+	 * @return the number of orders per page
+	 */
+	public synchronized long getPageSize()
+	{
+		return m_pageSize;
+	}
+
+	/**
+	 * Sets the number of orders per status page
+	 * 
+	 * @param pageSize
+	 *            the number of orders per page (at least 1)
+	 */
+	public synchronized void setPageSize(long pageSize)
+	{
+		m_pageSize = Math.max(1, pageSize);
+	}
+
+	/**
+	 * Returns true if the details of the orders that changed are requested
+	 * 
+	 * @return true if details are requested
+	 */
+	public synchronized boolean isFetchDetails()
+	{
+		return m_fetchDetails;
+	}
+
+	/**
+	 * Sets whether the details of the orders that changed are requested. When
+	 * they are not, the status and fill quantity of the status records are
+	 * used.
+	 * 
+	 * @param fetchDetails
+	 *            true to request the details of the orders that changed
+	 */
+	public synchronized void setFetchDetails(boolean fetchDetails)
+	{
+		m_fetchDetails = fetchDetails;
+	}
+
+	/**
+	 * Returns the number of status records received
+	 * 
+	 * @return the number of status records received
+	 */
+	public synchronized long getRecordsReceived()
+	{
+		return m_recordsReceived;
+	}
+
+	/**
+	 * Returns the number of OhOrderDetails that were requested
+	 * 
+	 * @return the number of details requested
+	 */
+	public synchronized long getDetailsRequested()
+	{
+		return m_detailsRequested;
+	}
+
+	/**
+	 * Resets the counts of records received and details requested
+	 */
+	public synchronized void resetStats()
+	{
+		m_recordsReceived = 0;
+		m_detailsRequested = 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		return "OrderTracker [account=" + m_accountId + ", orders="
+				+ m_orders.size() + ", recordsReceived=" + m_recordsReceived
+				+ ", detailsRequested=" + m_detailsRequested + "]";
+	}
+
+	/**
+	 * Updates the tracked orders from their status records. The details of
+	 * the orders that changed are requested without holding the lock, the
+	 * orders are then updated under the lock, and the events are raised once
+	 * it is released.
+	 * 
+	 * @param records
+	 *            the status records of the orders
+	 * @param complete
+	 *            true if all of the records were received without errors;
+	 *            an incomplete first snapshot is not recorded
+	 * @param wholeView
+	 *            true if the records are all the orders of the polled view
+	 */
+	private void updateOrders(
+			List<OhAllOrderStatus.OhOrderStatusRecord> records,
+			boolean complete, boolean wholeView)
+	{
+		boolean started;
+		boolean fetchDetails;
+		List<OhAllOrderStatus.OhOrderStatusRecord> changed = new ArrayList<OhAllOrderStatus.OhOrderStatusRecord>();
+
+		synchronized (this)
+		{
+			if (!m_started && !complete)
+			{
+				// a partial baseline would make the missing orders look new
+				return;
+			}
+
+			started = m_started;
+			fetchDetails = m_fetchDetails && m_started;
+
+			if (fetchDetails)
+			{
+				for (OhAllOrderStatus.OhOrderStatusRecord r : records)
+				{
+					if (isChanged(r))
+					{
+						changed.add(r);
+					}
+				}
+			}
+		}
+
+		Map<Long, OhOrderDetails> details = requestDetails(changed);
+		List<OrderChange> changes = new ArrayList<OrderChange>();
+
+		synchronized (this)
+		{
+			m_detailsRequested += changed.size();
+
+			for (OhAllOrderStatus.OhOrderStatusRecord r : records)
+			{
+				OrderChange c = updateOrder(r, started, fetchDetails, details);
+
+				if (null != c)
+				{
+					changes.add(c);
+				}
+			}
+
+			if (complete)
+			{
+				m_started = true;
+			}
+
+			if (complete && wholeView)
+			{
+				// forget the removed orders that have left the view
+				Set<Long> ids = new HashSet<Long>();
+				for (OhAllOrderStatus.OhOrderStatusRecord r : records)
+				{
+					ids.add(r.m_orderId);
+				}
+				m_removed.keySet().retainAll(ids);
+			}
+		}
+
+		for (OrderChange c : changes)
+		{
+			raiseEvents(c.m_order, c.m_previous, c.m_state, c.m_fillQuantity);
+		}
+	}
+
+	/**
+	 * Returns true if the order of a status record is not tracked yet (and was
+	 * not removed), or changed since it was last updated and is not filled or
+	 * canceled
+	 * 
+	 * @param record
+	 *            the status record of the order
+	 * @return true if the order is new or changed
+	 */
+	private boolean isChanged(OhAllOrderStatus.OhOrderStatusRecord record)
+	{
+		if (m_removed.containsKey(record.m_orderId))
+		{
+			return false;
+		}
+
+		TrackedOrder order = m_orders.get(record.m_orderId);
+
+		return null == order
+				|| (order.m_lastUpdatedMs != record.m_lastUpdatedMs && !order.m_state
+						.isTerminal());
+	}
+
+	/**
+	 * Requests the details of the given orders through the scheduler and waits
+	 * for all of them. Must not be called while holding the tracker lock.
+	 * 
+	 * @param records
+	 *            the status records of the orders
+	 * @return the details that were received without errors, by order id
+	 */
+	private Map<Long, OhOrderDetails> requestDetails(
+			List<OhAllOrderStatus.OhOrderStatusRecord> records)
+	{
+		Map<Long, CompletableFuture<OhOrderDetails>> futures = new HashMap<Long, CompletableFuture<OhOrderDetails>>();
+
+		for (OhAllOrderStatus.OhOrderStatusRecord r : records)
+		{
+			futures.put(r.m_orderId, m_scheduler.submit(new OhOrderDetails(
+					m_authToken, m_accountId, Long.toString(r.m_orderId)),
+					m_authToken));
+		}
+
+		Map<Long, OhOrderDetails> details = new HashMap<Long, OhOrderDetails>();
+
+		for (Map.Entry<Long, CompletableFuture<OhOrderDetails>> e : futures
+				.entrySet())
+		{
+			try
+			{
+				OhOrderDetails d = e.getValue().join();
+
+				if (null != d.getResponse() && !d.hasErrors())
+				{
+					details.put(e.getKey(), d);
+				}
+			} catch (RuntimeException ex)
+			{
+				// the order is requested again by the next poll
+			}
+		}
+
+		return details;
+	}
+
+	/**
+	 * Updates one tracked order from its status record and the details that
+	 * were requested for it. Called while holding the tracker lock.
+	 * 
+	 * @param record
+	 *            the status record of the order
+	 * @param started
+	 *            true if the first snapshot had been recorded
+	 * @param fetchDetails
+	 *            true if the details of the changed orders were requested
+	 * @param details
+	 *            the details that were received, by order id
+	 * @return the change to raise events for, or null
+	 */
+	private OrderChange updateOrder(OhAllOrderStatus.OhOrderStatusRecord record,
+			boolean started, boolean fetchDetails,
+			Map<Long, OhOrderDetails> details)
+	{
+		++m_recordsReceived;
+
+		if (m_removed.containsKey(record.m_orderId))
+		{
+			// a terminal order that was removed: it cannot change any more
+			m_removed.put(record.m_orderId, record.m_lastUpdatedMs);
+			return null;
+		}
+
+		TrackedOrder order = m_orders.get(record.m_orderId);
+
+		if (null != order
+				&& (order.m_lastUpdatedMs == record.m_lastUpdatedMs || order.m_state
+						.isTerminal()))
+		{
+			order.m_lastUpdatedMs = record.m_lastUpdatedMs;
+			order.m_record = record;
+			return null;
+		}
+
+		String status = record.m_status;
+		long filled = parseLong(record.m_fillQuantity);
+		OhOrderDetails d = null;
+
+		if (fetchDetails)
+		{
+			d = details.get(record.m_orderId);
+
+			if (null == d)
+			{
+				// keep the previous last updated time, so the order is
+				// requested again by the next poll
+				return null;
+			}
+
+			status = d.getStatus();
+			filled = Math.max(filled, d.getTotalFillQuantity());
+		}
+
+		if (null == order)
+		{
+			order = new TrackedOrder(record.m_orderId);
+			m_orders.put(record.m_orderId, order);
+		}
+
+		OrderState previous = order.m_state;
+		long previousFilled = order.m_filledQuantity;
+
+		if (null != d)
+		{
+			order.m_details = d;
+		}
+
+		order.m_record = record;
+		order.m_lastUpdatedMs = record.m_lastUpdatedMs;
+		order.m_quantity = record.m_quantity;
+		order.m_status = (null == status) ? "" : status;
+		order.m_filledQuantity = Math.max(previousFilled, filled);
+		order.m_state = OrderState.fromStatus(order.m_status,
+				order.m_quantity, order.m_filledQuantity);
+
+		if (!started)
+		{
+			return null;
+		}
+
+		return new OrderChange(order, previous, order.m_state,
+				order.m_filledQuantity - previousFilled);
+	}
+
+	/**
+	 * Raises the events of an order whose state was updated. Called without
+	 * holding the tracker lock.
+	 * 
+	 * @param order
+	 *            the order
+	 * @param previous
+	 *            the state of the order before the update
+	 * @param state
+	 *            the state of the order after the update
+	 * @param fillQuantity
+	 *            the quantity filled by the update
+	 */
+	private void raiseEvents(TrackedOrder order, OrderState previous,
+			OrderState state, long fillQuantity)
+	{
+		for (OrderTrackerListener l : m_listeners)
+		{
+			try
+			{
+				if (state == OrderState.FILLED && previous != OrderState.FILLED)
+				{
+					l.onFill(order, fillQuantity);
+				}
+				else if (fillQuantity > 0)
+				{
+					l.onPartialFill(order, fillQuantity);
+				}
+
+				if (state == OrderState.CANCELED
+						&& previous != OrderState.CANCELED)
+				{
+					l.onCancel(order);
+				}
+			} catch (RuntimeException ex)
+			{
+				// a failing listener must not stop the others, nor the poll
+			}
+		}
+	}
+
+	/**
+	 * Parses a quantity, returning 0 if it is not a number
+	 * 
+	 * @param s
+	 *            the quantity
+	 * @return the quantity, or 0
+	 */
+	private static long parseLong(String s)
+	{
+		try
+		{
+			return (long) Double.parseDouble(s);
+		} catch (Exception ex)
+		{
+			return 0;
+		}
+	}
+}
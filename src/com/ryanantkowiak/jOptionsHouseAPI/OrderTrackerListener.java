@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+/**
+ * Receives the events raised by an OrderTracker when the state of an order
+ * changes. The methods are called on the thread that polls the tracker.
+ * 
+ * @author Ryan Antkowiak 
+ */
+public interface OrderTrackerListener
+{
+	/**
+	 * Called when an order has been completely filled
+	 * 
+	 * @param order
+	 *            the order, in its new state
+	 * @param fillQuantity
+	 *            the quantity filled since the previous event of the order
+	 */
+	public void onFill(OrderTracker.TrackedOrder order, long fillQuantity);
+
+	/**
+	 * Called when more of an order has been filled, but not all of it
+	 * 
+	 * @param order
+	 *            the order, in its new state
+	 * @param fillQuantity
+	 *            the quantity filled since the previous event of the order
+	 */
+	public void onPartialFill(OrderTracker.TrackedOrder order, long fillQuantity);
+
+	/**
+	 * Called when an order has been canceled, rejected or has expired
+	 * 
+	 * @param order
+	 *            the order, in its new state
+	 */
+	public void onCancel(OrderTracker.TrackedOrder order);
+}
@@ -0,0 +1,953 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Aggregates the positions of one or more accounts into totals per underlying,
+ * per account, and for the whole portfolio (see PortfolioMetric): net delta
+ * dollars, market value, unrealized P&amp;L, daily change, gamma, theta and vega.
+ * 
+ *    PortfolioAggregator agg = new PortfolioAggregator();
+ *    agg.setPositions(positions);          // an executed OhAccountPositions
+ *    agg.updateQuotes(quote);              // an executed OhQuote
+ *    double delta = agg.getUnderlyingTotal("IBM", PortfolioMetric.NET_DELTA_DOLLARS);
+ * 
+ * The positions and the totals are kept in primitive arrays. Each position
+ * remembers its contribution to the totals, so when one position or one quote
+ * changes, only that contribution is taken out of the totals and added back
+ * in: the cost of an update does not depend on the size of the portfolio
+ * (except for a change in the price of an underlying, which updates the
+ * options on that underlying). A quote response is applied by looking up the
+ * positions of each security it contains, so its cost depends on the size of
+ * the response, not of the portfolio. Call recompute() to rebuild all the
+ * totals from the positions, discarding any accumulated rounding error.
+ * 
+ * Positions are priced from the account positions until a quote is received.
+ * The greeks of options come only from quotes (stocks have a delta of 1).
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class PortfolioAggregator
+{
+	/** number of metrics computed for each position */
+	private static final int METRICS = PortfolioMetric.values().length;
+
+	/** index of the net delta dollars metric */
+	private static final int DELTA_DOLLARS = PortfolioMetric.NET_DELTA_DOLLARS
+			.ordinal();
+
+	/** index of the market value metric */
+	private static final int MARKET_VALUE = PortfolioMetric.MARKET_VALUE
+			.ordinal();
+
+	/** index of the unrealized P&L metric */
+	private static final int UNREALIZED_PNL = PortfolioMetric.UNREALIZED_PNL
+			.ordinal();
+
+	/** index of the daily change metric */
+	private static final int DAILY_CHANGE = PortfolioMetric.DAILY_CHANGE
+			.ordinal();
+
+	/** index of the gamma metric */
+	private static final int GAMMA = PortfolioMetric.GAMMA.ordinal();
+
+	/** index of the theta metric */
+	private static final int THETA = PortfolioMetric.THETA.ordinal();
+
+	/** index of the vega metric */
+	private static final int VEGA = PortfolioMetric.VEGA.ordinal();
+
+	/** initial number of positions, underlyings and accounts */
+	private static final int INITIAL_CAPACITY = 16;
+
+	// ------------------------------------------------------------------------
+	// positions (one row per account and security)
+	// ------------------------------------------------------------------------
+
+	/** the security key of each row (null if the row is free) */
+	private SecurityKey[] m_keys = new SecurityKey[INITIAL_CAPACITY];
+
+	/** the account index of each row */
+	private int[] m_rowAccount = new int[INITIAL_CAPACITY];
+
+	/** the underlying index of each row */
+	private int[] m_rowUnderlying = new int[INITIAL_CAPACITY];
+
+	/** the quantity of each row */
+	private double[] m_qty = new double[INITIAL_CAPACITY];
+
+	/** the contract multiplier of each row */
+	private double[] m_multiplier = new double[INITIAL_CAPACITY];
+
+	/** the price of one unit of each row */
+	private double[] m_price = new double[INITIAL_CAPACITY];
+
+	/** the price change of one unit of each row since the previous close */
+	private double[] m_change = new double[INITIAL_CAPACITY];
+
+	/** the total cost basis of each row */
+	private double[] m_costBasis = new double[INITIAL_CAPACITY];
+
+	/**
+	 * the delta of one unit of each row: a per-share ratio between -1 and 1
+	 * (see OhQuote.getDelta()), 1 for stocks
+	 */
+	private double[] m_delta = new double[INITIAL_CAPACITY];
+
+	/** the gamma of one unit of each row */
+	private double[] m_gamma = new double[INITIAL_CAPACITY];
+
+	/** the theta of one unit of each row */
+	private double[] m_theta = new double[INITIAL_CAPACITY];
+
+	/** the vega of one unit of each row */
+	private double[] m_vega = new double[INITIAL_CAPACITY];
+
+	/** the contribution of each row to the totals (METRICS values per row) */
+	private double[] m_contribution = new double[INITIAL_CAPACITY * METRICS];
+
+	/** number of rows in use, including free rows */
+	private int m_rowCount = 0;
+
+	/** free rows, to be reused */
+	private int[] m_freeRows = new int[INITIAL_CAPACITY];
+
+	/** number of free rows */
+	private int m_freeCount = 0;
+
+	/** the row of each position, by account id and security key */
+	private final Map<String, Integer> m_rowIndex = new HashMap<String, Integer>();
+
+	/** the rows of each security, in all accounts */
+	private final Map<SecurityKey, int[]> m_keyRows = new HashMap<SecurityKey, int[]>();
+
+	// ------------------------------------------------------------------------
+	// underlyings
+	// ------------------------------------------------------------------------
+
+	/** the symbol of each underlying */
+	private String[] m_underlyings = new String[INITIAL_CAPACITY];
+
+	/** the price of each underlying */
+	private double[] m_underlyingPrice = new double[INITIAL_CAPACITY];
+
+	/** the rows of each underlying */
+	private int[][] m_underlyingRows = new int[INITIAL_CAPACITY][];
+
+	/** the number of rows of each underlying */
+	private int[] m_underlyingRowCount = new int[INITIAL_CAPACITY];
+
+	/** the totals of each underlying (METRICS values per underlying) */
+	private double[] m_underlyingTotals = new double[INITIAL_CAPACITY * METRICS];
+
+	/** number of underlyings */
+	private int m_underlyingCount = 0;
+
+	/** the index of each underlying, by symbol */
+	private final Map<String, Integer> m_underlyingIndex = new HashMap<String, Integer>();
+
+	// ------------------------------------------------------------------------
+	// accounts
+	// ------------------------------------------------------------------------
+
+	/** the id of each account */
+	private String[] m_accounts = new String[INITIAL_CAPACITY];
+
+	/** the totals of each account (METRICS values per account) */
+	private double[] m_accountTotals = new double[INITIAL_CAPACITY * METRICS];
+
+	/** number of accounts */
+	private int m_accountCount = 0;
+
+	/** the index of each account, by id */
+	private final Map<String, Integer> m_accountIndex = new HashMap<String, Integer>();
+
+	/** the totals of the whole portfolio */
+	private final double[] m_totals = new double[METRICS];
+
+	/**
+	 * Sets the positions of one account from an executed OhAccountPositions.
+	 * Positions of that account which are no longer held are removed. The
+	 * prices of the positions are taken from the account positions, and the
+	 * greeks received from quotes are kept.
+	 * 
+	 * @param positions
+	 *            the executed account positions
+	 */
+	public synchronized void setPositions(OhAccountPositions positions)
+	{
+		String accountId = positions.getAccountId();
+		Set<Integer> held = new HashSet<Integer>();
+
+		for (OhAccountPositions.OhPosition pos : positions.getPositions())
+		{
+			int row = updatePositionRow(accountId, pos);
+			if (row >= 0)
+			{
+				held.add(row);
+			}
+		}
+
+		Integer account = m_accountIndex.get(accountId);
+		if (null != account)
+		{
+			for (int row = 0; row < m_rowCount; ++row)
+			{
+				if (null != m_keys[row] && m_rowAccount[row] == account
+						&& !held.contains(row))
+				{
+					removeRow(row);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds or updates one position of an account
+	 * 
+	 * @param accountId
+	 *            the account holding the position
+	 * @param pos
+	 *            the position
+	 */
+	public synchronized void updatePosition(String accountId,
+			OhAccountPositions.OhPosition pos)
+	{
+		updatePositionRow(accountId, pos);
+	}
+
+	/**
+	 * Removes one position of an account
+	 * 
+	 * @param accountId
+	 *            the account holding the position
+	 * @param securityKey
+	 *            the security key (or stock symbol) of the position
+	 * @return true if the position was found and removed
+	 */
+	public synchronized boolean removePosition(String accountId,
+			String securityKey)
+	{
+		Integer row = m_rowIndex.get(rowKey(accountId,
+				SecurityKey.of(securityKey)));
+
+		if (null == row)
+		{
+			return false;
+		}
+
+		removeRow(row);
+		return true;
+	}
+
+	/**
+	 * Updates the prices and greeks of the positions, and the prices of the
+	 * underlyings, for which an executed OhQuote contains a quote. The price
+	 * of a security is the middle of the bid and the ask, or the last sale
+	 * price if there is no bid or ask.
+	 * 
+	 * @param quote
+	 *            the executed quote
+	 */
+	public synchronized void updateQuotes(OhQuote quote)
+	{
+		Set<String> quoted = quote.getQuotedKeys();
+		List<Integer> repriced = new ArrayList<Integer>();
+
+		// prices of the underlyings first, so the quoted options use them
+		for (String k : quoted)
+		{
+			SecurityKey key = SecurityKey.of(k);
+			Integer u = key.isStock() ? m_underlyingIndex.get(key
+					.getUnderlying()) : null;
+
+			if (null != u && m_underlyingRowCount[u] > 0)
+			{
+				m_underlyingPrice[u] = mark(quote, k);
+				repriced.add(u);
+			}
+		}
+
+		for (String k : quoted)
+		{
+			SecurityKey key = SecurityKey.of(k);
+			int[] rows = m_keyRows.get(key);
+
+			if (null == rows)
+			{
+				continue;
+			}
+
+			for (int row : rows)
+			{
+				apply(row, -1);
+
+				m_price[row] = mark(quote, k);
+				m_change[row] = quote.getChange(k);
+
+				if (key.isOption())
+				{
+					m_delta[row] = quote.getDelta(k);
+					m_gamma[row] = quote.getGamma(k);
+					m_theta[row] = quote.getTheta(k);
+					m_vega[row] = quote.getVega(k);
+				}
+
+				computeRow(row);
+				apply(row, 1);
+			}
+		}
+
+		// options that were not quoted still move with their underlying
+		for (int u : repriced)
+		{
+			int[] rows = m_underlyingRows[u];
+			for (int i = 0; i < m_underlyingRowCount[u]; ++i)
+			{
+				int row = rows[i];
+				if (m_keys[row].isOption()
+						&& !quoted.contains(m_keys[row].toString()))
+				{
+					apply(row, -1);
+					computeRow(row);
+					apply(row, 1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Updates the price and greeks of every position in one security
+	 * 
+	 * @param securityKey
+	 *            the security key (or stock symbol)
+	 * @param price
+	 *            the price of one unit
+	 * @param change
+	 *            the price change of one unit since the previous close
+	 * @param delta
+	 *            the delta of one unit (ignored for stocks)
+	 * @param gamma
+	 *            the gamma of one unit (ignored for stocks)
+	 * @param theta
+	 *            the theta of one unit (ignored for stocks)
+	 * @param vega
+	 *            the vega of one unit (ignored for stocks)
+	 */
+	public synchronized void updateQuote(String securityKey, double price,
+			double change, double delta, double gamma, double theta,
+			double vega)
+	{
+		SecurityKey key = SecurityKey.of(securityKey);
+		Integer u = m_underlyingIndex.get(key.getUnderlying());
+		if (null == u)
+		{
+			return;
+		}
+
+		if (key.isStock())
+		{
+			updateUnderlyingPrice(u, price);
+		}
+
+		int[] rows = m_keyRows.get(key);
+		if (null == rows)
+		{
+			return;
+		}
+
+		for (int row : rows)
+		{
+			apply(row, -1);
+
+			m_price[row] = price;
+			m_change[row] = change;
+
+			if (key.isOption())
+			{
+				m_delta[row] = delta;
+				m_gamma[row] = gamma;
+				m_theta[row] = theta;
+				m_vega[row] = vega;
+			}
+
+			computeRow(row);
+			apply(row, 1);
+		}
+	}
+
+	/**
+	 * Updates the price of an underlying, which changes the delta dollars of
+	 * the options on that underlying
+	 * 
+	 * @param symbol
+	 *            the underlying stock symbol
+	 * @param price
+	 *            the price of the underlying
+	 */
+	public synchronized void updateUnderlyingPrice(String symbol, double price)
+	{
+		Integer u = m_underlyingIndex.get(SecurityKey.of(symbol)
+				.getUnderlying());
+
+		if (null != u)
+		{
+			updateUnderlyingPrice(u, price);
+		}
+	}
+
+	/**
+	 * Returns a total of the whole portfolio
+	 * 
+	 * @param metric
+	 *            the metric
+	 * @return the total
+	 */
+	public synchronized double getTotal(PortfolioMetric metric)
+	{
+		return m_totals[metric.ordinal()];
+	}
+
+	/**
+	 * Returns a total of the positions on one underlying, in all accounts
+	 * 
+	 * @param underlying
+	 *            the underlying stock symbol
+	 * @param metric
+	 *            the metric
+	 * @return the total (0 if there are no positions on the underlying)
+	 */
+	public synchronized double getUnderlyingTotal(String underlying,
+			PortfolioMetric metric)
+	{
+		Integer u = m_underlyingIndex.get(SecurityKey.of(underlying)
+				.getUnderlying());
+
+		return (null == u) ? 0 : m_underlyingTotals[u * METRICS
+				+ metric.ordinal()];
+	}
+
+	/**
+	 * Returns a total of the positions of one account
+	 * 
+	 * @param accountId
+	 *            the account id
+	 * @param metric
+	 *            the metric
+	 * @return the total (0 if the account has no positions)
+	 */
+	public synchronized double getAccountTotal(String accountId,
+			PortfolioMetric metric)
+	{
+		Integer a = m_accountIndex.get(accountId);
+
+		return (null == a) ? 0 : m_accountTotals[a * METRICS
+				+ metric.ordinal()];
+	}
+
+	/**
+	 * Returns the underlyings on which there are positions
+	 * 
+	 * @return list of underlying stock symbols
+	 */
+	public synchronized List<String> getUnderlyings()
+	{
+		List<String> list = new ArrayList<String>();
+
+		for (int u = 0; u < m_underlyingCount; ++u)
+		{
+			if (m_underlyingRowCount[u] > 0)
+			{
+				list.add(m_underlyings[u]);
+			}
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the accounts that have been aggregated
+	 * 
+	 * @return list of account ids
+	 */
+	public synchronized List<String> getAccounts()
+	{
+		return new ArrayList<String>(Arrays.asList(m_accounts).subList(0,
+				m_accountCount));
+	}
+
+	/**
+	 * Returns the number of positions being aggregated
+	 * 
+	 * @return the number of positions
+	 */
+	public synchronized int getNumPositions()
+	{
+		return m_rowIndex.size();
+	}
+
+	/**
+	 * Rebuilds all the totals from the positions. The totals are otherwise
+	 * maintained by adding and removing the contribution of each position as
+	 * it changes, which accumulates rounding errors over a long time.
+	 */
+	public synchronized void recompute()
+	{
+		Arrays.fill(m_totals, 0);
+		Arrays.fill(m_underlyingTotals, 0);
+		Arrays.fill(m_accountTotals, 0);
+
+		for (int row = 0; row < m_rowCount; ++row)
+		{
+			if (null != m_keys[row])
+			{
+				computeRow(row);
+				apply(row, 1);
+			}
+		}
+	}
+
+	/**
+	 * Removes all positions, underlyings and accounts
+	 */
+	public synchronized void clear()
+	{
+		Arrays.fill(m_keys, null);
+		Arrays.fill(m_underlyings, null);
+		Arrays.fill(m_accounts, null);
+		Arrays.fill(m_underlyingRowCount, 0);
+		Arrays.fill(m_totals, 0);
+		Arrays.fill(m_underlyingTotals, 0);
+		Arrays.fill(m_accountTotals, 0);
+
+		m_rowCount = 0;
+		m_freeCount = 0;
+		m_underlyingCount = 0;
+		m_accountCount = 0;
+
+		m_rowIndex.clear();
+		m_keyRows.clear();
+		m_underlyingIndex.clear();
+		m_accountIndex.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		return "PortfolioAggregator [positions=" + m_rowIndex.size()
+				+ ", underlyings=" + getUnderlyings().size() + ", accounts="
+				+ m_accountCount + ", deltaDollars="
+				+ m_totals[DELTA_DOLLARS] + ", marketValue="
+				+ m_totals[MARKET_VALUE] + ", unrealizedPnl="
+				+ m_totals[UNREALIZED_PNL] + "]";
+	}
+
+	/**
+	 * Adds or updates the row of a position
+	 * 
+	 * @param accountId
+	 *            the account holding the position
+	 * @param pos
+	 *            the position
+	 * @return the row of the position, or -1 if it has no security key
+	 */
+	private int updatePositionRow(String accountId,
+			OhAccountPositions.OhPosition pos)
+	{
+		if (null == pos || null == pos.m_securityKey)
+		{
+			return -1;
+		}
+
+		SecurityKey key = SecurityKey.of(pos.m_securityKey);
+		String rowKey = rowKey(accountId, key);
+		Integer existing = m_rowIndex.get(rowKey);
+		int row;
+
+		if (null == existing)
+		{
+			row = allocateRow();
+			m_keys[row] = key;
+			m_rowAccount[row] = accountIndex(accountId);
+			m_rowUnderlying[row] = underlyingIndex(key.getUnderlying());
+			m_delta[row] = key.isOption() ? 0 : 1;
+			m_gamma[row] = 0;
+			m_theta[row] = 0;
+			m_vega[row] = 0;
+			Arrays.fill(m_contribution, row * METRICS, (row + 1) * METRICS, 0);
+			addUnderlyingRow(m_rowUnderlying[row], row);
+			addKeyRow(key, row);
+			m_rowIndex.put(rowKey, row);
+		}
+		else
+		{
+			row = existing;
+			apply(row, -1);
+		}
+
+		double multiplier = (pos.m_multiplier != 0) ? pos.m_multiplier
+				: (key.isOption() ? 100 : 1);
+		double units = pos.m_qty * multiplier;
+
+		m_qty[row] = pos.m_qty;
+		m_multiplier[row] = multiplier;
+		m_costBasis[row] = pos.m_costBasis;
+		m_price[row] = (pos.m_price != 0 || 0 == units) ? pos.m_price
+				: pos.m_mktVal / units;
+		m_change[row] = (0 == units) ? 0 : pos.m_dailyChange / units;
+
+		computeRow(row);
+		apply(row, 1);
+
+		if (key.isStock())
+		{
+			updateUnderlyingPrice(m_rowUnderlying[row], m_price[row]);
+		}
+
+		return row;
+	}
+
+	/**
+	 * Sets the price of an underlying, and updates the options on it
+	 * 
+	 * @param u
+	 *            the index of the underlying
+	 * @param price
+	 *            the price of the underlying
+	 */
+	private void updateUnderlyingPrice(int u, double price)
+	{
+		m_underlyingPrice[u] = price;
+
+		int[] rows = m_underlyingRows[u];
+		for (int i = 0; i < m_underlyingRowCount[u]; ++i)
+		{
+			int row = rows[i];
+			if (m_keys[row].isOption())
+			{
+				apply(row, -1);
+				computeRow(row);
+				apply(row, 1);
+			}
+		}
+	}
+
+	/**
+	 * Computes the contribution of a row to the totals
+	 * 
+	 * @param row
+	 *            the row
+	 */
+	private void computeRow(int row)
+	{
+		int base = row * METRICS;
+		double units = m_qty[row] * m_multiplier[row];
+		double marketValue = units * m_price[row];
+		double underlyingPrice = m_keys[row].isStock() ? m_price[row]
+				: m_underlyingPrice[m_rowUnderlying[row]];
+
+		m_contribution[base + DELTA_DOLLARS] = units * m_delta[row]
+				* underlyingPrice;
+		m_contribution[base + MARKET_VALUE] = marketValue;
+		m_contribution[base + UNREALIZED_PNL] = marketValue - m_costBasis[row];
+		m_contribution[base + DAILY_CHANGE] = units * m_change[row];
+		m_contribution[base + GAMMA] = units * m_gamma[row];
+		m_contribution[base + THETA] = units * m_theta[row];
+		m_contribution[base + VEGA] = units * m_vega[row];
+	}
+
+	/**
+	 * Adds the contribution of a row to the totals, or removes it
+	 * 
+	 * @param row
+	 *            the row
+	 * @param sign
+	 *            1 to add the contribution, -1 to remove it
+	 */
+	private void apply(int row, int sign)
+	{
+		int base = row * METRICS;
+		int underlyingBase = m_rowUnderlying[row] * METRICS;
+		int accountBase = m_rowAccount[row] * METRICS;
+
+		for (int m = 0; m < METRICS; ++m)
+		{
+			double value = sign * m_contribution[base + m];
+			m_totals[m] += value;
+			m_underlyingTotals[underlyingBase + m] += value;
+			m_accountTotals[accountBase + m] += value;
+		}
+	}
+
+	/**
+	 * Removes a row, and its contribution to the totals
+	 * 
+	 * @param row
+	 *            the row
+	 */
+	private void removeRow(int row)
+	{
+		apply(row, -1);
+
+		int u = m_rowUnderlying[row];
+		int[] rows = m_underlyingRows[u];
+		for (int i = 0; i < m_underlyingRowCount[u]; ++i)
+		{
+			if (rows[i] == row)
+			{
+				rows[i] = rows[--m_underlyingRowCount[u]];
+				break;
+			}
+		}
+
+		m_rowIndex.remove(rowKey(m_accounts[m_rowAccount[row]], m_keys[row]));
+		removeKeyRow(m_keys[row], row);
+		m_keys[row] = null;
+
+		if (m_freeCount == m_freeRows.length)
+		{
+			m_freeRows = Arrays.copyOf(m_freeRows, m_freeCount * 2);
+		}
+		m_freeRows[m_freeCount++] = row;
+	}
+
+	/**
+	 * Returns a free row, growing the arrays if needed
+	 * 
+	 * @return the row
+	 */
+	private int allocateRow()
+	{
+		if (m_freeCount > 0)
+		{
+			return m_freeRows[--m_freeCount];
+		}
+
+		if (m_rowCount == m_keys.length)
+		{
+			int capacity = m_keys.length * 2;
+			m_keys = Arrays.copyOf(m_keys, capacity);
+			m_rowAccount = Arrays.copyOf(m_rowAccount, capacity);
+			m_rowUnderlying = Arrays.copyOf(m_rowUnderlying, capacity);
+			m_qty = Arrays.copyOf(m_qty, capacity);
+			m_multiplier = Arrays.copyOf(m_multiplier, capacity);
+			m_price = Arrays.copyOf(m_price, capacity);
+			m_change = Arrays.copyOf(m_change, capacity);
+			m_costBasis = Arrays.copyOf(m_costBasis, capacity);
+			m_delta = Arrays.copyOf(m_delta, capacity);
+			m_gamma = Arrays.copyOf(m_gamma, capacity);
+			m_theta = Arrays.copyOf(m_theta, capacity);
+			m_vega = Arrays.copyOf(m_vega, capacity);
+			m_contribution = Arrays.copyOf(m_contribution, capacity * METRICS);
+		}
+
+		return m_rowCount++;
+	}
+
+	/**
+	 * Adds a row to the rows of an underlying
+	 * 
+	 * @param u
+	 *            the index of the underlying
+	 * @param row
+	 *            the row
+	 */
+	private void addUnderlyingRow(int u, int row)
+	{
+		if (null == m_underlyingRows[u])
+		{
+			m_underlyingRows[u] = new int[4];
+		}
+		else if (m_underlyingRowCount[u] == m_underlyingRows[u].length)
+		{
+			m_underlyingRows[u] = Arrays.copyOf(m_underlyingRows[u],
+					m_underlyingRowCount[u] * 2);
+		}
+
+		m_underlyingRows[u][m_underlyingRowCount[u]++] = row;
+	}
+
+	/**
+	 * Adds a row to the rows of a security
+	 * 
+	 * @param key
+	 *            the security key
+	 * @param row
+	 *            the row
+	 */
+	private void addKeyRow(SecurityKey key, int row)
+	{
+		int[] rows = m_keyRows.get(key);
+
+		if (null == rows)
+		{
+			m_keyRows.put(key, new int[] { row });
+		}
+		else
+		{
+			rows = Arrays.copyOf(rows, rows.length + 1);
+			rows[rows.length - 1] = row;
+			m_keyRows.put(key, rows);
+		}
+	}
+
+	/**
+	 * Removes a row from the rows of a security
+	 * 
+	 * @param key
+	 *            the security key
+	 * @param row
+	 *            the row
+	 */
+	private void removeKeyRow(SecurityKey key, int row)
+	{
+		int[] rows = m_keyRows.get(key);
+		if (null == rows)
+		{
+			return;
+		}
+
+		for (int i = 0; i < rows.length; ++i)
+		{
+			if (rows[i] == row)
+			{
+				if (1 == rows.length)
+				{
+					m_keyRows.remove(key);
+				}
+				else
+				{
+					int[] remaining = Arrays.copyOf(rows, rows.length - 1);
+					if (i < remaining.length)
+					{
+						remaining[i] = rows[rows.length - 1];
+					}
+					m_keyRows.put(key, remaining);
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the index of an underlying, adding it if needed
+	 * 
+	 * @param symbol
+	 *            the underlying stock symbol
+	 * @return the index of the underlying
+	 */
+	private int underlyingIndex(String symbol)
+	{
+		Integer u = m_underlyingIndex.get(symbol);
+		if (null != u)
+		{
+			return u;
+		}
+
+		if (m_underlyingCount == m_underlyings.length)
+		{
+			int capacity = m_underlyings.length * 2;
+			m_underlyings = Arrays.copyOf(m_underlyings, capacity);
+			m_underlyingPrice = Arrays.copyOf(m_underlyingPrice, capacity);
+			m_underlyingRows = Arrays.copyOf(m_underlyingRows, capacity);
+			m_underlyingRowCount = Arrays.copyOf(m_underlyingRowCount,
+					capacity);
+			m_underlyingTotals = Arrays.copyOf(m_underlyingTotals, capacity
+					* METRICS);
+		}
+
+		int index = m_underlyingCount++;
+		m_underlyings[index] = symbol;
+		m_underlyingPrice[index] = 0;
+		m_underlyingRowCount[index] = 0;
+		m_underlyingIndex.put(symbol, index);
+		return index;
+	}
+
+	/**
+	 * Returns the index of an account, adding it if needed
+	 * 
+	 * @param accountId
+	 *            the account id
+	 * @return the index of the account
+	 */
+	private int accountIndex(String accountId)
+	{
+		Integer a = m_accountIndex.get(accountId);
+		if (null != a)
+		{
+			return a;
+		}
+
+		if (m_accountCount == m_accounts.length)
+		{
+			int capacity = m_accounts.length * 2;
+			m_accounts = Arrays.copyOf(m_accounts, capacity);
+			m_accountTotals = Arrays.copyOf(m_accountTotals, capacity
+					* METRICS);
+		}
+
+		int index = m_accountCount++;
+		m_accounts[index] = accountId;
+		m_accountIndex.put(accountId, index);
+		return index;
+	}
+
+	/**
+	 * Returns the price of a security from a quote: the middle of the bid and
+	 * the ask, or the last sale price if there is no bid or ask
+	 * 
+	 * @param quote
+	 *            the executed quote
+	 * @param key
+	 *            the security key
+	 * @return the price
+	 */
+	private static double mark(OhQuote quote, String key)
+	{
+		double bid = quote.getBid(key);
+		double ask = quote.getAsk(key);
+
+		if (bid > 0 && ask > 0)
+		{
+			return (bid + ask) / 2;
+		}
+
+		return quote.getLast(key);
+	}
+
+	/**
+	 * Returns the key of the row of a position
+	 * 
+	 * @param accountId
+	 *            the account holding the position
+	 * @param key
+	 *            the security key of the position
+	 * @return the key of the row
+	 */
+	private static String rowKey(String accountId, SecurityKey key)
+	{
+		return accountId + '|' + key;
+	}
+}
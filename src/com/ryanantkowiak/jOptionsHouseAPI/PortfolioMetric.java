@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+/**
+ * Enumeration of the totals computed by the PortfolioAggregator
+ * 
+ * @author Ryan Antkowiak 
+ */
+public enum PortfolioMetric
+{
+	/**
+	 * Net delta dollars: quantity * multiplier * delta * underlying price
+	 */
+	NET_DELTA_DOLLARS,
+
+	/**
+	 * Market value: quantity * multiplier * price
+	 */
+	MARKET_VALUE,
+
+	/**
+	 * Unrealized profit and loss: market value - cost basis
+	 */
+	UNREALIZED_PNL,
+
+	/**
+	 * Change in value since the previous close: quantity * multiplier * price
+	 * change
+	 */
+	DAILY_CHANGE,
+
+	/**
+	 * Position gamma: quantity * multiplier * gamma
+	 */
+	GAMMA,
+
+	/**
+	 * Position theta: quantity * multiplier * theta
+	 */
+	THETA,
+
+	/**
+	 * Position vega: quantity * multiplier * vega
+	 */
+	VEGA
+}
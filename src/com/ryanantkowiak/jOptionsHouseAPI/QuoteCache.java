@@ -0,0 +1,565 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Serves quotes from memory while they are younger than the maximum age given
+ * by each caller, so that components asking for the same security within
+ * milliseconds of each other share one view.quote.list message:
+ * 
+ *    QuoteCache cache = new QuoteCache(OhRequestScheduler.getInstance());
+ *    OhQuote q = cache.get(authToken, "SPY", 250);
+ *    System.out.println(q.getBid("SPY") + " x " + q.getAsk("SPY"));
+ * 
+ * The symbols of one call that are missing or older than the maximum age are
+ * refreshed together in one OhQuote (split in messages of at most
+ * getMaxKeysPerMessage() keys). A caller asking for a security whose refresh
+ * is already in flight waits for that refresh instead of sending another.
+ * 
+ * The returned OhQuote is the one the quote was received in, so it may also
+ * hold the quotes of other securities. A refresh that fails completes its
+ * callers with the failed OhQuote (see IOh.hasErrors()) and is not kept.
+ * 
+ * The counts of hits, misses and waits, and histograms of the ages of the
+ * quotes served from memory and of the quotes found stale, are kept for
+ * tuning the maximum ages.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class QuoteCache
+{
+	/** default maximum number of securities kept */
+	public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+	/**
+	 * The last quote received for one security, and its refresh in flight
+	 */
+	private static class CachedQuote
+	{
+		/** the OhQuote holding the last quote received, or null */
+		OhQuote m_quote;
+
+		/** the time (in ms) at which the last quote was received */
+		long m_timeMs;
+
+		/** the refresh in flight, or null */
+		CompletableFuture<OhQuote> m_pending;
+	}
+
+	/** scheduler through which the quotes are requested */
+	private final OhRequestScheduler m_scheduler;
+
+	/** the quotes, by security key, least recently used first */
+	private final LinkedHashMap<String, CachedQuote> m_quotes;
+
+	/** histogram of the ages of the quotes served from memory */
+	private final OhHistogram m_hitAges;
+
+	/** histogram of the ages of the quotes that were found stale */
+	private final OhHistogram m_missAges;
+
+	/** maximum number of securities kept */
+	private int m_maxEntries;
+
+	/** maximum number of security keys sent in one message */
+	private int m_maxKeysPerMessage;
+
+	/** number of quotes served from memory */
+	private long m_hits;
+
+	/** number of quotes that were missing or stale */
+	private long m_misses;
+
+	/** number of quotes that waited for a refresh already in flight */
+	private long m_waits;
+
+	/** number of quote messages that have been sent */
+	private long m_messagesSent;
+
+	/**
+	 * Constructor for a cache that requests the quotes through the given
+	 * scheduler
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the quotes are requested
+	 */
+	public QuoteCache(OhRequestScheduler scheduler)
+	{
+		m_scheduler = scheduler;
+		m_hitAges = new OhHistogram();
+		m_missAges = new OhHistogram();
+		m_maxEntries = DEFAULT_MAX_ENTRIES;
+		m_maxKeysPerMessage = OhQuoteBatcher.DEFAULT_MAX_KEYS_PER_MESSAGE;
+
+		m_quotes = new LinkedHashMap<String, CachedQuote>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					Map.Entry<String, CachedQuote> eldest)
+			{
+				return size() > m_maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Returns the quote of a security, from memory if it is younger than the
+	 * maximum age, or else by refreshing it (and waiting for it)
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbol
+	 *            the security symbol
+	 * @param maxAgeMs
+	 *            the maximum age (in ms) of a quote served from memory
+	 * @return the OhQuote holding the quote of the security
+	 */
+	public OhQuote get(String authToken, String symbol, long maxAgeMs)
+	{
+		return getAsync(authToken, symbol, maxAgeMs).join();
+	}
+
+	/**
+	 * Returns the quote of a security, from memory if it is younger than the
+	 * maximum age, or else by refreshing it. Does not wait for the refresh.
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbol
+	 *            the security symbol
+	 * @param maxAgeMs
+	 *            the maximum age (in ms) of a quote served from memory
+	 * @return a future that is completed with the OhQuote holding the quote of
+	 *         the security
+	 */
+	public CompletableFuture<OhQuote> getAsync(String authToken,
+			String symbol, long maxAgeMs)
+	{
+		return lookup(authToken, Collections.singletonList(symbol), maxAgeMs)
+				.get(0);
+	}
+
+	/**
+	 * Returns the quotes of securities, from memory for those younger than the
+	 * maximum age, after refreshing the others in one batch (and waiting for
+	 * it)
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbols
+	 *            the security symbols
+	 * @param maxAgeMs
+	 *            the maximum age (in ms) of a quote served from memory
+	 * @return the OhQuote holding the quote of each symbol, by symbol
+	 */
+	public Map<String, OhQuote> get(String authToken, List<String> symbols,
+			long maxAgeMs)
+	{
+		return getAsync(authToken, symbols, maxAgeMs).join();
+	}
+
+	/**
+	 * Returns the quotes of securities, from memory for those younger than the
+	 * maximum age, after refreshing the others in one batch. Does not wait for
+	 * the refresh.
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbols
+	 *            the security symbols
+	 * @param maxAgeMs
+	 *            the maximum age (in ms) of a quote served from memory
+	 * @return a future that is completed with the OhQuote holding the quote of
+	 *         each symbol, by symbol
+	 */
+	public CompletableFuture<Map<String, OhQuote>> getAsync(String authToken,
+			final List<String> symbols, long maxAgeMs)
+	{
+		final List<CompletableFuture<OhQuote>> futures = lookup(authToken,
+				symbols, maxAgeMs);
+
+		return CompletableFuture.allOf(
+				futures.toArray(new CompletableFuture<?>[futures.size()]))
+				.thenApply(new Function<Void, Map<String, OhQuote>>()
+				{
+					public Map<String, OhQuote> apply(Void v)
+					{
+						Map<String, OhQuote> quotes = new LinkedHashMap<String, OhQuote>();
+						for (int i = 0; i < symbols.size(); ++i)
+						{
+							quotes.put(symbols.get(i), futures.get(i).join());
+						}
+
+						return quotes;
+					}
+				});
+	}
+
+	/**
+	 * Drops the quote of a security (a refresh in flight still completes its
+	 * callers)
+	 * 
+	 * @param symbol
+	 *            the security symbol
+	 */
+	public synchronized void invalidate(String symbol)
+	{
+		m_quotes.remove(OptionsHouseUtilities.createKey(symbol));
+	}
+
+	/**
+	 * Drops all the quotes
+	 */
+	public synchronized void clear()
+	{
+		m_quotes.clear();
+	}
+
+	/**
+	 * Returns the number of securities kept (some of their quotes may be
+	 * stale)
+	 * 
+	 * @return the number of securities kept
+	 */
+	public synchronized int size()
+	{
+		return m_quotes.size();
+	}
+
+	/**
+	 * Returns the maximum number of securities kept
+	 * 
+	 * @return the maximum number of securities kept
+	 */
+	public synchronized int getMaxEntries()
+	{
+		return m_maxEntries;
+	}
+
+	/**
+	 * Sets the maximum number of securities kept (the least recently used
+	 * securities are dropped first)
+	 * 
+	 * @param maxEntries
+	 *            the maximum number of securities kept (at least 1)
+	 */
+	public synchronized void setMaxEntries(int maxEntries)
+	{
+		m_maxEntries = Math.max(1, maxEntries);
+
+		Iterator<String> it = m_quotes.keySet().iterator();
+		while (m_quotes.size() > m_maxEntries)
+		{
+			it.next();
+			it.remove();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of security keys sent in one message
+	 * 
+	 * @return the maximum number of keys per message
+	 */
+	public synchronized int getMaxKeysPerMessage()
+	{
+		return m_maxKeysPerMessage;
+	}
+
+	/**
+	 * Sets the maximum number of security keys sent in one message
+	 * 
+	 * @param maxKeysPerMessage
+	 *            the maximum number of keys per message (at least 1)
+	 */
+	public synchronized void setMaxKeysPerMessage(int maxKeysPerMessage)
+	{
+		m_maxKeysPerMessage = Math.max(1, maxKeysPerMessage);
+	}
+
+	/**
+	 * Returns the number of quotes served from memory
+	 * 
+	 * @return the number of hits
+	 */
+	public synchronized long getHits()
+	{
+		return m_hits;
+	}
+
+	/**
+	 * Returns the number of quotes that were missing or stale, and refreshed
+	 * 
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses()
+	{
+		return m_misses;
+	}
+
+	/**
+	 * Returns the number of quotes that waited for a refresh already in flight
+	 * 
+	 * @return the number of waits
+	 */
+	public synchronized long getWaits()
+	{
+		return m_waits;
+	}
+
+	/**
+	 * Returns the number of quote messages that have been sent
+	 * 
+	 * @return the number of sent messages
+	 */
+	public synchronized long getMessagesSent()
+	{
+		return m_messagesSent;
+	}
+
+	/**
+	 * Returns the histogram of the ages (in ms) of the quotes served from
+	 * memory
+	 * 
+	 * @return the histogram of the ages of the hits
+	 */
+	public OhHistogram getHitAges()
+	{
+		return m_hitAges;
+	}
+
+	/**
+	 * Returns the histogram of the ages (in ms) of the quotes that were found
+	 * stale (securities never quoted before are not recorded)
+	 * 
+	 * @return the histogram of the ages of the misses
+	 */
+	public OhHistogram getMissAges()
+	{
+		return m_missAges;
+	}
+
+	/**
+	 * Resets the counts and the histograms
+	 */
+	public synchronized void resetStats()
+	{
+		m_hits = 0;
+		m_misses = 0;
+		m_waits = 0;
+		m_messagesSent = 0;
+		m_hitAges.reset();
+		m_missAges.reset();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("quotes=");
+		sb.append(m_quotes.size());
+		sb.append(" hits=");
+		sb.append(m_hits);
+		sb.append(" misses=");
+		sb.append(m_misses);
+		sb.append(" waits=");
+		sb.append(m_waits);
+		sb.append(" messagesSent=");
+		sb.append(m_messagesSent);
+		sb.append(" hitAges=[");
+		sb.append(m_hitAges);
+		sb.append("]");
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the future of the quote of each symbol: completed for the fresh
+	 * quotes, the refresh in flight for the quotes being refreshed, and new
+	 * refreshes (sent before returning) for the others
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbols
+	 *            the security symbols
+	 * @param maxAgeMs
+	 *            the maximum age (in ms) of a quote served from memory
+	 * @return the futures, in the order of the symbols
+	 */
+	private List<CompletableFuture<OhQuote>> lookup(String authToken,
+			List<String> symbols, long maxAgeMs)
+	{
+		List<CompletableFuture<OhQuote>> futures = new ArrayList<CompletableFuture<OhQuote>>(
+				symbols.size());
+		List<List<String>> batches = new ArrayList<List<String>>();
+		List<CompletableFuture<OhQuote>> refreshes = new ArrayList<CompletableFuture<OhQuote>>();
+
+		synchronized (this)
+		{
+			long now = System.currentTimeMillis();
+			List<String> batch = null;
+			CompletableFuture<OhQuote> refresh = null;
+
+			for (String symbol : symbols)
+			{
+				String key = OptionsHouseUtilities.createKey(symbol);
+				CachedQuote c = m_quotes.get(key);
+
+				if (null == c)
+				{
+					c = new CachedQuote();
+					m_quotes.put(key, c);
+				}
+
+				if (null != c.m_quote && now - c.m_timeMs < maxAgeMs)
+				{
+					++m_hits;
+					m_hitAges.record(now - c.m_timeMs);
+					futures.add(CompletableFuture.completedFuture(c.m_quote));
+				}
+				else if (null != c.m_pending)
+				{
+					++m_waits;
+					futures.add(c.m_pending);
+				}
+				else
+				{
+					++m_misses;
+					if (null != c.m_quote)
+					{
+						m_missAges.record(now - c.m_timeMs);
+					}
+
+					if (null == batch || batch.size() >= m_maxKeysPerMessage)
+					{
+						batch = new ArrayList<String>();
+						refresh = new CompletableFuture<OhQuote>();
+						batches.add(batch);
+						refreshes.add(refresh);
+					}
+
+					batch.add(symbol);
+					c.m_pending = refresh;
+					futures.add(refresh);
+				}
+			}
+
+			m_messagesSent += batches.size();
+		}
+
+		for (int i = 0; i < batches.size(); ++i)
+		{
+			refresh(authToken, batches.get(i), refreshes.get(i));
+		}
+
+		return futures;
+	}
+
+	/**
+	 * Sends the quote request of a batch of symbols to the scheduler, keeps
+	 * the quotes received, and completes the refresh
+	 * 
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 * @param symbols
+	 *            the symbols to be refreshed
+	 * @param refresh
+	 *            the future of the refresh, held by the entries of the symbols
+	 */
+	private void refresh(String authToken, final List<String> symbols,
+			final CompletableFuture<OhQuote> refresh)
+	{
+		try
+		{
+			m_scheduler.submit(new OhQuote(authToken, symbols), authToken)
+					.whenComplete(new BiConsumer<OhQuote, Throwable>()
+					{
+						public void accept(OhQuote quote, Throwable ex)
+						{
+							store(symbols, refresh, (null == ex) ? quote : null);
+
+							if (null != ex)
+							{
+								refresh.completeExceptionally(ex);
+							}
+							else
+							{
+								refresh.complete(quote);
+							}
+						}
+					});
+		}
+		catch (RuntimeException e)
+		{
+			store(symbols, refresh, null);
+			refresh.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Ends the refresh of a batch of symbols, keeping the quotes that were
+	 * received
+	 * 
+	 * @param symbols
+	 *            the symbols that were refreshed
+	 * @param refresh
+	 *            the future of the refresh
+	 * @param quote
+	 *            the OhQuote received, or null if the request failed
+	 */
+	private synchronized void store(List<String> symbols,
+			CompletableFuture<OhQuote> refresh, OhQuote quote)
+	{
+		long now = System.currentTimeMillis();
+		boolean ok = null != quote && null != quote.getResponse()
+				&& !quote.hasErrors();
+
+		for (String symbol : symbols)
+		{
+			String key = OptionsHouseUtilities.createKey(symbol);
+			CachedQuote c = m_quotes.get(key);
+
+			// the entry may have been dropped or refreshed again meanwhile
+			if (null == c || c.m_pending != refresh)
+			{
+				continue;
+			}
+
+			c.m_pending = null;
+
+			if (ok && quote.hasQuote(symbol))
+			{
+				c.m_quote = quote;
+				c.m_timeMs = now;
+			}
+			else if (null == c.m_quote)
+			{
+				m_quotes.remove(key);
+			}
+		}
+	}
+}
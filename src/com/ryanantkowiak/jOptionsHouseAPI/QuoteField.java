@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.EnumSet;
+
+/**
+ * <pre>
+ * Enumeration of the numeric fields of a quote compared by a QuotePoller. A
+ * set of fields is passed around as a bit mask of the getMask() of each field
+ * (ex: the fields that changed in QuoteListener.onQuoteChanged()):
+ * 
+ *    if (QuoteField.BID.isIn(changedFields))
+ *    {
+ *        double bid = QuoteField.BID.getValue(quote, symbol);
+ *    }
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public enum QuoteField
+{
+	/**
+	 * The bid price ("bid")
+	 */
+	BID
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.bid;
+		}
+	},
+
+	/**
+	 * The ask price ("ask")
+	 */
+	ASK
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.ask;
+		}
+	},
+
+	/**
+	 * The bid size ("bidSize")
+	 */
+	BID_SIZE
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.bidSize;
+		}
+	},
+
+	/**
+	 * The ask size ("askSize")
+	 */
+	ASK_SIZE
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.askSize;
+		}
+	},
+
+	/**
+	 * The last trade price ("last")
+	 */
+	LAST
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.last;
+		}
+	},
+
+	/**
+	 * The mark price ("mark")
+	 */
+	MARK
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.mark;
+		}
+	},
+
+	/**
+	 * The volume of the day ("volume")
+	 */
+	VOLUME
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.volume;
+		}
+	},
+
+	/**
+	 * The option volume of the day ("optVol")
+	 */
+	OPTION_VOLUME
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.optVol;
+		}
+	},
+
+	/**
+	 * The change since the previous close ("change")
+	 */
+	CHANGE
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.change;
+		}
+	},
+
+	/**
+	 * The change since the previous close, in percent ("changePercent")
+	 */
+	CHANGE_PERCENT
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.changePercent;
+		}
+	},
+
+	/**
+	 * The high of the day ("high")
+	 */
+	HIGH
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.high;
+		}
+	},
+
+	/**
+	 * The low of the day ("low")
+	 */
+	LOW
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.low;
+		}
+	},
+
+	/**
+	 * The opening price ("open")
+	 */
+	OPEN
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.open;
+		}
+	},
+
+	/**
+	 * The previous closing price ("prevClose")
+	 */
+	PREV_CLOSE
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.prevClose;
+		}
+	},
+
+	/**
+	 * The last trade price of the underlying stock ("stockLast")
+	 */
+	STOCK_LAST
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.stockLast;
+		}
+	},
+
+	/**
+	 * The delta of an option ("delta")
+	 */
+	DELTA
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.delta;
+		}
+	},
+
+	/**
+	 * The gamma of an option ("gamma")
+	 */
+	GAMMA
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.gamma;
+		}
+	},
+
+	/**
+	 * The theta of an option ("theta")
+	 */
+	THETA
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.theta;
+		}
+	},
+
+	/**
+	 * The vega of an option ("vega")
+	 */
+	VEGA
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.vega;
+		}
+	},
+
+	/**
+	 * The implied volatility of an option ("ivol")
+	 */
+	IMPLIED_VOL
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.ivol;
+		}
+	},
+
+	/**
+	 * The open interest of an option ("oi")
+	 */
+	OPEN_INTEREST
+	{
+		@Override
+		double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q)
+		{
+			return q.oi;
+		}
+	};
+
+	/** the mask of all the fields */
+	public static final long ALL = (1L << values().length) - 1;
+
+	/**
+	 * Returns the bit of the field in a mask of fields
+	 * 
+	 * @return the mask of the field
+	 */
+	public long getMask()
+	{
+		return 1L << ordinal();
+	}
+
+	/**
+	 * Returns true if the field is in a mask of fields
+	 * 
+	 * @param mask
+	 *            the mask of fields
+	 * @return true if the field is in the mask
+	 */
+	public boolean isIn(long mask)
+	{
+		return 0 != (mask & getMask());
+	}
+
+	/**
+	 * Returns the value of the field for a security
+	 * 
+	 * @param quote
+	 *            the OhQuote holding the quote of the security
+	 * @param symbol
+	 *            the security symbol
+	 * @return the value of the field, or 0 if there is no quote for the
+	 *         symbol
+	 */
+	public double getValue(OhQuote quote, String symbol)
+	{
+		OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q = quote
+				.findQuote(symbol);
+		return (null == q) ? 0 : get(q);
+	}
+
+	/**
+	 * Returns the fields of a mask of fields
+	 * 
+	 * @param mask
+	 *            the mask of fields
+	 * @return the fields in the mask
+	 */
+	public static EnumSet<QuoteField> of(long mask)
+	{
+		EnumSet<QuoteField> fields = EnumSet.noneOf(QuoteField.class);
+		for (QuoteField f : values())
+		{
+			if (f.isIn(mask))
+			{
+				fields.add(f);
+			}
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Returns the value of the field in a quote of the response message
+	 * 
+	 * @param q
+	 *            the quote
+	 * @return the value of the field
+	 */
+	abstract double get(OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q);
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+/**
+ * Receives the quote changes found by a QuotePoller. The method is called on
+ * the executor of the poller (see QuotePoller.setExecutor()).
+ * 
+ * @author Ryan Antkowiak 
+ */
+public interface QuoteListener
+{
+	/**
+	 * Called when fields of the quote of a watched security have changed
+	 * since its previous quote (all the fields are reported for the first
+	 * quote of a security)
+	 * 
+	 * @param symbol
+	 *            the security symbol, as it was watched
+	 * @param quote
+	 *            the OhQuote holding the new quote of the security
+	 * @param changedFields
+	 *            the mask of the fields that changed (see QuoteField)
+	 */
+	public void onQuoteChanged(String symbol, OhQuote quote, long changedFields);
+}
@@ -0,0 +1,641 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * <pre>
+ * Polls the quotes of a watchlist and pushes the changes to QuoteListeners:
+ * 
+ *    QuotePoller poller = new QuotePoller(OhRequestScheduler.getInstance(), authToken);
+ *    poller.watch("SPY");
+ *    poller.watch("IBM:20131116:1850000:C");
+ *    poller.addListener(new QuoteListener()
+ *    {
+ *        public void onQuoteChanged(String symbol, OhQuote quote, long changed)
+ *        {
+ *            if (QuoteField.BID.isIn(changed)) ...
+ *        }
+ *    });
+ *    poller.start();
+ *    ...
+ *    poller.shutdown();
+ * 
+ * The watchlist is split in batches of at most getMaxKeysPerMessage() keys,
+ * and one batch is requested (as one view.quote.list, through the
+ * OhRequestScheduler) at each tick, in turn. The ticks are spread over the
+ * message budget given to the poller (getMessagesPerSecond(), by default half
+ * of the rate of the scheduler when the poller is created), so the rest of the
+ * budget is left to the other requests. A tick is skipped while the previous
+ * request is still in flight.
+ * 
+ * Each new quote is compared with the previous quote of the security field by
+ * field (see QuoteField), on primitive values kept by the poller, and only the
+ * securities with changed fields are reported, with the mask of the changed
+ * fields. Listeners are called on the executor of the poller (its own timer
+ * thread by default), one task per response.
+ * 
+ * Each poller owns a timer thread. Call shutdown() once the poller is no
+ * longer needed to stop that thread; stop() only pauses the polling.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class QuotePoller
+{
+	/**
+	 * default share of the message rate of the scheduler that the poller may
+	 * send
+	 */
+	public static final double DEFAULT_SHARE_OF_SCHEDULER = 0.5;
+
+	/** the fields of the quote_ message compared by the poller */
+	private static final QuoteField[] FIELDS = QuoteField.values();
+
+	/**
+	 * A watched security and the values of its previous quote
+	 */
+	private static class WatchedQuote
+	{
+		/** the security symbol, as it was watched */
+		final String m_symbol;
+
+		/** the values of the previous quote, by QuoteField ordinal */
+		final double[] m_values;
+
+		/** true once a quote has been received */
+		boolean m_seen;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param symbol
+		 *            the security symbol, as it was watched
+		 */
+		WatchedQuote(String symbol)
+		{
+			m_symbol = symbol;
+			m_values = new double[FIELDS.length];
+		}
+	}
+
+	/** scheduler through which the quotes are requested */
+	private final OhRequestScheduler m_scheduler;
+
+	/** authorization token for the session with OptionsHouse API */
+	private final String m_authToken;
+
+	/** the listeners of the quote changes */
+	private final List<QuoteListener> m_listeners;
+
+	/** the watched securities, by security key, in the order of polling */
+	private final LinkedHashMap<String, WatchedQuote> m_watched;
+
+	/** timer that polls the batches */
+	private final ScheduledExecutorService m_timer;
+
+	/** executor on which the listeners are called */
+	private volatile Executor m_executor;
+
+	/** timer task of the polling, or null when stopped */
+	private ScheduledFuture<?> m_task;
+
+	/** number of messages per second that the poller may send */
+	private double m_messagesPerSecond;
+
+	/** maximum number of security keys sent in one message */
+	private int m_maxKeysPerMessage;
+
+	/** index in the watchlist of the first key of the next batch */
+	private int m_next;
+
+	/** true while a request is in flight */
+	private boolean m_polling;
+
+	/** number of quote messages that have been sent */
+	private long m_messagesSent;
+
+	/** number of quotes that have been received */
+	private long m_quotesReceived;
+
+	/** number of quotes that had changed fields */
+	private long m_quotesChanged;
+
+	/**
+	 * Constructor for a poller that requests the quotes through the given
+	 * scheduler, at DEFAULT_SHARE_OF_SCHEDULER of its current rate
+	 * 
+	 * @param scheduler
+	 *            the scheduler through which the quotes are requested
+	 * @param authToken
+	 *            the authorization token for the session with OptionsHouse
+	 */
+	public QuotePoller(OhRequestScheduler scheduler, String authToken)
+	{
+		m_scheduler = scheduler;
+		m_authToken = authToken;
+		m_listeners = new CopyOnWriteArrayList<QuoteListener>();
+		m_watched = new LinkedHashMap<String, WatchedQuote>();
+		m_messagesPerSecond = scheduler.getMessagesPerSecond()
+				* DEFAULT_SHARE_OF_SCHEDULER;
+		m_maxKeysPerMessage = OhQuoteBatcher.DEFAULT_MAX_KEYS_PER_MESSAGE;
+
+		m_timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+		{
+			public Thread newThread(Runnable r)
+			{
+				Thread t = new Thread(r, "QuotePoller-timer");
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		m_executor = m_timer;
+	}
+
+	/**
+	 * Adds a listener of the quote changes
+	 * 
+	 * @param listener
+	 *            the listener
+	 */
+	public void addListener(QuoteListener listener)
+	{
+		m_listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener of the quote changes
+	 * 
+	 * @param listener
+	 *            the listener
+	 */
+	public void removeListener(QuoteListener listener)
+	{
+		m_listeners.remove(listener);
+	}
+
+	/**
+	 * Sets the executor on which the listeners are called
+	 * 
+	 * @param executor
+	 *            the executor, or null for the timer thread of the poller
+	 */
+	public void setExecutor(Executor executor)
+	{
+		m_executor = (null == executor) ? m_timer : executor;
+	}
+
+	/**
+	 * Adds a security to the watchlist (its first quote reports all fields)
+	 * 
+	 * @param symbol
+	 *            the security symbol
+	 */
+	public synchronized void watch(String symbol)
+	{
+		String key = OptionsHouseUtilities.createKey(symbol);
+		if (!m_watched.containsKey(key))
+		{
+			m_watched.put(key, new WatchedQuote(symbol));
+		}
+	}
+
+	/**
+	 * Removes a security from the watchlist
+	 * 
+	 * @param symbol
+	 *            the security symbol
+	 */
+	public synchronized void unwatch(String symbol)
+	{
+		m_watched.remove(OptionsHouseUtilities.createKey(symbol));
+	}
+
+	/**
+	 * Replaces the watchlist. The securities that were already watched keep
+	 * their previous quote.
+	 * 
+	 * @param symbols
+	 *            the security symbols
+	 */
+	public synchronized void setWatchlist(Collection<String> symbols)
+	{
+		Map<String, WatchedQuote> previous = new LinkedHashMap<String, WatchedQuote>(
+				m_watched);
+		m_watched.clear();
+
+		for (String symbol : symbols)
+		{
+			String key = OptionsHouseUtilities.createKey(symbol);
+			WatchedQuote w = previous.get(key);
+			m_watched.put(key, (null == w) ? new WatchedQuote(symbol) : w);
+		}
+	}
+
+	/**
+	 * Returns the watched symbols
+	 * 
+	 * @return the watched symbols, as they were watched
+	 */
+	public synchronized List<String> getWatchlist()
+	{
+		List<String> symbols = new ArrayList<String>(m_watched.size());
+		for (WatchedQuote w : m_watched.values())
+		{
+			symbols.add(w.m_symbol);
+		}
+
+		return symbols;
+	}
+
+	/**
+	 * Starts polling (does nothing if the poller is already running)
+	 * 
+	 * @throws IllegalStateException
+	 *             if the poller has been shut down
+	 */
+	public synchronized void start()
+	{
+		if (m_timer.isShutdown())
+		{
+			throw new IllegalStateException("QuotePoller has been shut down");
+		}
+
+		if (null != m_task)
+		{
+			return;
+		}
+
+		long periodNanos = (long) (1000000000.0 / m_messagesPerSecond);
+		m_task = m_timer.scheduleAtFixedRate(new Runnable()
+		{
+			public void run()
+			{
+				try
+				{
+					poll();
+				} catch (RuntimeException ex)
+				{
+					// a failed tick must not cancel the polling
+				}
+			}
+		}, 0, periodNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Stops polling. A request in flight still reports its changes.
+	 */
+	public synchronized void stop()
+	{
+		if (null != m_task)
+		{
+			m_task.cancel(false);
+			m_task = null;
+		}
+	}
+
+	/**
+	 * Stops polling and the timer thread of the poller. The poller cannot be
+	 * started again. A request in flight still reports its changes if the
+	 * listeners are called on an executor set with setExecutor(); on the timer
+	 * thread they are dropped.
+	 */
+	public synchronized void shutdown()
+	{
+		stop();
+		m_timer.shutdown();
+	}
+
+	/**
+	 * Returns true if the poller has been shut down
+	 * 
+	 * @return true after shutdown()
+	 */
+	public boolean isShutdown()
+	{
+		return m_timer.isShutdown();
+	}
+
+	/**
+	 * Returns true if the poller is running
+	 * 
+	 * @return true between start() and stop()
+	 */
+	public synchronized boolean isRunning()
+	{
+		return null != m_task;
+	}
+
+	/**
+	 * Requests the next batch of the watchlist now, unless a request is
+	 * already in flight or the watchlist is empty
+	 * 
+	 * @return a future that is completed once the changes of the batch have
+	 *         been found (and handed to the executor), or null if no request
+	 *         was sent
+	 */
+	public CompletableFuture<OhQuote> poll()
+	{
+		final List<String> batch = new ArrayList<String>();
+
+		synchronized (this)
+		{
+			if (m_polling || m_watched.isEmpty())
+			{
+				return null;
+			}
+
+			if (m_next >= m_watched.size())
+			{
+				m_next = 0;
+			}
+
+			int i = 0;
+			for (WatchedQuote w : m_watched.values())
+			{
+				if (i >= m_next + m_maxKeysPerMessage)
+				{
+					break;
+				}
+				else if (i >= m_next)
+				{
+					batch.add(w.m_symbol);
+				}
+				++i;
+			}
+
+			m_next += batch.size();
+			m_polling = true;
+			++m_messagesSent;
+		}
+
+		CompletableFuture<OhQuote> future;
+		try
+		{
+			future = m_scheduler.submit(new OhQuote(m_authToken, batch),
+					m_authToken);
+		}
+		catch (RuntimeException ex)
+		{
+			synchronized (this)
+			{
+				m_polling = false;
+			}
+			throw ex;
+		}
+
+		return future.whenComplete(new BiConsumer<OhQuote, Throwable>()
+		{
+			public void accept(OhQuote quote, Throwable ex)
+			{
+				try
+				{
+					if (null == ex && null != quote.getResponse()
+							&& !quote.hasErrors())
+					{
+						compare(batch, quote);
+					}
+				}
+				finally
+				{
+					synchronized (QuotePoller.this)
+					{
+						m_polling = false;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the number of messages per second that the poller may send
+	 * 
+	 * @return the message budget of the poller
+	 */
+	public synchronized double getMessagesPerSecond()
+	{
+		return m_messagesPerSecond;
+	}
+
+	/**
+	 * Sets the number of messages per second that the poller may send. A
+	 * running poller is restarted at the new rate.
+	 * 
+	 * @param messagesPerSecond
+	 *            the message budget of the poller
+	 */
+	public synchronized void setMessagesPerSecond(double messagesPerSecond)
+	{
+		if (messagesPerSecond <= 0)
+		{
+			throw new IllegalArgumentException(
+					"messagesPerSecond must be positive");
+		}
+
+		m_messagesPerSecond = messagesPerSecond;
+
+		if (null != m_task)
+		{
+			stop();
+			start();
+		}
+	}
+
+	/**
+	 * Returns the maximum number of security keys sent in one message
+	 * 
+	 * @return the maximum number of keys per message
+	 */
+	public synchronized int getMaxKeysPerMessage()
+	{
+		return m_maxKeysPerMessage;
+	}
+
+	/**
+	 * Sets the maximum number of security keys sent in one message
+	 * 
+	 * @param maxKeysPerMessage
+	 *            the maximum number of keys per message (at least 1)
+	 */
+	public synchronized void setMaxKeysPerMessage(int maxKeysPerMessage)
+	{
+		m_maxKeysPerMessage = Math.max(1, maxKeysPerMessage);
+	}
+
+	/**
+	 * Returns the number of quote messages that have been sent
+	 * 
+	 * @return the number of sent messages
+	 */
+	public synchronized long getMessagesSent()
+	{
+		return m_messagesSent;
+	}
+
+	/**
+	 * Returns the number of quotes of watched securities that have been
+	 * received
+	 * 
+	 * @return the number of received quotes
+	 */
+	public synchronized long getQuotesReceived()
+	{
+		return m_quotesReceived;
+	}
+
+	/**
+	 * Returns the number of quotes that had changed fields (and were reported)
+	 * 
+	 * @return the number of changed quotes
+	 */
+	public synchronized long getQuotesChanged()
+	{
+		return m_quotesChanged;
+	}
+
+	/**
+	 * Resets the counts of messages and quotes
+	 */
+	public synchronized void resetStats()
+	{
+		m_messagesSent = 0;
+		m_quotesReceived = 0;
+		m_quotesChanged = 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString()
+	{
+		StringBuilder sb = new StringBuilder();
+		sb.append("watched=");
+		sb.append(m_watched.size());
+		sb.append(" messagesSent=");
+		sb.append(m_messagesSent);
+		sb.append(" quotesReceived=");
+		sb.append(m_quotesReceived);
+		sb.append(" quotesChanged=");
+		sb.append(m_quotesChanged);
+
+		return sb.toString();
+	}
+
+	/**
+	 * Compares the quotes of a batch with their previous quotes, and hands
+	 * the changes to the executor
+	 * 
+	 * @param batch
+	 *            the symbols of the batch
+	 * @param quote
+	 *            the OhQuote received for the batch
+	 */
+	private void compare(List<String> batch, final OhQuote quote)
+	{
+		final String[] symbols = new String[batch.size()];
+		final long[] masks = new long[batch.size()];
+		int changed = 0;
+
+		synchronized (this)
+		{
+			for (String symbol : batch)
+			{
+				WatchedQuote w = m_watched.get(OptionsHouseUtilities
+						.createKey(symbol));
+				OhMsgViewQuoteListRsp.EZMessage_.data_.quote_ q = quote
+						.findQuote(symbol);
+
+				// unwatched while in flight, or missing from the response
+				if (null == w || null == q)
+				{
+					continue;
+				}
+
+				++m_quotesReceived;
+
+				long mask = 0;
+				for (int i = 0; i < FIELDS.length; ++i)
+				{
+					double value = FIELDS[i].get(q);
+					if (value != w.m_values[i])
+					{
+						w.m_values[i] = value;
+						mask |= 1L << i;
+					}
+				}
+
+				if (!w.m_seen)
+				{
+					w.m_seen = true;
+					mask = QuoteField.ALL;
+				}
+
+				if (0 != mask)
+				{
+					symbols[changed] = w.m_symbol;
+					masks[changed] = mask;
+					++changed;
+				}
+			}
+
+			m_quotesChanged += changed;
+		}
+
+		if (0 == changed || m_listeners.isEmpty())
+		{
+			return;
+		}
+
+		final int count = changed;
+		try
+		{
+			m_executor.execute(new Runnable()
+			{
+				public void run()
+				{
+					for (QuoteListener l : m_listeners)
+					{
+						for (int i = 0; i < count; ++i)
+						{
+							try
+							{
+								l.onQuoteChanged(symbols[i], quote, masks[i]);
+							} catch (RuntimeException ex)
+							{
+								// a failing listener must not stop the others
+							}
+						}
+					}
+				}
+			});
+		}
+		catch (RejectedExecutionException ex)
+		{
+			// the poller has been shut down
+		}
+	}
+}
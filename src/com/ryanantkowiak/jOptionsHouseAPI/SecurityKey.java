@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * An immutable OptionsHouse API security key, such as "IBM:20110716:1600000:C"
+ * for an option contract or "IBM:::S" for a stock (see OptionsHouseUtilities
+ * for a description of the format).
+ * 
+ * Keys are created through SecurityKey.of(), which accepts the same input as
+ * OptionsHouseUtilities.createKey() (either a key or a plain stock symbol) and
+ * parses it in a single pass. Keys are interned: asking again for the same
+ * input, or for another input with the same normalized key, returns the same
+ * object without parsing or allocating anything.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public final class SecurityKey implements Comparable<SecurityKey>
+{
+	/** type character of a stock key */
+	public static final char STOCK = 'S';
+
+	/** type character of a call option key */
+	public static final char CALL = 'C';
+
+	/** type character of a put option key */
+	public static final char PUT = 'P';
+
+	/**
+	 * number of entries the intern table may hold before it is cleared, so
+	 * that arbitrary input cannot grow it forever
+	 */
+	private static final int MAX_INTERNED = 100000;
+
+	/** interned keys, by input string and by normalized key */
+	private static final ConcurrentHashMap<String, SecurityKey> s_interned = new ConcurrentHashMap<String, SecurityKey>();
+
+	/** the normalized key (ex: "IBM:20110716:1600000:C") */
+	private final String m_key;
+
+	/** the underlying stock symbol (ex: "IBM") */
+	private final String m_underlying;
+
+	/** the expiration date as YYYYMMDD (ex: "20110716"), empty for stocks */
+	private final String m_expiry;
+
+	/** the strike price in hundredths of a cent (ex: 1600000 for $160.00) */
+	private final long m_strike;
+
+	/** the last character of the key: 'S', 'C', 'P' (or other, if invalid) */
+	private final char m_type;
+
+	/** hash code of the key, computed once */
+	private final int m_hash;
+
+	/**
+	 * Returns the security key for the given input, which may be either a
+	 * security key (ex: "ibm:20110716:1600000:c") or a plain stock symbol (ex:
+	 * "IBM").
+	 * 
+	 * @param input
+	 *            string containing a stock symbol or security key
+	 * @return the interned security key
+	 */
+	public static SecurityKey of(String input)
+	{
+		SecurityKey sk = s_interned.get(input);
+
+		if (null == sk)
+		{
+			String normalized = OptionsHouseUtilities.isAlreadyKey(input) ? normalizeKey(input)
+					: normalizeStockSymbol(input) + ":::S";
+
+			if (s_interned.size() >= MAX_INTERNED)
+			{
+				s_interned.clear();
+			}
+
+			sk = s_interned.get(normalized);
+			if (null == sk)
+			{
+				SecurityKey created = new SecurityKey(normalized);
+				sk = s_interned.putIfAbsent(normalized, created);
+				if (null == sk)
+				{
+					sk = created;
+				}
+			}
+
+			s_interned.put(input, sk);
+		}
+
+		return sk;
+	}
+
+	/**
+	 * Removes all characters except alphabetic characters, and converts them to
+	 * upper-case
+	 * 
+	 * @param symbol
+	 *            the symbol to be normalized
+	 * @return the normalized value of the stock symbol
+	 */
+	static String normalizeStockSymbol(String symbol)
+	{
+		return normalize(symbol, false);
+	}
+
+	/**
+	 * Removes all characters except alphanumeric characters and colons, and
+	 * converts them to upper-case
+	 * 
+	 * @param key
+	 *            the key to be normalized
+	 * @return the normalized value of the key
+	 */
+	static String normalizeKey(String key)
+	{
+		return normalize(key, true);
+	}
+
+	/**
+	 * Private constructor parses the fields of a normalized key
+	 * 
+	 * @param key
+	 *            the normalized key
+	 */
+	private SecurityKey(String key)
+	{
+		m_key = key;
+		m_hash = key.hashCode();
+
+		int len = key.length();
+		int c1 = key.indexOf(':');
+		int c2 = (c1 < 0) ? -1 : key.indexOf(':', c1 + 1);
+		int c3 = (c2 < 0) ? -1 : key.indexOf(':', c2 + 1);
+
+		m_underlying = (c1 < 0) ? key : key.substring(0, c1);
+		m_expiry = (c1 < 0) ? "" : key.substring(c1 + 1, (c2 < 0) ? len : c2);
+
+		long strike = 0;
+		int strikeEnd = (c3 < 0) ? len : c3;
+		if (c2 >= 0 && strikeEnd - (c2 + 1) <= 18)
+		{
+			for (int i = c2 + 1; i < strikeEnd; ++i)
+			{
+				char c = key.charAt(i);
+				if (c < '0' || c > '9')
+				{
+					strike = 0;
+					break;
+				}
+				strike = strike * 10 + (c - '0');
+			}
+		}
+		m_strike = strike;
+
+		m_type = (len == 0) ? '\0' : key.charAt(len - 1);
+	}
+
+	/**
+	 * Returns the underlying stock symbol (ex: "IBM")
+	 * 
+	 * @return the underlying stock symbol
+	 */
+	public String getUnderlying()
+	{
+		return m_underlying;
+	}
+
+	/**
+	 * Returns the expiration date as YYYYMMDD (ex: "20110716"), or an empty
+	 * string for a stock
+	 * 
+	 * @return the expiration date
+	 */
+	public String getExpiry()
+	{
+		return m_expiry;
+	}
+
+	/**
+	 * Returns the strike price in hundredths of a cent (ex: 1600000 for
+	 * $160.00), or 0 for a stock
+	 * 
+	 * @return the strike price in hundredths of a cent
+	 */
+	public long getStrike()
+	{
+		return m_strike;
+	}
+
+	/**
+	 * Returns the strike price in dollars (ex: 160.00), or 0 for a stock
+	 * 
+	 * @return the strike price in dollars
+	 */
+	public double getStrikePrice()
+	{
+		return m_strike / 10000.0;
+	}
+
+	/**
+	 * Returns the last character of the key: 'S' for a stock, 'C' for a call
+	 * or 'P' for a put
+	 * 
+	 * @return the type character of the key
+	 */
+	public char getType()
+	{
+		return m_type;
+	}
+
+	/**
+	 * Returns true if the key is for a stock
+	 * 
+	 * @return true if the key is for a stock
+	 */
+	public boolean isStock()
+	{
+		return m_type == STOCK;
+	}
+
+	/**
+	 * Returns true if the key is for an option contract
+	 * 
+	 * @return true if the key is for a call or a put
+	 */
+	public boolean isOption()
+	{
+		return m_type == CALL || m_type == PUT;
+	}
+
+	/**
+	 * Returns true if the key is for a call option
+	 * 
+	 * @return true if the key is for a call
+	 */
+	public boolean isCall()
+	{
+		return m_type == CALL;
+	}
+
+	/**
+	 * Returns true if the key is for a put option
+	 * 
+	 * @return true if the key is for a put
+	 */
+	public boolean isPut()
+	{
+		return m_type == PUT;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode()
+	{
+		return m_hash;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+
+		if (!(obj instanceof SecurityKey))
+		{
+			return false;
+		}
+
+		SecurityKey other = (SecurityKey) obj;
+		return m_hash == other.m_hash && m_key.equals(other.m_key);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Comparable#compareTo(java.lang.Object)
+	 */
+	@Override
+	public int compareTo(SecurityKey other)
+	{
+		return m_key.compareTo(other.m_key);
+	}
+
+	/**
+	 * Returns the normalized key (ex: "IBM:20110716:1600000:C")
+	 * 
+	 * @return the normalized key
+	 */
+	@Override
+	public String toString()
+	{
+		return m_key;
+	}
+
+	/**
+	 * Removes all characters except ASCII letters, digits (if allowed) and
+	 * colons (if allowed), converting letters to upper-case. The input string
+	 * itself is returned if it is already normalized.
+	 * 
+	 * @param s
+	 *            the string to be normalized
+	 * @param keyChars
+	 *            true to keep digits and colons
+	 * @return the normalized string
+	 */
+	private static String normalize(String s, boolean keyChars)
+	{
+		int len = s.length();
+		char[] out = null;
+		int n = 0;
+
+		for (int i = 0; i < len; ++i)
+		{
+			char c = s.charAt(i);
+			char u;
+
+			if (c >= 'A' && c <= 'Z')
+			{
+				u = c;
+			}
+			else if (c >= 'a' && c <= 'z')
+			{
+				u = (char) (c - ('a' - 'A'));
+			}
+			else if (keyChars && ((c >= '0' && c <= '9') || c == ':'))
+			{
+				u = c;
+			}
+			else
+			{
+				u = 0;
+			}
+
+			if (null == out)
+			{
+				if (u == c && u != 0)
+				{
+					++n;
+					continue;
+				}
+
+				out = new char[len];
+				s.getChars(0, n, out, 0);
+			}
+
+			if (u != 0)
+			{
+				out[n++] = u;
+			}
+		}
+
+		return (null == out) ? s : new String(out, 0, n);
+	}
+}
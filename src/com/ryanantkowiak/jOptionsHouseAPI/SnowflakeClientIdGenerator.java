@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * Generates unique, increasing client ids without locking, in the style of
+ * "Snowflake" ids. Each id is a positive long of at most 53 bits (MAX_ID),
+ * made of:
+ * 
+ *    31 bits   seconds since 2013-01-01 (UTC), enough until 2081
+ *    10 bits   node id (0 to 1023)
+ *    12 bits   sequence within the second (0 to 4095)
+ * 
+ * The client id is sent to OptionsHouse as a JSON number, and JSON numbers
+ * are doubles to many parsers, which hold integers exactly only up to 2^53.
+ * Larger ids could come back from the server as a different id.
+ * 
+ * Ids from one generator always increase, even if the system clock goes
+ * backwards: the generator keeps its own clock, which never goes back. When
+ * more than 4096 ids are requested within one second, the generator moves
+ * its clock one second ahead instead of waiting.
+ * 
+ * Ids from generators with different node ids never collide. Give each
+ * process that sends orders for the same account its own node id; the
+ * default node id is derived from the host name and the process id, which is
+ * only likely (not certain) to be unique.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class SnowflakeClientIdGenerator implements ClientIdGenerator
+{
+	/** the epoch of the ids: 2013-01-01T00:00:00Z, in ms */
+	public static final long EPOCH_MS = 1356998400000L;
+
+	/** the number of bits of the time (seconds since the epoch) */
+	public static final int TIME_BITS = 31;
+
+	/** the number of bits of the node id */
+	public static final int NODE_BITS = 10;
+
+	/** the number of bits of the sequence */
+	public static final int SEQUENCE_BITS = 12;
+
+	/** the largest node id */
+	public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+	/** the largest sequence number */
+	private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+	/** the largest id: 2^53 - 1, the largest integer a double holds exactly */
+	public static final long MAX_ID = (1L << (TIME_BITS + NODE_BITS
+			+ SEQUENCE_BITS)) - 1;
+
+	/** the node id of this generator */
+	private final int m_nodeId;
+
+	/** the node id, shifted into place */
+	private final long m_nodeBits;
+
+	/**
+	 * the last state handed out: (seconds since the epoch) << SEQUENCE_BITS |
+	 * sequence
+	 */
+	private final AtomicLong m_last;
+
+	/**
+	 * Constructor for a generator with the default node id, derived from the
+	 * host name and the process id
+	 */
+	public SnowflakeClientIdGenerator()
+	{
+		this(defaultNodeId());
+	}
+
+	/**
+	 * Constructor for a generator with the given node id
+	 * 
+	 * @param nodeId
+	 *            the node id (0 to MAX_NODE_ID)
+	 */
+	public SnowflakeClientIdGenerator(int nodeId)
+	{
+		if (nodeId < 0 || nodeId > MAX_NODE_ID)
+		{
+			throw new IllegalArgumentException("node id must be between 0 and "
+					+ MAX_NODE_ID + ": " + nodeId);
+		}
+
+		m_nodeId = nodeId;
+		m_nodeBits = ((long) nodeId) << SEQUENCE_BITS;
+		m_last = new AtomicLong(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.ryanantkowiak.jOptionsHouseAPI.ClientIdGenerator#nextId()
+	 */
+	@Override
+	public long nextId()
+	{
+		long now = ((System.currentTimeMillis() - EPOCH_MS) / 1000)
+				<< SEQUENCE_BITS;
+
+		while (true)
+		{
+			long last = m_last.get();
+
+			// the next sequence number of the last second, or the first one
+			// of the current second if the clock has moved on (an overflowing
+			// sequence carries into the second)
+			long next = Math.max(last + 1, now);
+
+			if (m_last.compareAndSet(last, next))
+			{
+				long seconds = next >>> SEQUENCE_BITS;
+				return (seconds << (NODE_BITS + SEQUENCE_BITS)) | m_nodeBits
+						| (next & MAX_SEQUENCE);
+			}
+		}
+	}
+
+	/**
+	 * Returns the node id of this generator
+	 * 
+	 * @return the node id
+	 */
+	public int getNodeId()
+	{
+		return m_nodeId;
+	}
+
+	/**
+	 * Returns the time (in ms since 1970, truncated to the second) at which an
+	 * id was generated
+	 * 
+	 * @param id
+	 *            an id generated by a SnowflakeClientIdGenerator
+	 * @return the time of the id
+	 */
+	public static long getTimeMs(long id)
+	{
+		return (id >>> (NODE_BITS + SEQUENCE_BITS)) * 1000 + EPOCH_MS;
+	}
+
+	/**
+	 * Returns the node id of the generator that generated an id
+	 * 
+	 * @param id
+	 *            an id generated by a SnowflakeClientIdGenerator
+	 * @return the node id of the id
+	 */
+	public static int getNodeId(long id)
+	{
+		return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		return "SnowflakeClientIdGenerator [nodeId=" + m_nodeId + "]";
+	}
+
+	/**
+	 * Returns a node id derived from the host name and the process id
+	 * 
+	 * @return the default node id
+	 */
+	private static int defaultNodeId()
+	{
+		int hash = 0;
+
+		try
+		{
+			hash = InetAddress.getLocalHost().getHostName().hashCode();
+		} catch (Exception ex)
+		{
+		}
+
+		// the runtime name is "pid@host" on the common JVMs
+		hash = 31 * hash
+				+ ManagementFactory.getRuntimeMXBean().getName().hashCode();
+		hash ^= (hash >>> 16);
+
+		return hash & MAX_NODE_ID;
+	}
+}
@@ -0,0 +1,1043 @@
+/*
+ * Copyright (c) 2013 Ryan Antkowiak .
+ * All rights reserved.
+ * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.
+ * You may study, use, and modify it for any non-commercial purpose.
+ * You may distribute it non-commercially as long as you retain this notice.
+ * For a commercial use license, contact .
+ */
+package com.ryanantkowiak.jOptionsHouseAPI;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * <pre>
+ * Build step that generates OhGeneratedTypeAdapters.java, a Gson
+ * TypeAdapterFactory with hand-rolled streaming adapters for every request and
+ * response message model of the API (the OhMsg*Req and OhMsg*Rsp classes and
+ * all of their inner classes). The generated adapters read and write the
+ * fields directly, so Gson never inspects the models through reflection.
+ * 
+ * The generator inspects the compiled classes, so compile the API first, then
+ * run it from the root of the project and recompile:
+ * 
+ *    java -cp bin:gson.jar com.ryanantkowiak.jOptionsHouseAPI.TypeAdapterGenerator bin src/com/ryanantkowiak/jOptionsHouseAPI/OhGeneratedTypeAdapters.java
+ * 
+ * It must be run again whenever a message model is added or changed. If a
+ * change leaves the generated file unable to compile, first replace it with an
+ * empty factory, then compile and generate as above:
+ * 
+ *    java -cp bin:gson.jar com.ryanantkowiak.jOptionsHouseAPI.TypeAdapterGenerator --stub src/com/ryanantkowiak/jOptionsHouseAPI/OhGeneratedTypeAdapters.java
+ * 
+ * Synthetic, static and transient fields are skipped, as Gson does. Fields
+ * declared by IOhMsgReq and IOhMsgRsp are not part of the messages and are
+ * skipped too. Fields of a type that has no generated adapter (ex: ErrorMap)
+ * are read and written by the adapter that Gson provides for that type.
+ * 
+ * OptionsHouse sends a list of one element as the element itself (ex: the
+ * "unified" positions of an account with one position), so every List field
+ * is read leniently: a single value is read as a list of one element.
+ * </pre>
+ * 
+ * @author Ryan Antkowiak 
+ */
+public class TypeAdapterGenerator
+{
+	/** the package of the message models */
+	private static final String PACKAGE = "com.ryanantkowiak.jOptionsHouseAPI";
+
+	/** the name of the generated class */
+	private static final String OUTPUT_CLASS = "OhGeneratedTypeAdapters";
+
+	/** the message models, in the order of their ids */
+	private final List<Class<?>> m_models = new ArrayList<Class<?>>();
+
+	/** the set of message models, for fast lookup */
+	private final Set<Class<?>> m_modelSet = new HashSet<Class<?>>();
+
+	/** types read and written by Gson's own adapters, by adapter method name */
+	private final Map<String, Type> m_delegates = new TreeMap<String, Type>();
+
+	/** the generated source code */
+	private final StringBuilder m_out = new StringBuilder();
+
+	/**
+	 * Runs the generator
+	 * 
+	 * @param args
+	 *            the directory of the compiled classes (or "--stub" to
+	 *            generate an empty factory), and the path of the generated
+	 *            source file
+	 * @throws Exception
+	 *             if the classes cannot be inspected or the file cannot be
+	 *             written
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		if (args.length != 2)
+		{
+			System.err.println("usage: TypeAdapterGenerator <classes dir> <output file>");
+			System.exit(1);
+		}
+
+		TypeAdapterGenerator generator = new TypeAdapterGenerator();
+		if (!args[0].equals("--stub"))
+		{
+			generator.findModels(new File(args[0]));
+		}
+		String source = generator.generate();
+
+		Writer writer = new OutputStreamWriter(new FileOutputStream(args[1]),
+				StandardCharsets.UTF_8);
+		try
+		{
+			writer.write(source);
+		} finally
+		{
+			writer.close();
+		}
+
+		System.out.println("Generated adapters for "
+				+ generator.m_models.size() + " classes in " + args[1]);
+	}
+
+	/**
+	 * Finds the message models among the compiled classes of the package
+	 * 
+	 * @param classesDir
+	 *            the directory of the compiled classes
+	 * @throws IOException
+	 *             if the package directory cannot be listed
+	 * @throws ClassNotFoundException
+	 *             if a compiled class cannot be loaded
+	 */
+	private void findModels(File classesDir) throws IOException,
+			ClassNotFoundException
+	{
+		File dir = new File(classesDir, PACKAGE.replace('.', File.separatorChar));
+		String[] files = dir.list();
+		if (null == files)
+		{
+			throw new IOException("cannot list " + dir);
+		}
+
+		Arrays.sort(files);
+
+		for (String file : files)
+		{
+			if (!file.endsWith(".class") || file.indexOf('$') >= 0)
+			{
+				continue;
+			}
+
+			Class<?> c = Class.forName(
+					PACKAGE + "." + file.substring(0, file.length() - 6), false,
+					TypeAdapterGenerator.class.getClassLoader());
+
+			if (c == IOhMsgReq.class || c == IOhMsgRsp.class)
+			{
+				continue;
+			}
+			else if (IOhMsgRsp.class.isAssignableFrom(c)
+					&& !Modifier.isAbstract(c.getModifiers()))
+			{
+				addModel(c);
+				addMembers(c);
+			}
+			else if (IOhMsgReq.class.isAssignableFrom(c))
+			{
+				addMembers(c);
+			}
+		}
+	}
+
+	/**
+	 * Adds the inner classes of a class to the message models, recursively
+	 * 
+	 * @param c
+	 *            the class
+	 */
+	private void addMembers(Class<?> c)
+	{
+		Class<?>[] members = c.getDeclaredClasses();
+		Arrays.sort(members, new Comparator<Class<?>>()
+		{
+			public int compare(Class<?> a, Class<?> b)
+			{
+				return a.getName().compareTo(b.getName());
+			}
+		});
+
+		for (Class<?> member : members)
+		{
+			if (Modifier.isStatic(member.getModifiers()) || member.isInterface()
+					|| member.isEnum()
+					|| Modifier.isAbstract(member.getModifiers()))
+			{
+				continue;
+			}
+
+			addModel(member);
+			addMembers(member);
+		}
+	}
+
+	/**
+	 * Adds a class to the message models
+	 * 
+	 * @param c
+	 *            the class
+	 */
+	private void addModel(Class<?> c)
+	{
+		m_models.add(c);
+		m_modelSet.add(c);
+	}
+
+	/**
+	 * Returns the fields of a model that are part of the message, in the order
+	 * in which Gson writes them (the fields of the class, then those of its
+	 * superclasses)
+	 * 
+	 * @param c
+	 *            the model
+	 * @return the fields of the model
+	 */
+	private List<Field> getFields(Class<?> c)
+	{
+		List<Field> fields = new ArrayList<Field>();
+		Set<String> names = new HashSet<String>();
+
+		for (Class<?> k = c; null != k && k != Object.class
+				&& k != IOhMsgReq.class && k != IOhMsgRsp.class; k = k
+				.getSuperclass())
+		{
+			for (Field f : k.getDeclaredFields())
+			{
+				int mod = f.getModifiers();
+				if (f.isSynthetic() || Modifier.isStatic(mod)
+						|| Modifier.isTransient(mod))
+				{
+					continue;
+				}
+
+				if (Modifier.isPrivate(mod))
+				{
+					throw new IllegalStateException(c.getName()
+							+ " has a private field: " + f.getName());
+				}
+
+				if (!names.add(f.getName()))
+				{
+					throw new IllegalStateException(c.getName()
+							+ " declares multiple JSON fields named "
+							+ f.getName());
+				}
+
+				fields.add(f);
+			}
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Generates the source code of the TypeAdapterFactory
+	 * 
+	 * @return the source code
+	 */
+	private String generate()
+	{
+		// the methods are generated first, as they collect the delegated types
+		m_out.setLength(0);
+		for (Class<?> c : m_models)
+		{
+			generateRead(c);
+			generateWrite(c);
+		}
+		String body = m_out.toString();
+		m_out.setLength(0);
+
+		line(0, "/*");
+		line(0, " * Copyright (c) 2013 Ryan Antkowiak .");
+		line(0, " * All rights reserved.");
+		line(0, " * It is provided AS-IS, WITHOUT ANY WARRANTY either expressed or implied.");
+		line(0, " * You may study, use, and modify it for any non-commercial purpose.");
+		line(0, " * You may distribute it non-commercially as long as you retain this notice.");
+		line(0, " * For a commercial use license, contact .");
+		line(0, " */");
+		line(0, "package " + PACKAGE + ";");
+		line(0, "");
+		line(0, "import java.io.IOException;");
+		line(0, "import java.util.ArrayList;");
+		line(0, "import java.util.HashMap;");
+		line(0, "import java.util.List;");
+		line(0, "import java.util.Map;");
+		line(0, "");
+		line(0, "import com.google.gson.Gson;");
+		line(0, "import com.google.gson.JsonSyntaxException;");
+		line(0, "import com.google.gson.TypeAdapter;");
+		line(0, "import com.google.gson.TypeAdapterFactory;");
+		line(0, "import com.google.gson.reflect.TypeToken;");
+		line(0, "import com.google.gson.stream.JsonReader;");
+		line(0, "import com.google.gson.stream.JsonToken;");
+		line(0, "import com.google.gson.stream.JsonWriter;");
+		line(0, "");
+		line(0, "/**");
+		line(0, " * Streaming Gson type adapters for the request and response message models.");
+		line(0, " * GENERATED by TypeAdapterGenerator (see tools/) - do not edit by hand.");
+		line(0, " * ");
+		line(0, " * @author Ryan Antkowiak ");
+		line(0, " */");
+		line(0, "final class " + OUTPUT_CLASS + " implements TypeAdapterFactory");
+		line(0, "{");
+		line(1, "/** the generated models, indexed by id */");
+		line(1, "private static final Class<?>[] MODELS = {"
+				+ (m_models.isEmpty() ? " };" : ""));
+		for (int i = 0; i < m_models.size(); ++i)
+		{
+			line(3, sourceName(m_models.get(i)) + ".class"
+					+ ((i + 1 < m_models.size()) ? "," : " };"));
+		}
+		line(0, "");
+		line(1, "/** the ids of the generated models */");
+		line(1, "private static final Map<Class<?>, Integer> s_ids = new HashMap<Class<?>, Integer>();");
+		line(0, "");
+		line(1, "static");
+		line(1, "{");
+		line(2, "for (int i = 0; i < MODELS.length; ++i)");
+		line(2, "{");
+		line(3, "s_ids.put(MODELS[i], i);");
+		line(2, "}");
+		line(1, "}");
+		line(0, "");
+		line(1, "/*");
+		line(1, " * (non-Javadoc)");
+		line(1, " * ");
+		line(1, " * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson,");
+		line(1, " * com.google.gson.reflect.TypeToken)");
+		line(1, " */");
+		line(1, "@SuppressWarnings(\"unchecked\")");
+		line(1, "public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type)");
+		line(1, "{");
+		line(2, "Integer id = s_ids.get(type.getRawType());");
+		line(2, "if (null == id)");
+		line(2, "{");
+		line(3, "return null;");
+		line(2, "}");
+		line(0, "");
+		line(2, "// an inner class cannot be created without its enclosing object, so");
+		line(2, "// Gson reads it when it is not nested in another model");
+		line(2, "TypeAdapter<T> reflective = (null == MODELS[id].getEnclosingClass()) ? null");
+		line(4, ": gson.getDelegateAdapter(this, type);");
+		line(0, "");
+		line(2, "return (TypeAdapter<T>) new Codec(gson).new Adapter(id, reflective);");
+		line(1, "}");
+		line(0, "");
+		generateHelpers();
+		line(1, "/**");
+		line(1, " * Reads and writes the models, using the adapters of the given Gson");
+		line(1, " * instance for the types that have no generated adapter");
+		line(1, " * ");
+		line(1, " * @author Ryan Antkowiak ");
+		line(1, " */");
+		line(1, "private static final class Codec");
+		line(1, "{");
+		line(2, "/** the Gson instance */");
+		line(2, "private final Gson m_gson;");
+		line(0, "");
+		for (Map.Entry<String, Type> e : m_delegates.entrySet())
+		{
+			line(2, "/** the Gson adapter for " + sourceName(e.getValue()) + " */");
+			line(2, "private TypeAdapter<" + sourceName(e.getValue()) + "> m_"
+					+ e.getKey() + ";");
+			line(0, "");
+		}
+		line(2, "/**");
+		line(2, " * Constructor");
+		line(2, " * ");
+		line(2, " * @param gson");
+		line(2, " *            the Gson instance");
+		line(2, " */");
+		line(2, "Codec(Gson gson)");
+		line(2, "{");
+		line(3, "m_gson = gson;");
+		line(2, "}");
+		line(0, "");
+		for (Map.Entry<String, Type> e : m_delegates.entrySet())
+		{
+			String type = sourceName(e.getValue());
+			line(2, "/**");
+			line(2, " * Returns the Gson adapter for " + type);
+			line(2, " * ");
+			line(2, " * @return the adapter");
+			line(2, " */");
+			line(2, "private TypeAdapter<" + type + "> " + e.getKey() + "()");
+			line(2, "{");
+			line(3, "if (null == m_" + e.getKey() + ")");
+			line(3, "{");
+			line(4, "m_" + e.getKey() + " = m_gson.getAdapter("
+					+ ((e.getValue() instanceof Class) ? type + ".class"
+							: "new TypeToken<" + type + ">() {}") + ");");
+			line(3, "}");
+			line(0, "");
+			line(3, "return m_" + e.getKey() + ";");
+			line(2, "}");
+			line(0, "");
+		}
+		m_out.append(body);
+		generateAdapter();
+		line(1, "}");
+		line(0, "}");
+
+		return m_out.toString();
+	}
+
+	/**
+	 * Generates the static helpers that read and write single values, with the
+	 * same leniency as the adapters of Gson
+	 */
+	private void generateHelpers()
+	{
+		line(1, "/**");
+		line(1, " * Reads a double, keeping the current value if the JSON value is null");
+		line(1, " */");
+		line(1, "static double readDouble(JsonReader in, double current) throws IOException");
+		line(1, "{");
+		line(2, "if (in.peek() == JsonToken.NULL)");
+		line(2, "{");
+		line(3, "in.nextNull();");
+		line(3, "return current;");
+		line(2, "}");
+		line(0, "");
+		line(2, "return in.nextDouble();");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Reads a long, keeping the current value if the JSON value is null");
+		line(1, " */");
+		line(1, "static long readLong(JsonReader in, long current) throws IOException");
+		line(1, "{");
+		line(2, "if (in.peek() == JsonToken.NULL)");
+		line(2, "{");
+		line(3, "in.nextNull();");
+		line(3, "return current;");
+		line(2, "}");
+		line(0, "");
+		line(2, "try");
+		line(2, "{");
+		line(3, "return in.nextLong();");
+		line(2, "} catch (NumberFormatException e)");
+		line(2, "{");
+		line(3, "throw new JsonSyntaxException(e);");
+		line(2, "}");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Reads an int, keeping the current value if the JSON value is null");
+		line(1, " */");
+		line(1, "static int readInt(JsonReader in, int current) throws IOException");
+		line(1, "{");
+		line(2, "if (in.peek() == JsonToken.NULL)");
+		line(2, "{");
+		line(3, "in.nextNull();");
+		line(3, "return current;");
+		line(2, "}");
+		line(0, "");
+		line(2, "try");
+		line(2, "{");
+		line(3, "return in.nextInt();");
+		line(2, "} catch (NumberFormatException e)");
+		line(2, "{");
+		line(3, "throw new JsonSyntaxException(e);");
+		line(2, "}");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Reads a boolean, keeping the current value if the JSON value is null");
+		line(1, " */");
+		line(1, "static boolean readBoolean(JsonReader in, boolean current) throws IOException");
+		line(1, "{");
+		line(2, "JsonToken token = in.peek();");
+		line(2, "if (token == JsonToken.NULL)");
+		line(2, "{");
+		line(3, "in.nextNull();");
+		line(3, "return current;");
+		line(2, "}");
+		line(2, "else if (token == JsonToken.STRING)");
+		line(2, "{");
+		line(3, "return Boolean.parseBoolean(in.nextString());");
+		line(2, "}");
+		line(0, "");
+		line(2, "return in.nextBoolean();");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Reads a string");
+		line(1, " */");
+		line(1, "static String readString(JsonReader in) throws IOException");
+		line(1, "{");
+		line(2, "JsonToken token = in.peek();");
+		line(2, "if (token == JsonToken.NULL)");
+		line(2, "{");
+		line(3, "in.nextNull();");
+		line(3, "return null;");
+		line(2, "}");
+		line(2, "else if (token == JsonToken.BOOLEAN)");
+		line(2, "{");
+		line(3, "return Boolean.toString(in.nextBoolean());");
+		line(2, "}");
+		line(0, "");
+		line(2, "return in.nextString();");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Begins reading a list. Returns false if the JSON value is a single");
+		line(1, " * element rather than an array, as OptionsHouse sends a list of one");
+		line(1, " * element as the element itself.");
+		line(1, " */");
+		line(1, "static boolean beginList(JsonReader in) throws IOException");
+		line(1, "{");
+		line(2, "if (in.peek() == JsonToken.BEGIN_ARRAY)");
+		line(2, "{");
+		line(3, "in.beginArray();");
+		line(3, "return true;");
+		line(2, "}");
+		line(0, "");
+		line(2, "return false;");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Reads a list of strings (or a single string, as a list of one)");
+		line(1, " */");
+		line(1, "static List<String> readStringList(JsonReader in) throws IOException");
+		line(1, "{");
+		line(2, "if (in.peek() == JsonToken.NULL)");
+		line(2, "{");
+		line(3, "in.nextNull();");
+		line(3, "return null;");
+		line(2, "}");
+		line(0, "");
+		line(2, "List<String> list = new ArrayList<String>();");
+		line(2, "if (beginList(in))");
+		line(2, "{");
+		line(3, "while (in.hasNext())");
+		line(3, "{");
+		line(4, "list.add(readString(in));");
+		line(3, "}");
+		line(3, "in.endArray();");
+		line(2, "}");
+		line(2, "else");
+		line(2, "{");
+		line(3, "list.add(readString(in));");
+		line(2, "}");
+		line(0, "");
+		line(2, "return list;");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Writes a double, rejecting the values that JSON cannot represent");
+		line(1, " */");
+		line(1, "static void writeDouble(JsonWriter out, double value) throws IOException");
+		line(1, "{");
+		line(2, "if (Double.isNaN(value) || Double.isInfinite(value))");
+		line(2, "{");
+		line(3, "throw new IllegalArgumentException(value");
+		line(5, "+ \" is not a valid double value as per JSON specification.\");");
+		line(2, "}");
+		line(0, "");
+		line(2, "out.value(value);");
+		line(1, "}");
+		line(0, "");
+		line(1, "/**");
+		line(1, " * Writes a list of strings");
+		line(1, " */");
+		line(1, "static void writeStringList(JsonWriter out, List<String> list) throws IOException");
+		line(1, "{");
+		line(2, "if (null == list)");
+		line(2, "{");
+		line(3, "out.nullValue();");
+		line(3, "return;");
+		line(2, "}");
+		line(0, "");
+		line(2, "out.beginArray();");
+		line(2, "for (String s : list)");
+		line(2, "{");
+		line(3, "out.value(s);");
+		line(2, "}");
+		line(2, "out.endArray();");
+		line(1, "}");
+		line(0, "");
+	}
+
+	/**
+	 * Generates the adapter class that dispatches to the read and write
+	 * methods of a model by its id
+	 */
+	private void generateAdapter()
+	{
+		line(2, "/**");
+		line(2, " * The adapter returned to Gson for one of the models");
+		line(2, " * ");
+		line(2, " * @author Ryan Antkowiak ");
+		line(2, " */");
+		line(2, "private final class Adapter extends TypeAdapter<Object>");
+		line(2, "{");
+		line(3, "/** the id of the model */");
+		line(3, "private final int m_id;");
+		line(0, "");
+		line(3, "/** the reflective adapter of Gson, for inner classes (or null) */");
+		line(3, "private final TypeAdapter<?> m_reflective;");
+		line(0, "");
+		line(3, "/**");
+		line(3, " * Constructor");
+		line(3, " * ");
+		line(3, " * @param id");
+		line(3, " *            the id of the model");
+		line(3, " * @param reflective");
+		line(3, " *            the reflective adapter of Gson, used to read inner");
+		line(3, " *            classes (or null)");
+		line(3, " */");
+		line(3, "Adapter(int id, TypeAdapter<?> reflective)");
+		line(3, "{");
+		line(4, "m_id = id;");
+		line(4, "m_reflective = reflective;");
+		line(3, "}");
+		line(0, "");
+		line(3, "/*");
+		line(3, " * (non-Javadoc)");
+		line(3, " * ");
+		line(3, " * @see");
+		line(3, " * com.google.gson.TypeAdapter#write(com.google.gson.stream.JsonWriter,");
+		line(3, " * java.lang.Object)");
+		line(3, " */");
+		line(3, "@Override");
+		line(3, "public void write(JsonWriter out, Object value) throws IOException");
+		line(3, "{");
+		line(4, "switch (m_id)");
+		line(4, "{");
+		for (int i = 0; i < m_models.size(); ++i)
+		{
+			Class<?> c = m_models.get(i);
+			line(5, "case " + i + ":");
+			line(6, "write" + methodName(c) + "(out, (" + sourceName(c)
+					+ ") value);");
+			line(6, "break;");
+		}
+		line(5, "default:");
+		line(6, "throw new IllegalStateException(\"unknown model \" + m_id);");
+		line(4, "}");
+		line(3, "}");
+		line(0, "");
+		line(3, "/*");
+		line(3, " * (non-Javadoc)");
+		line(3, " * ");
+		line(3, " * @see");
+		line(3, " * com.google.gson.TypeAdapter#read(com.google.gson.stream.JsonReader)");
+		line(3, " */");
+		line(3, "@Override");
+		line(3, "public Object read(JsonReader in) throws IOException");
+		line(3, "{");
+		line(4, "switch (m_id)");
+		line(4, "{");
+		for (int i = 0; i < m_models.size(); ++i)
+		{
+			Class<?> c = m_models.get(i);
+			if (null == c.getEnclosingClass())
+			{
+				line(5, "case " + i + ":");
+				line(6, "return read" + methodName(c) + "(in);");
+			}
+		}
+		line(5, "default:");
+		line(6, "return m_reflective.read(in);");
+		line(4, "}");
+		line(3, "}");
+		line(2, "}");
+	}
+
+	/**
+	 * Generates the method that reads a model
+	 * 
+	 * @param c
+	 *            the model
+	 */
+	private void generateRead(Class<?> c)
+	{
+		String name = sourceName(c);
+		Class<?> outer = c.getEnclosingClass();
+
+		line(2, "/**");
+		line(2, " * Reads a " + name);
+		line(2, " */");
+		line(2, name + " read" + methodName(c) + "(JsonReader in"
+				+ ((null == outer) ? "" : ", " + sourceName(outer) + " outer")
+				+ ") throws IOException");
+		line(2, "{");
+		line(3, "if (in.peek() == JsonToken.NULL)");
+		line(3, "{");
+		line(4, "in.nextNull();");
+		line(4, "return null;");
+		line(3, "}");
+		line(0, "");
+		line(3, name + " value = "
+				+ ((null == outer) ? "new " + name : "outer.new "
+						+ c.getSimpleName()) + "();");
+		line(3, "in.beginObject();");
+		line(3, "while (in.hasNext())");
+		line(3, "{");
+		line(4, "switch (in.nextName())");
+		line(4, "{");
+		for (Field f : getFields(c))
+		{
+			line(5, "case \"" + f.getName() + "\":");
+			generateReadField(c, f);
+			line(6, "break;");
+		}
+		line(5, "default:");
+		line(6, "in.skipValue();");
+		line(6, "break;");
+		line(4, "}");
+		line(3, "}");
+		line(3, "in.endObject();");
+		line(3, "return value;");
+		line(2, "}");
+		line(0, "");
+	}
+
+	/**
+	 * Generates the statements that read one field of a model
+	 * 
+	 * @param c
+	 *            the model
+	 * @param f
+	 *            the field
+	 */
+	private void generateReadField(Class<?> c, Field f)
+	{
+		String target = "value." + f.getName();
+		Class<?> type = f.getType();
+		Class<?> element = getListElement(f);
+
+		if (type == double.class)
+		{
+			line(6, target + " = readDouble(in, " + target + ");");
+		}
+		else if (type == long.class)
+		{
+			line(6, target + " = readLong(in, " + target + ");");
+		}
+		else if (type == int.class)
+		{
+			line(6, target + " = readInt(in, " + target + ");");
+		}
+		else if (type == boolean.class)
+		{
+			line(6, target + " = readBoolean(in, " + target + ");");
+		}
+		else if (type == String.class)
+		{
+			line(6, target + " = readString(in);");
+		}
+		else if (element == String.class)
+		{
+			line(6, target + " = readStringList(in);");
+		}
+		else if (isNestedModel(c, type))
+		{
+			line(6, target + " = " + readCall(type) + ";");
+		}
+		else if (null != element && isNestedModel(c, element))
+		{
+			line(6, "if (in.peek() == JsonToken.NULL)");
+			line(6, "{");
+			line(7, "in.nextNull();");
+			line(7, target + " = null;");
+			line(7, "break;");
+			line(6, "}");
+			line(0, "");
+			line(6, target + " = new ArrayList<" + sourceName(element) + ">();");
+			line(6, "if (beginList(in))");
+			line(6, "{");
+			line(7, "while (in.hasNext())");
+			line(7, "{");
+			line(8, target + ".add(" + readCall(element) + ");");
+			line(7, "}");
+			line(7, "in.endArray();");
+			line(6, "}");
+			line(6, "else");
+			line(6, "{");
+			line(7, target + ".add(" + readCall(element) + ");");
+			line(6, "}");
+		}
+		else
+		{
+			line(6, target + " = " + delegate(f) + "().read(in);");
+		}
+	}
+
+	/**
+	 * Generates the method that writes a model
+	 * 
+	 * @param c
+	 *            the model
+	 */
+	private void generateWrite(Class<?> c)
+	{
+		String name = sourceName(c);
+
+		line(2, "/**");
+		line(2, " * Writes a " + name);
+		line(2, " */");
+		line(2, "void write" + methodName(c) + "(JsonWriter out, " + name
+				+ " value) throws IOException");
+		line(2, "{");
+		line(3, "if (null == value)");
+		line(3, "{");
+		line(4, "out.nullValue();");
+		line(4, "return;");
+		line(3, "}");
+		line(0, "");
+		line(3, "out.beginObject();");
+		for (Field f : getFields(c))
+		{
+			line(3, "out.name(\"" + f.getName() + "\");");
+			generateWriteField(c, f);
+		}
+		line(3, "out.endObject();");
+		line(2, "}");
+		line(0, "");
+	}
+
+	/**
+	 * Generates the statements that write one field of a model
+	 * 
+	 * @param c
+	 *            the model
+	 * @param f
+	 *            the field
+	 */
+	private void generateWriteField(Class<?> c, Field f)
+	{
+		String source = "value." + f.getName();
+		Class<?> type = f.getType();
+		Class<?> element = getListElement(f);
+
+		if (type == double.class)
+		{
+			line(3, "writeDouble(out, " + source + ");");
+		}
+		else if (type == long.class || type == int.class
+				|| type == boolean.class || type == String.class)
+		{
+			line(3, "out.value(" + source + ");");
+		}
+		else if (element == String.class)
+		{
+			line(3, "writeStringList(out, " + source + ");");
+		}
+		else if (isNestedModel(c, type))
+		{
+			line(3, "write" + methodName(type) + "(out, " + source + ");");
+		}
+		else if (null != element && isNestedModel(c, element))
+		{
+			line(3, "if (null == " + source + ")");
+			line(3, "{");
+			line(4, "out.nullValue();");
+			line(3, "}");
+			line(3, "else");
+			line(3, "{");
+			line(4, "out.beginArray();");
+			line(4, "for (" + sourceName(element) + " e : " + source + ")");
+			line(4, "{");
+			line(5, "write" + methodName(element) + "(out, e);");
+			line(4, "}");
+			line(4, "out.endArray();");
+			line(3, "}");
+		}
+		else
+		{
+			line(3, delegate(f) + "().write(out, " + source + ");");
+		}
+	}
+
+	/**
+	 * Returns true if a type is a model that can be read by a model of the
+	 * given class: either a top level model, or an inner class of that class
+	 * (or of one of its superclasses)
+	 * 
+	 * @param c
+	 *            the model that contains the field
+	 * @param type
+	 *            the type of the field
+	 * @return true if the type has a generated adapter usable from c
+	 */
+	private boolean isNestedModel(Class<?> c, Class<?> type)
+	{
+		if (!m_modelSet.contains(type))
+		{
+			return false;
+		}
+
+		Class<?> outer = type.getEnclosingClass();
+		return null == outer || outer.isAssignableFrom(c);
+	}
+
+	/**
+	 * Returns the call that reads a model nested in the model being read
+	 * 
+	 * @param type
+	 *            the nested model
+	 * @return the call
+	 */
+	private String readCall(Class<?> type)
+	{
+		return "read" + methodName(type) + "(in"
+				+ ((null == type.getEnclosingClass()) ? "" : ", value") + ")";
+	}
+
+	/**
+	 * Returns the element class of a List field
+	 * 
+	 * @param f
+	 *            the field
+	 * @return the element class, or null if the field is not a List of a
+	 *         class
+	 */
+	private static Class<?> getListElement(Field f)
+	{
+		if (f.getType() != List.class
+				|| !(f.getGenericType() instanceof ParameterizedType))
+		{
+			return null;
+		}
+
+		Type arg = ((ParameterizedType) f.getGenericType())
+				.getActualTypeArguments()[0];
+		return (arg instanceof Class) ? (Class<?>) arg : null;
+	}
+
+	/**
+	 * Registers the type of a field as read and written by Gson's own adapter,
+	 * and returns the name of the method that returns that adapter
+	 * 
+	 * @param f
+	 *            the field
+	 * @return the name of the adapter method
+	 */
+	private String delegate(Field f)
+	{
+		if (f.getType().isPrimitive())
+		{
+			throw new IllegalStateException("unsupported primitive field: "
+					+ f);
+		}
+
+		Type type = f.getGenericType();
+		String name = "adapter" + sourceName(type).replaceAll("[^A-Za-z0-9]", "");
+		m_delegates.put(name, type);
+		return name;
+	}
+
+	/**
+	 * Returns the name of a model as used in the names of its read and write
+	 * methods (ex: "OhMsgViewQuoteListRsp_EZMessage__data_")
+	 * 
+	 * @param c
+	 *            the model
+	 * @return the name
+	 */
+	private static String methodName(Class<?> c)
+	{
+		return sourceName(c).replace('.', '_');
+	}
+
+	/**
+	 * Returns the name of a type as written in the generated source
+	 * 
+	 * @param type
+	 *            the type
+	 * @return the name of the type
+	 */
+	private static String sourceName(Type type)
+	{
+		if (type instanceof ParameterizedType)
+		{
+			ParameterizedType p = (ParameterizedType) type;
+			StringBuilder sb = new StringBuilder(sourceName(p.getRawType()));
+			sb.append('<');
+			Type[] args = p.getActualTypeArguments();
+			for (int i = 0; i < args.length; ++i)
+			{
+				sb.append((i > 0) ? ", " : "").append(sourceName(args[i]));
+			}
+			return sb.append('>').toString();
+		}
+		else if (!(type instanceof Class))
+		{
+			throw new IllegalStateException("unsupported type: " + type);
+		}
+
+		Class<?> c = (Class<?>) type;
+		if (c.isArray())
+		{
+			return sourceName(c.getComponentType()) + "[]";
+		}
+
+		String name = c.getCanonicalName();
+		if (c.isPrimitive() || c == List.class || c == Map.class)
+		{
+			return c.getSimpleName();
+		}
+		else if (name.startsWith(PACKAGE + "."))
+		{
+			return name.substring(PACKAGE.length() + 1);
+		}
+		else if (name.startsWith("java.lang.")
+				&& name.indexOf('.', 10) < 0)
+		{
+			return c.getSimpleName();
+		}
+
+		return name;
+	}
+
+	/**
+	 * Appends a line to the generated source
+	 * 
+	 * @param indent
+	 *            the number of tabs before the text
+	 * @param text
+	 *            the text of the line
+	 */
+	private void line(int indent, String text)
+	{
+		if (!text.isEmpty())
+		{
+			for (int i = 0; i < indent; ++i)
+			{
+				m_out.append('\t');
+			}
+		}
+
+		m_out.append(text).append('\n');
+	}
+}